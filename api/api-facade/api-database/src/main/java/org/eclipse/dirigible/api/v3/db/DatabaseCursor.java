@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.db;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.eclipse.dirigible.commons.api.context.ThreadContextFacade;
+import org.eclipse.dirigible.databases.processor.format.ResultSetJsonWriter;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Server side cursor over the result of a query, which hands the records to the script in portions, so that only the
+ * requested records are held in memory. The cursor owns its connection and closes itself when read to the end or on a
+ * failed read. Otherwise it has to be closed, or it is closed together with the script context it is opened in.
+ */
+public class DatabaseCursor implements AutoCloseable {
+
+	/** The connection. */
+	private final Connection connection;
+
+	/** The prepared statement. */
+	private final PreparedStatement preparedStatement;
+
+	/** The result set. */
+	private final ResultSet resultSet;
+
+	/** The result set meta data. */
+	private final ResultSetMetaData resultSetMetaData;
+
+	/** The auto commit state of the connection to be restored on close. */
+	private final boolean autoCommit;
+
+	/** The writer. */
+	private final ResultSetJsonWriter writer = new ResultSetJsonWriter();
+
+	/** The closed flag. */
+	private boolean closed;
+
+	/**
+	 * Instantiates a new cursor over an executed query.
+	 *
+	 * @param connection the connection
+	 * @param autoCommit the original auto commit state of the connection
+	 * @param preparedStatement the prepared statement
+	 * @param resultSet the result set
+	 * @throws SQLException the SQL exception
+	 */
+	DatabaseCursor(Connection connection, boolean autoCommit, PreparedStatement preparedStatement, ResultSet resultSet) throws SQLException {
+		this.connection = connection;
+		this.autoCommit = autoCommit;
+		this.preparedStatement = preparedStatement;
+		this.resultSet = resultSet;
+		this.resultSetMetaData = resultSet.getMetaData();
+		this.writer.setLimited(false);
+		this.writer.setStringified(false);
+		ThreadContextFacade.addCloseable(this);
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * @return the record as JSON object or null at the end of the result
+	 * @throws SQLException the SQL exception
+	 */
+	public String next() throws SQLException {
+		if (closed) {
+			return null;
+		}
+		StringWriter output = new StringWriter();
+		try {
+			if (!resultSet.next()) {
+				close();
+				return null;
+			}
+			JsonWriter jsonWriter = ResultSetJsonWriter.newJsonWriter(output);
+			writer.writeRecord(resultSet, resultSetMetaData, jsonWriter);
+			jsonWriter.flush();
+		} catch (IOException e) {
+			throw closeOnError(new SQLException(e));
+		} catch (SQLException e) {
+			throw closeOnError(e);
+		} catch (RuntimeException e) {
+			throw closeOnError(e);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Reads up to the given number of records.
+	 *
+	 * @param count the maximum number of records
+	 * @return the records as JSON array, empty at the end of the result
+	 * @throws SQLException the SQL exception
+	 */
+	public String fetch(int count) throws SQLException {
+		StringWriter output = new StringWriter();
+		try {
+			JsonWriter jsonWriter = ResultSetJsonWriter.newJsonWriter(output);
+			jsonWriter.beginArray();
+			for (int i = 0; i < count && !closed; i++) {
+				if (!resultSet.next()) {
+					close();
+					break;
+				}
+				writer.writeRecord(resultSet, resultSetMetaData, jsonWriter);
+			}
+			jsonWriter.endArray();
+			jsonWriter.flush();
+		} catch (IOException e) {
+			throw closeOnError(new SQLException(e));
+		} catch (SQLException e) {
+			throw closeOnError(e);
+		} catch (RuntimeException e) {
+			throw closeOnError(e);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Closes the cursor after a failed read, keeping a failure of the closing as suppressed.
+	 *
+	 * @param <E> the type of the error
+	 * @param error the error of the read
+	 * @return the error
+	 */
+	private <E extends Exception> E closeOnError(E error) {
+		try {
+			close();
+		} catch (SQLException | RuntimeException e) {
+			error.addSuppressed(e);
+		}
+		return error;
+	}
+
+	/**
+	 * Checks if is closed.
+	 *
+	 * @return true, if is closed
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Releases the result set, the statement and the connection.
+	 *
+	 * @throws SQLException the SQL exception
+	 */
+	@Override
+	public void close() throws SQLException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		ThreadContextFacade.removeCloseable(this);
+		try {
+			resultSet.close();
+			preparedStatement.close();
+			if (autoCommit) {
+				connection.commit();
+				connection.setAutoCommit(true);
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+}
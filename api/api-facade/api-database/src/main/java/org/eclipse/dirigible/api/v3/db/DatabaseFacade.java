@@ -15,6 +15,7 @@ import static java.text.MessageFormat.format;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
@@ -29,13 +30,16 @@ import javax.sql.DataSource;
 import org.eclipse.dirigible.commons.api.helpers.BytesHelper;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.database.api.DatabaseModule;
 import org.eclipse.dirigible.database.api.IDatabase;
 import org.eclipse.dirigible.database.dynamic.DynamicDatabase;
 import org.eclipse.dirigible.database.persistence.processors.identity.PersistenceNextValueIdentityProcessor;
+import org.eclipse.dirigible.database.persistence.processors.identity.SequenceBlockAllocator;
 import org.eclipse.dirigible.database.sql.DataTypeUtils;
 import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.builders.sequence.CreateSequenceBuilder;
 import org.eclipse.dirigible.databases.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.databases.helpers.DatabaseResultSetHelper;
 import org.slf4j.Logger;
@@ -53,6 +57,24 @@ public class DatabaseFacade implements IScriptingFacade {
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(DatabaseFacade.class);
 
+	/** The Constant DIRIGIBLE_DATABASE_CURSOR_FETCH_SIZE. */
+	public static final String DIRIGIBLE_DATABASE_CURSOR_FETCH_SIZE = "DIRIGIBLE_DATABASE_CURSOR_FETCH_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_CURSOR_FETCH_SIZE. */
+	private static final String DEFAULT_CURSOR_FETCH_SIZE = "1000";
+
+	/**
+	 * The Constant DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, the default block size, overridden per sequence by
+	 * DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE_ followed by the upper case sequence name.
+	 */
+	public static final String DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE = "DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_SEQUENCE_BLOCK_SIZE. */
+	private static final String DEFAULT_SEQUENCE_BLOCK_SIZE = "1";
+
+	/** The Constant SEQUENCE_BLOCK_ALLOCATOR. */
+	private static final SequenceBlockAllocator SEQUENCE_BLOCK_ALLOCATOR = new SequenceBlockAllocator();
+
 	/** The database. */
 	private static IDatabase database = null;
 	
@@ -319,6 +341,118 @@ public class DatabaseFacade implements IScriptingFacade {
 		return query(sql, null, null, null);
 	}
 
+	/**
+	 * Executes SQL query and streams the result as JSON array to the output, without holding it in memory.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @param output the output stream, left open
+	 * @throws SQLException the SQL exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static final void queryToStream(String sql, String parameters, String databaseType, String datasourceName, OutputStream output)
+			throws SQLException, IOException {
+		DataSource dataSource = getDataSource(databaseType, datasourceName);
+		if (dataSource == null) {
+			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
+			throw new IllegalArgumentException(error);
+		}
+		Connection connection = null;
+		try {
+			connection = dataSource.getConnection();
+			PreparedStatement preparedStatement = connection.prepareStatement(sql);
+			try {
+				if (parameters != null) {
+					setParameters(parameters, preparedStatement);
+				}
+				preparedStatement.setFetchSize(getCursorFetchSize());
+				ResultSet resultSet = preparedStatement.executeQuery();
+				DatabaseResultSetHelper.toJson(resultSet, false, false, output);
+			} finally {
+				if (preparedStatement != null) {
+					preparedStatement.close();
+				}
+			}
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+		}
+	}
+
+	/**
+	 * Executes SQL query and opens a cursor over its result. The records are read from the database in portions of
+	 * DIRIGIBLE_DATABASE_CURSOR_FETCH_SIZE while the script iterates. The cursor keeps its connection until it is
+	 * closed or read to the end.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @return the cursor
+	 * @throws SQLException the SQL exception
+	 */
+	public static final DatabaseCursor cursor(String sql, String parameters, String databaseType, String datasourceName) throws SQLException {
+		DataSource dataSource = getDataSource(databaseType, datasourceName);
+		if (dataSource == null) {
+			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
+			throw new IllegalArgumentException(error);
+		}
+		Connection connection = dataSource.getConnection();
+		boolean autoCommit = false;
+		PreparedStatement preparedStatement = null;
+		try {
+			// some drivers (e.g. PostgreSQL) fetch in portions only outside of auto commit mode
+			autoCommit = connection.getAutoCommit();
+			if (autoCommit) {
+				connection.setAutoCommit(false);
+			}
+			preparedStatement = connection.prepareStatement(sql);
+			if (parameters != null) {
+				setParameters(parameters, preparedStatement);
+			}
+			preparedStatement.setFetchSize(getCursorFetchSize());
+			ResultSet resultSet = preparedStatement.executeQuery();
+			return new DatabaseCursor(connection, autoCommit, preparedStatement, resultSet);
+		} catch (SQLException | RuntimeException e) {
+			try {
+				if (preparedStatement != null) {
+					preparedStatement.close();
+				}
+				if (autoCommit) {
+					connection.rollback();
+					connection.setAutoCommit(true);
+				}
+			} finally {
+				connection.close();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Executes SQL query and opens a cursor over its result.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @return the cursor
+	 * @throws SQLException the SQL exception
+	 */
+	public static final DatabaseCursor cursor(String sql, String parameters) throws SQLException {
+		return cursor(sql, parameters, null, null);
+	}
+
+	/**
+	 * Gets the fetch size used by the streaming queries and the cursors.
+	 *
+	 * @return the fetch size
+	 */
+	private static int getCursorFetchSize() {
+		return Integer.parseInt(Configuration.get(DIRIGIBLE_DATABASE_CURSOR_FETCH_SIZE, DEFAULT_CURSOR_FETCH_SIZE));
+	}
+
 	//  ===========  Update  ===========
 
 	/**
@@ -679,6 +813,15 @@ public class DatabaseFacade implements IScriptingFacade {
 
 	/**
 	 * Nextval.
+	 * <p>
+	 * With a block size greater than one, a whole block of values is reserved per round trip and handed out from
+	 * memory. A native sequence value <code>n</code> then reserves the values from <code>n</code> to
+	 * <code>n + size - 1</code>, hence the INCREMENT BY of the sequence must be equal to the block size. The sequences
+	 * created by this facade, implicitly or not, get it, while an existing sequence is brought in line with
+	 * {@link #alterSequence(String, String, String)} after its block size has been changed. A block overlapping the
+	 * previous one fails instead of handing out values twice. The plain NEXTVAL callers of the same sequence get the
+	 * first value of a block and do not collide with the reserved ones. The identity table fallback reserves the next
+	 * <code>size</code> consecutive values.
 	 *
 	 * @param sequence the sequence
 	 * @param databaseType the database type
@@ -692,6 +835,24 @@ public class DatabaseFacade implements IScriptingFacade {
 			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
 			throw new IllegalArgumentException(error);
 		}
+		int blockSize = getSequenceBlockSize(sequence);
+		if (blockSize <= 1) {
+			return reserveSequenceBlock(sequence, dataSource, 1);
+		}
+		return SEQUENCE_BLOCK_ALLOCATOR.nextval(getSequenceKey(sequence, databaseType, datasourceName), blockSize,
+				size -> reserveSequenceBlock(sequence, dataSource, size));
+	}
+
+	/**
+	 * Reserves a block of sequence values in the database.
+	 *
+	 * @param sequence the sequence
+	 * @param dataSource the data source
+	 * @param blockSize the block size
+	 * @return the first value of the block
+	 * @throws SQLException the SQL exception
+	 */
+	private static long reserveSequenceBlock(String sequence, DataSource dataSource, int blockSize) throws SQLException {
 		Connection connection = null;
 		try {
 			connection = dataSource.getConnection();
@@ -700,13 +861,13 @@ public class DatabaseFacade implements IScriptingFacade {
 			} catch (SQLException e) {
 				// assuming the sequence does not exists first time, hence create it implicitly
 				if (logger.isWarnEnabled()) {logger.warn( format("Implicitly creating a Sequence [{0}] due to: [{1}]", sequence, e.getMessage()));}
-				createSequenceInternal(sequence, connection);
+				createSequenceInternal(sequence, connection, blockSize);
 				return getNextVal(sequence, connection);
 			} catch (IllegalStateException e) {
 				// assuming the sequence objects are not supported by the underlying database
 				PersistenceNextValueIdentityProcessor persistenceNextValueIdentityProcessor =
 						new PersistenceNextValueIdentityProcessor(null);
-				long id = persistenceNextValueIdentityProcessor.nextval(connection, sequence);
+				long id = persistenceNextValueIdentityProcessor.nextBlock(connection, sequence, blockSize);
 				return  id;
 			}
 		} finally {
@@ -716,6 +877,29 @@ public class DatabaseFacade implements IScriptingFacade {
 		}
 	}
 
+	/**
+	 * Gets the block size of a sequence, the one configured for it or the default one.
+	 *
+	 * @param sequence the sequence
+	 * @return the sequence block size
+	 */
+	private static int getSequenceBlockSize(String sequence) {
+		String defaultBlockSize = Configuration.get(DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, DEFAULT_SEQUENCE_BLOCK_SIZE);
+		return Integer.parseInt(Configuration.get(DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE + "_" + sequence.toUpperCase(), defaultBlockSize));
+	}
+
+	/**
+	 * Gets the key of a sequence in the block allocator.
+	 *
+	 * @param sequence the sequence
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @return the sequence key
+	 */
+	private static String getSequenceKey(String sequence, String databaseType, String datasourceName) {
+		return databaseType + ":" + datasourceName + ":" + sequence;
+	}
+
 	/**
 	 * Gets the next val.
 	 *
@@ -741,14 +925,19 @@ public class DatabaseFacade implements IScriptingFacade {
 	}
 
 	/**
-	 * Creates the sequence internal.
+	 * Creates the sequence internal, incremented by the block size.
 	 *
 	 * @param sequence the sequence
 	 * @param connection the connection
+	 * @param blockSize the block size
 	 * @throws SQLException the SQL exception
 	 */
-	private static void createSequenceInternal(String sequence, Connection connection) throws SQLException {
-		String sql = SqlFactory.getNative(connection).create().sequence(sequence).build();
+	private static void createSequenceInternal(String sequence, Connection connection, int blockSize) throws SQLException {
+		CreateSequenceBuilder createSequenceBuilder = SqlFactory.getNative(connection).create().sequence(sequence);
+		if (blockSize > 1) {
+			createSequenceBuilder.increment(blockSize);
+		}
+		String sql = createSequenceBuilder.build();
 		PreparedStatement preparedStatement = connection.prepareStatement(sql);
 		try {
 			preparedStatement.executeUpdate();
@@ -783,7 +972,7 @@ public class DatabaseFacade implements IScriptingFacade {
 	}
 
 	/**
-	 * Creates the sequence.
+	 * Creates the sequence, incremented by its block size.
 	 *
 	 * @param sequence the sequence
 	 * @param databaseType the database type
@@ -799,8 +988,9 @@ public class DatabaseFacade implements IScriptingFacade {
 		Connection connection = null;
 		try {
 			connection = dataSource.getConnection();
-			createSequenceInternal(sequence, connection);
+			createSequenceInternal(sequence, connection, getSequenceBlockSize(sequence));
 		} finally {
+			SEQUENCE_BLOCK_ALLOCATOR.reset(getSequenceKey(sequence, databaseType, datasourceName));
 			if (connection != null) {
 				connection.close();
 			}
@@ -828,6 +1018,62 @@ public class DatabaseFacade implements IScriptingFacade {
 		createSequence(sequence, null, null);
 	}
 
+	/**
+	 * Alters the increment of the sequence to its current block size, e.g. after the block size has been changed, and
+	 * discards the values reserved with the previous one.
+	 *
+	 * @param sequence the sequence
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @throws SQLException the SQL exception
+	 */
+	public static final void alterSequence(String sequence, String databaseType, String datasourceName) throws SQLException {
+		DataSource dataSource = getDataSource(databaseType, datasourceName);
+		if (dataSource == null) {
+			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
+			throw new IllegalArgumentException(error);
+		}
+		Connection connection = null;
+		try {
+			connection = dataSource.getConnection();
+			String sql = SqlFactory.getNative(connection).alter().sequence(sequence).increment(Math.max(1, getSequenceBlockSize(sequence))).build();
+			PreparedStatement preparedStatement = connection.prepareStatement(sql);
+			try {
+				preparedStatement.executeUpdate();
+			} finally {
+				if (preparedStatement != null) {
+					preparedStatement.close();
+				}
+				SEQUENCE_BLOCK_ALLOCATOR.reset(getSequenceKey(sequence, databaseType, datasourceName));
+			}
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+		}
+	}
+
+	/**
+	 * Alter sequence.
+	 *
+	 * @param sequence the sequence
+	 * @param databaseType the database type
+	 * @throws SQLException the SQL exception
+	 */
+	public static void alterSequence(String sequence, String databaseType) throws SQLException {
+		alterSequence(sequence, databaseType, null);
+	}
+
+	/**
+	 * Alter sequence.
+	 *
+	 * @param sequence the sequence
+	 * @throws SQLException the SQL exception
+	 */
+	public static void alterSequence(String sequence) throws SQLException {
+		alterSequence(sequence, null, null);
+	}
+
 	/**
 	 * Drop sequence.
 	 *
@@ -853,6 +1099,7 @@ public class DatabaseFacade implements IScriptingFacade {
 				if (preparedStatement != null) {
 					preparedStatement.close();
 				}
+				SEQUENCE_BLOCK_ALLOCATOR.reset(getSequenceKey(sequence, databaseType, datasourceName));
 			}
 		} finally {
 			if (connection != null) {
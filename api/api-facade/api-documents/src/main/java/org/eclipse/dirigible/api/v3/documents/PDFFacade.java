@@ -12,22 +12,8 @@
 package org.eclipse.dirigible.api.v3.documents;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.nio.charset.Charset;
+import java.io.OutputStream;
 
-import javax.xml.transform.Result;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.sax.SAXResult;
-import javax.xml.transform.stream.StreamSource;
-
-import org.apache.commons.io.IOUtils;
-import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.FOUserAgent;
-import org.apache.fop.apps.Fop;
-import org.apache.fop.apps.FopFactory;
-import org.apache.fop.apps.MimeConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,29 +33,22 @@ public class PDFFacade {
 	 * @return the byte[]
 	 */
 	public static byte[] generate(String template, String data) {
-		if (logger.isInfoEnabled()) {logger.info("Generating PDF from template: [\n{}\n] and data: [\n{}\n]", template, data);}
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		generate(template, data, baos);
+		return baos.toByteArray();
+	}
 
-		try {
-			StreamSource templateSource = new StreamSource(IOUtils.toInputStream(template, Charset.defaultCharset()));
-			StreamSource dataSource = new StreamSource(IOUtils.toInputStream(data, Charset.defaultCharset()));
-			
-			FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
-			FOUserAgent foUserAgent = fopFactory.newFOUserAgent();
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			
-			Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, foUserAgent, baos);
-			
-			TransformerFactory factory = TransformerFactory.newInstance();
-			Transformer transformer = factory.newTransformer(templateSource);
-			
-			Result result = new SAXResult(fop.getDefaultHandler());
-			
-			transformer.transform(dataSource, result);
-			return baos.toByteArray();
-		} catch (FOPException | TransformerException e) {
-			if (logger.isErrorEnabled()) {logger.error(e.getMessage());}
-			throw new PDFException(e.getMessage(), e);
-		}
+	/**
+	 * Generate to an output stream.
+	 *
+	 * @param template the template
+	 * @param data the data
+	 * @param output the output stream
+	 */
+	public static void generate(String template, String data, OutputStream output) {
+		if (logger.isDebugEnabled()) {logger.debug("Generating PDF from template of {} characters and data of {} characters", template.length(), data.length());}
+		if (logger.isTraceEnabled()) {logger.trace("Generating PDF from template: [\n{}\n] and data: [\n{}\n]", template, data);}
+		PDFRenderer.render(template, data, output);
 	}
 
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.documents;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.fop.apps.FOPException;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Renders PDF documents from XSL-FO templates.
+ * <p>
+ * One FopFactory is shared by all the renders, so its configuration and font metrics are loaded once. The compiled
+ * templates are cached by the SHA-256 hash of their source, up to DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE entries, and only
+ * a new transformer is created from them for each render. A template is compiled outside of the cache lock by the first
+ * render needing it, while the concurrent renders of the same template wait for its compilation.
+ */
+public class PDFRenderer {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(PDFRenderer.class);
+
+	/** The Constant DIRIGIBLE_PDF_FOP_CONFIG. */
+	public static final String DIRIGIBLE_PDF_FOP_CONFIG = "DIRIGIBLE_PDF_FOP_CONFIG"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE. */
+	public static final String DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE = "DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE"; //$NON-NLS-1$
+
+	/** The maximum number of the cached templates. */
+	private static final int CACHE_SIZE = Integer.parseInt(Configuration.get(DIRIGIBLE_PDF_TEMPLATES_CACHE_SIZE, "100"));
+
+	/** The FOP factory. */
+	private static volatile FopFactory fopFactory;
+
+	/** The transformer factory per thread, as it is not thread-safe. */
+	private static final ThreadLocal<TransformerFactory> TRANSFORMER_FACTORY = ThreadLocal.withInitial(TransformerFactory::newInstance);
+
+	/** The compiled or being compiled templates per hash, the least recently used first. */
+	private static final Map<String, CompletableFuture<Templates>> TEMPLATES = new LinkedHashMap<String, CompletableFuture<Templates>>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Templates>> eldest) {
+			return size() > CACHE_SIZE;
+		}
+
+	};
+
+	/**
+	 * Renders a PDF to an output stream.
+	 *
+	 * @param template the XSL-FO template
+	 * @param data the XML data
+	 * @param output the output stream
+	 */
+	public static void render(String template, String data, OutputStream output) {
+		try {
+			Fop fop = getFopFactory().newFop(MimeConstants.MIME_PDF, output);
+			Result result = new SAXResult(fop.getDefaultHandler());
+			getTemplates(template).newTransformer().transform(new StreamSource(new StringReader(data)), result);
+		} catch (FOPException | TransformerException e) {
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage());}
+			throw new PDFException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the number of the cached templates.
+	 *
+	 * @return the number of the cached templates
+	 */
+	public static int getCachedTemplates() {
+		synchronized (TEMPLATES) {
+			return TEMPLATES.size();
+		}
+	}
+
+	/**
+	 * Clears the cached templates.
+	 */
+	public static void clearCache() {
+		synchronized (TEMPLATES) {
+			TEMPLATES.clear();
+		}
+	}
+
+	/**
+	 * Gets the compiled template, compiling it if not cached.
+	 *
+	 * @param template the template
+	 * @return the templates
+	 * @throws TransformerConfigurationException the transformer configuration exception
+	 */
+	private static Templates getTemplates(String template) throws TransformerConfigurationException {
+		if (CACHE_SIZE <= 0) {
+			return compile(template);
+		}
+		String hash = hash(template);
+		CompletableFuture<Templates> future;
+		boolean compiling = false;
+		synchronized (TEMPLATES) {
+			future = TEMPLATES.get(hash);
+			if (future == null) {
+				future = new CompletableFuture<Templates>();
+				TEMPLATES.put(hash, future);
+				compiling = true;
+			}
+		}
+		if (compiling) {
+			try {
+				Templates templates = compile(template);
+				future.complete(templates);
+				return templates;
+			} catch (TransformerConfigurationException | RuntimeException e) {
+				synchronized (TEMPLATES) {
+					TEMPLATES.remove(hash, future);
+				}
+				future.completeExceptionally(e);
+				throw e;
+			}
+		}
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof TransformerConfigurationException) {
+				throw (TransformerConfigurationException) e.getCause();
+			}
+			throw new TransformerConfigurationException(e.getCause());
+		}
+	}
+
+	/**
+	 * Compiles a template with the transformer factory of the current thread.
+	 *
+	 * @param template the template
+	 * @return the templates
+	 * @throws TransformerConfigurationException the transformer configuration exception
+	 */
+	private static Templates compile(String template) throws TransformerConfigurationException {
+		return TRANSFORMER_FACTORY.get().newTemplates(new StreamSource(new StringReader(template)));
+	}
+
+	/**
+	 * Gets the shared FOP factory, creating it on first use.
+	 *
+	 * @return the FOP factory
+	 */
+	private static FopFactory getFopFactory() {
+		FopFactory factory = fopFactory;
+		if (factory == null) {
+			synchronized (PDFRenderer.class) {
+				factory = fopFactory;
+				if (factory == null) {
+					String config = Configuration.get(DIRIGIBLE_PDF_FOP_CONFIG);
+					if (config != null && !config.isBlank()) {
+						try {
+							factory = FopFactory.newInstance(new File(config));
+						} catch (SAXException | IOException e) {
+							throw new PDFException("Invalid FOP configuration " + config + ": " + e.getMessage(), e);
+						}
+					} else {
+						factory = FopFactory.newInstance(new File(".").toURI());
+					}
+					fopFactory = factory;
+				}
+			}
+		}
+		return factory;
+	}
+
+	/**
+	 * Hashes a template.
+	 *
+	 * @param template the template
+	 * @return the hash
+	 */
+	private static String hash(String template) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return String.format("%064x", new BigInteger(1, digest.digest(template.getBytes(StandardCharsets.UTF_8))));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
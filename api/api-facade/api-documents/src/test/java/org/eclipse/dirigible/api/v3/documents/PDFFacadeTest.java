@@ -11,11 +11,21 @@
  */
 package org.eclipse.dirigible.api.v3.documents;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.api.v3.documents.PDFFacade;
@@ -57,4 +67,50 @@ public class PDFFacadeTest {
 		assertNotNull(pdf);
 		assertTrue(pdf.length > 0);
 	}
+
+	/**
+	 * Generate to output stream test.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void generateToOutputStreamTest() throws IOException {
+		String template = IOUtils.toString(PDFFacadeTest.class.getResourceAsStream("template.xsl"), Charset.defaultCharset());
+		String data = IOUtils.toString(PDFFacadeTest.class.getResourceAsStream("data.xml"), Charset.defaultCharset());
+
+		PDFRenderer.clearCache();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PDFFacade.generate(template, data, output);
+		PDFFacade.generate(template, data);
+
+		assertTrue(output.size() > 0);
+		assertArrayEquals("%PDF".getBytes(StandardCharsets.US_ASCII), Arrays.copyOf(output.toByteArray(), 4));
+		assertEquals(1, PDFRenderer.getCachedTemplates());
+	}
+
+	/**
+	 * Concurrent renders of the same template share a single compilation and all produce a document.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void concurrentRendersTest() throws Exception {
+		String template = IOUtils.toString(PDFFacadeTest.class.getResourceAsStream("template.xsl"), Charset.defaultCharset());
+		String data = IOUtils.toString(PDFFacadeTest.class.getResourceAsStream("data.xml"), Charset.defaultCharset());
+
+		PDFRenderer.clearCache();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<byte[]>> renders = new ArrayList<Future<byte[]>>();
+			for (int i = 0; i < 8; i++) {
+				renders.add(executor.submit(() -> PDFFacade.generate(template, data)));
+			}
+			for (Future<byte[]> render : renders) {
+				assertArrayEquals("%PDF".getBytes(StandardCharsets.US_ASCII), Arrays.copyOf(render.get(), 4));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, PDFRenderer.getCachedTemplates());
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.documents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of repeated renders of the same template, served by the compiled templates cache, and of renders which
+ * compile the template on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PDFRendererBenchmark {
+
+	/** The template. */
+	private String template;
+
+	/** The data. */
+	private String data;
+
+	/**
+	 * Setup.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		template = IOUtils.toString(PDFRendererBenchmark.class.getResourceAsStream("template.xsl"), Charset.defaultCharset());
+		data = IOUtils.toString(PDFRendererBenchmark.class.getResourceAsStream("data.xml"), Charset.defaultCharset());
+	}
+
+	/**
+	 * Renders the same template.
+	 *
+	 * @return the document size
+	 */
+	@Benchmark
+	public int cached() {
+		return render();
+	}
+
+	/**
+	 * Renders the template after the cache is cleared.
+	 *
+	 * @return the document size
+	 */
+	@Benchmark
+	public int compiled() {
+		PDFRenderer.clearCache();
+		return render();
+	}
+
+	/**
+	 * Renders the document.
+	 *
+	 * @return the document size
+	 */
+	private int render() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PDFRenderer.render(template, data, output);
+		return output.size();
+	}
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the arguments
+	 * @throws RunnerException the runner exception
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PDFRendererBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
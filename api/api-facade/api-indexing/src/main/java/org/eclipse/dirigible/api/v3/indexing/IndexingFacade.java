@@ -12,11 +12,14 @@
 package org.eclipse.dirigible.api.v3.indexing;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 import org.eclipse.dirigible.core.indexing.service.IndexingCoreService;
 import org.slf4j.Logger;
@@ -48,6 +51,31 @@ public class IndexingFacade implements IScriptingFacade {
 		indexingCoreService.add(index, location, contents.getBytes(StandardCharsets.UTF_8), Long.parseLong(lastModified), map);
 	}
 
+	/**
+	 * Adds documents to an index.
+	 *
+	 * @param index the index
+	 * @param documents the documents as JSON array of objects with location, contents, lastModified and parameters
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final void addAll(String index, String documents) throws IndexingException {
+		Map[] array = GsonHelper.GSON.fromJson(documents, Map[].class);
+		List<IndexingDocument> list = new ArrayList<IndexingDocument>(array.length);
+		for (Map document : array) {
+			Object location = document.get("location");
+			Object contents = document.get("contents");
+			Object lastModified = document.get("lastModified");
+			if (location == null || contents == null) {
+				throw new IndexingException("Every document must have location and contents");
+			}
+			list.add(new IndexingDocument(location.toString(), contents.toString().getBytes(StandardCharsets.UTF_8),
+					lastModified instanceof Number ? ((Number) lastModified).longValue()
+							: lastModified != null ? Long.parseLong(lastModified.toString()) : System.currentTimeMillis(),
+					(Map) document.get("parameters")));
+		}
+		indexingCoreService.addAll(index, list);
+	}
+
 	/**
 	 * Search an index by term.
 	 *
@@ -60,6 +88,20 @@ public class IndexingFacade implements IScriptingFacade {
 		return indexingCoreService.search(index, term);
 	}
 
+	/**
+	 * Search an index by term, returning a page of the matches.
+	 *
+	 * @param index the index
+	 * @param term the term
+	 * @param offset the number of the skipped matches
+	 * @param limit the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final String search(String index, String term, int offset, int limit) throws IndexingException {
+		return indexingCoreService.search(index, term, offset, limit);
+	}
+
 	/**
 	 * Search an index by date before.
 	 *
@@ -72,6 +114,20 @@ public class IndexingFacade implements IScriptingFacade {
 		return indexingCoreService.before(index, Long.parseLong(date));
 	}
 
+	/**
+	 * Search an index by date before, returning a page of the matches.
+	 *
+	 * @param index the index
+	 * @param date the date
+	 * @param offset the number of the skipped matches
+	 * @param limit the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final String before(String index, String date, int offset, int limit) throws IndexingException {
+		return indexingCoreService.before(index, Long.parseLong(date), offset, limit);
+	}
+
 	/**
 	 * Search an index by date after.
 	 *
@@ -84,6 +140,29 @@ public class IndexingFacade implements IScriptingFacade {
 		return indexingCoreService.after(index, Long.parseLong(date));
 	}
 
+	/**
+	 * Search an index by date after, returning a page of the matches.
+	 *
+	 * @param index the index
+	 * @param date the date
+	 * @param offset the number of the skipped matches
+	 * @param limit the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final String after(String index, String date, int offset, int limit) throws IndexingException {
+		return indexingCoreService.after(index, Long.parseLong(date), offset, limit);
+	}
+
+	/**
+	 * Gets the configured maximum number of the matches of a search without a limit.
+	 *
+	 * @return the max results
+	 */
+	public static final int getMaxResults() {
+		return IndexingCoreService.getMaxResults();
+	}
+
 	/**
 	 * Search an index by date between.
 	 *
@@ -97,4 +176,19 @@ public class IndexingFacade implements IScriptingFacade {
 		return indexingCoreService.between(index, Long.parseLong(lower), Long.parseLong(upper));
 	}
 
+	/**
+	 * Search an index by date between, returning a page of the matches.
+	 *
+	 * @param index the index
+	 * @param lower the lower
+	 * @param upper the upper
+	 * @param offset the number of the skipped matches
+	 * @param limit the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final String between(String index, String lower, String upper, int offset, int limit) throws IndexingException {
+		return indexingCoreService.between(index, Long.parseLong(lower), Long.parseLong(upper), offset, limit);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Walks a directory tree lazily, returning one entry at a time.
+ * <p>
+ * Only the directory streams of the current branch are kept open, so the memory used does not depend on the number of
+ * the files. The walk can be limited in depth, filtered by a glob pattern and by type, and can project additional
+ * attributes of the entries. When the symbolic links are followed, a directory already open on the current branch is
+ * not entered again, so a link cycle does not make the walk endless.
+ */
+public class FileWalker implements Iterator<Map<String, Object>>, Closeable {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(FileWalker.class);
+
+	/** The Constant TYPE_FILE. */
+	public static final String TYPE_FILE = "file";
+
+	/** The Constant TYPE_FOLDER. */
+	public static final String TYPE_FOLDER = "folder";
+
+	/**
+	 * The options of a walk.
+	 */
+	public static class Options {
+
+		/** The maximum depth, the children of the root are at depth 1. */
+		private int maxDepth = Integer.MAX_VALUE;
+
+		/** The glob pattern, matched against the name or, if it contains a slash, the relative path. */
+		private String pattern;
+
+		/** The type of the returned entries: file, folder or null for both. */
+		private String type;
+
+		/** Whether the symbolic links are followed. */
+		private boolean followLinks;
+
+		/** The additional attributes: size, lastModified, owner, permissions, hidden. */
+		private List<String> attributes = Collections.emptyList();
+
+		/**
+		 * Parses the options from JSON.
+		 *
+		 * @param json the json
+		 * @return the options
+		 */
+		public static Options fromJson(String json) {
+			Options options = json == null || json.isBlank() ? null : GsonHelper.GSON.fromJson(json, Options.class);
+			return options != null ? options : new Options();
+		}
+
+	}
+
+	/**
+	 * An open directory of the current branch.
+	 */
+	private static class Level {
+
+		/** The stream. */
+		private final DirectoryStream<Path> stream;
+
+		/** The iterator. */
+		private final Iterator<Path> iterator;
+
+		/** The file key of the directory. */
+		private final Object key;
+
+		/** The depth of the children. */
+		private final int depth;
+
+		/**
+		 * Instantiates a new level.
+		 *
+		 * @param stream the stream
+		 * @param key the key
+		 * @param depth the depth
+		 */
+		Level(DirectoryStream<Path> stream, Object key, int depth) {
+			this.stream = stream;
+			this.iterator = stream.iterator();
+			this.key = key;
+			this.depth = depth;
+		}
+
+	}
+
+	/** The root. */
+	private final Path root;
+
+	/** The options. */
+	private final Options options;
+
+	/** The matcher or null. */
+	private final PathMatcher matcher;
+
+	/** Whether the pattern is matched against the relative path. */
+	private final boolean matchPath;
+
+	/** The link options. */
+	private final LinkOption[] linkOptions;
+
+	/** The open directories. */
+	private final Deque<Level> levels = new ArrayDeque<Level>();
+
+	/** The keys of the open directories. */
+	private final Set<Object> ancestors = new HashSet<Object>();
+
+	/** The next entry or null. */
+	private Map<String, Object> next;
+
+	/**
+	 * Starts a walk.
+	 *
+	 * @param source the root
+	 * @param options the options
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public FileWalker(String source, Options options) throws IOException {
+		this.root = Paths.get(source);
+		this.options = options;
+		this.matcher = options.pattern != null ? FileSystems.getDefault().getPathMatcher("glob:" + options.pattern) : null;
+		this.matchPath = options.pattern != null && options.pattern.contains("/");
+		this.linkOptions = options.followLinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+		BasicFileAttributes attributes = Files.readAttributes(root, BasicFileAttributes.class, linkOptions);
+		if (!attributes.isDirectory()) {
+			throw new IOException("Not a directory: " + source);
+		}
+		if (options.maxDepth > 0) {
+			open(root, attributes, 1);
+		}
+	}
+
+	/**
+	 * Checks for a next entry.
+	 *
+	 * @return true, if there is a next entry
+	 */
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			next = advance();
+		}
+		return next != null;
+	}
+
+	/**
+	 * Returns the next entry.
+	 *
+	 * @return the entry
+	 */
+	@Override
+	public Map<String, Object> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Map<String, Object> entry = next;
+		next = null;
+		return entry;
+	}
+
+	/**
+	 * Returns the next entries.
+	 *
+	 * @param size the maximum number of the entries
+	 * @return the entries
+	 */
+	public List<Map<String, Object>> next(int size) {
+		List<Map<String, Object>> entries = new ArrayList<Map<String, Object>>(Math.min(size, 1000));
+		while (entries.size() < size && hasNext()) {
+			entries.add(next());
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns the next entries as JSON.
+	 *
+	 * @param size the maximum number of the entries
+	 * @return the entries as JSON array
+	 */
+	public String nextAsJson(int size) {
+		return GsonHelper.GSON.toJson(next(size));
+	}
+
+	/**
+	 * Skips entries.
+	 *
+	 * @param count the number of the entries to skip
+	 * @return the number of the skipped entries
+	 */
+	public int skip(int count) {
+		int skipped = 0;
+		while (skipped < count && hasNext()) {
+			next = null;
+			skipped++;
+		}
+		return skipped;
+	}
+
+	/**
+	 * Closes the open directories.
+	 */
+	@Override
+	public void close() {
+		while (!levels.isEmpty()) {
+			pop();
+		}
+		next = null;
+	}
+
+	/**
+	 * Finds the next entry matching the options.
+	 *
+	 * @return the entry or null at the end
+	 */
+	private Map<String, Object> advance() {
+		while (!levels.isEmpty()) {
+			Level level = levels.peek();
+			Path path;
+			try {
+				if (!level.iterator.hasNext()) {
+					pop();
+					continue;
+				}
+				path = level.iterator.next();
+			} catch (RuntimeException e) {
+				if (logger.isWarnEnabled()) {logger.warn("Listing of a directory failed: " + e.getMessage());}
+				pop();
+				continue;
+			}
+			BasicFileAttributes attributes;
+			try {
+				attributes = Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+			} catch (IOException e) {
+				// broken link or removed in the meantime
+				continue;
+			}
+			boolean folder = attributes.isDirectory();
+			if (folder && level.depth < options.maxDepth) {
+				open(path, attributes, level.depth + 1);
+			}
+			if (options.type != null && !options.type.equals(folder ? TYPE_FOLDER : TYPE_FILE)) {
+				continue;
+			}
+			if (matcher != null && !matcher.matches(matchPath ? root.relativize(path) : path.getFileName())) {
+				continue;
+			}
+			return toEntry(path, attributes, folder, level.depth);
+		}
+		return null;
+	}
+
+	/**
+	 * Opens a directory, unless it is already open on the current branch.
+	 *
+	 * @param dir the dir
+	 * @param attributes the attributes
+	 * @param depth the depth of the children
+	 */
+	private void open(Path dir, BasicFileAttributes attributes, int depth) {
+		Object key = attributes.fileKey() != null ? attributes.fileKey() : dir.toAbsolutePath().normalize();
+		if (options.followLinks && ancestors.contains(key)) {
+			if (logger.isDebugEnabled()) {logger.debug("Skipping the link cycle at " + dir);}
+			return;
+		}
+		try {
+			levels.push(new Level(Files.newDirectoryStream(dir), key, depth));
+			ancestors.add(key);
+		} catch (IOException e) {
+			if (logger.isWarnEnabled()) {logger.warn("Listing of " + dir + " failed: " + e.getMessage());}
+		}
+	}
+
+	/**
+	 * Closes the current directory.
+	 */
+	private void pop() {
+		Level level = levels.pop();
+		ancestors.remove(level.key);
+		try {
+			level.stream.close();
+		} catch (IOException e) {
+			if (logger.isDebugEnabled()) {logger.debug(e.getMessage());}
+		}
+	}
+
+	/**
+	 * Creates the entry of a path.
+	 *
+	 * @param path the path
+	 * @param attributes the attributes
+	 * @param folder whether a folder
+	 * @param depth the depth
+	 * @return the entry
+	 */
+	private Map<String, Object> toEntry(Path path, BasicFileAttributes attributes, boolean folder, int depth) {
+		Map<String, Object> entry = new LinkedHashMap<String, Object>();
+		entry.put("name", path.getFileName().toString());
+		entry.put("path", path.toString());
+		entry.put("type", folder ? TYPE_FOLDER : TYPE_FILE);
+		entry.put("depth", depth);
+		for (String attribute : options.attributes) {
+			try {
+				switch (attribute) {
+					case "size":
+						entry.put(attribute, attributes.size());
+						break;
+					case "lastModified":
+						entry.put(attribute, attributes.lastModifiedTime().toMillis());
+						break;
+					case "owner":
+						entry.put(attribute, Files.getOwner(path, linkOptions).getName());
+						break;
+					case "permissions":
+						entry.put(attribute, PosixFilePermissions.toString(Files.getPosixFilePermissions(path, linkOptions)));
+						break;
+					case "hidden":
+						entry.put(attribute, Files.isHidden(path));
+						break;
+					default:
+						break;
+				}
+			} catch (IOException | UnsupportedOperationException e) {
+				entry.put(attribute, null);
+			}
+		}
+		return entry;
+	}
+
+}
@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermission;
@@ -496,6 +497,32 @@ public class FilesFacade {
 	public static final OutputStream createOutputStream(String path) throws IOException {
 		return Files.newOutputStream(Paths.get(path));
 	}
+
+	/**
+	 * Write the content of the file represented by the given path into the provided output stream.
+	 * The output stream is not closed.
+	 *
+	 * @param path path to the file to read from
+	 * @param output the output stream to write to
+	 * @return the number of the copied bytes
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final long copyToStream(String path, OutputStream output) throws IOException {
+		return Files.copy(Paths.get(path), output);
+	}
+
+	/**
+	 * Write the content of the provided input stream into the file represented by the given path.
+	 * If the file exists the old content is discarded. The input stream is read to its end, but is not closed.
+	 *
+	 * @param input the input stream to read from
+	 * @param path path to the file to write to
+	 * @return the number of the copied bytes
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final long copyFromStream(InputStream input, String path) throws IOException {
+		return Files.copy(input, Paths.get(path), StandardCopyOption.REPLACE_EXISTING);
+	}
 	
 	/**
 	 * Traverse the directory structure.
@@ -568,4 +595,43 @@ public class FilesFacade {
 			return GsonHelper.GSON.toJson(FileSystemUtils.find(path, pattern));
 	}
 
+	/**
+	 * Start a lazy walk of the directory structure, which keeps only the current branch in memory.
+	 *
+	 * @param source source location
+	 * @param options the options as JSON: maxDepth, pattern, type (file or folder), followLinks and attributes
+	 *            (size, lastModified, owner, permissions, hidden)
+	 * @return the walker, to be closed when not read to the end
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final FileWalker walk(String source, String options) throws IOException {
+		return new FileWalker(source, FileWalker.Options.fromJson(options));
+	}
+
+	/**
+	 * Get a page of the entries of the directory structure.
+	 * <p>
+	 * Every call starts a new walk and skips the entries before the offset, so reading a whole tree page by page costs
+	 * O(N&sup2; / limit) visited entries. The entries come in the order of the file system, hence the pages are stable
+	 * only as long as the tree does not change between the calls. To read a large tree to the end, use
+	 * {@link #walk(String, String)} instead, which visits every entry once.
+	 *
+	 * @param source source location
+	 * @param options the options as JSON, as for {@link #walk(String, String)}
+	 * @param offset the number of the skipped entries
+	 * @param limit the maximum number of the returned entries
+	 * @return JSON with the entries and whether there are more of them
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final String traversePage(String source, String options, int offset, int limit) throws IOException {
+		try (FileWalker walker = walk(source, options)) {
+			walker.skip(offset);
+			Map<String, Object> page = new HashMap<String, Object>();
+			page.put("entries", walker.next(limit));
+			page.put("offset", offset);
+			page.put("hasMore", walker.hasNext());
+			return GsonHelper.GSON.toJson(page);
+		}
+	}
+
 }
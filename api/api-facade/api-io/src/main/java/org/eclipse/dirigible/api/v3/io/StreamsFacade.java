@@ -26,6 +26,9 @@ import org.eclipse.dirigible.commons.api.helpers.BytesHelper;
  */
 public class StreamsFacade {
 
+	/** The size of the buffer used by the pipes. */
+	private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
 	/**
 	 * Read the next byte from the provided {@link InputStream}.
 	 *
@@ -91,6 +94,17 @@ public class StreamsFacade {
 		output.write(bytes);
 	}
 
+	/**
+	 * Write the provided byte array to the {@link OutputStream} as is, without a conversion.
+	 *
+	 * @param output the output stream to write to
+	 * @param input the data to write
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final void writeBytesNative(OutputStream output, byte[] input) throws IOException {
+		output.write(input);
+	}
+
 	/**
 	 * Write text to the provided {@link OutputStream} using UTF-8 encoding.
 	 *
@@ -134,6 +148,35 @@ public class StreamsFacade {
 		IOUtils.copyLarge(input, output);
 	}
 
+	/**
+	 * Write a range of the {@link InputStream} content into the {@link OutputStream}.
+	 *
+	 * @param input the input stream to read from
+	 * @param output the output stream to write to
+	 * @param offset the number of bytes to skip from the input
+	 * @param length the number of bytes to copy or a negative value for all the remaining
+	 * @return the number of the copied bytes
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final long copyRange(InputStream input, OutputStream output, long offset, long length) throws IOException {
+		return IOUtils.copyLarge(input, output, offset, length, new byte[PIPE_BUFFER_SIZE]);
+	}
+
+	/**
+	 * Write the whole {@link InputStream} content into the {@link OutputStream} and close both streams afterwards, also
+	 * in case of failure. The content is moved in chunks and is never held in memory as a whole.
+	 *
+	 * @param input the input stream to read from
+	 * @param output the output stream to write to
+	 * @return the number of the copied bytes
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final long pipe(InputStream input, OutputStream output) throws IOException {
+		try (InputStream in = input; OutputStream out = output) {
+			return IOUtils.copyLarge(in, out, new byte[PIPE_BUFFER_SIZE]);
+		}
+	}
+
 	/**
 	 * Get the byte array as {@link ByteArrayInputStream}.
 	 *
@@ -12,6 +12,7 @@
 package org.eclipse.dirigible.api.v3.io;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.eclipse.dirigible.commons.api.helpers.BytesHelper;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.slf4j.Logger;
@@ -21,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -164,4 +166,44 @@ public class ZipFacade {
 		return new String(bytes, StandardCharsets.UTF_8);
 	}
 
+	/**
+	 * Create an {@link InputStream} over the current entry of the provided zip input stream. Closing it does not close
+	 * the zip input stream, so the next entries can still be read.
+	 *
+	 * @param input The zip input stream
+	 * @return The input stream of the current entry
+	 */
+	public static final InputStream createEntryInputStream(ZipInputStream input) {
+		return CloseShieldInputStream.wrap(input);
+	}
+
+	/**
+	 * Read the next chunk of the current entry of the provided zip input stream.
+	 *
+	 * @param input The zip input stream
+	 * @param size  The maximum size of the chunk
+	 * @return The read data or null at the end of the entry
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final byte[] readChunk(ZipInputStream input, int size) throws IOException {
+		byte[] bytes = new byte[size];
+		int read = IOUtils.read(input, bytes);
+		if (read == 0 && size > 0) {
+			return null;
+		}
+		return read == size ? bytes : Arrays.copyOf(bytes, read);
+	}
+
+	/**
+	 * Copy the current entry of the provided zip input stream to an output stream, without buffering it in memory.
+	 *
+	 * @param input  The zip input stream
+	 * @param output The output stream to write to
+	 * @return The number of the copied bytes
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final long copy(ZipInputStream input, OutputStream output) throws IOException {
+		return IOUtils.copyLarge(input, output);
+	}
+
 }
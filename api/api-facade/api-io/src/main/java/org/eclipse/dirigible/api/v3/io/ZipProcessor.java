@@ -11,27 +11,52 @@
  */
 package org.eclipse.dirigible.api.v3.io;
 
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.ZipFile;
 
 /**
  * The Class ZipProcessor.
+ * <p>
+ * The files of a folder are compressed in parallel, each thread deflating its entries into a temporary scatter file,
+ * and the compressed entries are then copied to the archive as they are. The entries of an archive are extracted to
+ * the disk in parallel as well. The number of the threads is set by DIRIGIBLE_IO_ZIP_THREADS, by default the number
+ * of the processors.
  */
 public class ZipProcessor {
 
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(ZipProcessor.class);
 
+    /** The Constant DIRIGIBLE_IO_ZIP_THREADS. */
+    public static final String DIRIGIBLE_IO_ZIP_THREADS = "DIRIGIBLE_IO_ZIP_THREADS"; //$NON-NLS-1$
+
+    /** The Constant THREADS. */
+    private static final int THREADS = Math.max(1, Integer.parseInt(Configuration.get(DIRIGIBLE_IO_ZIP_THREADS,
+            Runtime.getRuntime().availableProcessors() + "")));
+
+    /** The Constant COUNTER. */
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
     /**
      * Zip.
      *
@@ -74,26 +99,41 @@ public class ZipProcessor {
      */
     public static void unzipFolder(Path source, Path target) throws IOException {
 
-        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(source.toFile()))) {
-
-            ZipEntry zipEntry = zis.getNextEntry();
-
-            while (zipEntry != null) {
-                boolean isDirectory = zipEntry.getName().endsWith(File.separator);
-                Path newPath = zipSlipProtect(zipEntry, target);
-                if (isDirectory) {
-                    Files.createDirectories(newPath);
-                } else {
-                    if (newPath.getParent() != null) {
-                        if (Files.notExists(newPath.getParent())) {
-                            Files.createDirectories(newPath.getParent());
+        try (ZipFile zipFile = new ZipFile(source.toFile())) {
+            ExecutorService executor = newExecutor();
+            List<Future<Void>> extractions = new ArrayList<Future<Void>>();
+            try {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry zipEntry = entries.nextElement();
+                    Path newPath = zipSlipProtect(zipEntry, target);
+                    if (zipEntry.isDirectory()) {
+                        Files.createDirectories(newPath);
+                    } else {
+                        if (newPath.getParent() != null) {
+                            if (Files.notExists(newPath.getParent())) {
+                                Files.createDirectories(newPath.getParent());
+                            }
                         }
+                        extractions.add(executor.submit(() -> {
+                            try (InputStream in = zipFile.getInputStream(zipEntry)) {
+                                Files.copy(in, newPath, StandardCopyOption.REPLACE_EXISTING);
+                            }
+                            return null;
+                        }));
                     }
-                    Files.copy(zis, newPath, StandardCopyOption.REPLACE_EXISTING);
                 }
-                zipEntry = zis.getNextEntry();
+                for (Future<Void> extraction : extractions) {
+                    extraction.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Extraction of " + source + " interrupted", e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            } finally {
+                executor.shutdownNow();
             }
-            zis.closeEntry();
         }
 
     }
@@ -107,18 +147,46 @@ public class ZipProcessor {
      * @throws Exception the exception
      */
     private static void zipFolder(Path sourceFolderPath, Path zipPath) throws Exception {
-        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipPath.toFile()))) {
-	        Files.walkFileTree(sourceFolderPath, new SimpleFileVisitor<Path>() {
-	            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-	                zos.putNextEntry(new ZipEntry(sourceFolderPath.relativize(file).toString()));
-	                Files.copy(file, zos);
-	                zos.closeEntry();
-	                return FileVisitResult.CONTINUE;
-	            }
-	        });
+        ExecutorService executor = newExecutor();
+        try {
+            ParallelScatterZipCreator creator = new ParallelScatterZipCreator(executor);
+            Files.walkFileTree(sourceFolderPath, new SimpleFileVisitor<Path>() {
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    ZipArchiveEntry entry = new ZipArchiveEntry(sourceFolderPath.relativize(file).toString().replace('\\', '/'));
+                    entry.setMethod(ZipEntry.DEFLATED);
+                    entry.setTime(attrs.lastModifiedTime().toMillis());
+                    creator.addArchiveEntry(entry, () -> {
+                        try {
+                            return Files.newInputStream(file);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(zipPath.toFile())) {
+                creator.writeTo(zos);
+            }
+        } finally {
+            // the creator shuts the executor down only when writing, not when the walk fails
+            executor.shutdownNow();
         }
     }
 
+    /**
+     * Creates the executor of a zip or unzip operation.
+     *
+     * @return the executor service
+     */
+    private static ExecutorService newExecutor() {
+        return Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "zip-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Zip slip protect.
      *
@@ -11,9 +11,25 @@
  */
 package org.eclipse.dirigible.api.v3.io;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 
 import org.junit.Test;
 
@@ -33,4 +49,67 @@ public class FilesFacadeTest {
 		assertTrue(json.contains("about.html"));
 	}
 
+	/**
+	 * Walks a tree with a symbolic link back to its ancestor, filtering by type, pattern and depth, without looping
+	 * on the link when followed, and reads a page of it.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void walkTest() throws IOException {
+		Path root = Files.createTempDirectory("walk-test");
+		try {
+			Files.createDirectories(root.resolve("a/b/c"));
+			Files.writeString(root.resolve("a/one.txt"), "1");
+			Files.writeString(root.resolve("a/b/two.txt"), "22");
+			Files.writeString(root.resolve("a/b/c/three.js"), "333");
+			Files.createSymbolicLink(root.resolve("a/b/c/loop"), root.resolve("a"));
+
+			try (FileWalker walker = FilesFacade.walk(root.toString(), "{\"type\":\"file\",\"pattern\":\"*.txt\",\"attributes\":[\"size\"]}")) {
+				List<Map<String, Object>> files = walker.next(10);
+				assertEquals(2, files.size());
+				assertFalse(walker.hasNext());
+			}
+			try (FileWalker walker = FilesFacade.walk(root.toString(), "{\"maxDepth\":2}")) {
+				assertEquals(3, walker.next(10).size());
+			}
+			try (FileWalker walker = FilesFacade.walk(root.toString(), "{\"followLinks\":true,\"type\":\"file\"}")) {
+				assertEquals(3, walker.next(100).size());
+			}
+
+			Map page = GsonHelper.GSON.fromJson(FilesFacade.traversePage(root.toString(), null, 2, 2), Map.class);
+			assertEquals(2, ((List) page.get("entries")).size());
+			assertEquals(Boolean.TRUE, page.get("hasMore"));
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
+
+	@Test
+	public void streamBridgeTest() throws IOException {
+		Path root = Files.createTempDirectory("stream-test");
+		try {
+			byte[] data = new byte[300 * 1024];
+			new Random(7).nextBytes(data);
+			String source = root.resolve("source.bin").toString();
+			assertEquals(data.length, FilesFacade.copyFromStream(new ByteArrayInputStream(data), source));
+
+			String target = root.resolve("target.bin").toString();
+			assertEquals(data.length, StreamsFacade.pipe(FilesFacade.createInputStream(source), FilesFacade.createOutputStream(target)));
+			assertArrayEquals(data, Files.readAllBytes(Paths.get(target)));
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			assertEquals(data.length, FilesFacade.copyToStream(target, output));
+			assertArrayEquals(data, output.toByteArray());
+
+			output.reset();
+			try (InputStream input = FilesFacade.createInputStream(target)) {
+				assertEquals(100, StreamsFacade.copyRange(input, output, 1000, 100));
+			}
+			assertArrayEquals(Arrays.copyOfRange(data, 1000, 1100), output.toByteArray());
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
+
 }
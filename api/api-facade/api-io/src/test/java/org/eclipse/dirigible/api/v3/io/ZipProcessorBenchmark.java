@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the parallel compression and of the extraction of a generated tree, by default of 2 GB. The size in
+ * megabytes is set with -Dzip.benchmark.size, every call of a multi-gigabyte tree takes seconds, so a single shot is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ZipProcessorBenchmark {
+
+	/** The Constant FILE_SIZE. */
+	private static final int FILE_SIZE = 8 * 1024 * 1024;
+
+	/** The Constant FOLDERS. */
+	private static final int FOLDERS = 8;
+
+	/** The root directory. */
+	private Path root;
+
+	/** The source tree. */
+	private Path source;
+
+	/** The archive of the source tree. */
+	private Path archive;
+
+	/** The extraction target. */
+	private Path target;
+
+	/**
+	 * Creates the source tree and its archive.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		long size = Long.getLong("zip.benchmark.size", 2048) * 1024 * 1024;
+		int files = (int) Math.max(1, size / FILE_SIZE);
+		root = Files.createTempDirectory("zip-benchmark");
+		source = root.resolve("source");
+		ZipProcessorTest.createTree(source, FOLDERS, Math.max(1, files / FOLDERS), FILE_SIZE);
+		archive = root.resolve("archive.zip");
+		ZipProcessor.zip(source.toString(), archive.toString());
+		target = root.resolve("target");
+	}
+
+	/**
+	 * Removes the extracted files of the previous call.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Setup(Level.Iteration)
+	public void clean() throws IOException {
+		FileUtils.deleteDirectory(target.toFile());
+	}
+
+	/**
+	 * Removes the root directory.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(root.toFile());
+	}
+
+	/**
+	 * Compresses the source tree.
+	 *
+	 * @return the archive size
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public long zip() throws IOException {
+		Path zipped = root.resolve("zipped.zip");
+		ZipProcessor.zip(source.toString(), zipped.toString());
+		return Files.size(zipped);
+	}
+
+	/**
+	 * Extracts the archive.
+	 *
+	 * @return the target
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public Path unzip() throws IOException {
+		ZipProcessor.unzipFolder(archive, target);
+		return target;
+	}
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the arguments
+	 * @throws RunnerException the runner exception
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ZipProcessorBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+/**
+ * The Class ZipProcessorTest.
+ */
+public class ZipProcessorTest {
+
+	/**
+	 * A tree compressed in parallel is extracted with the same files.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void zipUnzipTest() throws IOException {
+		Path root = Files.createTempDirectory("zip-test");
+		try {
+			Path source = root.resolve("source");
+			createTree(source, 3, 20, 10 * 1024);
+			Path archive = root.resolve("archive.zip");
+			ZipProcessor.zip(source.toString(), archive.toString());
+
+			Path target = root.resolve("target");
+			ZipProcessor.unzipFolder(archive, target);
+			try (Stream<Path> files = Files.walk(target)) {
+				assertEquals(60, files.filter(Files::isRegularFile).count());
+			}
+			assertArrayEquals(Files.readAllBytes(source.resolve("folder1/file7.txt")), Files.readAllBytes(target.resolve("folder1/file7.txt")));
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
+
+	/**
+	 * The compressed entries are read back with the streaming facade.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void streamEntriesTest() throws IOException {
+		Path root = Files.createTempDirectory("zip-test");
+		try {
+			Path source = root.resolve("source");
+			createTree(source, 1, 5, 100 * 1024);
+			Path archive = root.resolve("archive.zip");
+			ZipProcessor.zip(source.toString(), archive.toString());
+
+			int entries = 0;
+			try (ZipInputStream input = ZipFacade.createZipInputStream(new FileInputStream(archive.toFile()))) {
+				ZipEntry entry;
+				while ((entry = input.getNextEntry()) != null) {
+					ByteArrayOutputStream output = new ByteArrayOutputStream();
+					ZipFacade.copy(input, output);
+					assertArrayEquals(Files.readAllBytes(source.resolve(entry.getName())), output.toByteArray());
+					entries++;
+				}
+			}
+			assertEquals(5, entries);
+		} finally {
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
+
+	/**
+	 * Creates a tree of compressible files.
+	 *
+	 * @param source the source
+	 * @param folders the number of the folders
+	 * @param filesPerFolder the number of the files per folder
+	 * @param fileSize the file size
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	static void createTree(Path source, int folders, int filesPerFolder, int fileSize) throws IOException {
+		Random random = new Random(42);
+		byte[] words = "lorem ipsum dolor sit amet consectetur adipiscing elit ".getBytes(StandardCharsets.UTF_8);
+		byte[] buffer = new byte[fileSize];
+		for (int folder = 1; folder <= folders; folder++) {
+			Path path = Files.createDirectories(source.resolve("folder" + folder));
+			for (int file = 1; file <= filesPerFolder; file++) {
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = random.nextInt(4) == 0 ? (byte) random.nextInt(256) : words[i % words.length];
+				}
+				try (OutputStream output = Files.newOutputStream(path.resolve("file" + file + ".txt"))) {
+					output.write(buffer);
+				}
+			}
+		}
+	}
+
+}
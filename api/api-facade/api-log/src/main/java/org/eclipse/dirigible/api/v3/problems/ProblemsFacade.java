@@ -13,8 +13,10 @@ package org.eclipse.dirigible.api.v3.problems;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.core.problems.model.ProblemsModel;
 import org.eclipse.dirigible.core.problems.service.ProblemsCoreService;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -43,6 +45,20 @@ public class ProblemsFacade implements IScriptingFacade {
         new ProblemsCoreService().save(location, type, line, column, cause, expected, category, module, source, program);
     }
 
+    /**
+     * Save a whole validation report.
+     *
+     * @param locations the validated locations as JSON array
+     * @param problems the reported problems as JSON array
+     * @return the number of the created, updated and deleted problems
+     * @throws ProblemsException the problems exception
+     */
+    public static final int saveAll(String locations, String problems) throws ProblemsException {
+        List<String> validated = Arrays.asList(GsonHelper.GSON.fromJson(locations, String[].class));
+        List<ProblemsModel> reported = Arrays.asList(GsonHelper.GSON.fromJson(problems, ProblemsModel[].class));
+        return new ProblemsCoreService().saveAll(validated, reported);
+    }
+
     /**
      * Find problem.
      *
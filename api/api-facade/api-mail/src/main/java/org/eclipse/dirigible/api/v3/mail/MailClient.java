@@ -13,15 +13,21 @@ package org.eclipse.dirigible.api.v3.mail;
 
 import com.google.gson.Gson;
 import com.sun.mail.smtp.SMTPSSLTransport;
+import com.sun.mail.smtp.SMTPSendFailedException;
 import com.sun.mail.smtp.SMTPTransport;
 
+import org.eclipse.dirigible.api.v3.mail.MailTransportPool.PooledTransport;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+
 import javax.activation.DataHandler;
 import javax.mail.*;
 import javax.mail.internet.*;
 import javax.mail.util.ByteArrayDataSource;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +54,58 @@ public class MailClient {
 	/** The properties. */
 	private final Properties properties;
 
+	/**
+	 * A message failed over the transport before any of its data reached the server, so it can be resent safely.
+	 */
+	private static class UnsentMessageException extends MessagingException {
+
+		/** The Constant serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Instantiates a new unsent message exception.
+		 *
+		 * @param cause the cause
+		 */
+		UnsentMessageException(MessagingException cause) {
+			super(cause.getMessage(), cause);
+		}
+
+	}
+
+	/**
+	 * A message, which records whether its data started being written to the server.
+	 */
+	private static class TrackedMimeMessage extends MimeMessage {
+
+		/** Whether the data is being or has been written. */
+		private volatile boolean transmitted;
+
+		/**
+		 * Instantiates a new tracked mime message.
+		 *
+		 * @param session the session
+		 */
+		TrackedMimeMessage(Session session) {
+			super(session);
+		}
+
+		/**
+		 * Writes the message, called by the transport once the server has accepted the DATA command.
+		 *
+		 * @param os the output stream
+		 * @param ignoreList the headers to skip
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 * @throws MessagingException the messaging exception
+		 */
+		@Override
+		public void writeTo(OutputStream os, String[] ignoreList) throws IOException, MessagingException {
+			transmitted = true;
+			super.writeTo(os, ignoreList);
+		}
+
+	}
+
 	/**
 	 * Instantiates a new mail client.
 	 *
@@ -58,7 +116,8 @@ public class MailClient {
 	}
 
 	/**
-	 * Send an email.
+	 * Send an email. A message whose pooled connection turns out to be stale before the message data is written is
+	 * resent once over a new connection.
 	 *
 	 * @param from    the sender
 	 * @param to      the to receiver
@@ -71,7 +130,253 @@ public class MailClient {
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
 	public Map send(String from, String[] to, String[] cc, String[] bcc, String subject, List<Map> parts) throws MessagingException, IOException {
-		Session session = getSession(this.properties);
+		return send(getPool(), from, to, cc, bcc, subject, parts);
+	}
+
+	/**
+	 * Send an email over a pool, resending it once if its connection failed before the message data.
+	 *
+	 * @param pool    the pool
+	 * @param from    the sender
+	 * @param to      the to receiver
+	 * @param cc      the cc receiver
+	 * @param bcc     the bcc receiver
+	 * @param subject the subject
+	 * @param parts   the mail parts
+	 * @return the map
+	 * @throws MessagingException the messaging exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	Map send(MailTransportPool pool, String from, String[] to, String[] cc, String[] bcc, String subject, List<Map> parts)
+			throws MessagingException, IOException {
+		try {
+			return sendOnce(pool, from, to, cc, bcc, subject, parts);
+		} catch (UnsentMessageException e) {
+			// the connection failed before the message data, e.g. a stale pooled one, so the message is resent once over a new one
+			return sendOnce(pool, from, to, cc, bcc, subject, parts);
+		}
+	}
+
+	/**
+	 * Send an email over a connection borrowed from a pool.
+	 *
+	 * @param pool    the pool
+	 * @param from    the sender
+	 * @param to      the to receiver
+	 * @param cc      the cc receiver
+	 * @param bcc     the bcc receiver
+	 * @param subject the subject
+	 * @param parts   the mail parts
+	 * @return the map
+	 * @throws MessagingException the messaging exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private Map sendOnce(MailTransportPool pool, String from, String[] to, String[] cc, String[] bcc, String subject, List<Map> parts)
+			throws MessagingException, IOException {
+		PooledTransport pooled = pool.borrow();
+		boolean broken = true;
+		try {
+			Map mailResult = send(pool, pooled, from, to, cc, bcc, subject, parts);
+			broken = false;
+			return mailResult;
+		} catch (SendFailedException e) {
+			broken = false;
+			throw e;
+		} finally {
+			pool.release(pooled, broken);
+		}
+	}
+
+	/**
+	 * Send many emails over the pooled connections. A message which fails does not stop the sending of the next ones. A
+	 * message is resent over a new connection only if its connection failed before the message data was written, as
+	 * resending after that could deliver it twice. A connection which has sent the maximum number of messages of the
+	 * pool is replaced within the bulk too.
+	 *
+	 * @param messages the messages as JSON array of objects with from, to, cc, bcc, subject and parts
+	 * @return the results as JSON, with the messageId and finalReply or the error of every message and the throughput
+	 * @throws MessagingException the messaging exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public String sendMany(String messages) throws MessagingException, IOException {
+		return sendMany(getPool(), messages);
+	}
+
+	/**
+	 * Send many emails over the connections of a pool.
+	 *
+	 * @param pool the pool
+	 * @param messages the messages as JSON array of objects with from, to, cc, bcc, subject and parts
+	 * @return the results as JSON
+	 * @throws MessagingException the messaging exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	String sendMany(MailTransportPool pool, String messages) throws MessagingException, IOException {
+		List<Map> list = GsonHelper.GSON.fromJson(messages, List.class);
+		List<Map> results = new ArrayList<Map>(list.size());
+		long start = System.nanoTime();
+		int sent = 0;
+		PooledTransport pooled = null;
+		try {
+			for (Map message : list) {
+				Map mailResult;
+				try {
+					if (pooled == null) {
+						pooled = pool.borrow();
+					}
+					mailResult = sendMessage(pool, pooled, message);
+				} catch (SendFailedException e) {
+					mailResult = getError(e);
+				} catch (UnsentMessageException e) {
+					// the connection failed before the message data, so the message is resent once over a new one
+					pool.release(pooled, true);
+					pooled = null;
+					try {
+						pooled = pool.borrow();
+						mailResult = sendMessage(pool, pooled, message);
+					} catch (SendFailedException retry) {
+						mailResult = getError(retry);
+					} catch (MessagingException | IOException retry) {
+						mailResult = getError(retry);
+						if (pooled != null) {
+							pool.release(pooled, true);
+							pooled = null;
+						}
+					}
+				} catch (MessagingException | IOException e) {
+					// the message data may have reached the server, so the message is not resent
+					mailResult = getError(e);
+					if (pooled != null) {
+						pool.release(pooled, true);
+						pooled = null;
+					}
+				}
+				if (pooled != null && pool.isExhausted(pooled)) {
+					// closed on its return, so that the next message gets a new connection
+					pool.release(pooled, false);
+					pooled = null;
+				}
+				if (!mailResult.containsKey("error")) {
+					sent++;
+				}
+				results.add(mailResult);
+			}
+		} finally {
+			if (pooled != null) {
+				pool.release(pooled, false);
+			}
+		}
+		double elapsed = (System.nanoTime() - start) / 1000000d;
+		Map summary = new HashMap();
+		summary.put("results", results);
+		summary.put("sent", sent);
+		summary.put("failed", list.size() - sent);
+		summary.put("elapsed", elapsed);
+		summary.put("messagesPerSecond", elapsed == 0 ? 0 : list.size() * 1000d / elapsed);
+		return GsonHelper.GSON.toJson(summary);
+	}
+
+	/**
+	 * Gets the result of a message which could not be sent.
+	 *
+	 * @param e the exception
+	 * @return the map
+	 */
+	private static Map getError(Exception e) {
+		Map mailResult = new HashMap();
+		mailResult.put("error", e.getMessage());
+		return mailResult;
+	}
+
+	/**
+	 * Gets the metrics of the transport pool of this configuration.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Object> getMetrics() {
+		return getPool().getMetrics();
+	}
+
+	/**
+	 * Sends a message of a bulk.
+	 *
+	 * @param pool the pool
+	 * @param pooled the pooled transport
+	 * @param message the message
+	 * @return the map
+	 * @throws MessagingException the messaging exception
+	 */
+	private Map sendMessage(MailTransportPool pool, PooledTransport pooled, Map message) throws MessagingException {
+		return send(pool, pooled, (String) message.get("from"), toArray(message.get("to")), toArray(message.get("cc")),
+				toArray(message.get("bcc")), (String) message.get("subject"), (List<Map>) message.get("parts"));
+	}
+
+	/**
+	 * Sends a message over a pooled transport.
+	 *
+	 * @param pool the pool
+	 * @param pooled the pooled transport
+	 * @param from    the sender
+	 * @param to      the to receiver
+	 * @param cc      the cc receiver
+	 * @param bcc     the bcc receiver
+	 * @param subject the subject
+	 * @param parts   the mail parts
+	 * @return the map
+	 * @throws MessagingException the messaging exception
+	 */
+	private static Map send(MailTransportPool pool, PooledTransport pooled, String from, String[] to, String[] cc, String[] bcc, String subject,
+			List<Map> parts) throws MessagingException {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			SMTPTransport transport = pooled.getTransport();
+			TrackedMimeMessage mimeMessage = createMimeMessage(pool.getSession(), from, to, cc, bcc, subject, parts);
+			mimeMessage.saveChanges();
+			String messageId = mimeMessage.getMessageID();
+			try {
+				transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+			} catch (MessagingException e) {
+				// a lost connection is reported as a send failure without a reply code
+				boolean transportFailure = !(e instanceof SendFailedException)
+						|| (e instanceof SMTPSendFailedException && ((SMTPSendFailedException) e).getReturnCode() < 0);
+				if (!transportFailure) {
+					throw e;
+				}
+				if (!mimeMessage.transmitted) {
+					throw new UnsentMessageException(e);
+				}
+				throw e instanceof SendFailedException ? new MessagingException(e.getMessage(), e) : e;
+			}
+			String finalReply = transport.getLastServerResponse();
+			Map mailResult = new HashMap();
+			mailResult.put("messageId", messageId);
+			mailResult.put("finalReply", finalReply);
+			success = true;
+			return mailResult;
+		} finally {
+			pool.count(pooled, start, success);
+		}
+	}
+
+	/**
+	 * Gets the transport pool of this configuration.
+	 *
+	 * @return the pool
+	 */
+	private MailTransportPool getPool() {
+		return MailTransportPool.get(this.properties, this::getSession, this::connect);
+	}
+
+	/**
+	 * Creates and connects a transport.
+	 *
+	 * @param session the session
+	 * @return the transport
+	 * @throws MessagingException the messaging exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private SMTPTransport connect(Session session) throws MessagingException, IOException {
 		SMTPTransport transport;
 		String transportProperty = properties.getProperty("mail.transport.protocol").toLowerCase();
 
@@ -85,41 +390,42 @@ public class MailClient {
 			default:
 				throw new IllegalStateException("Unexpected transport property: " + transportProperty);
 		}
-		
-		try {
-			String proxyType = this.properties.getProperty("ProxyType");
-			if (proxyType != null && proxyType.equals("OnPremise")) {
-				Socket socket =
-						new ConnectivitySocks5ProxySocket(getTransportProperty(transportProperty, "socks.host"),
-								getTransportProperty(transportProperty, "socks.port"),
-								getTransportProperty(transportProperty, "proxy.user"),
-								getTransportProperty(transportProperty, "proxy.password", " "));
-	
-				socket.connect(new InetSocketAddress(getTransportProperty(transportProperty, "host"),
-						Integer.parseInt(getTransportProperty(transportProperty, "port"))));
-	
-				transport.connect(socket);
-			} else {
-				transport.connect(
-					this.properties.getProperty(MAIL_USER),
-					this.properties.getProperty(MAIL_PASSWORD)
-				);
-			}
-	
-			MimeMessage mimeMessage = createMimeMessage(session, from, to, cc, bcc, subject, parts);
-			mimeMessage.saveChanges();
-			String messageId = mimeMessage.getMessageID();
-			transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
-			String finalReply = transport.getLastServerResponse();
-			Map mailResult = new HashMap();
-			mailResult.put("messageId", messageId);
-			mailResult.put("finalReply", finalReply);
 
-			return mailResult;
-		} finally {
-			transport.close();
+		String proxyType = this.properties.getProperty("ProxyType");
+		if (proxyType != null && proxyType.equals("OnPremise")) {
+			Socket socket =
+					new ConnectivitySocks5ProxySocket(getTransportProperty(transportProperty, "socks.host"),
+							getTransportProperty(transportProperty, "socks.port"),
+							getTransportProperty(transportProperty, "proxy.user"),
+							getTransportProperty(transportProperty, "proxy.password", " "));
+
+			socket.connect(new InetSocketAddress(getTransportProperty(transportProperty, "host"),
+					Integer.parseInt(getTransportProperty(transportProperty, "port"))));
+
+			transport.connect(socket);
+		} else {
+			transport.connect(
+				this.properties.getProperty(MAIL_USER),
+				this.properties.getProperty(MAIL_PASSWORD)
+			);
+		}
+		return transport;
+	}
+
+	/**
+	 * Converts the recipients of a bulk message to an array.
+	 *
+	 * @param recipients the recipients as string or list
+	 * @return the array or null
+	 */
+	private static String[] toArray(Object recipients) {
+		if (recipients == null) {
+			return null;
+		}
+		if (recipients instanceof List) {
+			return ((List<Object>) ((List) recipients)).stream().map(String::valueOf).toArray(String[]::new);
 		}
-		
+		return new String[] {recipients.toString()};
 	}
 
 	/**
@@ -152,10 +458,10 @@ public class MailClient {
 	 * @return the mime message
 	 * @throws MessagingException the messaging exception
 	 */
-	private static MimeMessage createMimeMessage(Session smtpSession, String from, String to[], String cc[], String bcc[], String subjectText, List<Map> parts)
+	private static TrackedMimeMessage createMimeMessage(Session smtpSession, String from, String to[], String cc[], String bcc[], String subjectText, List<Map> parts)
 			throws MessagingException {
 
-		MimeMessage mimeMessage = new MimeMessage(smtpSession);
+		TrackedMimeMessage mimeMessage = new TrackedMimeMessage(smtpSession);
 		mimeMessage.setFrom(InternetAddress.parse(from)[0]);
 		for (String next : to) {
 			mimeMessage.addRecipients(Message.RecipientType.TO, InternetAddress.parse(next));
@@ -11,9 +11,13 @@
  */
 package org.eclipse.dirigible.api.v3.mail;
 
+import java.io.IOException;
 import java.util.*;
 
+import javax.mail.MessagingException;
+
 import org.eclipse.dirigible.api.v3.mail.api.IMailConfigurationProvider;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.commons.config.Configuration;
 
@@ -60,4 +64,26 @@ public class MailFacade implements IScriptingFacade {
     public static MailClient getInstance(Properties properties) {
         return new MailClient(properties);
     }
+
+    /**
+     * Send many emails with the configuration of the chosen mail configuration provider,
+     * reusing the pooled connections.
+     *
+     * @param messages the messages as JSON array of objects with from, to, cc, bcc, subject and parts
+     * @return the results as JSON
+     * @throws MessagingException the messaging exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static String sendMany(String messages) throws MessagingException, IOException {
+        return getInstance().sendMany(messages);
+    }
+
+    /**
+     * Get the metrics of the pooled mail connections.
+     *
+     * @return the metrics per configuration as JSON
+     */
+    public static String getMetrics() {
+        return GsonHelper.GSON.toJson(MailTransportPool.getAllMetrics());
+    }
 }
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.mail;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.mail.smtp.SMTPTransport;
+
+/**
+ * The pool of the connected SMTP transports of a mail configuration.
+ * <p>
+ * The transports are reused for the next messages instead of being closed after each one, so the TCP, TLS and
+ * authentication handshakes are paid once per connection. A transport idle for a while is checked with a NOOP before
+ * being reused, one idle for longer than the idle timeout is closed in the background, and one which has sent the
+ * maximum number of messages is closed on its return, as many servers limit the messages per connection.
+ */
+public class MailTransportPool {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(MailTransportPool.class);
+
+	/** The Constant DIRIGIBLE_MAIL_POOL_ENABLED. */
+	public static final String DIRIGIBLE_MAIL_POOL_ENABLED = "DIRIGIBLE_MAIL_POOL_ENABLED"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_MAIL_POOL_SIZE. */
+	public static final String DIRIGIBLE_MAIL_POOL_SIZE = "DIRIGIBLE_MAIL_POOL_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_MAIL_POOL_IDLE_TIMEOUT. */
+	public static final String DIRIGIBLE_MAIL_POOL_IDLE_TIMEOUT = "DIRIGIBLE_MAIL_POOL_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_MAIL_POOL_MAX_MESSAGES. */
+	public static final String DIRIGIBLE_MAIL_POOL_MAX_MESSAGES = "DIRIGIBLE_MAIL_POOL_MAX_MESSAGES"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_MAIL_POOL_WAIT_TIMEOUT. */
+	public static final String DIRIGIBLE_MAIL_POOL_WAIT_TIMEOUT = "DIRIGIBLE_MAIL_POOL_WAIT_TIMEOUT"; //$NON-NLS-1$
+
+	/** The idle time in milliseconds after which a transport is checked before reuse. */
+	private static final long VALIDATE_AFTER = 5000;
+
+	/**
+	 * Creates and connects the transports of a pool.
+	 */
+	@FunctionalInterface
+	public interface TransportFactory {
+
+		/**
+		 * Creates a connected transport.
+		 *
+		 * @param session the session
+		 * @return the transport
+		 * @throws MessagingException the messaging exception
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		SMTPTransport connect(Session session) throws MessagingException, IOException;
+
+	}
+
+	/**
+	 * A transport of the pool.
+	 */
+	public static class PooledTransport {
+
+		/** The transport. */
+		private final SMTPTransport transport;
+
+		/** The messages sent through the transport. */
+		private int messages;
+
+		/** The time of the last use. */
+		private long lastUsed = System.currentTimeMillis();
+
+		/**
+		 * Instantiates a new pooled transport.
+		 *
+		 * @param transport the transport
+		 */
+		PooledTransport(SMTPTransport transport) {
+			this.transport = transport;
+		}
+
+		/**
+		 * Gets the transport.
+		 *
+		 * @return the transport
+		 */
+		public SMTPTransport getTransport() {
+			return transport;
+		}
+
+	}
+
+	/** The pools per configuration. */
+	private static final Map<Properties, MailTransportPool> POOLS = new ConcurrentHashMap<Properties, MailTransportPool>();
+
+	/** Whether the pooling is enabled. */
+	private static final boolean ENABLED = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_MAIL_POOL_ENABLED, "true"));
+
+	/** The maximum number of the transports per pool. */
+	private static final int SIZE = Math.max(1, Integer.parseInt(Configuration.get(DIRIGIBLE_MAIL_POOL_SIZE, "4")));
+
+	/** The idle timeout in milliseconds. */
+	private static final long IDLE_TIMEOUT = Long.parseLong(Configuration.get(DIRIGIBLE_MAIL_POOL_IDLE_TIMEOUT, "60")) * 1000;
+
+	/** The maximum number of the messages per transport. */
+	private static final int MAX_MESSAGES = Integer.parseInt(Configuration.get(DIRIGIBLE_MAIL_POOL_MAX_MESSAGES, "100"));
+
+	/** The maximum time in milliseconds to wait for a free transport. */
+	private static final long WAIT_TIMEOUT = Long.parseLong(Configuration.get(DIRIGIBLE_MAIL_POOL_WAIT_TIMEOUT, "30")) * 1000;
+
+	static {
+		ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "mail-pool-evictor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1000, IDLE_TIMEOUT / 2);
+		evictor.scheduleWithFixedDelay(() -> POOLS.values().forEach(MailTransportPool::evict), period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/** The session. */
+	private final Session session;
+
+	/** The factory. */
+	private final TransportFactory factory;
+
+	/** The maximum number of the transports. */
+	private final int size;
+
+	/** The idle timeout in milliseconds. */
+	private final long idleTimeout;
+
+	/** The maximum number of the messages per transport. */
+	private final int maxMessages;
+
+	/** The idle transports, the most recently used last. */
+	private final ArrayDeque<PooledTransport> idle = new ArrayDeque<PooledTransport>();
+
+	/** The number of the open transports, idle or borrowed. */
+	private int open;
+
+	/** The sent messages. */
+	private final AtomicLong sent = new AtomicLong();
+
+	/** The failed messages. */
+	private final AtomicLong failed = new AtomicLong();
+
+	/** The time spent sending in nanoseconds. */
+	private final AtomicLong sendTime = new AtomicLong();
+
+	/** The opened connections. */
+	private final AtomicLong connected = new AtomicLong();
+
+	/** The reused connections. */
+	private final AtomicLong reused = new AtomicLong();
+
+	/** The closed connections. */
+	private final AtomicLong closed = new AtomicLong();
+
+	/**
+	 * Gets the pool of a configuration, creating it if needed.
+	 *
+	 * @param properties the properties
+	 * @param sessionFactory the session factory
+	 * @param factory the transport factory
+	 * @return the pool
+	 */
+	public static MailTransportPool get(Properties properties, Function<Properties, Session> sessionFactory,
+			TransportFactory factory) {
+		if (!ENABLED) {
+			return new MailTransportPool(sessionFactory.apply(properties), factory, 0);
+		}
+		Properties key = new Properties();
+		key.putAll(properties);
+		return POOLS.computeIfAbsent(key, k -> new MailTransportPool(sessionFactory.apply(k), factory, SIZE));
+	}
+
+	/**
+	 * Gets the metrics of all the pools.
+	 *
+	 * @return the metrics per pool
+	 */
+	public static List<Map<String, Object>> getAllMetrics() {
+		List<Map<String, Object>> metrics = new ArrayList<Map<String, Object>>();
+		for (Map.Entry<Properties, MailTransportPool> entry : POOLS.entrySet()) {
+			Map<String, Object> poolMetrics = entry.getValue().getMetrics();
+			poolMetrics.put("host", entry.getKey().getProperty("mail.smtp.host", entry.getKey().getProperty("mail.smtps.host")));
+			poolMetrics.put("user", entry.getKey().getProperty("mail.user"));
+			metrics.add(poolMetrics);
+		}
+		return metrics;
+	}
+
+	/**
+	 * Closes all the pools.
+	 */
+	public static void closeAll() {
+		for (Properties key : POOLS.keySet()) {
+			MailTransportPool pool = POOLS.remove(key);
+			if (pool != null) {
+				pool.close();
+			}
+		}
+	}
+
+	/**
+	 * Instantiates a new pool.
+	 *
+	 * @param session the session
+	 * @param factory the factory
+	 * @param size the maximum number of the transports, zero disables the reuse
+	 */
+	MailTransportPool(Session session, TransportFactory factory, int size) {
+		this(session, factory, size, IDLE_TIMEOUT, MAX_MESSAGES);
+	}
+
+	/**
+	 * Instantiates a new pool with its own limits.
+	 *
+	 * @param session the session
+	 * @param factory the factory
+	 * @param size the maximum number of the transports, zero disables the reuse
+	 * @param idleTimeout the idle timeout in milliseconds
+	 * @param maxMessages the maximum number of the messages per transport, zero for unlimited
+	 */
+	MailTransportPool(Session session, TransportFactory factory, int size, long idleTimeout, int maxMessages) {
+		this.session = session;
+		this.factory = factory;
+		this.size = size;
+		this.idleTimeout = idleTimeout;
+		this.maxMessages = maxMessages;
+	}
+
+	/**
+	 * Gets the session.
+	 *
+	 * @return the session
+	 */
+	public Session getSession() {
+		return session;
+	}
+
+	/**
+	 * Borrows a connected transport, waiting for one if all of them are in use.
+	 *
+	 * @return the pooled transport
+	 * @throws MessagingException the messaging exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public PooledTransport borrow() throws MessagingException, IOException {
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (true) {
+			PooledTransport pooled;
+			synchronized (this) {
+				pooled = idle.pollLast();
+				if (pooled == null) {
+					if (size == 0 || open < size) {
+						open++;
+						break;
+					}
+					long remaining = deadline - System.currentTimeMillis();
+					if (remaining <= 0) {
+						throw new MessagingException("No mail transport became available within " + WAIT_TIMEOUT + " ms");
+					}
+					try {
+						wait(remaining);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new MessagingException("Interrupted while waiting for a mail transport", e);
+					}
+					continue;
+				}
+			}
+			if (isHealthy(pooled)) {
+				reused.incrementAndGet();
+				return pooled;
+			}
+			discard(pooled);
+		}
+		try {
+			SMTPTransport transport = factory.connect(session);
+			connected.incrementAndGet();
+			return new PooledTransport(transport);
+		} catch (MessagingException | IOException | RuntimeException e) {
+			synchronized (this) {
+				open--;
+				notifyAll();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns a transport after use.
+	 *
+	 * @param pooled the pooled transport
+	 * @param broken whether the transport failed and must not be reused
+	 */
+	public void release(PooledTransport pooled, boolean broken) {
+		if (broken || size == 0 || isExhausted(pooled)) {
+			discard(pooled);
+			return;
+		}
+		pooled.lastUsed = System.currentTimeMillis();
+		synchronized (this) {
+			idle.addLast(pooled);
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Checks whether a transport has sent the maximum number of messages, so it has to be returned and replaced before
+	 * the next message.
+	 *
+	 * @param pooled the pooled transport
+	 * @return true, if exhausted
+	 */
+	public boolean isExhausted(PooledTransport pooled) {
+		return maxMessages > 0 && pooled.messages >= maxMessages;
+	}
+
+	/**
+	 * Counts a message sent through a transport.
+	 *
+	 * @param pooled the pooled transport
+	 * @param start the start time in nanoseconds
+	 * @param success whether the message was sent
+	 */
+	public void count(PooledTransport pooled, long start, boolean success) {
+		pooled.messages++;
+		sendTime.addAndGet(System.nanoTime() - start);
+		if (success) {
+			sent.incrementAndGet();
+		} else {
+			failed.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Gets the metrics of the pool.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Object> getMetrics() {
+		Map<String, Object> metrics = new HashMap<String, Object>();
+		long messages = sent.get() + failed.get();
+		metrics.put("sent", sent.get());
+		metrics.put("failed", failed.get());
+		metrics.put("averageSendTime", messages == 0 ? 0d : sendTime.get() / 1000000d / messages);
+		metrics.put("connected", connected.get());
+		metrics.put("reused", reused.get());
+		metrics.put("closed", closed.get());
+		synchronized (this) {
+			metrics.put("open", open);
+			metrics.put("idle", idle.size());
+		}
+		return metrics;
+	}
+
+	/**
+	 * Closes the transports idle for longer than the idle timeout.
+	 */
+	void evict() {
+		long now = System.currentTimeMillis();
+		List<PooledTransport> expired = new ArrayList<PooledTransport>();
+		synchronized (this) {
+			Iterator<PooledTransport> iterator = idle.iterator();
+			while (iterator.hasNext()) {
+				PooledTransport pooled = iterator.next();
+				if (now - pooled.lastUsed > idleTimeout) {
+					iterator.remove();
+					expired.add(pooled);
+				}
+			}
+		}
+		expired.forEach(this::discard);
+	}
+
+	/**
+	 * Closes all the idle transports.
+	 */
+	void close() {
+		List<PooledTransport> all;
+		synchronized (this) {
+			all = new ArrayList<PooledTransport>(idle);
+			idle.clear();
+		}
+		all.forEach(this::discard);
+	}
+
+	/**
+	 * Checks whether an idle transport can be reused.
+	 *
+	 * @param pooled the pooled transport
+	 * @return true, if healthy
+	 */
+	private boolean isHealthy(PooledTransport pooled) {
+		if (System.currentTimeMillis() - pooled.lastUsed < VALIDATE_AFTER) {
+			return true;
+		}
+		// sends a NOOP to the server
+		return pooled.transport.isConnected();
+	}
+
+	/**
+	 * Closes a transport and frees its slot.
+	 *
+	 * @param pooled the pooled transport
+	 */
+	private void discard(PooledTransport pooled) {
+		try {
+			pooled.transport.close();
+		} catch (MessagingException e) {
+			if (logger.isDebugEnabled()) {logger.debug("Closing of a mail transport failed: " + e.getMessage());}
+		}
+		closed.incrementAndGet();
+		synchronized (this) {
+			open--;
+			notifyAll();
+		}
+	}
+
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.mail;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.Session;
+
+import org.eclipse.dirigible.api.v3.mail.MailTransportPool.PooledTransport;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.mail.smtp.SMTPTransport;
+
+/**
+ * The Class MailClientTest, sending to an in-process SMTP server.
+ */
+public class MailClientTest {
+
+	/** The SMTP server. */
+	private SmtpStandIn smtp;
+
+	/**
+	 * Starts the SMTP server.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		smtp = new SmtpStandIn();
+	}
+
+	/**
+	 * Closes the pools and the SMTP server.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@After
+	public void tearDown() throws IOException {
+		MailTransportPool.closeAll();
+		smtp.close();
+	}
+
+	/**
+	 * The messages sent one by one reuse the pooled connection.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void reuseConnectionTest() throws Exception {
+		MailClient client = new MailClient(getProperties());
+		for (int i = 0; i < 10; i++) {
+			Map result = client.send("sender@example.com", new String[] {"receiver" + i + "@example.com"}, null, null, "Subject " + i,
+					Collections.singletonList(getTextPart("Text " + i)));
+			assertNotNull(result.get("messageId"));
+		}
+		assertEquals(10, smtp.messages.get());
+		assertEquals(1, smtp.connections.get());
+		assertEquals(10L, client.getMetrics().get("sent"));
+	}
+
+	/**
+	 * A rejected message does not stop the bulk, which is sent over one connection.
+	 *
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void sendManyTest() throws Exception {
+		Map summary = sendMany(5, 2);
+		assertEquals(4.0, summary.get("sent"));
+		assertEquals(1.0, summary.get("failed"));
+		assertEquals(5, ((List) summary.get("results")).size());
+		assertEquals(4, smtp.messages.get());
+		assertEquals(1, smtp.connections.get());
+	}
+
+	/**
+	 * A bulk replaces its connection after the maximum number of messages per connection.
+	 *
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void sendManyMaxMessagesTest() throws Exception {
+		MailTransportPool pool = newPool(60000, 2);
+		Map summary = GsonHelper.GSON.fromJson(new MailClient(getProperties()).sendMany(pool, getMessages(5, -1)), Map.class);
+		assertEquals(5.0, summary.get("sent"));
+		assertEquals(5, smtp.messages.get());
+		assertEquals(3, smtp.connections.get());
+		assertEquals(2L, pool.getMetrics().get("closed"));
+		pool.close();
+	}
+
+	/**
+	 * A single message whose connection is lost before its data is resent over a new connection.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void sendRetryBeforeDataTest() throws Exception {
+		smtp.dropOn = "MAIL";
+		Map result = new MailClient(getProperties()).send("sender@example.com", new String[] {"receiver@example.com"}, null, null, "Subject",
+				Collections.singletonList(getTextPart("Text")));
+		assertNotNull(result.get("messageId"));
+		assertEquals(1, smtp.messages.get());
+		assertEquals(2, smtp.connections.get());
+	}
+
+	/**
+	 * A message whose connection is lost before its data is resent over a new connection.
+	 *
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void retryBeforeDataTest() throws Exception {
+		smtp.dropOn = "MAIL";
+		Map summary = sendMany(3, -1);
+		assertEquals(3.0, summary.get("sent"));
+		assertEquals(0.0, summary.get("failed"));
+		assertEquals(3, smtp.messages.get());
+		assertEquals(2, smtp.connections.get());
+	}
+
+	/**
+	 * A message whose connection is lost after its data is not resent, as it could be delivered twice.
+	 *
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void noRetryAfterDataTest() throws Exception {
+		smtp.dropOn = "DATA";
+		Map summary = sendMany(3, -1);
+		assertEquals(2.0, summary.get("sent"));
+		assertEquals(1.0, summary.get("failed"));
+		assertTrue(((Map) ((List) summary.get("results")).get(0)).containsKey("error"));
+		assertEquals(3, smtp.messages.get());
+		assertEquals(2, smtp.connections.get());
+	}
+
+	/**
+	 * A failing reconnection is reported per message instead of aborting the bulk.
+	 *
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void reconnectFailureTest() throws Exception {
+		smtp.dropOn = "MAIL";
+		smtp.closeOnDrop = true;
+		Map summary = sendMany(3, -1);
+		assertEquals(0.0, summary.get("sent"));
+		assertEquals(3.0, summary.get("failed"));
+		for (Object result : (List) summary.get("results")) {
+			assertTrue(((Map) result).containsKey("error"));
+		}
+		assertEquals(0, smtp.messages.get());
+	}
+
+	/**
+	 * The transports idle for longer than the idle timeout are closed.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void idleEvictionTest() throws Exception {
+		MailTransportPool pool = newPool(0, 0);
+		pool.release(pool.borrow(), false);
+		assertEquals(1, pool.getMetrics().get("idle"));
+		Thread.sleep(10);
+		pool.evict();
+		assertEquals(0, pool.getMetrics().get("idle"));
+		assertEquals(0, pool.getMetrics().get("open"));
+		assertEquals(1L, pool.getMetrics().get("closed"));
+		pool.release(pool.borrow(), false);
+		assertEquals(2L, pool.getMetrics().get("connected"));
+		assertEquals(2, smtp.connections.get());
+		pool.close();
+	}
+
+	/**
+	 * A transport which has sent the maximum number of messages is closed on its return instead of being reused.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void maxMessagesRetirementTest() throws Exception {
+		MailTransportPool pool = newPool(60000, 2);
+		PooledTransport pooled = pool.borrow();
+		pool.count(pooled, System.nanoTime(), true);
+		pool.release(pooled, false);
+		pooled = pool.borrow();
+		assertEquals(1L, pool.getMetrics().get("reused"));
+		pool.count(pooled, System.nanoTime(), true);
+		pool.release(pooled, false);
+		assertEquals(1L, pool.getMetrics().get("closed"));
+		assertEquals(0, pool.getMetrics().get("idle"));
+		pool.release(pool.borrow(), false);
+		assertEquals(2L, pool.getMetrics().get("connected"));
+		assertEquals(2, smtp.connections.get());
+		pool.close();
+	}
+
+	/**
+	 * Sends a bulk of messages.
+	 *
+	 * @param count the number of the messages
+	 * @param rejected the index of the message to a rejected recipient, -1 for none
+	 * @return the summary
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("rawtypes")
+	private Map sendMany(int count, int rejected) throws Exception {
+		MailClient client = new MailClient(getProperties());
+		return GsonHelper.GSON.fromJson(client.sendMany(getMessages(count, rejected)), Map.class);
+	}
+
+	/**
+	 * Gets the messages of a bulk.
+	 *
+	 * @param count the number of the messages
+	 * @param rejected the index of the rejected message, or -1
+	 * @return the messages as JSON
+	 */
+	private static String getMessages(int count, int rejected) {
+		List<Map<String, Object>> messages = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < count; i++) {
+			Map<String, Object> message = new HashMap<String, Object>();
+			message.put("from", "sender@example.com");
+			message.put("to", Collections.singletonList(i == rejected ? "reject@example.com" : "receiver" + i + "@example.com"));
+			message.put("subject", "Subject " + i);
+			message.put("parts", Collections.singletonList(getTextPart("Text " + i)));
+			messages.add(message);
+		}
+		return GsonHelper.GSON.toJson(messages);
+	}
+
+	/**
+	 * Creates a pool connecting to the SMTP server.
+	 *
+	 * @param idleTimeout the idle timeout
+	 * @param maxMessages the maximum number of the messages per transport
+	 * @return the pool
+	 */
+	private MailTransportPool newPool(long idleTimeout, int maxMessages) {
+		return new MailTransportPool(Session.getInstance(getProperties()), session -> {
+			SMTPTransport transport = (SMTPTransport) session.getTransport();
+			transport.connect();
+			return transport;
+		}, 2, idleTimeout, maxMessages);
+	}
+
+	/**
+	 * Gets the properties of the SMTP server.
+	 *
+	 * @return the properties
+	 */
+	private Properties getProperties() {
+		Properties properties = new Properties();
+		properties.put("mail.transport.protocol", "smtp");
+		properties.put("mail.smtp.host", "localhost");
+		properties.put("mail.smtp.port", "" + smtp.server.getLocalPort());
+		return properties;
+	}
+
+	/**
+	 * Gets a text part.
+	 *
+	 * @param text the text
+	 * @return the part
+	 */
+	private static Map<String, Object> getTextPart(String text) {
+		Map<String, Object> part = new HashMap<String, Object>();
+		part.put("type", "text");
+		part.put("contentType", "text/plain");
+		part.put("text", text);
+		return part;
+	}
+
+	/**
+	 * A minimal in-process SMTP server, which accepts all the recipients except reject@example.com. It can drop the
+	 * connection once, on a MAIL command or after the data of a message.
+	 */
+	private static class SmtpStandIn implements Runnable {
+
+		/** The server socket. */
+		private final ServerSocket server = new ServerSocket(0);
+
+		/** The accepted connections. */
+		private final AtomicInteger connections = new AtomicInteger();
+
+		/** The received messages. */
+		private final AtomicInteger messages = new AtomicInteger();
+
+		/** The command, MAIL or DATA, on which the connection is dropped once. */
+		private volatile String dropOn;
+
+		/** Whether the server stops accepting connections when dropping one. */
+		private volatile boolean closeOnDrop;
+
+		/**
+		 * Instantiates and starts the server.
+		 *
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		SmtpStandIn() throws IOException {
+			Thread thread = new Thread(this, "smtp-stand-in");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		/**
+		 * Accepts the connections.
+		 */
+		@Override
+		public void run() {
+			while (!server.isClosed()) {
+				try {
+					Socket socket = server.accept();
+					connections.incrementAndGet();
+					Thread thread = new Thread(() -> serve(socket), "smtp-stand-in-session");
+					thread.setDaemon(true);
+					thread.start();
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Serves a connection.
+		 *
+		 * @param socket the socket
+		 */
+		private void serve(Socket socket) {
+			try (Socket s = socket;
+					BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+					PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+				reply(out, "220 localhost ready");
+				boolean recipient = false;
+				String line;
+				while ((line = in.readLine()) != null) {
+					String command = line.toUpperCase();
+					if (command.startsWith("MAIL") && drop("MAIL")) {
+						return;
+					}
+					if (command.startsWith("EHLO")) {
+						reply(out, "250-localhost");
+						reply(out, "250 8BITMIME");
+					} else if (command.startsWith("RCPT")) {
+						if (command.contains("REJECT@")) {
+							reply(out, "550 rejected");
+						} else {
+							recipient = true;
+							reply(out, "250 OK");
+						}
+					} else if (command.startsWith("DATA")) {
+						reply(out, "354 go ahead");
+						while ((line = in.readLine()) != null && !line.equals(".")) {
+							// the message content
+						}
+						if (recipient) {
+							messages.incrementAndGet();
+						}
+						recipient = false;
+						if (drop("DATA")) {
+							return;
+						}
+						reply(out, "250 OK queued");
+					} else if (command.startsWith("RSET")) {
+						recipient = false;
+						reply(out, "250 OK");
+					} else if (command.startsWith("QUIT")) {
+						reply(out, "221 bye");
+						return;
+					} else {
+						reply(out, "250 OK");
+					}
+				}
+			} catch (IOException e) {
+				// the client disconnected
+			}
+		}
+
+		/**
+		 * Checks whether to drop the connection on a command, only once.
+		 *
+		 * @param command the command
+		 * @return true, if to drop
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		private synchronized boolean drop(String command) throws IOException {
+			if (!command.equals(dropOn)) {
+				return false;
+			}
+			dropOn = null;
+			if (closeOnDrop) {
+				server.close();
+			}
+			return true;
+		}
+
+		/**
+		 * Writes a reply.
+		 *
+		 * @param out the output
+		 * @param line the line
+		 */
+		private static void reply(PrintWriter out, String line) {
+			out.print(line + "\r\n");
+			out.flush();
+		}
+
+		/**
+		 * Stops the server.
+		 *
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		void close() throws IOException {
+			server.close();
+		}
+
+	}
+
+}
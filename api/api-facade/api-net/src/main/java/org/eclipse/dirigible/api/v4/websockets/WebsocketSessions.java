@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v4.websockets;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCodes;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The registry of the open server sessions per websocket endpoint.
+ * <p>
+ * The messages to a session are sent one at a time with the asynchronous remote, while the next ones wait in a bounded
+ * queue of the session, so a slow client does not delay the others. When the queue of a session is full, the oldest or
+ * the newest message is dropped, or the session is closed, depending on the configured overflow policy. An unknown
+ * policy is reported and replaced with drop-oldest.
+ */
+public class WebsocketSessions {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(WebsocketSessions.class);
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_OUTBOUND_QUEUE_SIZE. */
+	public static final String DIRIGIBLE_WEBSOCKETS_OUTBOUND_QUEUE_SIZE = "DIRIGIBLE_WEBSOCKETS_OUTBOUND_QUEUE_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_OUTBOUND_OVERFLOW. */
+	public static final String DIRIGIBLE_WEBSOCKETS_OUTBOUND_OVERFLOW = "DIRIGIBLE_WEBSOCKETS_OUTBOUND_OVERFLOW"; //$NON-NLS-1$
+
+	/** The Constant OVERFLOW_DROP_OLDEST. */
+	public static final String OVERFLOW_DROP_OLDEST = "drop-oldest"; //$NON-NLS-1$
+
+	/** The Constant OVERFLOW_DROP_NEWEST. */
+	public static final String OVERFLOW_DROP_NEWEST = "drop-newest"; //$NON-NLS-1$
+
+	/** The Constant OVERFLOW_CLOSE. */
+	public static final String OVERFLOW_CLOSE = "close"; //$NON-NLS-1$
+
+	/** The instance. */
+	private static final WebsocketSessions INSTANCE = new WebsocketSessions(
+			Integer.parseInt(Configuration.get(DIRIGIBLE_WEBSOCKETS_OUTBOUND_QUEUE_SIZE, "1000")),
+			Configuration.get(DIRIGIBLE_WEBSOCKETS_OUTBOUND_OVERFLOW, OVERFLOW_DROP_OLDEST));
+
+	/**
+	 * An open session with its outbound queue.
+	 */
+	private class OutboundSession {
+
+		/** The endpoint. */
+		private final String endpoint;
+
+		/** The session. */
+		private final Session session;
+
+		/** The messages waiting to be sent. */
+		private final ArrayDeque<String> pending = new ArrayDeque<String>();
+
+		/** Whether a message is being sent. */
+		private boolean sending;
+
+		/** Whether the session is closed because of overflow. */
+		private boolean closing;
+
+		/** Whether a message is being passed to the asynchronous remote. */
+		private boolean writing;
+
+		/** Whether the sending completed while the message was being passed to the asynchronous remote. */
+		private boolean resume;
+
+		/**
+		 * Instantiates a new outbound session.
+		 *
+		 * @param endpoint the endpoint
+		 * @param session the session
+		 */
+		OutboundSession(String endpoint, Session session) {
+			this.endpoint = endpoint;
+			this.session = session;
+		}
+
+		/**
+		 * Queues a message and starts the sending, if idle.
+		 *
+		 * @param text the text
+		 * @return true, if queued
+		 */
+		boolean send(String text) {
+			boolean overflowed = false;
+			synchronized (this) {
+				if (closing) {
+					return false;
+				}
+				if (sending && pending.size() >= queueSize) {
+					dropped.incrementAndGet();
+					if (OVERFLOW_DROP_NEWEST.equals(overflow)) {
+						return false;
+					}
+					if (OVERFLOW_CLOSE.equals(overflow)) {
+						pending.clear();
+						closing = true;
+						overflowed = true;
+					} else {
+						pending.poll();
+					}
+				}
+				if (!overflowed) {
+					if (sending) {
+						pending.add(text);
+						return true;
+					}
+					sending = true;
+				}
+			}
+			if (overflowed) {
+				// closing blocks until the close frame is written, so it is done outside of the lock
+				close(new CloseReason(CloseCodes.TRY_AGAIN_LATER, "Slow consumer"));
+				return false;
+			}
+			write(text);
+			return true;
+		}
+
+		/**
+		 * Sends a message with the asynchronous remote and the next one on its completion. A sending completed before the
+		 * remote returns is continued here in a loop, so a remote completing synchronously does not grow the stack.
+		 *
+		 * @param text the text
+		 */
+		private void write(String text) {
+			String next = text;
+			while (next != null) {
+				synchronized (this) {
+					writing = true;
+					resume = false;
+				}
+				try {
+					session.getAsyncRemote().sendText(next, this::completed);
+				} catch (RuntimeException e) {
+					completed(new SendResult(e));
+				}
+				synchronized (this) {
+					writing = false;
+					if (!resume) {
+						return;
+					}
+					next = poll();
+				}
+			}
+		}
+
+		/**
+		 * Called on the completion of a sending.
+		 *
+		 * @param result the result
+		 */
+		private void completed(SendResult result) {
+			if (result.isOK()) {
+				sent.incrementAndGet();
+			} else {
+				failed.incrementAndGet();
+				if (logger.isDebugEnabled()) {logger.debug("[websocket] Sending to session [{}] failed: {}", session.getId(), result.getException() != null ? result.getException().getMessage() : "");}
+			}
+			String next;
+			synchronized (this) {
+				if (writing) {
+					resume = true;
+					return;
+				}
+				next = poll();
+			}
+			if (next != null) {
+				write(next);
+			}
+		}
+
+		/**
+		 * Takes the next message to be sent, or ends the sending if there is none. Called with the lock held.
+		 *
+		 * @return the next message or null
+		 */
+		private String poll() {
+			String next = session.isOpen() ? pending.poll() : null;
+			if (next == null) {
+				pending.clear();
+				sending = false;
+			}
+			return next;
+		}
+
+		/**
+		 * Closes the session.
+		 *
+		 * @param reason the reason
+		 */
+		private void close(CloseReason reason) {
+			closed.incrementAndGet();
+			unregister(endpoint, session);
+			try {
+				session.close(reason);
+			} catch (IOException e) {
+				if (logger.isDebugEnabled()) {logger.debug("[websocket] Closing of session [{}] failed: {}", session.getId(), e.getMessage());}
+			}
+			if (logger.isWarnEnabled()) {logger.warn("[websocket] Session [{}] of endpoint [{}] closed: {}", session.getId(), endpoint, reason.getReasonPhrase());}
+		}
+
+	}
+
+	/** The maximum number of the queued messages per session. */
+	private final int queueSize;
+
+	/** The overflow policy. */
+	private final String overflow;
+
+	/** The sessions per endpoint. */
+	private final Map<String, Map<String, OutboundSession>> endpoints = new ConcurrentHashMap<String, Map<String, OutboundSession>>();
+
+	/** The sent messages. */
+	private final AtomicLong sent = new AtomicLong();
+
+	/** The failed messages. */
+	private final AtomicLong failed = new AtomicLong();
+
+	/** The dropped messages. */
+	private final AtomicLong dropped = new AtomicLong();
+
+	/** The sessions closed because of overflow. */
+	private final AtomicLong closed = new AtomicLong();
+
+	/**
+	 * Gets the registry of the server sessions.
+	 *
+	 * @return the websocket sessions
+	 */
+	public static WebsocketSessions getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Instantiates a new registry.
+	 *
+	 * @param queueSize the maximum number of the queued messages per session
+	 * @param overflow the overflow policy
+	 */
+	public WebsocketSessions(int queueSize, String overflow) {
+		this.queueSize = Math.max(0, queueSize);
+		if (OVERFLOW_DROP_OLDEST.equals(overflow) || OVERFLOW_DROP_NEWEST.equals(overflow) || OVERFLOW_CLOSE.equals(overflow)) {
+			this.overflow = overflow;
+		} else {
+			if (logger.isWarnEnabled()) {logger.warn("[websocket] Unknown overflow policy [{}], one of [{}], [{}] or [{}] expected, [{}] used instead", overflow,
+					OVERFLOW_DROP_OLDEST, OVERFLOW_DROP_NEWEST, OVERFLOW_CLOSE, OVERFLOW_DROP_OLDEST);}
+			this.overflow = OVERFLOW_DROP_OLDEST;
+		}
+	}
+
+	/**
+	 * Registers an open session.
+	 *
+	 * @param endpoint the endpoint
+	 * @param session the session
+	 */
+	public void register(String endpoint, Session session) {
+		OutboundSession outbound = new OutboundSession(endpoint, session);
+		endpoints.compute(endpoint, (k, endpointSessions) -> {
+			Map<String, OutboundSession> result = endpointSessions != null ? endpointSessions : new ConcurrentHashMap<String, OutboundSession>();
+			result.put(session.getId(), outbound);
+			return result;
+		});
+	}
+
+	/**
+	 * Removes a closed session, and the endpoint once it has no sessions left.
+	 *
+	 * @param endpoint the endpoint
+	 * @param session the session
+	 */
+	public void unregister(String endpoint, Session session) {
+		endpoints.computeIfPresent(endpoint, (k, endpointSessions) -> {
+			endpointSessions.remove(session.getId());
+			return endpointSessions.isEmpty() ? null : endpointSessions;
+		});
+	}
+
+	/**
+	 * Sends a message to all the sessions of an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @param text the text
+	 * @return the number of the sessions the message is queued for
+	 */
+	public int broadcast(String endpoint, String text) {
+		Map<String, OutboundSession> endpointSessions = endpoints.get(endpoint);
+		if (endpointSessions == null) {
+			return 0;
+		}
+		return send(endpointSessions.values(), text);
+	}
+
+	/**
+	 * Sends a message to some of the sessions of an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @param ids the session ids
+	 * @param text the text
+	 * @return the number of the sessions the message is queued for
+	 */
+	public int multicast(String endpoint, Collection<String> ids, String text) {
+		Map<String, OutboundSession> endpointSessions = endpoints.get(endpoint);
+		if (endpointSessions == null) {
+			return 0;
+		}
+		List<OutboundSession> recipients = new ArrayList<OutboundSession>(ids.size());
+		for (String id : ids) {
+			OutboundSession outbound = endpointSessions.get(id);
+			if (outbound != null) {
+				recipients.add(outbound);
+			}
+		}
+		return send(recipients, text);
+	}
+
+	/**
+	 * Sends a message to a session of an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @param id the session id
+	 * @param text the text
+	 * @return true, if queued
+	 */
+	public boolean send(String endpoint, String id, String text) {
+		Map<String, OutboundSession> endpointSessions = endpoints.get(endpoint);
+		OutboundSession outbound = endpointSessions != null ? endpointSessions.get(id) : null;
+		return outbound != null && outbound.send(text);
+	}
+
+	/**
+	 * Gets the endpoints with open sessions.
+	 *
+	 * @return the endpoints
+	 */
+	public List<String> getEndpoints() {
+		return new ArrayList<String>(endpoints.keySet());
+	}
+
+	/**
+	 * Gets the ids of the open sessions of an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the session ids
+	 */
+	public List<String> getSessionIds(String endpoint) {
+		Map<String, OutboundSession> endpointSessions = endpoints.get(endpoint);
+		return endpointSessions == null ? Collections.emptyList() : new ArrayList<String>(endpointSessions.keySet());
+	}
+
+	/**
+	 * Gets the number of the open sessions of an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the number of the sessions
+	 */
+	public int getSessionCount(String endpoint) {
+		Map<String, OutboundSession> endpointSessions = endpoints.get(endpoint);
+		return endpointSessions == null ? 0 : endpointSessions.size();
+	}
+
+	/**
+	 * Queues a message for the sessions.
+	 *
+	 * @param recipients the recipients
+	 * @param text the text
+	 * @return the number of the sessions the message is queued for
+	 */
+	private static int send(Collection<OutboundSession> recipients, String text) {
+		int count = 0;
+		for (OutboundSession outbound : recipients) {
+			if (outbound.send(text)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the number of the sent messages.
+	 *
+	 * @return the sent messages
+	 */
+	public long getSent() {
+		return sent.get();
+	}
+
+	/**
+	 * Gets the number of the messages which could not be sent.
+	 *
+	 * @return the failed messages
+	 */
+	public long getFailed() {
+		return failed.get();
+	}
+
+	/**
+	 * Gets the number of the messages dropped because of a full queue.
+	 *
+	 * @return the dropped messages
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * Gets the number of the sessions closed because of a full queue.
+	 *
+	 * @return the closed sessions
+	 */
+	public long getClosed() {
+		return closed.get();
+	}
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.dirigible.api.v4.websockets;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -125,5 +126,51 @@ public class WebsocketsFacade implements IScriptingFacade {
 		return result.isPresent() ? result.get() : null;
 	}
 	
+	/**
+	 * Send a message to all the sessions connected to an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @param text the message
+	 * @return the number of the sessions the message is queued for
+	 */
+	public static final int broadcast(String endpoint, String text) {
+		return WebsocketSessions.getInstance().broadcast(endpoint, text);
+	}
+	
+	/**
+	 * Send a message to some of the sessions connected to an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @param ids the session ids in JSON
+	 * @param text the message
+	 * @return the number of the sessions the message is queued for
+	 */
+	public static final int multicast(String endpoint, String ids, String text) {
+		String[] sessionIds = GsonHelper.GSON.fromJson(ids, String[].class);
+		return WebsocketSessions.getInstance().multicast(endpoint, Arrays.asList(sessionIds), text);
+	}
+	
+	/**
+	 * Send a message to a session connected to an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @param id the session id
+	 * @param text the message
+	 * @return true, if the message is queued
+	 */
+	public static final boolean send(String endpoint, String id, String text) {
+		return WebsocketSessions.getInstance().send(endpoint, id, text);
+	}
+	
+	/**
+	 * Get the ids of the sessions connected to an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the list in JSON
+	 */
+	public static final String getSessionsAsJson(String endpoint) {
+		return GsonHelper.GSON.toJson(WebsocketSessions.getInstance().getSessionIds(endpoint));
+	}
+	
 
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v4.websockets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.websocket.CloseReason;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class WebsocketSessionsTest.
+ */
+public class WebsocketSessionsTest {
+
+	/** The session. */
+	private Session session;
+
+	/** The texts passed to the asynchronous remote. */
+	private List<String> written;
+
+	/** The completion handlers of the texts passed to the asynchronous remote. */
+	private List<SendHandler> handlers;
+
+	/**
+	 * Mocks a session, which completes its sendings only when told so.
+	 */
+	@Before
+	public void setUp() {
+		written = new ArrayList<String>();
+		handlers = new ArrayList<SendHandler>();
+		RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+		doAnswer(invocation -> {
+			written.add(invocation.getArgument(0));
+			handlers.add(invocation.getArgument(1));
+			return null;
+		}).when(remote).sendText(anyString(), any(SendHandler.class));
+		session = mock(Session.class);
+		when(session.getId()).thenReturn("session1");
+		when(session.isOpen()).thenReturn(true);
+		when(session.getAsyncRemote()).thenReturn(remote);
+	}
+
+	/**
+	 * The messages are sent one at a time in the order of sending.
+	 */
+	@Test
+	public void ordering() {
+		WebsocketSessions sessions = new WebsocketSessions(10, WebsocketSessions.OVERFLOW_DROP_OLDEST);
+		sessions.register("endpoint1", session);
+		for (int i = 1; i <= 5; i++) {
+			assertTrue(sessions.send("endpoint1", "session1", "message" + i));
+		}
+		assertEquals(Arrays.asList("message1"), written);
+		completeAll();
+		assertEquals(Arrays.asList("message1", "message2", "message3", "message4", "message5"), written);
+		assertEquals(5, sessions.getSent());
+	}
+
+	/**
+	 * The oldest queued message is dropped on overflow.
+	 */
+	@Test
+	public void dropOldest() {
+		WebsocketSessions sessions = new WebsocketSessions(2, WebsocketSessions.OVERFLOW_DROP_OLDEST);
+		sessions.register("endpoint1", session);
+		for (int i = 1; i <= 4; i++) {
+			assertTrue(sessions.send("endpoint1", "session1", "message" + i));
+		}
+		completeAll();
+		assertEquals(Arrays.asList("message1", "message3", "message4"), written);
+		assertEquals(1, sessions.getDropped());
+	}
+
+	/**
+	 * The new message is dropped on overflow.
+	 */
+	@Test
+	public void dropNewest() {
+		WebsocketSessions sessions = new WebsocketSessions(2, WebsocketSessions.OVERFLOW_DROP_NEWEST);
+		sessions.register("endpoint1", session);
+		for (int i = 1; i <= 3; i++) {
+			assertTrue(sessions.send("endpoint1", "session1", "message" + i));
+		}
+		assertFalse(sessions.send("endpoint1", "session1", "message4"));
+		completeAll();
+		assertEquals(Arrays.asList("message1", "message2", "message3"), written);
+		assertEquals(1, sessions.getDropped());
+	}
+
+	/**
+	 * The session is closed on overflow, without holding it locked, so the sending in progress can complete meanwhile.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void closeOnOverflow() throws Exception {
+		WebsocketSessions sessions = new WebsocketSessions(1, WebsocketSessions.OVERFLOW_CLOSE);
+		sessions.register("endpoint1", session);
+		AtomicBoolean completedWhileClosing = new AtomicBoolean();
+		doAnswer(invocation -> {
+			Thread sender = new Thread(() -> handlers.get(0).onResult(new SendResult()));
+			sender.start();
+			sender.join(5000);
+			completedWhileClosing.set(!sender.isAlive());
+			return null;
+		}).when(session).close(any(CloseReason.class));
+
+		assertTrue(sessions.send("endpoint1", "session1", "message1"));
+		assertTrue(sessions.send("endpoint1", "session1", "message2"));
+		assertFalse(sessions.send("endpoint1", "session1", "message3"));
+
+		verify(session).close(any(CloseReason.class));
+		assertTrue(completedWhileClosing.get());
+		assertEquals(1, sessions.getClosed());
+		assertEquals(0, sessions.getSessionCount("endpoint1"));
+		assertFalse(sessions.send("endpoint1", "session1", "message4"));
+		assertEquals(Arrays.asList("message1"), written);
+	}
+
+	/**
+	 * An unknown overflow policy is replaced with drop-oldest.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void unknownOverflow() throws IOException {
+		WebsocketSessions sessions = new WebsocketSessions(1, "unknown");
+		sessions.register("endpoint1", session);
+		for (int i = 1; i <= 3; i++) {
+			assertTrue(sessions.send("endpoint1", "session1", "message" + i));
+		}
+		completeAll();
+		assertEquals(Arrays.asList("message1", "message3"), written);
+		verify(session, never()).close(any(CloseReason.class));
+	}
+
+	/**
+	 * A remote completing the sendings before returning does not grow the stack with the queued messages.
+	 */
+	@Test
+	public void synchronousCompletion() {
+		int count = 100000;
+		WebsocketSessions sessions = new WebsocketSessions(count, WebsocketSessions.OVERFLOW_DROP_OLDEST);
+		sessions.register("endpoint1", session);
+		for (int i = 1; i <= count; i++) {
+			assertTrue(sessions.send("endpoint1", "session1", "message" + i));
+		}
+		RemoteEndpoint.Async remote = session.getAsyncRemote();
+		doAnswer(invocation -> {
+			written.add(invocation.getArgument(0));
+			((SendHandler) invocation.getArgument(1)).onResult(new SendResult());
+			return null;
+		}).when(remote).sendText(anyString(), any(SendHandler.class));
+
+		handlers.get(0).onResult(new SendResult());
+
+		assertEquals(count, written.size());
+		assertEquals("message" + count, written.get(count - 1));
+		assertEquals(count, sessions.getSent());
+	}
+
+	/**
+	 * A session is reached only through its own endpoint, and an endpoint is removed with its last session.
+	 */
+	@Test
+	public void endpointScope() {
+		WebsocketSessions sessions = new WebsocketSessions(10, WebsocketSessions.OVERFLOW_DROP_OLDEST);
+		sessions.register("endpoint1", session);
+		assertFalse(sessions.send("endpoint2", "session1", "message1"));
+		assertTrue(written.isEmpty());
+		assertEquals(Arrays.asList("endpoint1"), sessions.getEndpoints());
+
+		sessions.unregister("endpoint1", session);
+		assertFalse(sessions.send("endpoint1", "session1", "message2"));
+		assertTrue(sessions.getEndpoints().isEmpty());
+	}
+
+	/**
+	 * Completes the sendings successfully, including the ones started by the completions.
+	 */
+	private void completeAll() {
+		for (int i = 0; i < handlers.size(); i++) {
+			handlers.get(i).onResult(new SendResult());
+		}
+	}
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+var query = require('db/v4/query');
+var update = require('db/v4/update');
+var assertTrue = require('utils/assert').assertTrue;
+
+update.execute("CREATE TABLE T_CURSOR (A INT, B VARCHAR(10))");
+update.execute("INSERT INTO T_CURSOR VALUES (1, 'ABC')");
+update.execute("INSERT INTO T_CURSOR VALUES (2, 'DEF')");
+update.execute("INSERT INTO T_CURSOR VALUES (3, 'GHI')");
+
+var cursor = query.cursor("SELECT * FROM T_CURSOR WHERE A > ? ORDER BY A", [0]);
+var first = cursor.next();
+var rest = cursor.fetch(10);
+var closed = cursor.isClosed();
+
+update.execute("DROP TABLE T_CURSOR");
+
+assertTrue(first.A === 1 && rest.length === 2 && rest[1].B === 'GHI' && closed);
@@ -104,6 +104,14 @@ declare module "@dirigible/db" {
          * @param datasourceName
          */
         function drop(sequence, databaseType?, datasourceName?);
+
+        /**
+         * Alters the increment of the sequence by the given name to its block size.
+         * @param sequence
+         * @param databaseType
+         * @param datasourceName
+         */
+        function alter(sequence, databaseType?, datasourceName?);
     }
     module sql {
         /**
@@ -624,6 +632,12 @@ declare module "@dirigible/db" {
          */
         getBlob(parameter);
 
+        /**
+         * Returns a stream over a value of type Blob, read without loading it in memory. Valid while the statement is open
+         * @param parameter
+         */
+        getBlobStream(parameter);
+
         /**
          * Returns a value of type Clob
          * @param parameter
@@ -878,6 +892,12 @@ declare module "@dirigible/db" {
          */
         getBlob(identifier);
 
+        /**
+         * Returns a stream over a value of type Blob, read without loading it in memory. Valid while the result set is open
+         * @param identifier
+         */
+        getBlobStream(identifier);
+
         /**
          * Returns a value of type BigDecimal
          * @param identifier
@@ -15,6 +15,7 @@
  * Note: This module is supported only with the Mozilla Rhino engine
  */
 const bytes = require('io/v4/bytes');
+const streams = require('io/v4/streams');
 const SQLTypes = Object.freeze({
 	"BOOLEAN": 16,
 	"DATE": 91,
@@ -515,6 +516,10 @@ function CallableStatement() {
 		return readBlobValue(this.native.getBlob(parameter));
 	};
 
+	this.getBlobStream = function (parameter) {
+		return readBlobStream(this.native.getBlob(parameter));
+	};
+
 	this.getClob = function (parameter) {
 		return readClobValue(this.native.getClob(parameter));
 	};
@@ -807,6 +812,10 @@ function ResultSet(internalResultset) {
 		return readBlobValue(this.native.getBlob(identifier));
 	};
 
+	this.getBlobStream = function (identifier) {
+		return readBlobStream(this.native.getBlob(identifier));
+	};
+
 	this.getClob = function (identifier) {
 		return readClobValue(this.native.getClob(identifier));
 	};
@@ -900,6 +909,13 @@ function readBlobValue(value) {
 	return value.getBytes(1, value.length());
 }
 
+function readBlobStream(value) {
+	if (value === null || value === undefined) {
+		return null;
+	}
+	return streams.createInputStream(value.getBinaryStream());
+}
+
 function createBlobValue(native, value) {
 	try {
 		let connection = native.getConnection();
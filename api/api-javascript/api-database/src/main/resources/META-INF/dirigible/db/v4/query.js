@@ -28,3 +28,51 @@ exports.execute = function(sql, parameters, databaseType, datasourceName) {
 	}
 	return resultset;
 };
+
+exports.stream = function(sql, parameters, outputStream, databaseType, datasourceName) {
+	const params = parameters ? JSON.stringify(parameters) : null;
+	org.eclipse.dirigible.api.v3.db.DatabaseFacade.queryToStream(sql, params, databaseType, datasourceName, outputStream.native);
+};
+
+exports.cursor = function(sql, parameters, databaseType, datasourceName) {
+	const params = parameters ? JSON.stringify(parameters) : null;
+	const cursor = new Cursor();
+	cursor.native = org.eclipse.dirigible.api.v3.db.DatabaseFacade.cursor(sql, params, databaseType, datasourceName);
+	return cursor;
+};
+
+/**
+ * Cursor object
+ */
+function Cursor() {
+
+	this.next = function() {
+		const record = this.native.next();
+		return record ? JSON.parse(record) : null;
+	};
+
+	this.fetch = function(count) {
+		return JSON.parse(this.native.fetch(count));
+	};
+
+	this.forEach = function(callback, batchSize) {
+		try {
+			let records;
+			do {
+				records = this.fetch(batchSize ? batchSize : 1000);
+				records.forEach(callback);
+			} while (records.length > 0);
+		} finally {
+			this.close();
+		}
+	};
+
+	this.isClosed = function() {
+		return this.native.isClosed();
+	};
+
+	this.close = function() {
+		this.native.close();
+	};
+
+}
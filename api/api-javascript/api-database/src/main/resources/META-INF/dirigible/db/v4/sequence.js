@@ -41,6 +41,18 @@ exports.create = function(sequence, databaseType, datasourceName) {
 	}
 };
 
+exports.alter = function(sequence, databaseType, datasourceName) {
+	if (databaseType) {
+		if (datasourceName) {
+			org.eclipse.dirigible.api.v3.db.DatabaseFacade.alterSequence(sequence, databaseType, datasourceName);
+		} else {
+			org.eclipse.dirigible.api.v3.db.DatabaseFacade.alterSequence(sequence, databaseType);
+		}
+	} else {
+		org.eclipse.dirigible.api.v3.db.DatabaseFacade.alterSequence(sequence);
+	}
+};
+
 exports.drop = function(sequence, databaseType, datasourceName) {
 	if (databaseType) {
 		if (datasourceName) {
@@ -50,6 +50,15 @@ exports.generate = function (templatePath, data) {
     return org.eclipse.dirigible.api.v3.documents.PDFFacade.generate(template, xmlData);
 };
 
+exports.generateTo = function (templatePath, data, outputStream) {
+    let template = registry.getText(templatePath);
+
+    let xmlData = xml.fromJson({
+        content: data
+    });
+    org.eclipse.dirigible.api.v3.documents.PDFFacade.generate(template, xmlData, outputStream.native);
+};
+
 function setTemplateParameters(templateParameters, config) {
     setDocumentSize(templateParameters, config);
     setDocumentAlign(templateParameters, config);
@@ -15,22 +15,34 @@
  * Note: This module is supported only with the Mozilla Rhino engine
  */
 
-exports.search = function(index, term) {
-	const results = org.eclipse.dirigible.api.v3.indexing.IndexingFacade.search(index, term);
+exports.search = function(index, term, offset, limit) {
+	const results = (offset !== undefined || limit !== undefined)
+		? org.eclipse.dirigible.api.v3.indexing.IndexingFacade.search(index, term, offset ? offset : 0, getLimit(limit))
+		: org.eclipse.dirigible.api.v3.indexing.IndexingFacade.search(index, term);
 	return JSON.parse(results);
 };
 
-exports.before = function(index, date) {
-	const results = org.eclipse.dirigible.api.v3.indexing.IndexingFacade.before(index, '' + date.getTime());
+exports.before = function(index, date, offset, limit) {
+	const results = (offset !== undefined || limit !== undefined)
+		? org.eclipse.dirigible.api.v3.indexing.IndexingFacade.before(index, '' + date.getTime(), offset ? offset : 0, getLimit(limit))
+		: org.eclipse.dirigible.api.v3.indexing.IndexingFacade.before(index, '' + date.getTime());
 	return JSON.parse(results);
 };
 
-exports.after = function(index, date) {
-	const results = org.eclipse.dirigible.api.v3.indexing.IndexingFacade.after(index, '' + date.getTime());
+exports.after = function(index, date, offset, limit) {
+	const results = (offset !== undefined || limit !== undefined)
+		? org.eclipse.dirigible.api.v3.indexing.IndexingFacade.after(index, '' + date.getTime(), offset ? offset : 0, getLimit(limit))
+		: org.eclipse.dirigible.api.v3.indexing.IndexingFacade.after(index, '' + date.getTime());
 	return JSON.parse(results);
 };
 
-exports.between = function(index, lower, upper) {
-	const results = org.eclipse.dirigible.api.v3.indexing.IndexingFacade.between(index, '' + lower.getTime(), '' + upper.getTime());
+exports.between = function(index, lower, upper, offset, limit) {
+	const results = (offset !== undefined || limit !== undefined)
+		? org.eclipse.dirigible.api.v3.indexing.IndexingFacade.between(index, '' + lower.getTime(), '' + upper.getTime(), offset ? offset : 0, getLimit(limit))
+		: org.eclipse.dirigible.api.v3.indexing.IndexingFacade.between(index, '' + lower.getTime(), '' + upper.getTime());
 	return JSON.parse(results);
 };
+
+function getLimit(limit) {
+	return limit !== undefined && limit !== null ? limit : org.eclipse.dirigible.api.v3.indexing.IndexingFacade.getMaxResults();
+}
@@ -25,3 +25,16 @@ exports.add = function(index, location, contents, lastModified, parameters) {
 	}
 	org.eclipse.dirigible.api.v3.indexing.IndexingFacade.add(index, location, contents, '' + lastModified.getTime(), map);
 };
+
+exports.addAll = function(index, documents) {
+	const now = new Date().getTime();
+	const array = documents.map(function(document) {
+		return {
+			location: document.location,
+			contents: document.contents,
+			lastModified: document.lastModified ? document.lastModified.getTime() : now,
+			parameters: document.parameters ? document.parameters : {}
+		};
+	});
+	org.eclipse.dirigible.api.v3.indexing.IndexingFacade.addAll(index, JSON.stringify(array));
+};
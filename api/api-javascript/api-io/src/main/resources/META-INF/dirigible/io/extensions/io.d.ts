@@ -134,6 +134,20 @@ declare module "@dirigible/io" {
          */
         function writeBytesNative(path: string, data);
 
+        /**
+         * Writes the content of the file to the OutputStream and returns the number of bytes
+         * @param path
+         * @param output
+         */
+        function readToStream(path: string, output: OutputStream): number;
+
+        /**
+         * Writes the content of the InputStream to the file and returns the number of bytes
+         * @param path
+         * @param input
+         */
+        function writeFromStream(path: string, input: InputStream): number;
+
         /**
          * Writes the given text content to the file
          * @param path
@@ -280,6 +294,22 @@ declare module "@dirigible/io" {
          */
         function copy(input: InputStream, output: OutputStream);
 
+        /**
+         * Copies up to length bytes of an InputStream, after skipping offset bytes, to an OutputStream
+         * @param input
+         * @param output
+         * @param offset
+         * @param length
+         */
+        function copyRange(input: InputStream, output: OutputStream, offset?: number, length?: number): number;
+
+        /**
+         * Copies an InputStream to an OutputStream and closes both of them
+         * @param input
+         * @param output
+         */
+        function pipe(input: InputStream, output: OutputStream): number;
+
         /**
          * Creates an ByteArrayInputStream from the array of bytes
          * @param data
@@ -453,6 +483,12 @@ declare module "@dirigible/io" {
          */
         readText(): string;
 
+        /**
+         * Copies the rest of this InputStream to the OutputStream and closes both of them
+         * @param output
+         */
+        pipeTo(output: OutputStream): number;
+
         /**
          * Closes this InputStream to release the resources
          */
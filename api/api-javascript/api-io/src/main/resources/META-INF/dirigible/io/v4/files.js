@@ -84,6 +84,14 @@ exports.writeBytesNative = function(path, data){
 	org.eclipse.dirigible.api.v3.io.FilesFacade.writeBytesNative(path, data);
 };
 
+exports.readToStream = function(path, output) {
+	return org.eclipse.dirigible.api.v3.io.FilesFacade.copyToStream(path, output.native);
+};
+
+exports.writeFromStream = function(path, input) {
+	return org.eclipse.dirigible.api.v3.io.FilesFacade.copyFromStream(input.native, path);
+};
+
 exports.writeText = function(path, text) {
 	org.eclipse.dirigible.api.v3.io.FilesFacade.writeText(path, text);
 };
@@ -172,3 +180,56 @@ exports.list = function(path) {
 exports.find = function(path, pattern) {
 	return JSON.parse(org.eclipse.dirigible.api.v3.io.FilesFacade.find(path, pattern));
 };
+
+exports.walk = function(path, options) {
+	const native = org.eclipse.dirigible.api.v3.io.FilesFacade.walk(path, options ? JSON.stringify(options) : null);
+	return new FileWalker(native);
+};
+
+/**
+ * Every call walks the tree again up to the offset, and the pages shift when the tree changes in between.
+ * To read a large tree to the end, use walk() instead.
+ */
+exports.traversePage = function(path, options, offset, limit) {
+	return JSON.parse(org.eclipse.dirigible.api.v3.io.FilesFacade.traversePage(path, options ? JSON.stringify(options) : null,
+		offset ? offset : 0, limit ? limit : 100));
+};
+
+/**
+ * FileWalker object
+ */
+function FileWalker(native) {
+	this.native = native;
+
+	this.hasNext = function() {
+		return this.native.hasNext();
+	};
+
+	this.next = function() {
+		const entries = this.nextBatch(1);
+		return entries.length > 0 ? entries[0] : null;
+	};
+
+	this.nextBatch = function(size) {
+		return JSON.parse(this.native.nextAsJson(size ? size : 100));
+	};
+
+	this.forEach = function(callback, batchSize) {
+		try {
+			while (this.native.hasNext()) {
+				const entries = this.nextBatch(batchSize);
+				for (let i = 0; i < entries.length; i++) {
+					if (callback(entries[i]) === false) {
+						return;
+					}
+				}
+			}
+		} finally {
+			this.close();
+		}
+	};
+
+	this.close = function() {
+		this.native.close();
+	};
+}
@@ -33,6 +33,10 @@ exports.InputStream = function() {
 		return org.eclipse.dirigible.api.v3.io.StreamsFacade.readText(this.native);
 	};
 
+	this.pipeTo = function(output) {
+		return exports.pipe(this, output);
+	};
+
 	this.close = function() {
 		org.eclipse.dirigible.api.v3.io.StreamsFacade.close(this.native);
 	};
@@ -58,7 +62,7 @@ exports.OutputStream = function() {
 	};
 
 	this.writeBytesNative = function(data) {
-		org.eclipse.dirigible.api.v3.io.StreamsFacade.writeBytes(this.native, data);
+		org.eclipse.dirigible.api.v3.io.StreamsFacade.writeBytesNative(this.native, data);
 	};
 
 	this.writeText = function(text) {
@@ -99,6 +103,20 @@ exports.copyLarge = function(input, output) {
 	org.eclipse.dirigible.api.v3.io.StreamsFacade.copyLarge(input.native, output.native);
 };
 
+/**
+ * Copy a range of the input to the output, skipping offset bytes and copying up to length bytes (all if omitted)
+ */
+exports.copyRange = function(input, output, offset, length) {
+	return org.eclipse.dirigible.api.v3.io.StreamsFacade.copyRange(input.native, output.native, offset || 0, length === undefined ? -1 : length);
+};
+
+/**
+ * Copy the whole input to the output in Java and close both streams, returning the number of bytes
+ */
+exports.pipe = function(input, output) {
+	return org.eclipse.dirigible.api.v3.io.StreamsFacade.pipe(input.native, output.native);
+};
+
 /**
  * Get an ByteArrayInputStream for the provided resource
  */
@@ -51,6 +51,33 @@ exports.createZipInputStream = function (inputStream) {
             return org.eclipse.dirigible.api.v3.io.ZipFacade.readText(this.native);
         };
 
+        this.readChunk = function (size) {
+            const native = org.eclipse.dirigible.api.v3.io.ZipFacade.readChunk(this.native, size ? size : 8192);
+            return native === null ? null : bytes.toJavaScriptBytes(native);
+        };
+
+        this.readChunkNative = function (size) {
+            return org.eclipse.dirigible.api.v3.io.ZipFacade.readChunk(this.native, size ? size : 8192);
+        };
+
+        this.getEntryStream = function () {
+            const inputStream = new streams.InputStream();
+            inputStream.native = org.eclipse.dirigible.api.v3.io.ZipFacade.createEntryInputStream(this.native);
+            return inputStream;
+        };
+
+        this.copy = function (outputStream) {
+            return org.eclipse.dirigible.api.v3.io.ZipFacade.copy(this.native, outputStream.native);
+        };
+
+        this.forEach = function (callback) {
+            let zipEntry = this.getNextEntry();
+            while (zipEntry.isValid()) {
+                callback(zipEntry, this);
+                zipEntry = this.getNextEntry();
+            }
+        };
+
         this.close = function () {
             this.native.close();
         };
@@ -18,6 +18,10 @@ exports.save = function(location, type, line, column, cause, expected, category,
         category, module, source, program);
 };
 
+exports.saveAll = function(locations, problems) {
+    return org.eclipse.dirigible.api.v3.problems.ProblemsFacade.saveAll(JSON.stringify(locations), JSON.stringify(problems));
+};
+
 exports.findProblem = function(id) {
     return org.eclipse.dirigible.api.v3.problems.ProblemsFacade.findProblem(id);
 };
@@ -29,6 +29,15 @@ exports.send = function (from, recipients, subject, text, subType) {
     mailClient.send(from, recipients, subject, text, subType);
 };
 
+exports.sendMany = function (messages) {
+    const mailClient = this.getClient();
+    return mailClient.sendMany(messages);
+};
+
+exports.getMetrics = function () {
+    return JSON.parse(org.eclipse.dirigible.api.v3.mail.MailFacade.getMetrics());
+};
+
 function MailClient(native) {
     this.native = native;
 
@@ -67,6 +76,34 @@ function MailClient(native) {
             throw new Error(error);
         }
     };
+
+    this.sendMany = function (messages) {
+        const list = messages.map(function (message) {
+            const recipients = processRecipients(message.recipients);
+            let parts = message.parts;
+            if (!parts) {
+                parts = [{
+                    contentType: message.contentType === "html" ? "text/html" : "text/plain",
+                    text: message.text,
+                    type: 'text'
+                }];
+            }
+            return {
+                from: message.from,
+                to: recipients.to,
+                cc: recipients.cc,
+                bcc: recipients.bcc,
+                subject: message.subject,
+                parts: stringifyPartData(parts)
+            };
+        });
+        try {
+            return JSON.parse(this.native.sendMany(JSON.stringify(list)));
+        } catch (error) {
+            console.error(error.message);
+            throw new Error(error);
+        }
+    };
 }
 
 function stringifyPartData(parts) {
@@ -36,6 +36,27 @@ exports.getClientByHandler = function(handler) {
 	return new WebsocketClient(native.getSession(), native.getSession().getRequestURI(), native.getHandler(), native.getEngine());
 };
 
+exports.broadcast = function(endpoint, text) {
+	return org.eclipse.dirigible.api.v4.websockets.WebsocketsFacade.broadcast(endpoint, text);
+};
+
+exports.multicast = function(endpoint, ids, text) {
+	return org.eclipse.dirigible.api.v4.websockets.WebsocketsFacade.multicast(endpoint, JSON.stringify(ids), text);
+};
+
+exports.send = function(endpoint, id, text) {
+	return org.eclipse.dirigible.api.v4.websockets.WebsocketsFacade.send(endpoint, id, text);
+};
+
+exports.getSessions = function(endpoint) {
+	const json = org.eclipse.dirigible.api.v4.websockets.WebsocketsFacade.getSessionsAsJson(endpoint);
+	return JSON.parse(json);
+};
+
+exports.getSessionId = function() {
+	return __context.get('sessionId');
+};
+
 exports.getMessage = function() {
 	return __context.get('message');
 };
@@ -25,12 +25,19 @@ import java.util.List;
  * The Class Job.
  */
 @Entity
-@Table(name = "DIRIGIBLE_JOBS")
+@Table(name = Job.TABLE)
 public class Job extends Artefact {
 
     /** The Constant ARTEFACT_TYPE. */
     public static final String ARTEFACT_TYPE = "job";
 
+    /** The Constant TABLE. */
+    public static final String TABLE = "DIRIGIBLE_JOBS";
+
+    /** The batched status update of the job log writer, which has to follow the column mapping below. */
+    public static final String SQL_UPDATE_STATUS = "UPDATE " + TABLE + " SET JOB_STATUS = ?, JOB_MESSAGE = ?, JOB_EXECUTED_AT = ? "
+            + "WHERE ARTEFACT_NAME = ?"; //$NON-NLS-1$
+
     /** The id. */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
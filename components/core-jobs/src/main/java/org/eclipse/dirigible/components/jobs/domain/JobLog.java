@@ -19,7 +19,10 @@ import javax.persistence.*;
  * The JobLogDefinition serialization object.
  */
 @Entity
-@Table(name = "DIRIGIBLE_JOB_LOGS")
+@Table(name = JobLog.TABLE, indexes = {
+        @Index(name = "DIRIGIBLE_JOB_LOGS_NAME", columnList = "JOBLOG_JOB_NAME, JOBLOG_TRIGGERED_AT"),
+        @Index(name = "DIRIGIBLE_JOB_LOGS_STATUS", columnList = "JOBLOG_STATUS"),
+        @Index(name = "DIRIGIBLE_JOB_LOGS_TRIGGERED_AT", columnList = "JOBLOG_TRIGGERED_AT")})
 public class JobLog extends Artefact {
 
     /** The Constant JOB_LOG_STATUS_TRIGGRED. */
@@ -49,6 +52,14 @@ public class JobLog extends Artefact {
     /** The Constant ARTEFACT_TYPE. */
     public static final String ARTEFACT_TYPE = "job-log";
 
+    /** The Constant TABLE. */
+    public static final String TABLE = "DIRIGIBLE_JOB_LOGS";
+
+    /** The batched insert of the job log writer, which has to follow the column mapping below. */
+    public static final String SQL_INSERT = "INSERT INTO " + TABLE + " (JOBLOG_JOB_NAME, JOBLOG_HANDLER, JOBLOG_TRIGGERED_AT, "
+            + "JOBLOG_TRIGGERED_ID, JOBLOG_FINISHED_AT, JOBLOG_STATUS, JOBLOG_MESSAGE, ARTEFACT_LOCATION, ARTEFACT_NAME, ARTEFACT_TYPE, "
+            + "ARTEFACT_KEY, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"; //$NON-NLS-1$
+
     /** The id. */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
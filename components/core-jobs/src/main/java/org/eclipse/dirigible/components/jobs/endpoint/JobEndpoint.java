@@ -11,9 +11,12 @@
  */
 package org.eclipse.dirigible.components.jobs.endpoint;
 
+import java.sql.Timestamp;
 import java.util.List;
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.eclipse.dirigible.components.jobs.domain.Job;
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.eclipse.dirigible.components.jobs.service.JobLogService;
 import org.eclipse.dirigible.components.jobs.service.JobService;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +34,10 @@ public class JobEndpoint extends BaseEndpoint {
     @Autowired
     private JobService jobService ;
 
+    /** The job log service. */
+    @Autowired
+    private JobLogService jobLogService;
+
     /**
      * List jobs.
      *
@@ -41,6 +48,22 @@ public class JobEndpoint extends BaseEndpoint {
         return ResponseEntity.ok(jobService.getAll());
     }
 
+    /**
+     * List a page of the logs of a job, from the newest to the oldest.
+     *
+     * @param name the name
+     * @param before the trigger time in milliseconds of the last log of the previous page
+     * @param beforeId the id of the last log of the previous page
+     * @param limit the page size
+     * @return the response entity
+     */
+    @GetMapping("logs/{name}")
+    public ResponseEntity<List<JobLog>> listJobLogs(@PathVariable("name") String name, @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "beforeId", required = false) Long beforeId, @RequestParam(value = "limit", required = false, defaultValue = "100") int limit)
+    {
+        return ResponseEntity.ok(jobLogService.getJobLogs(IRepository.SEPARATOR + name, before != null ? new Timestamp(before) : null, beforeId, limit));
+    }
+
     /**
      * Enable job.
      *
@@ -11,12 +11,126 @@
  */
 package org.eclipse.dirigible.components.jobs.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
 import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * The Interface JobLogRepository.
  */
 @Repository("jobsLogsRepository")
-public interface JobLogRepository extends JpaRepository<JobLog, Long> {}
+public interface JobLogRepository extends JpaRepository<JobLog, Long> {
+
+    /**
+     * Find the latest log of a job.
+     *
+     * @param jobName the job name
+     * @return the job log
+     */
+    Optional<JobLog> findFirstByJobNameOrderByTriggeredAtDescIdDesc(String jobName);
+
+    /**
+     * Find the first page of the logs of a job, from the newest to the oldest.
+     *
+     * @param jobName the job name
+     * @param pageable the pageable
+     * @return the job logs
+     */
+    List<JobLog> findByJobNameOrderByTriggeredAtDescIdDesc(String jobName, Pageable pageable);
+
+    /**
+     * Find the logs of a job after the last one of the previous page, from the newest to the oldest.
+     *
+     * @param jobName the job name
+     * @param triggeredAt the triggered at of the last log of the previous page
+     * @param id the id of the last log of the previous page
+     * @param pageable the pageable
+     * @return the job logs
+     */
+    @Query("SELECT l FROM JobLog l WHERE l.jobName = :jobName AND (l.triggeredAt < :triggeredAt OR (l.triggeredAt = :triggeredAt AND l.id < :id)) "
+            + "ORDER BY l.triggeredAt DESC, l.id DESC")
+    List<JobLog> findByJobNameBefore(@Param("jobName") String jobName, @Param("triggeredAt") Timestamp triggeredAt, @Param("id") long id,
+            Pageable pageable);
+
+    /**
+     * Find the trigger times of the runs of a job, from the newest to the oldest.
+     *
+     * @param jobName the job name
+     * @param status the status of the triggered logs
+     * @param pageable the pageable
+     * @return the trigger times
+     */
+    @Query("SELECT l.triggeredAt FROM JobLog l WHERE l.jobName = :jobName AND l.status = :status AND l.triggeredAt IS NOT NULL "
+            + "ORDER BY l.triggeredAt DESC, l.id DESC")
+    List<Timestamp> findRunsTriggeredAt(@Param("jobName") String jobName, @Param("status") short status, Pageable pageable);
+
+    /**
+     * Find the names of the jobs with logs.
+     *
+     * @return the job names
+     */
+    @Query("SELECT DISTINCT l.jobName FROM JobLog l")
+    List<String> findJobNames();
+
+    /**
+     * Find the ids of the logs triggered before a given time.
+     *
+     * @param triggeredAt the triggered at
+     * @param pageable the pageable
+     * @return the ids
+     */
+    @Query("SELECT l.id FROM JobLog l WHERE l.triggeredAt < :triggeredAt")
+    List<Long> findIdsTriggeredBefore(@Param("triggeredAt") Timestamp triggeredAt, Pageable pageable);
+
+    /**
+     * Find the ids of the logs of a job triggered before a given time.
+     *
+     * @param jobName the job name
+     * @param triggeredAt the triggered at
+     * @param pageable the pageable
+     * @return the ids
+     */
+    @Query("SELECT l.id FROM JobLog l WHERE l.jobName = :jobName AND l.triggeredAt < :triggeredAt")
+    List<Long> findIdsTriggeredBefore(@Param("jobName") String jobName, @Param("triggeredAt") Timestamp triggeredAt, Pageable pageable);
+
+    /**
+     * Find the ids of the logs without trigger time, which finished before a given time or have no finish time either.
+     *
+     * @param finishedAt the finished at
+     * @param pageable the pageable
+     * @return the ids
+     */
+    @Query("SELECT l.id FROM JobLog l WHERE l.triggeredAt IS NULL AND (l.finishedAt IS NULL OR l.finishedAt < :finishedAt)")
+    List<Long> findIdsUntriggeredBefore(@Param("finishedAt") Timestamp finishedAt, Pageable pageable);
+
+    /**
+     * Find the ids of the logs of a job without trigger time, which finished before a given time or have no finish time
+     * either.
+     *
+     * @param jobName the job name
+     * @param finishedAt the finished at
+     * @param pageable the pageable
+     * @return the ids
+     */
+    @Query("SELECT l.id FROM JobLog l WHERE l.jobName = :jobName AND l.triggeredAt IS NULL AND (l.finishedAt IS NULL OR l.finishedAt < :finishedAt)")
+    List<Long> findIdsUntriggeredBefore(@Param("jobName") String jobName, @Param("finishedAt") Timestamp finishedAt, Pageable pageable);
+
+    /**
+     * Delete all the logs of a job.
+     *
+     * @param jobName the job name
+     * @return the number of the deleted logs
+     */
+    @Modifying
+    @Query("DELETE FROM JobLog l WHERE l.jobName = :jobName")
+    int deleteAllByJobName(@Param("jobName") String jobName);
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import java.sql.Timestamp;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enforces the retention of the job logs.
+ * <p>
+ * The retention is opt-in: nothing is deleted unless DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD (in hours) or
+ * DIRIGIBLE_SCHEDULER_LOGS_RETENTION_RUNS is set. The logs older than the retention period are deleted, and so are
+ * the logs of the runs beyond the configured number of the latest runs of each job. The logs without trigger time are
+ * aged by their finish time, or deleted if they have none either. The purge runs periodically in the background and deletes the logs in batches, each one
+ * in its own transaction, so it does not hold long locks on the table.
+ */
+@Component
+public class JobLogRetention {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(JobLogRetention.class);
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD = "DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_RETENTION_RUNS. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_RETENTION_RUNS = "DIRIGIBLE_SCHEDULER_LOGS_RETENTION_RUNS"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_PURGE_BATCH_SIZE. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_PURGE_BATCH_SIZE = "DIRIGIBLE_SCHEDULER_LOGS_PURGE_BATCH_SIZE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_PURGE_INTERVAL. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_PURGE_INTERVAL = "DIRIGIBLE_SCHEDULER_LOGS_PURGE_INTERVAL"; //$NON-NLS-1$
+
+    /** The job log service. */
+    @Autowired
+    private JobLogService jobLogService;
+
+    /** The retention period in hours, zero (the default) keeps the logs regardless of their age. */
+    private final int retentionPeriod = getInt(DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD, 0);
+
+    /** The number of the retained runs per job, zero keeps all the runs. */
+    private final int retentionRuns = getInt(DIRIGIBLE_SCHEDULER_LOGS_RETENTION_RUNS, 0);
+
+    /** The number of the logs deleted per transaction. */
+    private final int batchSize = Math.max(1, getInt(DIRIGIBLE_SCHEDULER_LOGS_PURGE_BATCH_SIZE, 1000));
+
+    /** The interval of the purge in minutes, zero disables it. */
+    private final int interval = getInt(DIRIGIBLE_SCHEDULER_LOGS_PURGE_INTERVAL, 60);
+
+    /** The executor. */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Schedules the purge.
+     */
+    @PostConstruct
+    public void start() {
+        if (interval <= 0 || (retentionPeriod <= 0 && retentionRuns <= 0)) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-log-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                purge();
+            } catch (RuntimeException e) {
+                if (logger.isErrorEnabled()) {logger.error("Purging of the job logs failed: " + e.getMessage(), e);}
+            }
+        }, interval, interval, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stops the purge.
+     */
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Deletes the logs beyond the retention.
+     *
+     * @return the number of the deleted logs
+     */
+    public int purge() {
+        int deleted = 0;
+        if (retentionPeriod > 0) {
+            Timestamp before = new Timestamp(System.currentTimeMillis() - retentionPeriod * 60 * 60 * 1000L);
+            int count;
+            do {
+                count = jobLogService.deleteTriggeredBefore(before, batchSize);
+                deleted += count;
+            } while (count == batchSize);
+        }
+        if (retentionRuns > 0) {
+            for (String name : jobLogService.getJobNames()) {
+                Timestamp oldest = jobLogService.getRunTriggeredAt(name, retentionRuns);
+                if (oldest == null) {
+                    continue;
+                }
+                int count;
+                do {
+                    count = jobLogService.deleteTriggeredBefore(name, oldest, batchSize);
+                    deleted += count;
+                } while (count == batchSize);
+            }
+        }
+        if (deleted > 0 && logger.isInfoEnabled()) {logger.info("Deleted {} job logs beyond the retention", deleted);}
+        return deleted;
+    }
+
+    /**
+     * Gets an integer configuration.
+     *
+     * @param name the name
+     * @param defaultValue the default value
+     * @return the value
+     */
+    private static int getInt(String name, int defaultValue) {
+        try {
+            return Integer.parseInt(Configuration.get(name, defaultValue + ""));
+        } catch (NumberFormatException e) {
+            if (logger.isWarnEnabled()) {logger.warn(name + " is not correctly set, so it will be backed up to " + defaultValue);}
+            return defaultValue;
+        }
+    }
+
+}
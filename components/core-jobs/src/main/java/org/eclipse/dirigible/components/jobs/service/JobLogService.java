@@ -12,6 +12,7 @@
 package org.eclipse.dirigible.components.jobs.service;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -22,8 +23,8 @@ import org.eclipse.dirigible.components.jobs.domain.JobLog;
 import org.eclipse.dirigible.components.jobs.email.JobEmailProcessor;
 import org.eclipse.dirigible.components.jobs.repository.JobLogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +36,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class JobLogService implements ArtefactService<JobLog> {
 
+    /** The Constant DEFAULT_PAGE_SIZE. */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     /** The job log repository. */
     @Autowired
     private JobLogRepository jobLogRepository;
@@ -47,6 +51,10 @@ public class JobLogService implements ArtefactService<JobLog> {
     @Autowired
     private JobEmailProcessor jobEmailProcessor;
 
+    /** The job log writer. */
+    @Autowired
+    private JobLogWriter jobLogWriter;
+
     /**
      * Gets the all.
      *
@@ -55,6 +63,7 @@ public class JobLogService implements ArtefactService<JobLog> {
     @Override
     @Transactional(readOnly = true)
     public List<JobLog> getAll() {
+        jobLogWriter.flush();
         return jobLogRepository.findAll();
     }
 
@@ -67,6 +76,7 @@ public class JobLogService implements ArtefactService<JobLog> {
     @Override
     @Transactional(readOnly = true)
     public Page<JobLog> findAll(Pageable pageable) {
+        jobLogWriter.flush();
         return jobLogRepository.findAll(pageable);
     }
 
@@ -79,6 +89,7 @@ public class JobLogService implements ArtefactService<JobLog> {
     @Override
     @Transactional(readOnly = true)
     public JobLog findById(Long id) {
+        jobLogWriter.flush();
         Optional<JobLog> jobLog = jobLogRepository.findById(id);
         if (jobLog.isPresent()) {
             return jobLog.get();
@@ -88,18 +99,16 @@ public class JobLogService implements ArtefactService<JobLog> {
     }
 
     /**
-     * Find by name.
+     * Find the latest log of a job.
      *
-     * @param name the name
+     * @param name the name of the job
      * @return the job log
      */
     @Override
     @Transactional(readOnly = true)
     public JobLog findByName(String name) {
-        JobLog filter = new JobLog();
-        filter.setName(name);
-        Example<JobLog> example = Example.of(filter);
-        Optional<JobLog> jobLog = jobLogRepository.findOne(example);
+        jobLogWriter.flush();
+        Optional<JobLog> jobLog = jobLogRepository.findFirstByJobNameOrderByTriggeredAtDescIdDesc(name);
         if (jobLog.isPresent()) {
             return jobLog.get();
         } else {
@@ -129,20 +138,17 @@ public class JobLogService implements ArtefactService<JobLog> {
     }
 
     /**
-     * Job triggered.
+     * Job triggered. The log is written immediately, so its id can be referenced by the finished or failed log.
      *
      * @param name the name
      * @param handler the handler
      * @return the job log definition
      */
     public JobLog jobTriggered(String name, String handler) {
-        JobLog jobLog = new JobLog();
-        jobLog.setName(name);
-        jobLog.setHandler(handler);
+        JobLog jobLog = newJobLog(name, handler);
         jobLog.setStatus(JobLog.JOB_LOG_STATUS_TRIGGRED);
         jobLog.setTriggeredAt(new Timestamp(new Date().getTime()));
-        save(jobLog);
-        return jobLog;
+        return jobLogWriter.insert(jobLog);
     }
 
     /**
@@ -155,14 +161,11 @@ public class JobLogService implements ArtefactService<JobLog> {
      * @return the job log definition
      */
     private JobLog jobLogged(String name, String handler, String message, short severity){
-        JobLog jobLog = new JobLog();
-        jobLog.setName(name);
-        jobLog.setHandler(handler);
+        JobLog jobLog = newJobLog(name, handler);
         jobLog.setMessage(message);
         jobLog.setStatus(severity);
         jobLog.setTriggeredAt(new Timestamp(new Date().getTime()));
-        save(jobLog);
-        return jobLog;
+        return jobLogWriter.log(jobLog);
     }
 
     /**
@@ -223,19 +226,23 @@ public class JobLogService implements ArtefactService<JobLog> {
      * @return the job log definition
      */
     public JobLog jobFinished(String name, String handler, long triggeredId, Date triggeredAt) {
-        JobLog jobLog = new JobLog();
-        jobLog.setName(name);
-        jobLog.setHandler(handler);
+        JobLog jobLog = newJobLog(name, handler);
         jobLog.setStatus(JobLog.JOB_LOG_STATUS_FINISHED);
         jobLog.setTriggeredId(triggeredId);
         jobLog.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
         jobLog.setFinishedAt(new Timestamp(new Date().getTime()));
-        save(jobLog);
+        jobLogWriter.log(jobLog);
+        if (jobLogWriter.hasStatus(name, JobLog.JOB_LOG_STATUS_FINISHED)) {
+        	jobLogWriter.updateJob(name, JobLog.JOB_LOG_STATUS_FINISHED, "", jobLog.getFinishedAt());
+        	return jobLog;
+        }
+        jobLogWriter.flushStatuses();
         Job job = jobService.findByName(name);
 		boolean statusChanged = job.getStatus() != JobLog.JOB_LOG_STATUS_FINISHED;
 		job.setStatus(JobLog.JOB_LOG_STATUS_FINISHED);
 		job.setMessage("");
 		job.setExecutedAt(jobLog.getFinishedAt());
+		jobLogWriter.setStatusAfterCommit(name, JobLog.JOB_LOG_STATUS_FINISHED);
 		if (statusChanged) {
 			String content = jobEmailProcessor.prepareEmail(job, jobEmailProcessor.emailTemplateNormal, jobEmailProcessor.EMAIL_TEMPLATE_NORMAL);
 			jobEmailProcessor.sendEmail(job, jobEmailProcessor.emailSubjectNormal, content);
@@ -254,20 +261,24 @@ public class JobLogService implements ArtefactService<JobLog> {
      * @return the job log definition
      */
     public JobLog jobFailed(String name, String handler, long triggeredId, Date triggeredAt, String message) {
-        JobLog jobLog = new JobLog();
-        jobLog.setName(name);
-        jobLog.setHandler(handler);
+        JobLog jobLog = newJobLog(name, handler);
         jobLog.setStatus(JobLog.JOB_LOG_STATUS_FAILED);
         jobLog.setTriggeredId(triggeredId);
         jobLog.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
         jobLog.setFinishedAt(new Timestamp(new Date().getTime()));
         jobLog.setMessage(message);
-        save(jobLog);
+        jobLogWriter.log(jobLog);
+        if (jobLogWriter.hasStatus(name, JobLog.JOB_LOG_STATUS_FAILED)) {
+        	jobLogWriter.updateJob(name, JobLog.JOB_LOG_STATUS_FAILED, message, jobLog.getFinishedAt());
+        	return jobLog;
+        }
+        jobLogWriter.flushStatuses();
         Job job = jobService.findByName(name);
 		boolean statusChanged = job.getStatus() != JobLog.JOB_LOG_STATUS_FAILED;
 		job.setStatus(JobLog.JOB_LOG_STATUS_FAILED);
 		job.setMessage(message);
 		job.setExecutedAt(jobLog.getFinishedAt());
+		jobLogWriter.setStatusAfterCommit(name, JobLog.JOB_LOG_STATUS_FAILED);
 		if (statusChanged) {
 			String content = jobEmailProcessor.prepareEmail(job, jobEmailProcessor.emailTemplateError, jobEmailProcessor.EMAIL_TEMPLATE_ERROR);
 			jobEmailProcessor.sendEmail(job, jobEmailProcessor.emailSubjectError, content);
@@ -281,11 +292,115 @@ public class JobLogService implements ArtefactService<JobLog> {
 	 * @param jobName the job name
 	 */
 	public void deleteAllByJobName(String jobName) {
-		JobLog filter = new JobLog();
-        filter.setJobName(jobName);
-        Example<JobLog> example = Example.of(filter);
-        List<JobLog> jobLogs = jobLogRepository.findAll(example);
-        jobLogRepository.deleteAll(jobLogs);
-		
+		jobLogWriter.flush();
+		jobLogWriter.setStatus(jobName, null);
+		jobLogRepository.deleteAllByJobName(jobName);
 	}
+
+    /**
+     * Gets a page of the logs of a job, from the newest to the oldest. The next page starts after the trigger time and
+     * the id of the last log of the previous one, so it is read from the index on the job name and the trigger time
+     * regardless of the size of the history.
+     *
+     * @param name the name of the job
+     * @param triggeredBefore the trigger time of the last log of the previous page or null for the first page
+     * @param idBefore the id of the last log of the previous page or null to skip all the logs with that trigger time
+     * @param limit the page size
+     * @return the job logs
+     */
+    @Transactional(readOnly = true)
+    public List<JobLog> getJobLogs(String name, Timestamp triggeredBefore, Long idBefore, int limit) {
+        jobLogWriter.flush();
+        Pageable page = PageRequest.of(0, limit > 0 ? limit : DEFAULT_PAGE_SIZE);
+        if (triggeredBefore == null) {
+            return jobLogRepository.findByJobNameOrderByTriggeredAtDescIdDesc(name, page);
+        }
+        return jobLogRepository.findByJobNameBefore(name, triggeredBefore, idBefore != null ? idBefore : 0, page);
+    }
+
+    /**
+     * Gets the names of the jobs with logs.
+     *
+     * @return the job names
+     */
+    @Transactional(readOnly = true)
+    public List<String> getJobNames() {
+        return jobLogRepository.findJobNames();
+    }
+
+    /**
+     * Gets the trigger time of one of the latest runs of a job.
+     *
+     * @param name the name of the job
+     * @param run the number of the run, starting from 1 for the latest one
+     * @return the trigger time or null, if the job has fewer runs
+     */
+    @Transactional(readOnly = true)
+    public Timestamp getRunTriggeredAt(String name, int run) {
+        List<Timestamp> triggeredAt = jobLogRepository.findRunsTriggeredAt(name, JobLog.JOB_LOG_STATUS_TRIGGRED, PageRequest.of(run - 1, 1));
+        return triggeredAt.isEmpty() ? null : triggeredAt.get(0);
+    }
+
+    /**
+     * Deletes a batch of the logs triggered before a given time. The logs without trigger time are aged by their finish
+     * time, and the ones without it either are deleted too, so they do not stay forever.
+     *
+     * @param triggeredBefore the trigger time
+     * @param limit the batch size
+     * @return the number of the deleted logs
+     */
+    public int deleteTriggeredBefore(Timestamp triggeredBefore, int limit) {
+        List<Long> ids = new ArrayList<Long>(jobLogRepository.findIdsTriggeredBefore(triggeredBefore, PageRequest.of(0, limit)));
+        if (ids.size() < limit) {
+            ids.addAll(jobLogRepository.findIdsUntriggeredBefore(triggeredBefore, PageRequest.of(0, limit - ids.size())));
+        }
+        return deleteAll(ids);
+    }
+
+    /**
+     * Deletes a batch of the logs of a job triggered before a given time, including the ones without trigger time as
+     * for {@link #deleteTriggeredBefore(Timestamp, int)}.
+     *
+     * @param name the name of the job
+     * @param triggeredBefore the trigger time
+     * @param limit the batch size
+     * @return the number of the deleted logs
+     */
+    public int deleteTriggeredBefore(String name, Timestamp triggeredBefore, int limit) {
+        List<Long> ids = new ArrayList<Long>(jobLogRepository.findIdsTriggeredBefore(name, triggeredBefore, PageRequest.of(0, limit)));
+        if (ids.size() < limit) {
+            ids.addAll(jobLogRepository.findIdsUntriggeredBefore(name, triggeredBefore, PageRequest.of(0, limit - ids.size())));
+        }
+        return deleteAll(ids);
+    }
+
+    /**
+     * Deletes the logs with a single statement.
+     *
+     * @param ids the ids
+     * @return the number of the deleted logs
+     */
+    private int deleteAll(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            jobLogRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    /**
+     * New job log.
+     *
+     * @param name the name of the job
+     * @param handler the handler
+     * @return the job log
+     */
+    private static JobLog newJobLog(String name, String handler) {
+        JobLog jobLog = new JobLog();
+        jobLog.setJobName(name);
+        jobLog.setName(name);
+        jobLog.setLocation(name);
+        jobLog.setType(JobLog.ARTEFACT_TYPE);
+        jobLog.setHandler(handler);
+        return jobLog;
+    }
 }
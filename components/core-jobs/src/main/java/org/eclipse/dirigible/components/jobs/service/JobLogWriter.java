@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.jobs.domain.Job;
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.eclipse.dirigible.components.jobs.repository.JobLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Asynchronous writer of the job logs.
+ * <p>
+ * The job logs are buffered in a bounded queue and inserted by a background thread with JDBC batches. The logs which
+ * need their generated id are saved through the {@link JobLogRepository} instead. The status
+ * updates of the jobs are coalesced per job, so only the latest one is written. When the queue is full the log is
+ * written on the calling thread, so no log is lost while the writer falls behind. The queued logs and statuses are
+ * written on shutdown, but the ones queued at the moment of a crash are lost; set
+ * {@link #DIRIGIBLE_SCHEDULER_LOGS_ASYNC} to false to write every log before the job continues. A failed batch is
+ * retried log by log, so a single invalid log or a transient failure does not discard the whole batch.
+ */
+@Component
+public class JobLogWriter {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(JobLogWriter.class);
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_ASYNC. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_ASYNC = "DIRIGIBLE_SCHEDULER_LOGS_ASYNC"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_QUEUE_SIZE. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_QUEUE_SIZE = "DIRIGIBLE_SCHEDULER_LOGS_QUEUE_SIZE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE = "DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL = "DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_SCHEDULER_LOGS_METRICS_INTERVAL. */
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_METRICS_INTERVAL = "DIRIGIBLE_SCHEDULER_LOGS_METRICS_INTERVAL"; //$NON-NLS-1$
+
+    /**
+     * The latest status of a job, not written yet.
+     */
+    private static class JobStatus {
+
+        /** The status. */
+        private final short status;
+
+        /** The message. */
+        private final String message;
+
+        /** The executed at. */
+        private final Timestamp executedAt;
+
+        /**
+         * Instantiates a new job status.
+         *
+         * @param status the status
+         * @param message the message
+         * @param executedAt the executed at
+         */
+        JobStatus(short status, String message, Timestamp executedAt) {
+            this.status = status;
+            this.message = message;
+            this.executedAt = executedAt;
+        }
+
+    }
+
+    /** The data source. */
+    private final DataSource dataSource;
+
+    /** The job log repository. */
+    private final JobLogRepository jobLogRepository;
+
+    /** The asynchronous mode. */
+    private final boolean async;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The flush interval in milliseconds. */
+    private final long flushInterval;
+
+    /** The metrics interval in milliseconds. */
+    private final long metricsInterval;
+
+    /** The queued logs. */
+    private final BlockingQueue<JobLog> queue;
+
+    /** The pending job statuses. */
+    private final Map<String, JobStatus> pendingStatuses = new LinkedHashMap<String, JobStatus>();
+
+    /** The last written status per job. */
+    private final Map<String, Short> knownStatuses = new ConcurrentHashMap<String, Short>();
+
+    /** The write lock. */
+    private final Object writeLock = new Object();
+
+    /** The enqueued logs. */
+    private final AtomicLong enqueued = new AtomicLong();
+
+    /** The written logs. */
+    private final AtomicLong written = new AtomicLong();
+
+    /** The written batches. */
+    private final AtomicLong batches = new AtomicLong();
+
+    /** The failed logs. */
+    private final AtomicLong failed = new AtomicLong();
+
+    /** The logs written on the calling thread, because the queue was full. */
+    private final AtomicLong overflowed = new AtomicLong();
+
+    /** The coalesced job status updates. */
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /** The writer thread. */
+    private Thread writer;
+
+    /**
+     * Instantiates a new job log writer configured by the environment.
+     *
+     * @param dataSource the data source
+     * @param jobLogRepository the job log repository
+     */
+    @Autowired
+    public JobLogWriter(@Qualifier("SystemDB") DataSource dataSource, JobLogRepository jobLogRepository) {
+        this(dataSource, jobLogRepository, Boolean.parseBoolean(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_ASYNC, "true")),
+                Integer.parseInt(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_QUEUE_SIZE, "10000")),
+                Integer.parseInt(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_BATCH_SIZE, "500")),
+                Long.parseLong(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_FLUSH_INTERVAL, "1000")),
+                Long.parseLong(Configuration.get(DIRIGIBLE_SCHEDULER_LOGS_METRICS_INTERVAL, "0")) * 1000);
+    }
+
+    /**
+     * Instantiates a new job log writer.
+     *
+     * @param dataSource the data source
+     * @param jobLogRepository the job log repository
+     * @param async the asynchronous mode, when false the logs are written by the callers
+     * @param queueSize the maximum number of queued logs
+     * @param batchSize the maximum number of logs per batch
+     * @param flushInterval the maximum time in milliseconds a log waits in the queue
+     * @param metricsInterval the interval in milliseconds of the metrics reports, zero disables them
+     */
+    public JobLogWriter(DataSource dataSource, JobLogRepository jobLogRepository, boolean async, int queueSize, int batchSize,
+            long flushInterval, long metricsInterval) {
+        this.dataSource = dataSource;
+        this.jobLogRepository = jobLogRepository;
+        this.async = async;
+        this.queue = new ArrayBlockingQueue<JobLog>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = Math.max(1, flushInterval);
+        this.metricsInterval = metricsInterval;
+    }
+
+    /**
+     * Checks if the logs are written asynchronously.
+     *
+     * @return true, if asynchronous
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Saves the log on the calling thread through the repository, which sets its generated id on every database.
+     *
+     * @param jobLog the job log
+     * @return the job log with its id
+     */
+    public JobLog insert(JobLog jobLog) {
+        enqueued.incrementAndGet();
+        prepare(jobLog);
+        try {
+            jobLogRepository.save(jobLog);
+            written.incrementAndGet();
+            batches.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            if (logger.isErrorEnabled()) {logger.error("Writing of the job log failed: " + e.getMessage(), e);}
+        }
+        return jobLog;
+    }
+
+    /**
+     * Queues the log, or inserts it on the calling thread if not asynchronous. The id of a queued log is not set.
+     *
+     * @param jobLog the job log
+     * @return the job log
+     */
+    public JobLog log(JobLog jobLog) {
+        if (!async) {
+            return insert(jobLog);
+        }
+        enqueued.incrementAndGet();
+        if (!queue.offer(jobLog)) {
+            overflowed.incrementAndGet();
+            write(Collections.singletonList(jobLog));
+        }
+        start();
+        return jobLog;
+    }
+
+    /**
+     * Queues the status of a job, replacing the one not written yet.
+     *
+     * @param name the name of the job
+     * @param status the status
+     * @param message the message
+     * @param executedAt the executed at
+     */
+    public void updateJob(String name, short status, String message, Timestamp executedAt) {
+        synchronized (pendingStatuses) {
+            if (pendingStatuses.put(name, new JobStatus(status, message, executedAt)) != null) {
+                coalesced.incrementAndGet();
+            }
+        }
+        knownStatuses.put(name, status);
+        if (async) {
+            start();
+        } else {
+            flushStatuses();
+        }
+    }
+
+    /**
+     * Checks whether the last written status of a job is known to be the given one.
+     *
+     * @param name the name of the job
+     * @param status the status
+     * @return true, if known and equal
+     */
+    public boolean hasStatus(String name, short status) {
+        Short known = knownStatuses.get(name);
+        return known != null && known == status;
+    }
+
+    /**
+     * Records the status of a job written by the caller.
+     *
+     * @param name the name of the job
+     * @param status the status, null to forget the job
+     */
+    public void setStatus(String name, Short status) {
+        if (status == null) {
+            knownStatuses.remove(name);
+        } else {
+            knownStatuses.put(name, status);
+        }
+    }
+
+    /**
+     * Records the status of a job written by the caller in the current transaction, once the transaction commits. Without
+     * an active transaction the status is recorded immediately.
+     *
+     * @param name the name of the job
+     * @param status the status
+     */
+    public void setStatusAfterCommit(String name, short status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            setStatus(name, status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                setStatus(name, status);
+            }
+        });
+    }
+
+    /**
+     * Writes all the queued logs and job statuses.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            List<JobLog> batch = new ArrayList<JobLog>();
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+            writeStatuses();
+        }
+    }
+
+    /**
+     * Writes the queued job statuses.
+     */
+    public void flushStatuses() {
+        synchronized (writeLock) {
+            writeStatuses();
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes the queued logs.
+     */
+    @PreDestroy
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            thread = writer;
+            writer = null;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(flushInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Starts the writer thread, if not started yet.
+     */
+    private synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(this::run, "job-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Writes the queued logs until interrupted.
+     */
+    private void run() {
+        long lastReport = System.currentTimeMillis();
+        List<JobLog> batch = new ArrayList<JobLog>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                JobLog first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                synchronized (writeLock) {
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, batchSize - 1);
+                        write(batch);
+                        batch.clear();
+                    }
+                    writeStatuses();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+            }
+            if (metricsInterval > 0 && System.currentTimeMillis() - lastReport >= metricsInterval) {
+                lastReport = System.currentTimeMillis();
+                if (logger.isInfoEnabled()) {logger.info("Job logs: {} enqueued, {} written in {} batches, {} failed, {} written synchronously, {} queued, {} job updates coalesced",
+                        enqueued.get(), written.get(), batches.get(), failed.get(), overflowed.get(), queue.size(), coalesced.get());}
+            }
+        }
+    }
+
+    /**
+     * Inserts the logs with a single batch, or one by one if the batch fails.
+     *
+     * @param logs the logs
+     */
+    private void write(List<JobLog> logs) {
+        if (insert(logs)) {
+            return;
+        }
+        for (JobLog log : logs) {
+            if (!insert(Collections.singletonList(log))) {
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Inserts the logs with a single batch.
+     *
+     * @param logs the logs
+     * @return true, if written
+     */
+    private boolean insert(List<JobLog> logs) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(JobLog.SQL_INSERT)) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (JobLog log : logs) {
+                    prepare(log);
+                    statement.setString(1, log.getJobName());
+                    statement.setString(2, log.getHandler());
+                    setTimestamp(statement, 3, log.getTriggeredAt());
+                    statement.setLong(4, log.getTriggeredId());
+                    setTimestamp(statement, 5, log.getFinishedAt());
+                    statement.setShort(6, log.getStatus());
+                    if (log.getMessage() != null) {
+                        statement.setString(7, log.getMessage());
+                    } else {
+                        statement.setNull(7, Types.VARCHAR);
+                    }
+                    statement.setString(8, log.getLocation());
+                    statement.setString(9, log.getName());
+                    statement.setString(10, log.getType());
+                    statement.setString(11, log.getKey());
+                    statement.setTimestamp(12, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            written.addAndGet(logs.size());
+            batches.incrementAndGet();
+            if (logger.isDebugEnabled()) {logger.debug("Written {} job logs", logs.size());}
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            if (logger.isErrorEnabled()) {logger.error("Writing of " + logs.size() + " job logs failed: " + e.getMessage(), e);}
+            return false;
+        }
+    }
+
+    /**
+     * Fills in the artefact attributes of a log, which are not set by the job log service.
+     *
+     * @param log the log
+     */
+    private static void prepare(JobLog log) {
+        if (log.getName() == null) {
+            log.setName(log.getJobName());
+        }
+        if (log.getLocation() == null) {
+            log.setLocation(log.getJobName());
+        }
+        if (log.getType() == null) {
+            log.setType(JobLog.ARTEFACT_TYPE);
+        }
+        log.setKey(JobLog.ARTEFACT_TYPE + Artefact.KEY_SEPARATOR + log.getJobName() + Artefact.KEY_SEPARATOR + UUID.randomUUID());
+    }
+
+    /**
+     * Writes the pending job statuses with a single batch.
+     */
+    private void writeStatuses() {
+        Map<String, JobStatus> statuses;
+        synchronized (pendingStatuses) {
+            if (pendingStatuses.isEmpty()) {
+                return;
+            }
+            statuses = new LinkedHashMap<String, JobStatus>(pendingStatuses);
+            pendingStatuses.clear();
+        }
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(Job.SQL_UPDATE_STATUS)) {
+            for (Map.Entry<String, JobStatus> status : statuses.entrySet()) {
+                statement.setShort(1, status.getValue().status);
+                statement.setString(2, status.getValue().message);
+                setTimestamp(statement, 3, status.getValue().executedAt);
+                statement.setString(4, status.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException | RuntimeException e) {
+            for (String name : statuses.keySet()) {
+                knownStatuses.remove(name);
+            }
+            if (logger.isErrorEnabled()) {logger.error("Updating the status of " + statuses.size() + " jobs failed: " + e.getMessage(), e);}
+        }
+    }
+
+    /**
+     * Sets a nullable timestamp parameter.
+     *
+     * @param statement the statement
+     * @param index the index
+     * @param timestamp the timestamp
+     * @throws SQLException the SQL exception
+     */
+    private static void setTimestamp(PreparedStatement statement, int index, Timestamp timestamp) throws SQLException {
+        if (timestamp != null) {
+            statement.setTimestamp(index, timestamp);
+        } else {
+            statement.setNull(index, Types.TIMESTAMP);
+        }
+    }
+
+    /**
+     * Gets the number of the queued logs.
+     *
+     * @return the queued logs
+     */
+    public int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of the enqueued logs.
+     *
+     * @return the enqueued logs
+     */
+    public long getEnqueued() {
+        return enqueued.get();
+    }
+
+    /**
+     * Gets the number of the written logs.
+     *
+     * @return the written logs
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * Gets the number of the written batches.
+     *
+     * @return the batches
+     */
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * Gets the number of the logs which could not be written.
+     *
+     * @return the failed logs
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the number of the logs written on the calling thread, because the queue was full.
+     *
+     * @return the overflowed logs
+     */
+    public long getOverflowed() {
+        return overflowed.get();
+    }
+
+    /**
+     * Gets the number of the job status updates replaced before being written.
+     *
+     * @return the coalesced updates
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+}
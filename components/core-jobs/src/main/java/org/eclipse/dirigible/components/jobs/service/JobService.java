@@ -40,6 +40,10 @@ public class JobService implements ArtefactService<Job>  {
     @Autowired
     private JobEmailProcessor jobEmailProcessor;
 
+    /** The job log writer. */
+    @Autowired
+    private JobLogWriter jobLogWriter;
+
     /**
      * Gets the all.
      *
@@ -48,6 +52,7 @@ public class JobService implements ArtefactService<Job>  {
     @Override
     @Transactional(readOnly = true)
     public List<Job> getAll() {
+        jobLogWriter.flushStatuses();
         return jobRepository.findAll();
     }
 
@@ -60,6 +65,7 @@ public class JobService implements ArtefactService<Job>  {
     @Override
     @Transactional(readOnly = true)
     public Page<Job> findAll(Pageable pageable) {
+        jobLogWriter.flushStatuses();
         return jobRepository.findAll(pageable);
     }
 
@@ -72,6 +78,7 @@ public class JobService implements ArtefactService<Job>  {
     @Override
     @Transactional(readOnly = true)
     public Job findById(Long id) {
+        jobLogWriter.flushStatuses();
         Optional<Job> job = jobRepository.findById(id);
         if (job.isPresent()) {
             return job.get();
@@ -89,6 +96,7 @@ public class JobService implements ArtefactService<Job>  {
     @Override
     @Transactional(readOnly = true)
     public Job findByName(String name) {
+        jobLogWriter.flushStatuses();
         Job filter = new Job();
         filter.setName(name);
         Example<Job> example = Example.of(filter);
@@ -123,6 +131,7 @@ public class JobService implements ArtefactService<Job>  {
 				jobEmailProcessor.sendEmail(job, jobEmailProcessor.emailSubjectEnable, content);
 			}
 		}
+		jobLogWriter.setStatus(job.getName(), null);
         return jobRepository.saveAndFlush(job);
     }
 
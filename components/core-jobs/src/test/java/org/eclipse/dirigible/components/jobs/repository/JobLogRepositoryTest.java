@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@EntityScan("org.eclipse.dirigible.components")
+public class JobLogRepositoryTest {
+
+    @Autowired
+    private JobLogRepository jobLogRepository;
+
+    @BeforeEach
+    public void setup() {
+        jobLogRepository.deleteAll();
+        for (int run = 1; run <= 5; run++) {
+            jobLogRepository.save(newJobLog("job1", run, JobLog.JOB_LOG_STATUS_TRIGGRED));
+            jobLogRepository.save(newJobLog("job1", run, JobLog.JOB_LOG_STATUS_FINISHED));
+        }
+        jobLogRepository.save(newJobLog("job2", 1, JobLog.JOB_LOG_STATUS_TRIGGRED));
+    }
+
+    @Test
+    public void keysetHistory() {
+        List<JobLog> first = jobLogRepository.findByJobNameOrderByTriggeredAtDescIdDesc("job1", PageRequest.of(0, 3));
+        assertEquals(3, first.size());
+        assertEquals(5000, first.get(0).getTriggeredAt().getTime());
+        JobLog last = first.get(2);
+        List<JobLog> second = jobLogRepository.findByJobNameBefore("job1", last.getTriggeredAt(), last.getId(), PageRequest.of(0, 3));
+        assertEquals(3, second.size());
+        assertEquals(4000, last.getTriggeredAt().getTime());
+        assertEquals(4000, second.get(0).getTriggeredAt().getTime());
+        assertTrue(second.get(0).getId() < last.getId());
+        assertEquals(3000, second.get(2).getTriggeredAt().getTime());
+    }
+
+    @Test
+    public void latestLog() {
+        assertEquals(5000, jobLogRepository.findFirstByJobNameOrderByTriggeredAtDescIdDesc("job1").get().getTriggeredAt().getTime());
+    }
+
+    @Test
+    public void runsAndPurge() {
+        List<Timestamp> runs = jobLogRepository.findRunsTriggeredAt("job1", JobLog.JOB_LOG_STATUS_TRIGGRED, PageRequest.of(2, 1));
+        assertEquals(3000, runs.get(0).getTime());
+        List<Long> ids = jobLogRepository.findIdsTriggeredBefore("job1", runs.get(0), PageRequest.of(0, 100));
+        assertEquals(4, ids.size());
+        jobLogRepository.deleteAllByIdInBatch(ids);
+        assertEquals(6, countAll("job1"));
+        assertEquals(2, jobLogRepository.findJobNames().size());
+        assertEquals(1, jobLogRepository.deleteAllByJobName("job2"));
+    }
+
+    @Test
+    public void untriggeredPurge() {
+        JobLog unfinished = newJobLog("job1", 6, JobLog.JOB_LOG_STATUS_TRIGGRED);
+        unfinished.setTriggeredAt(null);
+        jobLogRepository.save(unfinished);
+        JobLog finished = newJobLog("job1", 7, JobLog.JOB_LOG_STATUS_INFO);
+        finished.setTriggeredAt(null);
+        finished.setFinishedAt(new Timestamp(4000));
+        jobLogRepository.save(finished);
+        assertEquals(5000, jobLogRepository.findRunsTriggeredAt("job1", JobLog.JOB_LOG_STATUS_TRIGGRED, PageRequest.of(0, 1)).get(0).getTime());
+        assertEquals(1, jobLogRepository.findIdsUntriggeredBefore(new Timestamp(3000), PageRequest.of(0, 100)).size());
+        assertEquals(2, jobLogRepository.findIdsUntriggeredBefore("job1", new Timestamp(5000), PageRequest.of(0, 100)).size());
+        assertEquals(0, jobLogRepository.findIdsUntriggeredBefore("job2", new Timestamp(5000), PageRequest.of(0, 100)).size());
+    }
+
+    private int countAll(String jobName) {
+        return (int) jobLogRepository.findAll().stream().filter(l -> jobName.equals(l.getJobName())).count();
+    }
+
+    private static JobLog newJobLog(String jobName, int run, short status) {
+        return new JobLog(jobName, jobName + run + "-" + status, null, null, jobName, "handler", new Timestamp(run * 1000L), 0, null, status,
+                null);
+    }
+
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+}
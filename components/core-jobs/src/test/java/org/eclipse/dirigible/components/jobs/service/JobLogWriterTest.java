@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.components.jobs.domain.Job;
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.eclipse.dirigible.components.jobs.repository.JobLogRepository;
+import org.eclipse.dirigible.components.jobs.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The JobLogWriterTest writes to the job tables created from the entities, outside of a test transaction, as the
+ * writer uses connections of its own.
+ */
+@DataJpaTest
+@EntityScan("org.eclipse.dirigible.components")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JobLogWriterTest {
+
+    /** The data source. */
+    @Autowired
+    private DataSource dataSource;
+
+    /** The job repository. */
+    @Autowired
+    private JobRepository jobRepository;
+
+    /** The job log repository. */
+    @Autowired
+    private JobLogRepository jobLogRepository;
+
+    /** The transaction manager. */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** The writer. */
+    private JobLogWriter writer;
+
+    /**
+     * Creates the job.
+     */
+    @BeforeEach
+    public void setup() {
+        jobLogRepository.deleteAll();
+        jobRepository.deleteAll();
+        jobRepository.save(new Job("/test/job1.job", "job1", null, null, "group", "org.eclipse.dirigible.components.jobs.handler.JobHandler", "0/1 * * ? * *", "handler1", "javascript", false, true,
+                JobLog.JOB_LOG_STATUS_TRIGGRED, null, null));
+    }
+
+    /**
+     * Closes the writer.
+     */
+    @AfterEach
+    public void cleanup() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * The inserted log gets its generated id.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void insertReturnsId() throws SQLException {
+        writer = new JobLogWriter(dataSource, jobLogRepository, true, 10, 10, 60000, 0);
+        JobLog triggered = writer.insert(newJobLog("handler1", JobLog.JOB_LOG_STATUS_TRIGGRED));
+        assertTrue(triggered.getId() > 0);
+        assertEquals(1, count("SELECT COUNT(*) FROM DIRIGIBLE_JOB_LOGS WHERE JOBLOG_ID = " + triggered.getId()));
+    }
+
+    /**
+     * The queued logs are written in batches on flush.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void batchedLogs() throws SQLException {
+        writer = new JobLogWriter(dataSource, jobLogRepository, true, 100, 10, 60000, 0);
+        for (int i = 0; i < 25; i++) {
+            writer.log(newJobLog("handler1", JobLog.JOB_LOG_STATUS_INFO));
+        }
+        writer.flush();
+        assertEquals(25, count("SELECT COUNT(*) FROM DIRIGIBLE_JOB_LOGS WHERE JOBLOG_JOB_NAME = 'job1' AND ARTEFACT_TYPE = 'job-log'"));
+        assertEquals(25, writer.getWritten());
+        assertEquals(0, writer.getFailed());
+        assertEquals(0, writer.getQueued());
+    }
+
+    /**
+     * A failed batch is retried log by log, so only the invalid log is lost.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void failedBatchRetried() throws SQLException {
+        writer = new JobLogWriter(dataSource, jobLogRepository, true, 100, 10, 60000, 0);
+        writer.log(newJobLog("handler1", JobLog.JOB_LOG_STATUS_INFO));
+        writer.log(newJobLog(null, JobLog.JOB_LOG_STATUS_INFO));
+        writer.log(newJobLog("handler1", JobLog.JOB_LOG_STATUS_INFO));
+        writer.flush();
+        assertEquals(2, count("SELECT COUNT(*) FROM DIRIGIBLE_JOB_LOGS"));
+        assertEquals(2, writer.getWritten());
+        assertEquals(1, writer.getFailed());
+    }
+
+    /**
+     * The logs not fitting in the queue are written by the caller.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void overflowWrittenByCaller() throws SQLException {
+        writer = new JobLogWriter(dataSource, jobLogRepository, true, 1, 10, 60000, 0);
+        for (int i = 0; i < 5; i++) {
+            writer.log(newJobLog("handler1", JobLog.JOB_LOG_STATUS_INFO));
+        }
+        writer.flush();
+        assertEquals(5, count("SELECT COUNT(*) FROM DIRIGIBLE_JOB_LOGS"));
+        assertTrue(writer.getOverflowed() > 0);
+    }
+
+    /**
+     * Only the latest queued status of a job is written.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void coalescedStatuses() throws SQLException {
+        writer = new JobLogWriter(dataSource, jobLogRepository, true, 10, 10, 60000, 0);
+        assertFalse(writer.hasStatus("job1", JobLog.JOB_LOG_STATUS_FINISHED));
+        writer.updateJob("job1", JobLog.JOB_LOG_STATUS_FINISHED, "", new Timestamp(System.currentTimeMillis()));
+        writer.updateJob("job1", JobLog.JOB_LOG_STATUS_FAILED, "failure", new Timestamp(System.currentTimeMillis()));
+        assertTrue(writer.hasStatus("job1", JobLog.JOB_LOG_STATUS_FAILED));
+        writer.flushStatuses();
+        assertEquals(1, writer.getCoalesced());
+        assertEquals(JobLog.JOB_LOG_STATUS_FAILED, count("SELECT JOB_STATUS FROM DIRIGIBLE_JOBS WHERE ARTEFACT_NAME = 'job1'"));
+    }
+
+    /**
+     * The status written by the caller is known only after its transaction commits.
+     */
+    @Test
+    public void statusKnownAfterCommit() {
+        writer = new JobLogWriter(dataSource, jobLogRepository, true, 10, 10, 60000, 0);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            writer.setStatusAfterCommit("job1", JobLog.JOB_LOG_STATUS_FAILED);
+            assertFalse(writer.hasStatus("job1", JobLog.JOB_LOG_STATUS_FAILED));
+            status.setRollbackOnly();
+        });
+        assertFalse(writer.hasStatus("job1", JobLog.JOB_LOG_STATUS_FAILED));
+        transaction.executeWithoutResult(status -> writer.setStatusAfterCommit("job1", JobLog.JOB_LOG_STATUS_FAILED));
+        assertTrue(writer.hasStatus("job1", JobLog.JOB_LOG_STATUS_FAILED));
+    }
+
+    /**
+     * The logs and statuses are written by the callers when not asynchronous.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void synchronousMode() throws SQLException {
+        writer = new JobLogWriter(dataSource, jobLogRepository, false, 10, 10, 60000, 0);
+        JobLog jobLog = writer.log(newJobLog("handler1", JobLog.JOB_LOG_STATUS_FINISHED));
+        assertTrue(jobLog.getId() > 0);
+        writer.updateJob("job1", JobLog.JOB_LOG_STATUS_FINISHED, "", new Timestamp(System.currentTimeMillis()));
+        assertEquals(JobLog.JOB_LOG_STATUS_FINISHED, count("SELECT JOB_STATUS FROM DIRIGIBLE_JOBS WHERE ARTEFACT_NAME = 'job1'"));
+    }
+
+    /**
+     * New job log.
+     *
+     * @param handler the handler
+     * @param status the status
+     * @return the job log
+     */
+    private static JobLog newJobLog(String handler, short status) {
+        JobLog jobLog = new JobLog();
+        jobLog.setJobName("job1");
+        jobLog.setHandler(handler);
+        jobLog.setStatus(status);
+        jobLog.setTriggeredAt(new Timestamp(System.currentTimeMillis()));
+        return jobLog;
+    }
+
+    /**
+     * Queries a single number.
+     *
+     * @param sql the sql
+     * @return the number
+     * @throws SQLException the SQL exception
+     */
+    private int count(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    @EnableJpaRepositories("org.eclipse.dirigible.components.jobs.repository")
+    static class TestConfiguration {
+    }
+}
@@ -240,7 +240,7 @@ public class TablesSynchronizer<A extends Artefact> implements Synchronizer<Tabl
 					callback.registerState(this, wrapper, ArtefactLifecycle.CREATED.toString(), ArtefactState.SUCCESSFUL_CREATE);
 				} else {
 					if (logger.isWarnEnabled()) {logger.warn(format("Table [{0}] already exists during the update process", table.getName()));}
-					if (SqlFactory.getNative(connection).count(connection, table.getName()) != 0) {
+					if (!SqlFactory.getNative(connection).isEmpty(connection, table.getName())) {
 						executeTableAlter(connection, table);
 						callback.registerState(this, wrapper, ArtefactLifecycle.UPDATED.toString(), ArtefactState.SUCCESSFUL_UPDATE);
 					}
@@ -254,7 +254,7 @@ public class TablesSynchronizer<A extends Artefact> implements Synchronizer<Tabl
 				break;
 			case DROP:
 				if (SqlFactory.getNative(connection).exists(connection, table.getName())) {
-					if (SqlFactory.getNative(connection).count(connection, table.getName()) == 0) {
+					if (SqlFactory.getNative(connection).isEmpty(connection, table.getName())) {
 						executeTableDrop(connection, table);
 					} else {
 						String message = format("Table [{1}] cannot be deleted during the update process, because it is not empty", table.getName());
@@ -312,7 +312,7 @@ public class TablesSynchronizer<A extends Artefact> implements Synchronizer<Tabl
 	public void executeTableUpdate(Connection connection, Table tableModel) throws SQLException {
 		if (logger.isInfoEnabled()) {logger.info("Processing Update Table: " + tableModel.getName());}
 		if (SqlFactory.getNative(connection).exists(connection, tableModel.getName())) {
-			if (SqlFactory.getNative(connection).count(connection, tableModel.getName()) == 0) {
+			if (SqlFactory.getNative(connection).isEmpty(connection, tableModel.getName())) {
 				executeTableDrop(connection, tableModel);
 				executeTableCreate(connection, tableModel);
 			} else {
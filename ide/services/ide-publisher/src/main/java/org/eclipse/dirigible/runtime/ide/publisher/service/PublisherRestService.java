@@ -16,6 +16,7 @@ import static java.text.MessageFormat.format;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.security.RolesAllowed;
 import javax.servlet.http.HttpServletRequest;
@@ -202,6 +203,25 @@ public class PublisherRestService extends AbstractRestService implements IRestSe
 		return Response.ok().entity(publishLogDefinitions).type(ContentTypeHelper.APPLICATION_JSON).build();
 	}
 
+	/**
+	 * Gets the metrics of the publish queue.
+	 *
+	 * @param request
+	 *            the request
+	 * @return the response
+	 */
+	@GET
+	@Path("metrics")
+	public Response getMetrics(@Context HttpServletRequest request) {
+		String user = UserFacade.getName();
+		if (user == null) {
+			return createErrorResponseForbidden(NO_LOGGED_IN_USER);
+		}
+
+		Map<String, Number> metrics = processor.getQueueMetrics();
+		return Response.ok().entity(metrics).type(ContentTypeHelper.APPLICATION_JSON).build();
+	}
+
 	/**
 	 * Clear log.
 	 *
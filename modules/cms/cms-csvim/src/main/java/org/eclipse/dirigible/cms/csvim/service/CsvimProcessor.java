@@ -236,16 +236,7 @@ public class CsvimProcessor {
 	 * @throws SQLException the SQL exception
 	 */
 	private boolean isEmptyTable(String tableName, Connection connection) throws SQLException {
-		boolean isEmpty = false;
-		SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
-		String sql = selectBuilder.column("COUNT(*)").from(tableName).build();
-		try (PreparedStatement pstmt = connection.prepareCall(sql)) {
-			ResultSet rs = pstmt.executeQuery();
-			if (rs.next()) {
-				isEmpty = rs.getInt(1) == 0;
-			}
-		}
-		return isEmpty;
+		return SqlFactory.getNative(connection).isEmpty(connection, tableName);
 	}
 
 	/**
@@ -15,7 +15,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
@@ -98,10 +97,11 @@ public class ThreadContextFacade {
 
         if (stackedCloseablesIsNotEmpty()) {
             Map<String, AutoCloseable> CLOSEABLES = STACKED_CLOSEABLES.get().get(stackId);
-            for (Entry<String, AutoCloseable> closeable : CLOSEABLES.entrySet()) {
+            // iterated over a copy, since a closeable may remove itself on close
+            for (AutoCloseable closeable : new ArrayList<AutoCloseable>(CLOSEABLES.values())) {
                 try {
-                	if (logger.isErrorEnabled()) {logger.error("Object of type {} from the context {} has not been closed properly.", closeable.getValue().getClass().getCanonicalName(), Thread.currentThread().hashCode());}
-                    closeable.getValue().close();
+                	if (logger.isErrorEnabled()) {logger.error("Object of type {} from the context {} has not been closed properly.", closeable.getClass().getCanonicalName(), Thread.currentThread().hashCode());}
+                    closeable.close();
                 } catch (Exception e) {
                 	if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
                 }
@@ -113,6 +113,17 @@ public interface IWebsocketsCoreService extends ICoreService {
 	 */
 	public List<WebsocketDefinition> getWebsocketByEndpoint(String endpoint) throws WebsocketsException;
 
+	/**
+	 * Gets the websocket by endpoint from the in-memory map of the endpoints, refreshed by the synchronizer.
+	 *
+	 * @param endpoint
+	 *            the endpoint
+	 * @return the websocket or null, if not defined
+	 * @throws WebsocketsException
+	 *             the websockets exception
+	 */
+	public WebsocketDefinition getCachedWebsocketByEndpoint(String endpoint) throws WebsocketsException;
+
 	/**
 	 * Parses the websocket.
 	 *
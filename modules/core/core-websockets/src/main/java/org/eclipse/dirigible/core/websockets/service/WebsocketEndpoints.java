@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.websockets.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.core.websockets.api.IWebsocketsCoreService;
+import org.eclipse.dirigible.core.websockets.api.WebsocketsException;
+import org.eclipse.dirigible.core.websockets.definition.WebsocketDefinition;
+
+/**
+ * In-memory map of the websocket endpoints to their definitions.
+ * <p>
+ * The map is replaced as a whole after every synchronization and is discarded on every change made through the core
+ * service, so the next lookup reads all the websockets again. A lookup does not access the database otherwise.
+ */
+public class WebsocketEndpoints {
+
+	/** The websockets per endpoint, null if not loaded. */
+	private static volatile Map<String, WebsocketDefinition> endpoints;
+
+	/** The number of the invalidations and refreshes, so a load racing with a change is not kept. */
+	private static final AtomicLong version = new AtomicLong();
+
+	/**
+	 * Gets the websocket of an endpoint, loading all of them if needed.
+	 *
+	 * @param endpoint the endpoint
+	 * @param websocketsCoreService the websockets core service
+	 * @return the websocket definition or null, if not defined
+	 * @throws WebsocketsException the websockets exception
+	 */
+	public static WebsocketDefinition get(String endpoint, IWebsocketsCoreService websocketsCoreService) throws WebsocketsException {
+		Map<String, WebsocketDefinition> current = endpoints;
+		if (current == null) {
+			long loaded = version.get();
+			current = toMap(websocketsCoreService.getWebsockets());
+			synchronized (WebsocketEndpoints.class) {
+				if (loaded == version.get()) {
+					endpoints = current;
+				}
+			}
+		}
+		return current.get(endpoint);
+	}
+
+	/**
+	 * Replaces the map with the given websockets. The first websocket of an endpoint wins, as in the database lookup. A
+	 * load started before is not kept over it.
+	 *
+	 * @param websockets the websockets
+	 */
+	public static void refresh(Collection<WebsocketDefinition> websockets) {
+		Map<String, WebsocketDefinition> current = toMap(websockets);
+		synchronized (WebsocketEndpoints.class) {
+			version.incrementAndGet();
+			endpoints = current;
+		}
+	}
+
+	/**
+	 * Discards the map, so the next lookup loads it again.
+	 */
+	public static void invalidate() {
+		synchronized (WebsocketEndpoints.class) {
+			version.incrementAndGet();
+			endpoints = null;
+		}
+	}
+
+	/**
+	 * Maps the websockets by endpoint.
+	 *
+	 * @param websockets the websockets
+	 * @return the map
+	 */
+	private static Map<String, WebsocketDefinition> toMap(Collection<WebsocketDefinition> websockets) {
+		Map<String, WebsocketDefinition> map = new HashMap<String, WebsocketDefinition>();
+		for (WebsocketDefinition websocket : websockets) {
+			map.putIfAbsent(websocket.getEndpoint(), websocket);
+		}
+		return Collections.unmodifiableMap(map);
+	}
+
+}
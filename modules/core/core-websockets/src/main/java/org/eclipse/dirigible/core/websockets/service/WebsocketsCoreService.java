@@ -86,6 +86,7 @@ public class WebsocketsCoreService implements IWebsocketsCoreService {
 			try {
 				connection = getDataSource().getConnection();
 				websocketsPersistenceManager.insert(connection, websocketDefinition);
+				WebsocketEndpoints.invalidate();
 				return websocketDefinition;
 			} finally {
 				if (connection != null) {
@@ -142,6 +143,7 @@ public class WebsocketsCoreService implements IWebsocketsCoreService {
 			try {
 				connection = getDataSource().getConnection();
 				websocketsPersistenceManager.delete(connection, WebsocketDefinition.class, location);
+				WebsocketEndpoints.invalidate();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -177,6 +179,7 @@ public class WebsocketsCoreService implements IWebsocketsCoreService {
 				websocketDefinition.setEndpoint(endpoint);
 				websocketDefinition.setDescription(description);
 				websocketsPersistenceManager.update(connection, websocketDefinition);
+				WebsocketEndpoints.invalidate();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -246,6 +249,18 @@ public class WebsocketsCoreService implements IWebsocketsCoreService {
 		}
 	}
 
+	/**
+	 * Gets the websocket of an endpoint from the in-memory map of the endpoints.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the websocket definition or null, if not defined
+	 * @throws WebsocketsException the websockets exception
+	 */
+	@Override
+	public WebsocketDefinition getCachedWebsocketByEndpoint(String endpoint) throws WebsocketsException {
+		return WebsocketEndpoints.get(endpoint, this);
+	}
+
 	/**
 	 * Exists websocket.
 	 *
@@ -34,6 +34,7 @@ import org.eclipse.dirigible.core.websockets.api.IWebsocketsCoreService;
 import org.eclipse.dirigible.core.websockets.api.WebsocketsException;
 import org.eclipse.dirigible.core.websockets.artefacts.WebsocketSynchronizationArtefactType;
 import org.eclipse.dirigible.core.websockets.definition.WebsocketDefinition;
+import org.eclipse.dirigible.core.websockets.service.WebsocketEndpoints;
 import org.eclipse.dirigible.core.websockets.service.WebsocketsCoreService;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.slf4j.Logger;
@@ -84,6 +85,7 @@ public class WebsocketsSynchronizer extends AbstractSynchronizer {
 						int immutableCount = WEBSOCKETS_PREDELIVERED.size();
 						int mutableCount = WEBSOCKETS_SYNCHRONIZED.size();
 						cleanup();
+						WebsocketEndpoints.refresh(websocketsCoreService.getWebsockets());
 						clearCache();
 						successfulSynchronization(SYNCHRONIZER_NAME, format("Immutable: {0}, Mutable: {1}", immutableCount, mutableCount));
 					} else {
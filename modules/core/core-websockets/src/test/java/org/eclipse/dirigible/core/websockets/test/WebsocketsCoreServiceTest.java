@@ -15,6 +15,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -22,6 +23,7 @@ import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
 import org.eclipse.dirigible.core.websockets.api.IWebsocketsCoreService;
 import org.eclipse.dirigible.core.websockets.api.WebsocketsException;
 import org.eclipse.dirigible.core.websockets.definition.WebsocketDefinition;
+import org.eclipse.dirigible.core.websockets.service.WebsocketEndpoints;
 import org.eclipse.dirigible.core.websockets.service.WebsocketsCoreService;
 import org.junit.Before;
 import org.junit.Test;
@@ -155,6 +157,51 @@ public class WebsocketsCoreServiceTest extends AbstractDirigibleTest {
 
 	}
 
+	/**
+	 * The cached endpoints follow the changes.
+	 *
+	 * @throws WebsocketsException
+	 *             the websockets exception
+	 */
+	@Test
+	public void cachedWebsocketByEndpointTest() throws WebsocketsException {
+		websocketsCoreService.removeWebsocket("/test_ws3");
+		assertNull(websocketsCoreService.getCachedWebsocketByEndpoint("test_endpoint3"));
+		websocketsCoreService.createWebsocket("/test_ws3", "test_ws3", "test_endpoint3", "Test WS 3");
+		assertEquals("test_ws3", websocketsCoreService.getCachedWebsocketByEndpoint("test_endpoint3").getHandler());
+		websocketsCoreService.updateWebsocket("/test_ws3", "test_ws3_changed", "test_endpoint3", "Test WS 3");
+		assertEquals("test_ws3_changed", websocketsCoreService.getCachedWebsocketByEndpoint("test_endpoint3").getHandler());
+		websocketsCoreService.removeWebsocket("/test_ws3");
+		assertNull(websocketsCoreService.getCachedWebsocketByEndpoint("test_endpoint3"));
+	}
+
+	/**
+	 * A load racing with a refresh does not replace the refreshed endpoints.
+	 *
+	 * @throws WebsocketsException
+	 *             the websockets exception
+	 */
+	@Test
+	public void refreshDuringLoadTest() throws WebsocketsException {
+		WebsocketDefinition stale = new WebsocketDefinition();
+		stale.setEndpoint("test_endpoint4");
+		stale.setHandler("test_ws4");
+		WebsocketDefinition refreshed = new WebsocketDefinition();
+		refreshed.setEndpoint("test_endpoint4");
+		refreshed.setHandler("test_ws4_refreshed");
+		IWebsocketsCoreService racing = new WebsocketsCoreService() {
+			@Override
+			public List<WebsocketDefinition> getWebsockets() {
+				WebsocketEndpoints.refresh(Arrays.asList(refreshed));
+				return Arrays.asList(stale);
+			}
+		};
+		WebsocketEndpoints.invalidate();
+		assertEquals("test_ws4", WebsocketEndpoints.get("test_endpoint4", racing).getHandler());
+		assertEquals("test_ws4_refreshed", WebsocketEndpoints.get("test_endpoint4", websocketsCoreService).getHandler());
+		WebsocketEndpoints.invalidate();
+	}
+
 	/**
 	 * Parses the websocket test.
 	 *
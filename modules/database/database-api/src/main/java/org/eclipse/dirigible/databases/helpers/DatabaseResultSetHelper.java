@@ -11,6 +11,12 @@
  */
 package org.eclipse.dirigible.databases.helpers;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -62,6 +68,31 @@ public class DatabaseResultSetHelper {
 		return result;
 	}
 	
+	/**
+	 * Streams the provided ResultSet as JSON to the output with the {@link ResultSetJsonWriter} writer.
+	 *
+	 * @param resultSet
+	 *            the result set
+	 * @param limited
+	 *            the limited
+	 * @param stringify
+	 *            the stringified flag
+	 * @param output
+	 *            the output stream, left open
+	 * @throws SQLException
+	 *             the SQL exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void toJson(ResultSet resultSet, boolean limited, boolean stringify, OutputStream output) throws SQLException, IOException {
+		ResultSetJsonWriter writer = new ResultSetJsonWriter();
+		writer.setLimited(limited);
+		writer.setStringified(stringify);
+		Writer outputWriter = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		writer.write(resultSet, outputWriter);
+		outputWriter.flush();
+	}
+	
 	/**
 	 * Prints the provided ResultSet to the {@link ResultSetCsvWriter} writer.
 	 *
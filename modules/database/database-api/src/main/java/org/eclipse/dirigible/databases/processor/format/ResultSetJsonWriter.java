@@ -11,15 +11,19 @@
  */
 package org.eclipse.dirigible.databases.processor.format;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * The ResultSet JSON Writer.
@@ -32,6 +36,15 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
 	/** The stringify. */
 	private boolean stringify = true;
 
+	/** The meta data the columns are resolved for. */
+	private ResultSetMetaData columnsMetaData;
+
+	/** The distinct column names in the order of their first occurrence. */
+	private String[] names;
+
+	/** The index of the last column with each of the names. */
+	private int[] columns;
+
 	/**
 	 * Checks if is limited.
 	 *
@@ -83,38 +96,114 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
 	 */
 	@Override
 	public String write(ResultSet resultSet) throws SQLException {
+		StringWriter output = new StringWriter();
+		try {
+			write(resultSet, output);
+		} catch (IOException e) {
+			throw new SQLException(e);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Write the records of the result set as a JSON array directly to the output, one by one, without building the
+	 * whole array in memory.
+	 *
+	 * @param resultSet the result set
+	 * @param output the output
+	 * @throws SQLException the SQL exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public void write(ResultSet resultSet, Writer output) throws SQLException, IOException {
 
 		ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
 
-		JsonArray records = new JsonArray();
+		JsonWriter jsonWriter = newJsonWriter(output);
+		jsonWriter.beginArray();
 		int count = 0;
 		while (resultSet.next()) {
-			JsonObject record = new JsonObject();
-			for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-				String name = resultSetMetaData.getColumnName(i);
-				Object value = resultSet.getObject(i);
-				if (value == null
-						&& stringify) {
-					value = "[NULL]";
-				}
-				if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass())
-						&& value.getClass() != String.class
-						&& !java.util.Date.class.isAssignableFrom(value.getClass())) {
-					if (stringify) {
-						value = "[BINARY]";
-					}
-				}
-				record.add(name, GsonHelper.GSON.toJsonTree(value));
-			}
-
-			records.add(record);
+			writeRecord(resultSet, resultSetMetaData, jsonWriter);
 
 			if (this.isLimited() && (++count > getLimit())) {
 				break;
 			}
 		}
+		jsonWriter.endArray();
+		jsonWriter.flush();
+	}
 
-		return GsonHelper.GSON.toJson(records);
+	/**
+	 * Write the current record of the result set as a JSON object. A column name occurring more than once (e.g. in a
+	 * join) is written once, at its first position, with the value of its last column.
+	 *
+	 * @param resultSet the result set positioned on the record
+	 * @param resultSetMetaData the result set meta data
+	 * @param jsonWriter the json writer
+	 * @throws SQLException the SQL exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public void writeRecord(ResultSet resultSet, ResultSetMetaData resultSetMetaData, JsonWriter jsonWriter) throws SQLException, IOException {
+		resolveColumns(resultSetMetaData);
+		jsonWriter.beginObject();
+		for (int c = 0; c < columns.length; c++) {
+			String name = names[c];
+			Object value = resultSet.getObject(columns[c]);
+			if (value == null
+					&& stringify) {
+				value = "[NULL]";
+			}
+			if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass())
+					&& value.getClass() != String.class
+					&& !java.util.Date.class.isAssignableFrom(value.getClass())) {
+				if (stringify) {
+					value = "[BINARY]";
+				}
+			}
+			jsonWriter.name(name);
+			if (value == null) {
+				jsonWriter.nullValue();
+			} else {
+				GsonHelper.GSON.toJson(value, value.getClass(), jsonWriter);
+			}
+		}
+		jsonWriter.endObject();
+	}
+
+	/**
+	 * Resolves the distinct column names of the meta data, once per result set.
+	 *
+	 * @param resultSetMetaData the result set meta data
+	 * @throws SQLException the SQL exception
+	 */
+	private void resolveColumns(ResultSetMetaData resultSetMetaData) throws SQLException {
+		if (resultSetMetaData == columnsMetaData) {
+			return;
+		}
+		Map<String, Integer> lastColumns = new LinkedHashMap<String, Integer>();
+		for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+			lastColumns.put(resultSetMetaData.getColumnName(i), i);
+		}
+		names = new String[lastColumns.size()];
+		columns = new int[lastColumns.size()];
+		int c = 0;
+		for (Map.Entry<String, Integer> entry : lastColumns.entrySet()) {
+			names[c] = entry.getKey();
+			columns[c++] = entry.getValue();
+		}
+		columnsMetaData = resultSetMetaData;
+	}
+
+	/**
+	 * Creates a JSON writer configured the same way as the shared Gson instance.
+	 *
+	 * @param output the output
+	 * @return the json writer
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static JsonWriter newJsonWriter(Writer output) throws IOException {
+		JsonWriter jsonWriter = GsonHelper.GSON.newJsonWriter(output);
+		jsonWriter.setLenient(true);
+		return jsonWriter;
 	}
 
 }
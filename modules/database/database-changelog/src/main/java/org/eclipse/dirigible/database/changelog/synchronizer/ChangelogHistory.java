@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.changelog.synchronizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import liquibase.change.CheckSum;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.Database;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParserFactory;
+
+/**
+ * The change sets already recorded by Liquibase in the DATABASECHANGELOG table, read in a single query.
+ * <p>
+ * A changelog is considered applied when every one of its change sets is recorded under its file name with the checksum
+ * of its current content, and none of them is marked to run always or on change. The raw structure of the changelog is
+ * checked first, so the Liquibase model is built only for the changelogs whose change sets are all recorded. An applied
+ * changelog is skipped without taking the changelog lock.
+ */
+public class ChangelogHistory {
+
+	/** The Constant DATABASE_CHANGE_LOG. */
+	private static final String DATABASE_CHANGE_LOG = "databaseChangeLog";
+
+	/** The Constant CHANGE_SET. */
+	private static final String CHANGE_SET = "changeSet";
+
+	/** The Constant PRE_CONDITIONS. */
+	private static final String PRE_CONDITIONS = "preConditions";
+
+	/** The recorded checksums per change set per file name. */
+	private final Map<String, Map<String, String>> recorded;
+
+	/** The database. */
+	private final Database database;
+
+	/**
+	 * Instantiates a new changelog history.
+	 *
+	 * @param recorded the recorded checksums per change set per file name
+	 * @param database the database
+	 */
+	private ChangelogHistory(Map<String, Map<String, String>> recorded, Database database) {
+		this.recorded = recorded;
+		this.database = database;
+	}
+
+	/**
+	 * Reads the recorded change sets.
+	 *
+	 * @param connection the connection
+	 * @param database the Liquibase database of the connection
+	 * @return the changelog history, empty if the table does not exist yet
+	 * @throws SQLException the SQL exception
+	 */
+	public static ChangelogHistory read(Connection connection, Database database) throws SQLException {
+		Map<String, Map<String, String>> recorded = new HashMap<String, Map<String, String>>();
+		String tableName = database.getDatabaseChangeLogTableName();
+		if (!tableExists(connection, tableName)) {
+			return new ChangelogHistory(recorded, database);
+		}
+		String table = database.escapeTableName(database.getLiquibaseCatalogName(), database.getLiquibaseSchemaName(), tableName);
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT ID, AUTHOR, FILENAME, MD5SUM FROM " + table)) {
+			while (resultSet.next()) {
+				recorded.computeIfAbsent(normalize(resultSet.getString(3)), k -> new HashMap<String, String>())
+						.put(getKey(resultSet.getString(1), resultSet.getString(2)), resultSet.getString(4));
+			}
+		}
+		return new ChangelogHistory(recorded, database);
+	}
+
+	/**
+	 * Checks whether all the change sets of a changelog are recorded with the checksums of their current content.
+	 *
+	 * @param changelog the changelog file name
+	 * @param content the changelog content
+	 * @return true, if applied
+	 */
+	public boolean isApplied(String changelog, String content) {
+		Map<String, String> applied = recorded.get(normalize(changelog));
+		if (applied == null) {
+			return false;
+		}
+		Set<String> changeSets = getChangeSets(content);
+		if (changeSets == null || changeSets.isEmpty() || !applied.keySet().containsAll(changeSets)) {
+			return false;
+		}
+		return isCheckSumValid(changelog, content, applied);
+	}
+
+	/**
+	 * Compares the checksums of the change sets, as computed by Liquibase, with the recorded ones.
+	 *
+	 * @param changelog the changelog file name
+	 * @param content the changelog content
+	 * @param applied the recorded checksums of the changelog
+	 * @return true, if all the checksums match
+	 */
+	private boolean isCheckSumValid(String changelog, String content, Map<String, String> applied) {
+		try (InputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
+			ChangelogResourceAccessor resourceAccessor = new ChangelogResourceAccessor(new URI(changelog), stream);
+			DatabaseChangeLog databaseChangeLog = ChangeLogParserFactory.getInstance().getParser(changelog, resourceAccessor)
+					.parse(changelog, new ChangeLogParameters(database), resourceAccessor);
+			for (ChangeSet changeSet : databaseChangeLog.getChangeSets()) {
+				String checkSum = applied.get(getKey(changeSet.getId(), changeSet.getAuthor()));
+				if (checkSum == null || !changeSet.isCheckSumValid(CheckSum.parse(checkSum))) {
+					return false;
+				}
+			}
+			return !databaseChangeLog.getChangeSets().isEmpty();
+		} catch (URISyntaxException | LiquibaseException | IOException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the change sets of a changelog.
+	 *
+	 * @param content the changelog content
+	 * @return the keys of the change sets, or null if the changelog has entries which need the full Liquibase run
+	 */
+	@SuppressWarnings("unchecked")
+	static Set<String> getChangeSets(String content) {
+		Object root;
+		try {
+			root = new Yaml(new SafeConstructor()).load(content);
+		} catch (RuntimeException e) {
+			return null;
+		}
+		if (!(root instanceof Map) || !(((Map<String, Object>) root).get(DATABASE_CHANGE_LOG) instanceof List)) {
+			return null;
+		}
+		Set<String> changeSets = new HashSet<String>();
+		for (Object entry : (List<Object>) ((Map<String, Object>) root).get(DATABASE_CHANGE_LOG)) {
+			if (!(entry instanceof Map)) {
+				return null;
+			}
+			for (Map.Entry<String, Object> element : ((Map<String, Object>) entry).entrySet()) {
+				if (PRE_CONDITIONS.equals(element.getKey())) {
+					continue;
+				}
+				if (!CHANGE_SET.equals(element.getKey()) || !(element.getValue() instanceof Map)) {
+					return null;
+				}
+				Map<String, Object> changeSet = (Map<String, Object>) element.getValue();
+				if (isTrue(changeSet.get("runAlways")) || isTrue(changeSet.get("runOnChange"))) {
+					return null;
+				}
+				changeSets.add(getKey(String.valueOf(changeSet.get("id")), String.valueOf(changeSet.get("author"))));
+			}
+		}
+		return changeSets;
+	}
+
+	/**
+	 * Checks whether a table exists in the default schema of the connection.
+	 *
+	 * @param connection the connection
+	 * @param tableName the table name
+	 * @return true, if it exists
+	 * @throws SQLException the SQL exception
+	 */
+	private static boolean tableExists(Connection connection, String tableName) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		for (String name : new String[] {tableName, tableName.toUpperCase(), tableName.toLowerCase()}) {
+			try (ResultSet resultSet = metaData.getTables(connection.getCatalog(), null, name, null)) {
+				if (resultSet.next()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks a boolean attribute.
+	 *
+	 * @param value the value
+	 * @return true, if true
+	 */
+	private static boolean isTrue(Object value) {
+		return value != null && Boolean.parseBoolean(value.toString());
+	}
+
+	/**
+	 * Gets the key of a change set.
+	 *
+	 * @param id the id
+	 * @param author the author
+	 * @return the key
+	 */
+	private static String getKey(String id, String author) {
+		return id + "::" + author;
+	}
+
+	/**
+	 * Strips the leading separators and the class path prefix of a file name.
+	 *
+	 * @param fileName the file name
+	 * @return the normalized file name
+	 */
+	private static String normalize(String fileName) {
+		String normalized = fileName != null ? fileName : "";
+		if (normalized.startsWith("classpath:")) {
+			normalized = normalized.substring("classpath:".length());
+		}
+		while (normalized.startsWith("/")) {
+			normalized = normalized.substring(1);
+		}
+		return normalized;
+	}
+
+}
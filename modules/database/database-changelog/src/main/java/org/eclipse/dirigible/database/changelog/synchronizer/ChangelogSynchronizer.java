@@ -25,15 +25,24 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.api.v3.problems.IProblemsConstants;
 import org.eclipse.dirigible.api.v3.problems.ProblemsFacade;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
 import org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer;
@@ -51,7 +60,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import liquibase.Contexts;
+import liquibase.GlobalConfiguration;
 import liquibase.Liquibase;
+import liquibase.Scope;
 import liquibase.database.Database;
 import liquibase.database.DatabaseFactory;
 import liquibase.database.jvm.JdbcConnection;
@@ -60,12 +71,26 @@ import liquibase.exception.LiquibaseException;
 
 /**
  * The Changelogs Synchronizer.
+ * <p>
+ * The change sets recorded by Liquibase are read once per synchronization and a newly registered changelog, whose
+ * change sets are all recorded already, is skipped without running Liquibase. The Liquibase database of a connection
+ * is reused for all the changelogs applied on it. Optionally, the changelogs are applied by several workers, each one
+ * with its own connection, which is meant for independent changelogs, as their order is not preserved then.
  */
 public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrderedSynchronizerContribution {
 
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(ChangelogSynchronizer.class);
 
+	/** The Constant DIRIGIBLE_CHANGELOG_UPDATE_THREADS. */
+	public static final String DIRIGIBLE_CHANGELOG_UPDATE_THREADS = "DIRIGIBLE_CHANGELOG_UPDATE_THREADS"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_UPDATE_THREADS. */
+	private static final String DEFAULT_UPDATE_THREADS = "1"; //$NON-NLS-1$
+
+	/** The Constant PARALLEL_LOCK_POLL_RATE, in seconds, while the workers wait for each other on the changelog lock. */
+	private static final long PARALLEL_LOCK_POLL_RATE = 1;
+
 	/** The Constant CHANGELOG_PREDELIVERED. */
 	private static final Map<String, DataStructureChangelogModel> CHANGELOG_PREDELIVERED = Collections
 			.synchronizedMap(new HashMap<String, DataStructureChangelogModel>());
@@ -75,6 +100,9 @@ public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrde
 	
 	/** The Constant DATA_STRUCTURE_CHANGELOG_MODELS. */
 	private static final Map<String, DataStructureChangelogModel> DATA_STRUCTURE_CHANGELOG_MODELS = new LinkedHashMap<String, DataStructureChangelogModel>();
+	
+	/** The Constant DATA_STRUCTURE_CHANGELOG_CREATED, the names of the changelogs registered for the first time. */
+	private static final Set<String> DATA_STRUCTURE_CHANGELOG_CREATED = new HashSet<String>();
 
 	/** The data structures core service. */
 	private DataStructuresCoreService dataStructuresCoreService = new DataStructuresCoreService();
@@ -197,6 +225,7 @@ public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrde
 	 */
 	private void clearCache() {
 		DATA_STRUCTURE_CHANGELOG_MODELS.clear();
+		DATA_STRUCTURE_CHANGELOG_CREATED.clear();
 	}
 
 	/**
@@ -233,6 +262,7 @@ public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrde
 			if (!dataStructuresCoreService.existsChangelog(changelogModel.getLocation())) {
 				dataStructuresCoreService.createChangelog(changelogModel.getLocation(), changelogModel.getName(), changelogModel.getHash());
 				DATA_STRUCTURE_CHANGELOG_MODELS.put(changelogModel.getName(), changelogModel);
+				DATA_STRUCTURE_CHANGELOG_CREATED.add(changelogModel.getName());
 				if (logger.isInfoEnabled()) {logger.info("Synchronized a new Changelog file [{}] from location: {}", changelogModel.getName(), changelogModel.getLocation());}
 				applyArtefactState(changelogModel, CHANGELOG_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
 			} else {
@@ -349,36 +379,109 @@ public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrde
 			return;
 		}
 
-		List<String> errors = new ArrayList<String>();
+		List<String> errors = Collections.synchronizedList(new ArrayList<String>());
 		try {
 			Connection connection = null;
 			try {
 				connection = getDataSource().getConnection();
+				Database database = getDatabase(connection);
+				ChangelogHistory history = ChangelogHistory.read(connection, database);
 				
-				List<String> changelogs = new ArrayList<String>((DATA_STRUCTURE_CHANGELOG_MODELS.keySet()));
-				
-				for (String changelog : changelogs) {
+				Queue<String> pending = new ConcurrentLinkedQueue<String>();
+				int skipped = 0;
+				for (String changelog : DATA_STRUCTURE_CHANGELOG_MODELS.keySet()) {
 					DataStructureChangelogModel model = DATA_STRUCTURE_CHANGELOG_MODELS.get(changelog);
-					try {
-						executeChangelogUpdate(connection, changelog, model);
+					if (DATA_STRUCTURE_CHANGELOG_CREATED.contains(changelog)
+							&& history.isApplied(getChangelogFile(changelog), model.getContent())) {
 						applyArtefactState(model, CHANGELOG_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE_UPDATE);
-					} catch (URISyntaxException | LiquibaseException | IOException e) {
-						if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
-						errors.add(e.getMessage());
-						applyArtefactState(model, CHANGELOG_ARTEFACT, ArtefactState.FAILED_CREATE_UPDATE, e.getMessage());
+						skipped++;
+					} else {
+						pending.add(changelog);
 					}
 				}
-
+				if (logger.isDebugEnabled()) {logger.debug("Changelogs already applied: {}, to be updated: {}", skipped, pending.size());}
+				
+				int threads = Math.min(pending.size(), Integer.parseInt(Configuration.get(DIRIGIBLE_CHANGELOG_UPDATE_THREADS, DEFAULT_UPDATE_THREADS)));
+				if (threads <= 1) {
+					updateChangelogs(database, pending, errors);
+				} else {
+					updateChangelogs(threads, pending, errors);
+				}
 			} finally {
 				if (connection != null) {
 					connection.close();
 				}
 			}
-		} catch (SQLException e) {
+		} catch (SQLException | DatabaseException e) {
 			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
 			errors.add(e.getMessage());
 		} finally {
-			if (logger.isErrorEnabled()) {logger.error(concatenateListOfStrings(errors, "\n---\n"));}
+			if (!errors.isEmpty()) {
+				if (logger.isErrorEnabled()) {logger.error(concatenateListOfStrings(errors, "\n---\n"));}
+			}
+		}
+	}
+	
+	/**
+	 * Applies the pending changelogs one after another.
+	 *
+	 * @param database the database
+	 * @param pending the pending changelogs
+	 * @param errors the errors
+	 */
+	private void updateChangelogs(Database database, Queue<String> pending, List<String> errors) {
+		String changelog;
+		while ((changelog = pending.poll()) != null) {
+			DataStructureChangelogModel model = DATA_STRUCTURE_CHANGELOG_MODELS.get(changelog);
+			try {
+				executeChangelogUpdate(database, changelog, model);
+				applyArtefactState(model, CHANGELOG_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE_UPDATE);
+			} catch (URISyntaxException | LiquibaseException | IOException e) {
+				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+				errors.add(e.getMessage());
+				applyArtefactState(model, CHANGELOG_ARTEFACT, ArtefactState.FAILED_CREATE_UPDATE, e.getMessage());
+			}
+		}
+	}
+	
+	/**
+	 * Applies the pending changelogs by several workers, each one with its own connection.
+	 *
+	 * @param threads the number of workers
+	 * @param pending the pending changelogs
+	 * @param errors the errors
+	 */
+	private void updateChangelogs(int threads, Queue<String> pending, List<String> errors) {
+		AtomicInteger counter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "changelog-update-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> workers = new ArrayList<Future<?>>();
+			for (int i = 0; i < threads; i++) {
+				workers.add(executor.submit(() -> {
+					try (Connection connection = getDataSource().getConnection()) {
+						Database database = getDatabase(connection);
+						Scope.child(GlobalConfiguration.CHANGELOGLOCK_POLL_RATE.getKey(), PARALLEL_LOCK_POLL_RATE,
+								() -> updateChangelogs(database, pending, errors));
+					} catch (Exception e) {
+						if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+						errors.add(e.getMessage());
+					}
+				}));
+			}
+			for (Future<?> worker : workers) {
+				try {
+					worker.get();
+				} catch (Exception e) {
+					if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+					errors.add(e.getMessage());
+				}
+			}
+		} finally {
+			executor.shutdown();
 		}
 	}
 
@@ -395,11 +498,23 @@ public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrde
 	 */
 	public void executeChangelogUpdate(Connection connection, String changelog,
 			DataStructureChangelogModel model) throws DatabaseException, URISyntaxException, LiquibaseException, IOException {
-		if (!changelog.endsWith(".json")) {
-			changelog += ".json";
-		}
+		executeChangelogUpdate(getDatabase(connection), changelog, model);
+	}
+	
+	/**
+	 * Execute changelog update on a Liquibase database, which can be reused for several changelogs.
+	 *
+	 * @param database the database
+	 * @param changelog the changelog
+	 * @param model the model
+	 * @throws URISyntaxException the URI syntax exception
+	 * @throws LiquibaseException the liquibase exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public void executeChangelogUpdate(Database database, String changelog,
+			DataStructureChangelogModel model) throws URISyntaxException, LiquibaseException, IOException {
+		changelog = getChangelogFile(changelog);
 		try (InputStream stream = new ByteArrayInputStream(model.getContent().getBytes(StandardCharsets.UTF_8))) {
-			Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
 			ChangelogResourceAccessor resourceAccessor = new ChangelogResourceAccessor(new URI(changelog), stream);
 			Liquibase liquibase = new Liquibase(changelog, resourceAccessor, database);
 		    try {
@@ -413,6 +528,27 @@ public class ChangelogSynchronizer extends AbstractSynchronizer implements IOrde
 
 
 
+	/**
+	 * Gets the Liquibase database of a connection.
+	 *
+	 * @param connection the connection
+	 * @return the database
+	 * @throws DatabaseException the database exception
+	 */
+	public static Database getDatabase(Connection connection) throws DatabaseException {
+		return DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+	}
+	
+	/**
+	 * Gets the file name of a changelog, as recorded by Liquibase.
+	 *
+	 * @param changelog the changelog
+	 * @return the file name
+	 */
+	private static String getChangelogFile(String changelog) {
+		return changelog.endsWith(".json") ? changelog : changelog + ".json";
+	}
+
 	/**
 	 * Concatenate list of strings.
 	 *
@@ -13,6 +13,7 @@ package org.eclipse.dirigible.database.changelog.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.InputStream;
@@ -27,6 +28,7 @@ import javax.sql.DataSource;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.eclipse.dirigible.database.changelog.synchronizer.ChangelogHistory;
 import org.eclipse.dirigible.database.changelog.synchronizer.ChangelogSynchronizer;
 import org.eclipse.dirigible.database.ds.model.DataStructureChangelogModel;
 import org.eclipse.dirigible.database.ds.model.DataStructureModelFactory;
@@ -101,4 +103,28 @@ public class DataStructureChangelogTest extends AbstractDirigibleTest {
 		}
 	}
 
+	/**
+	 * A changelog is reported as applied only when all its change sets are recorded with the checksums of their content.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void changelogHistory() throws Exception {
+		String changeSet = "{\"changeSet\": {\"id\": \"%s\", \"author\": \"dirigible\", \"changes\": [{\"createTable\": {\"tableName\": \"%s\", "
+				+ "\"columns\": [{\"column\": {\"name\": \"id\", \"type\": \"int\"}}]}}]}}";
+		String applied = "{\"databaseChangeLog\": [" + String.format(changeSet, "1", "HISTORY_FIRST") + "]}";
+		String extended = "{\"databaseChangeLog\": [" + String.format(changeSet, "1", "HISTORY_FIRST") + ", " + String.format(changeSet, "2", "HISTORY_SECOND") + "]}";
+		DataStructureChangelogModel model = DataStructureModelFactory.parseChangelog("/history.changelog", applied);
+		try (Connection connection = dataSource.getConnection()) {
+			assertFalse(ChangelogHistory.read(connection, ChangelogSynchronizer.getDatabase(connection)).isApplied("/history.changelog.json", applied));
+			changelogSynchronizer.executeChangelogUpdate(connection, "/history.changelog", model);
+			ChangelogHistory history = ChangelogHistory.read(connection, ChangelogSynchronizer.getDatabase(connection));
+			assertTrue(history.isApplied("/history.changelog.json", applied));
+			assertFalse(history.isApplied("/history.changelog.json", extended));
+			assertFalse(history.isApplied("/history.changelog.json", applied.replace("\"int\"", "\"bigint\"")));
+			assertFalse(history.isApplied("/other.changelog.json", applied));
+			assertFalse(history.isApplied("/history.changelog.json", applied.replace("\"author\"", "\"runOnChange\": true, \"author\"")));
+		}
+	}
+
 }
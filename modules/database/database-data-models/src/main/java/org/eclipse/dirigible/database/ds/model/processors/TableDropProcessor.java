@@ -15,7 +15,6 @@ import static java.text.MessageFormat.format;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.eclipse.dirigible.commons.config.Configuration;
@@ -52,36 +51,22 @@ public class TableDropProcessor {
 		}
 		if (logger.isInfoEnabled()) {logger.info("Processing Drop Table: " + tableName);}
 		if (SqlFactory.getNative(connection).exists(connection, tableName)) {
-			String sql = SqlFactory.getNative(connection).select().column("COUNT(*)").from(tableName)
-					.build();
-			PreparedStatement statement = connection.prepareStatement(sql);
 			try {
-				if (logger.isInfoEnabled()) {logger.info(sql);}
-				ResultSet resultSet = statement.executeQuery();
-				if (resultSet.next()) {
-					int count = resultSet.getInt(1);
-					if (count > 0) {
-						if (logger.isErrorEnabled()) {logger.error(format("Drop operation for the non empty Table [{0}] will not be executed. Delete all the records in the table first.", tableName));}
-						return;
-					}
+				if (!SqlFactory.getNative(connection).isEmpty(connection, tableName)) {
+					if (logger.isErrorEnabled()) {logger.error(format("Drop operation for the non empty Table [{0}] will not be executed. Delete all the records in the table first.", tableName));}
+					return;
 				}
 			} catch (SQLException e) {
-				if (logger.isErrorEnabled()) {logger.error(sql);}
 				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
-			} finally {
-				if (statement != null) {
-					statement.close();
-				}
 			}
-			
 			if (tableModel.getConstraints().getForeignKeys() != null && !tableModel.getConstraints().getForeignKeys().isEmpty()) {
 				for (DataStructureTableConstraintForeignKeyModel foreignKeyModel : tableModel.getConstraints().getForeignKeys()) {
-					sql = SqlFactory.getNative(connection).drop().constraint(foreignKeyModel.getName()).fromTable(tableName).build();
+					String sql = SqlFactory.getNative(connection).drop().constraint(foreignKeyModel.getName()).fromTable(tableName).build();
 					executeUpdate(connection, sql);
 				}
 			}
 
-			sql = SqlFactory.getNative(connection).drop().table(tableName).build();
+			String sql = SqlFactory.getNative(connection).drop().table(tableName).build();
 			executeUpdate(connection, sql);
 		}
 	}
@@ -1120,8 +1120,7 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer implements
 	public void executeAppendUpdate(DataStructureDataAppendModel model) throws Exception {
 		if (logger.isInfoEnabled()) {logger.info("Processing rows in mode 'append': " + model.getLocation());}
 		String tableName = model.getName();
-		int tableRowsCount = getTableRowsCount(tableName);
-		if (tableRowsCount == 0) {
+		if (isTableEmpty(tableName)) {
 			byte[] content = model.getContent().getBytes();
 			if (content.length != 0) {
 				TableImporter tableDataInserter = new TableImporter(getDataSource(), content, tableName);
@@ -1189,6 +1188,25 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer implements
 		}
 	}
 
+	/**
+	 * Checks if the table is empty.
+	 *
+	 * @param tableName the table name
+	 * @return true, if the table has no rows
+	 * @throws Exception the exception
+	 */
+	private boolean isTableEmpty(String tableName) throws Exception {
+		Connection connection = null;
+		try {
+			connection = getDataSource().getConnection();
+			return SqlFactory.getNative(connection).isEmpty(connection, tableName);
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+		}
+	}
+
 	/**
 	 * Gets the table rows count.
 	 *
@@ -1391,7 +1409,7 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer implements
 	public void executeTableUpdate(Connection connection, DataStructureTableModel tableModel) throws SQLException {
 		if (logger.isInfoEnabled()) {logger.info("Processing Update Table: " + tableModel.getName());}
 		if (SqlFactory.getNative(connection).exists(connection, tableModel.getName())) {
-			if (SqlFactory.getNative(connection).count(connection, tableModel.getName()) == 0) {
+			if (SqlFactory.getNative(connection).isEmpty(connection, tableModel.getName())) {
 				executeTableDrop(connection, tableModel);
 				executeTableCreate(connection, tableModel);
 			} else {
@@ -142,7 +142,7 @@ public class TopologyDataStructureModelWrapper implements ITopologicallySortable
 						applyArtefactState(this.model, TABLE_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
 					} else {
 						if (logger.isWarnEnabled()) {logger.warn(format("Table [{0}] already exists during the update process", this.model.getName()));}
-						if (SqlFactory.getNative(connection).count(connection, model.getName()) != 0) {
+						if (!SqlFactory.getNative(connection).isEmpty(connection, model.getName())) {
 							executeTableAlter(connection, (DataStructureTableModel) model);
 							applyArtefactState(this.model, TABLE_ARTEFACT, ArtefactState.SUCCESSFUL_UPDATE);
 						}
@@ -162,7 +162,7 @@ public class TopologyDataStructureModelWrapper implements ITopologicallySortable
 			case EXECUTE_TABLE_DROP:
 				if (model instanceof DataStructureTableModel) {
 					if (SqlFactory.getNative(connection).exists(connection, this.model.getName())) {
-						if (SqlFactory.getNative(connection).count(connection, this.model.getName()) == 0) {
+						if (SqlFactory.getNative(connection).isEmpty(connection, this.model.getName())) {
 							executeTableDrop(connection, (DataStructureTableModel) this.model);
 						} else {
 							String message = format("Table [{1}] cannot be deleted during the update process, because it is not empty", this.model.getName());
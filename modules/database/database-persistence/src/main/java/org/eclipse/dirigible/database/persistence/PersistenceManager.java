@@ -15,11 +15,14 @@ import static java.text.MessageFormat.format;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.GenerationType;
 
@@ -38,6 +41,7 @@ import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCr
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceDropTableProcessor;
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.dialects.SqlDialectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,8 +65,14 @@ public class PersistenceManager<T> {
 	/** The Constant CONNECTION_ID_SEPARATOR. */
 	private static final String CONNECTION_ID_SEPARATOR = ":";
 
-	/** The Constant EXISTING_TABLES_CACHE. */
-	private static final List<String> EXISTING_TABLES_CACHE = Collections.synchronizedList(new ArrayList<String>());
+	/** The Constant EXISTING_TABLES_CACHE, keyed by data source identity and table name. */
+	private static final Set<String> EXISTING_TABLES_CACHE = ConcurrentHashMap.newKeySet();
+
+	/** The Constant CONNECTION_IDENTITIES, resolved once per physical connection. */
+	private static final Map<Connection, String> CONNECTION_IDENTITIES = Collections.synchronizedMap(new WeakHashMap<Connection, String>());
+
+	/** The Constant TABLE_NAMES. */
+	private static final Map<Class, String> TABLE_NAMES = new ConcurrentHashMap<Class, String>();
 
 	/** The entity manager interceptor. */
 	private IEntityManagerInterceptor entityManagerInterceptor;
@@ -103,7 +113,9 @@ public class PersistenceManager<T> {
 			}
 		}
 		PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(getEntityManagerInterceptor());
-		return createTableProcessor.create(connection, tableModel);
+		int result = createTableProcessor.create(connection, tableModel);
+		EXISTING_TABLES_CACHE.add(getTableKey(connection, tableModel.getTableName()));
+		return result;
 	}
 
 	/**
@@ -153,6 +165,7 @@ public class PersistenceManager<T> {
 
 	/**
 	 * Check whether the table already exists in the database and create it if needed.
+	 * The outcome is cached per data source and table name until the table is dropped through this manager.
 	 *
 	 * @param connection
 	 *            the database connection
@@ -161,9 +174,11 @@ public class PersistenceManager<T> {
 	 */
 	public void tableCheck(Connection connection, Class clazz) {
 		if (logger.isTraceEnabled()) {logger.trace("tableCheck -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());}
-		String id = getConnectionIdentity(connection);
-		if (!EXISTING_TABLES_CACHE.contains(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName())) {
-			if (!tableExists(connection, clazz)) {
+		String key = getTableKey(connection, getTableName(clazz));
+		if (!EXISTING_TABLES_CACHE.contains(key)) {
+			if (tableExists(connection, clazz)) {
+				EXISTING_TABLES_CACHE.add(key);
+			} else {
 				String auto = System.getProperty("DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE");
 				if ((auto != null) && !"true".equals(auto.toLowerCase(Locale.getDefault()))) {
 					throw new IllegalStateException(
@@ -172,30 +187,58 @@ public class PersistenceManager<T> {
 				}
 				try {
 					tableCreate(connection, clazz);
-					EXISTING_TABLES_CACHE.add(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName());
 				} catch (Exception e) {
 					if (!tableExists(connection, clazz)) {
 						throw e;
 					}
+					EXISTING_TABLES_CACHE.add(key);
 				}
 			}
 		}
 	}
 
 	/**
-	 * Gets the connection identity.
+	 * Gets the key of a table in the existing tables cache.
+	 *
+	 * @param connection the connection
+	 * @param tableName the table name
+	 * @return the table key
+	 */
+	private String getTableKey(Connection connection, String tableName) {
+		return getConnectionIdentity(connection) + CONNECTION_ID_SEPARATOR + tableName;
+	}
+
+	/**
+	 * Gets the table name of a POJO class.
+	 *
+	 * @param clazz the clazz
+	 * @return the table name
+	 */
+	private String getTableName(Class clazz) {
+		return TABLE_NAMES.computeIfAbsent(clazz, c -> PersistenceFactory.createModel(c).getTableName());
+	}
+
+	/**
+	 * Gets the connection identity, i.e. the identity of the database behind the connection.
+	 * The URL is read from the meta data only once per physical connection.
 	 *
 	 * @param connection the connection
 	 * @return the connection identity
 	 */
 	private String getConnectionIdentity(Connection connection) {
-		try {
-			String url = connection.getMetaData().getURL();
-			return url.hashCode() + "";
-		} catch (SQLException e) {
-			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+		Connection physical = SqlDialectFactory.getPhysicalConnection(connection);
+		String id = CONNECTION_IDENTITIES.get(physical);
+		if (id == null) {
+			try {
+				String url = connection.getMetaData().getURL();
+				id = url.hashCode() + "";
+				CONNECTION_IDENTITIES.put(physical, id);
+			} catch (SQLException e) {
+				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+				return "";
+			}
 		}
-		return "";
+		return id;
 	}
 
 	/**
@@ -212,8 +255,7 @@ public class PersistenceManager<T> {
 	 * @param clazz the clazz
 	 */
 	public void reset(Connection connection, Class<T> clazz) {
-		String id = getConnectionIdentity(connection);
-		EXISTING_TABLES_CACHE.remove(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName());
+		EXISTING_TABLES_CACHE.remove(getTableKey(connection, getTableName(clazz)));
 	}
 	/**
 	 * Insert a single record in the table representing the POJO instance.
@@ -232,6 +274,26 @@ public class PersistenceManager<T> {
 		return insertProcessor.insert(connection, tableModel, pojo);
 	}
 
+	/**
+	 * Insert all the POJO instances with a single batch statement.
+	 *
+	 * @param connection
+	 *            the database connection
+	 * @param pojos
+	 *            the POJO instances of the same class
+	 * @return the ids of the pojos just inserted
+	 */
+	public List<Object> insertAll(Connection connection, List<T> pojos) {
+		if (pojos.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (logger.isTraceEnabled()) {logger.trace("insertAll -> connection: " + connection.hashCode() + ", pojos: " + pojos.size());}
+		tableCheck(connection, pojos.get(0).getClass());
+		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojos.get(0));
+		PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(getEntityManagerInterceptor());
+		return insertProcessor.insertAll(connection, tableModel, pojos);
+	}
+
 	/**
 	 * Getter for the single POJO instance.
 	 *
@@ -411,6 +473,26 @@ public class PersistenceManager<T> {
 		return updateProcessor.update(connection, tableModel, pojo);
 	}
 
+	/**
+	 * Update all the POJO instances with a single batch statement.
+	 *
+	 * @param connection
+	 *            the database connection
+	 * @param pojos
+	 *            the POJO instances of the same class
+	 * @return the number of the updated rows
+	 */
+	public int updateAll(Connection connection, List<T> pojos) {
+		if (pojos.isEmpty()) {
+			return 0;
+		}
+		if (logger.isTraceEnabled()) {logger.trace("updateAll -> connection: " + connection.hashCode() + ", pojos: " + pojos.size());}
+		tableCheck(connection, pojos.get(0).getClass());
+		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojos.get(0));
+		PersistenceUpdateProcessor<T> updateProcessor = new PersistenceUpdateProcessor<>(getEntityManagerInterceptor());
+		return updateProcessor.updateAll(connection, tableModel, pojos);
+	}
+
 	/**
 	 * Gets the entity manager interceptor.
 	 *
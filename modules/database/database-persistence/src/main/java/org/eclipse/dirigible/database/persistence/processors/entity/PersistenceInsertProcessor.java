@@ -19,6 +19,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.persistence.GenerationType;
 
@@ -144,6 +146,57 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
 		return result;
 	}
 
+	/**
+	 * Insert all the pojos with a single batch statement. With an identity column the keys are generated by the
+	 * database, hence the pojos are inserted one by one.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableModel
+	 *            the table model
+	 * @param pojos
+	 *            the pojos
+	 * @return the identifiers of the inserted pojos
+	 * @throws PersistenceException
+	 *             the persistence exception
+	 */
+	public List<Object> insertAll(Connection connection, PersistenceTableModel tableModel, List<T> pojos) throws PersistenceException {
+		if (logger.isTraceEnabled()) {logger.trace("insertAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojos: "
+				+ pojos.size());}
+		List<Object> result = new ArrayList<Object>();
+		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
+			if (columnModel.isPrimaryKey() && GenerationType.IDENTITY.name().equals(columnModel.getGenerated())) {
+				for (T pojo : pojos) {
+					result.add(insert(connection, tableModel, pojo));
+				}
+				return result;
+			}
+		}
+		if (pojos.isEmpty()) {
+			return result;
+		}
+		String sql = null;
+		PreparedStatement preparedStatement = null;
+		try {
+			sql = generateScript(connection, tableModel);
+			preparedStatement = openPreparedStatement(connection, sql);
+			for (T pojo : pojos) {
+				setGeneratedValues(connection, tableModel, pojo);
+				setValuesFromPojo(tableModel, pojo, preparedStatement);
+				preparedStatement.addBatch();
+				result.add(getPrimaryKeyValue(tableModel, pojo));
+			}
+			preparedStatement.executeBatch();
+		} catch (Exception e) {
+			if (logger.isErrorEnabled()) {logger.error(sql);}
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			throw new PersistenceException(sql, e);
+		} finally {
+			closePreparedStatement(preparedStatement);
+		}
+		return result;
+	}
+
 	/**
 	 * Sets the generated values.
 	 *
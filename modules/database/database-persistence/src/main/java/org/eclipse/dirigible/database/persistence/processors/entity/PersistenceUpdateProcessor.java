@@ -13,6 +13,8 @@ package org.eclipse.dirigible.database.persistence.processors.entity;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
 
 import org.eclipse.dirigible.database.persistence.IEntityManagerInterceptor;
 import org.eclipse.dirigible.database.persistence.PersistenceException;
@@ -120,6 +122,54 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
 		}
 	}
 
+	/**
+	 * Update all the pojos with a single batch statement.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableModel
+	 *            the table model
+	 * @param pojos
+	 *            the pojos
+	 * @return the number of the updated rows
+	 * @throws PersistenceException
+	 *             the persistence exception
+	 */
+	public int updateAll(Connection connection, PersistenceTableModel tableModel, List<T> pojos) throws PersistenceException {
+		if (logger.isTraceEnabled()) {logger.trace("updateAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojos: "
+				+ pojos.size());}
+		if (pojos.isEmpty()) {
+			return 0;
+		}
+		String sql = null;
+		PreparedStatement preparedStatement = null;
+		try {
+			PersistenceTableColumnModel primaryKeyColumnModel = getPrimaryKeyModel(tableModel);
+			sql = generateScript(connection, tableModel);
+			preparedStatement = openPreparedStatement(connection, sql);
+			for (T pojo : pojos) {
+				Object id = getValueFromPojo(pojo, primaryKeyColumnModel);
+				if (id == null) {
+					throw new PersistenceException("The key for update cannot be null.");
+				}
+				setValuesFromPojo(tableModel, pojo, preparedStatement);
+				setValue(preparedStatement, tableModel.getColumns().size(), id);
+				preparedStatement.addBatch();
+			}
+			int updated = 0;
+			for (int count : preparedStatement.executeBatch()) {
+				updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+			}
+			return updated;
+		} catch (Exception e) {
+			if (logger.isErrorEnabled()) {logger.error(sql);}
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			throw new PersistenceException(sql, e);
+		} finally {
+			closePreparedStatement(preparedStatement);
+		}
+	}
+
 	/**
 	 * Should set column value.
 	 *
@@ -87,6 +87,24 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 	 */
 	public long nextval(Connection connection, String tableName) throws PersistenceException {
 		if (logger.isTraceEnabled()) {logger.trace("nextval -> connection: " + connection.hashCode() + ", tableName: " + tableName);}
+		return nextBlock(connection, tableName, 1);
+	}
+
+	/**
+	 * Reserves a block of consecutive values with a single locked update of the identity record.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableName
+	 *            the table name
+	 * @param blockSize
+	 *            the number of values to be reserved
+	 * @return the first value of the reserved block
+	 * @throws PersistenceException
+	 *             the persistence exception
+	 */
+	public long nextBlock(Connection connection, String tableName, int blockSize) throws PersistenceException {
+		if (logger.isTraceEnabled()) {logger.trace("nextBlock -> connection: " + connection.hashCode() + ", tableName: " + tableName + ", blockSize: " + blockSize);}
 		PersistenceManager<Identity> persistenceManager = new PersistenceManager<Identity>();
 		if (!persistenceManager.tableExists(connection, Identity.class)) {
 			persistenceManager.tableCreate(connection, Identity.class);
@@ -96,11 +114,12 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 		if (identity == null) {
 			identity = new Identity();
 			identity.setTable(tableName);
-			identity.setValue(1);
+			identity.setValue(blockSize);
 			persistenceManager.insert(connection, identity);
 			return 1;
 		}
 
+		long first;
 		try {
 			boolean autoCommit = connection.getAutoCommit();
 			try {
@@ -109,7 +128,8 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 						connection.setAutoCommit(false);
 					}
 					identity = persistenceManager.lock(connection, Identity.class, tableName);
-					identity.setValue(identity.getValue() + 1);
+					first = identity.getValue() + 1;
+					identity.setValue(identity.getValue() + blockSize);
 					identity.setTable(tableName);
 					persistenceManager.update(connection, identity);
 				} finally {
@@ -121,7 +141,7 @@ public class PersistenceNextValueIdentityProcessor extends AbstractPersistencePr
 		} catch (SQLException e) {
 			throw new PersistenceException(e);
 		}
-		return identity.getValue();
+		return first;
 	}
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.processors.identity;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out sequence values from blocks reserved in the database, so that only one round trip per block is needed.
+ * <p>
+ * Every block is reserved atomically in the database (a sequence value or a locked identity row), hence the blocks
+ * reserved by different nodes of a cluster never overlap. The values handed out by a single node are increasing, but
+ * the values of the whole cluster are not ordered and the unused rest of a block is lost on restart. A reserved block
+ * overlapping the previous one of the same node, e.g. of a sequence incremented by less than the block size, is
+ * refused.
+ */
+public class SequenceBlockAllocator {
+
+	/**
+	 * Reserves a new block in the database.
+	 */
+	@FunctionalInterface
+	public interface BlockReservation {
+
+		/**
+		 * Reserve a block of values.
+		 *
+		 * @param blockSize the block size
+		 * @return the first value of the reserved block
+		 * @throws SQLException the SQL exception
+		 */
+		long reserve(int blockSize) throws SQLException;
+
+	}
+
+	/**
+	 * The Class Block.
+	 */
+	private static class Block {
+
+		/** The next value. */
+		private final AtomicLong next;
+
+		/** The end of the block, exclusive. */
+		private final long end;
+
+		/**
+		 * Instantiates a new block.
+		 *
+		 * @param start the first value
+		 * @param end the end, exclusive
+		 */
+		Block(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+
+	}
+
+	/** The blocks. */
+	private final Map<String, Block> blocks = new ConcurrentHashMap<String, Block>();
+
+	/** The locks. */
+	private final Map<String, Object> locks = new ConcurrentHashMap<String, Object>();
+
+	/**
+	 * Gets the next value of a sequence, reserving a new block when the current one is exhausted.
+	 *
+	 * @param key the key of the sequence, unique per data source
+	 * @param blockSize the block size
+	 * @param reservation the reservation of a new block
+	 * @return the next value
+	 * @throws SQLException the SQL exception
+	 */
+	public long nextval(String key, int blockSize, BlockReservation reservation) throws SQLException {
+		while (true) {
+			Block block = blocks.get(key);
+			if (block != null) {
+				long value = block.next.getAndIncrement();
+				if (value < block.end) {
+					return value;
+				}
+			}
+			synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+				if (blocks.get(key) == block) {
+					long start = reservation.reserve(blockSize);
+					if (block != null && start < block.end) {
+						throw new SQLException(String.format("The block reserved for [%s] from %d overlaps the previous one ending at %d,"
+								+ " the sequence has to be incremented by the block size of %d", key, start, block.end, blockSize));
+					}
+					blocks.put(key, new Block(start, start + blockSize));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discards the reserved values of a sequence, e.g. after it has been dropped, created or altered.
+	 *
+	 * @param key the key of the sequence
+	 */
+	public void reset(String key) {
+		synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+			blocks.remove(key);
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.junit.Test;
+
+/**
+ * Counts the meta data round trips of the dialect resolution and the table checks.
+ */
+public class PersistenceManagerMetadataCacheTest extends AbstractPersistenceManagerTest {
+
+	/** The Constant ITERATIONS. */
+	private static final int ITERATIONS = 1000;
+
+	/**
+	 * Repeated table checks and dialect lookups read the meta data only once.
+	 *
+	 * @throws SQLException the SQL exception
+	 */
+	@Test
+	public void metadataReadOnce() throws SQLException {
+		PersistenceManager<Task> persistenceManager = new PersistenceManager<Task>();
+		AtomicInteger metadataCalls = new AtomicInteger();
+		try (Connection connection = getDataSource().getConnection()) {
+			Connection counting = counting(connection, metadataCalls);
+			if (persistenceManager.tableExists(connection, Task.class)) {
+				persistenceManager.tableDrop(connection, Task.class);
+			}
+			metadataCalls.set(0);
+
+			ISqlDialect dialect = SqlFactory.deriveDialect(counting);
+			persistenceManager.tableCheck(counting, Task.class);
+			int firstCheckCalls = metadataCalls.get();
+			// dialect, identity, existence check and the creation itself
+			assertTrue("Meta data calls: " + firstCheckCalls, firstCheckCalls > 0 && firstCheckCalls <= 6);
+			for (int i = 1; i < ITERATIONS; i++) {
+				persistenceManager.tableCheck(counting, Task.class);
+				assertSame(dialect, SqlFactory.deriveDialect(counting));
+			}
+			assertTrue(persistenceManager.tableExists(connection, Task.class));
+			assertEquals(firstCheckCalls, metadataCalls.get());
+
+			persistenceManager.tableDrop(counting, Task.class);
+			assertFalse(persistenceManager.tableExists(connection, Task.class));
+			metadataCalls.set(0);
+			persistenceManager.tableCheck(counting, Task.class);
+			assertTrue(persistenceManager.tableExists(connection, Task.class));
+			assertTrue("Meta data calls: " + metadataCalls.get(), metadataCalls.get() > 0);
+			persistenceManager.tableDrop(connection, Task.class);
+		}
+	}
+
+	/**
+	 * Wraps a connection counting the meta data calls.
+	 *
+	 * @param connection the connection
+	 * @param counter the counter
+	 * @return the counting connection
+	 */
+	private static Connection counting(Connection connection, AtomicInteger counter) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[] {Connection.class}, (proxy, method, args) -> {
+			if ("getMetaData".equals(method.getName())) {
+				counter.incrementAndGet();
+			}
+			try {
+				return method.invoke(connection, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		});
+	}
+
+}
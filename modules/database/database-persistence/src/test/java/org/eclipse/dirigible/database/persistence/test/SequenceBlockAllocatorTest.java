@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.database.persistence.processors.identity.PersistenceNextValueIdentityProcessor;
+import org.eclipse.dirigible.database.persistence.processors.identity.SequenceBlockAllocator;
+import org.junit.Test;
+
+/**
+ * The Sequence Block Allocator Test.
+ */
+public class SequenceBlockAllocatorTest extends AbstractPersistenceManagerTest {
+
+	/**
+	 * Values are consecutive and only one reservation per block is made.
+	 *
+	 * @throws SQLException the SQL exception
+	 */
+	@Test
+	public void blocksFromIdentityTable() throws SQLException {
+		PersistenceNextValueIdentityProcessor processor = new PersistenceNextValueIdentityProcessor(null);
+		SequenceBlockAllocator allocator = new SequenceBlockAllocator();
+		AtomicInteger reservations = new AtomicInteger();
+		String sequence = "BLOCK_SEQUENCE_" + System.currentTimeMillis();
+		try (Connection connection = getDataSource().getConnection()) {
+			long first = allocator.nextval(sequence, 10, size -> {
+				reservations.incrementAndGet();
+				return processor.nextBlock(connection, sequence, size);
+			});
+			for (int i = 1; i < 25; i++) {
+				long value = allocator.nextval(sequence, 10, size -> {
+					reservations.incrementAndGet();
+					return processor.nextBlock(connection, sequence, size);
+				});
+				assertEquals(first + i, value);
+			}
+			assertEquals(3, reservations.get());
+			assertEquals(first + 30, processor.nextval(connection, sequence));
+		}
+	}
+
+	/**
+	 * A block overlapping the previous one, e.g. of a sequence incremented by one, is refused until reset.
+	 *
+	 * @throws SQLException the SQL exception
+	 */
+	@Test
+	public void overlappingBlockRefused() throws SQLException {
+		SequenceBlockAllocator allocator = new SequenceBlockAllocator();
+		AtomicLong sequence = new AtomicLong();
+		for (int i = 0; i < 10; i++) {
+			assertEquals(1 + i, allocator.nextval("OVERLAPPING", 10, size -> sequence.incrementAndGet()));
+		}
+		try {
+			allocator.nextval("OVERLAPPING", 10, size -> sequence.incrementAndGet());
+			fail("An overlapping block is handed out");
+		} catch (SQLException e) {
+			assertTrue(e.getMessage().contains("OVERLAPPING"));
+		}
+		allocator.reset("OVERLAPPING");
+		assertEquals(3, allocator.nextval("OVERLAPPING", 10, size -> sequence.incrementAndGet()));
+	}
+
+	/**
+	 * Concurrent callers never get the same value.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void uniqueUnderConcurrency() throws Exception {
+		SequenceBlockAllocator allocator = new SequenceBlockAllocator();
+		AtomicInteger database = new AtomicInteger();
+		Set<Long> values = ConcurrentHashMap.newKeySet();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < 8; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 1000; i++) {
+					try {
+						values.add(allocator.nextval("CONCURRENT", 7, size -> (long) database.incrementAndGet() * size));
+					} catch (SQLException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(8000, values.size());
+		assertTrue(database.get() <= 8000 / 7 + 8);
+	}
+
+}
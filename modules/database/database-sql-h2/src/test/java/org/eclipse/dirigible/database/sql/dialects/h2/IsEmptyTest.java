@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.sql.dialects.h2;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class IsEmptyTest.
+ */
+public class IsEmptyTest {
+
+    /** The connection. */
+    private Connection connection;
+
+    /**
+     * Opens an in-memory database with an empty and a non-empty table.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:isempty", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE EMPTY_CUSTOMERS (ID INTEGER PRIMARY KEY)");
+            statement.executeUpdate("CREATE TABLE CUSTOMERS (ID INTEGER PRIMARY KEY)");
+            statement.executeUpdate("INSERT INTO CUSTOMERS VALUES (1)");
+            statement.executeUpdate("INSERT INTO CUSTOMERS VALUES (2)");
+        }
+    }
+
+    /**
+     * Closes the connection, which drops the in-memory database.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Empty table.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void emptyTable() throws SQLException {
+        assertTrue(SqlFactory.getNative(new H2SqlDialect()).isEmpty(connection, "EMPTY_CUSTOMERS"));
+    }
+
+    /**
+     * Non empty table.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void nonEmptyTable() throws SQLException {
+        assertFalse(SqlFactory.getNative(new H2SqlDialect()).isEmpty(connection, "CUSTOMERS"));
+    }
+
+    /**
+     * Missing table.
+     */
+    @Test
+    public void missingTable() {
+        assertThrows(SQLException.class, () -> SqlFactory.getNative(new H2SqlDialect()).isEmpty(connection, "MISSING_CUSTOMERS"));
+    }
+
+}
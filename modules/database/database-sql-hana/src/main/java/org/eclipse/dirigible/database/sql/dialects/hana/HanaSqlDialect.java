@@ -521,7 +521,9 @@ public class HanaSqlDialect extends
             switch (type) {
                 case DatabaseArtifactTypes.TABLE:
                 case DatabaseArtifactTypes.VIEW:
-                    exists = count(connection, artefact) >= 0;
+                    // the probe fails if the table or view does not exist
+                    isEmpty(connection, artefact);
+                    exists = true;
                     break;
                 case DatabaseArtifactTypes.SYNONYM:
                     exists = isSynonymExisting(connection, schema, artefact);
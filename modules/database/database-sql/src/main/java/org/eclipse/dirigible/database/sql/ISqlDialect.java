@@ -277,6 +277,21 @@ public interface ISqlDialect<SELECT extends SelectBuilder, INSERT extends Insert
 	@Override
 	public int count(Connection connection, String table) throws SQLException;
 
+	/**
+	 * Checks whether the given table has no rows. Unlike {@link #count(Connection, String)} it stops at the first row
+	 * found, so it does not scan the whole table.
+	 *
+	 * @param connection
+	 *            the current connection
+	 * @param table
+	 *            the table name
+	 * @return true if the table has no rows and false otherwise
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Override
+	public boolean isEmpty(Connection connection, String table) throws SQLException;
+
 	/**
 	 * Checks if the database is capable of schema-level filtering statements
 	 * (e.g. to reduce the provisioned schemas down to those that the current
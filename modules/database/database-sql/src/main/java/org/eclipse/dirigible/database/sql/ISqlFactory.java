@@ -158,6 +158,19 @@ public interface ISqlFactory<SELECT extends SelectBuilder, INSERT extends Insert
 	 */
 	public int count(Connection connection, String table) throws SQLException;
 
+	/**
+	 * Checks if the table is empty.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param table
+	 *            the table
+	 * @return true, if the table has no rows
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public boolean isEmpty(Connection connection, String table) throws SQLException;
+
 	/**
 	 * Nextval.
 	 *
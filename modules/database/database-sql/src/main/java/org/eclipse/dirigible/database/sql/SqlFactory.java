@@ -336,6 +336,19 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
 		return this.dialect.count(connection, table);
 	}
 
+	/**
+	 * Checks if the table is empty.
+	 *
+	 * @param connection the connection
+	 * @param table the table
+	 * @return true, if the table has no rows
+	 * @throws SQLException the SQL exception
+	 */
+	@Override
+	public boolean isEmpty(Connection connection, String table) throws SQLException {
+		return this.dialect.isEmpty(connection, table);
+	}
+
 	/**
 	 * Lastval.
 	 *
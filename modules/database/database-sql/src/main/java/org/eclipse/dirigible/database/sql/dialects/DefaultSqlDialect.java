@@ -503,6 +503,25 @@ public class DefaultSqlDialect<SELECT extends SelectBuilder, INSERT extends Inse
 		throw new SQLException("Cannot calculate the count of records of table: " + table);
 	}
 
+	/**
+	 * Checks if the table is empty by selecting at most one row, with the limit syntax of the dialect.
+	 *
+	 * @param connection the connection
+	 * @param table the table
+	 * @return true, if the table has no rows
+	 * @throws SQLException the SQL exception
+	 */
+	@Override
+	public boolean isEmpty(Connection connection, String table) throws SQLException {
+		String sql = select().column("1").from(table).limit(1).build();
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setMaxRows(1);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return !resultSet.next();
+			}
+		}
+	}
+
 	/**
 	 * Checks if is schema filter supported.
 	 *
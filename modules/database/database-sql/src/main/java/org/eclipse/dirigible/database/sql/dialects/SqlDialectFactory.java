@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.ISqlDialectProvider;
@@ -29,8 +30,12 @@ public class SqlDialectFactory {
 	/** The Constant ACCESS_MANAGERS. */
 	private static final ServiceLoader<ISqlDialectProvider> SQL_PROVIDERS = ServiceLoader.load(ISqlDialectProvider.class);
 
+	/** The dialects resolved per physical connection. */
+	private static final Map<Connection, ISqlDialect> CONNECTION_DIALECTS = Collections.synchronizedMap(new WeakHashMap<Connection, ISqlDialect>());
+
 	/**
-	 * Gets the dialect.
+	 * Gets the dialect. The database product is read from the connection meta data only once per physical connection,
+	 * hence pooled connections resolve it on their first use only.
 	 *
 	 * @param connection
 	 *            the connection
@@ -39,8 +44,38 @@ public class SqlDialectFactory {
 	 *             the SQL exception
 	 */
 	public static final ISqlDialect getDialect(Connection connection) throws SQLException {
-		String productName = connection.getMetaData().getDatabaseProductName();
-		return databaseTypeMappings.get(productName);
+		Connection physical = getPhysicalConnection(connection);
+		ISqlDialect dialect = CONNECTION_DIALECTS.get(physical);
+		if (dialect == null) {
+			String productName = connection.getMetaData().getDatabaseProductName();
+			dialect = databaseTypeMappings.get(productName);
+			if (dialect != null) {
+				CONNECTION_DIALECTS.put(physical, dialect);
+			}
+		}
+		return dialect;
+	}
+
+	/**
+	 * Gets the physical connection behind a pooled connection handle, or the connection itself if it cannot be
+	 * unwrapped.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @return the physical connection
+	 */
+	public static Connection getPhysicalConnection(Connection connection) {
+		try {
+			if (connection.isWrapperFor(Connection.class)) {
+				Connection physical = connection.unwrap(Connection.class);
+				if (physical != null) {
+					return physical;
+				}
+			}
+		} catch (SQLException | RuntimeException e) {
+			// not supported by the driver or the pool
+		}
+		return connection;
 	}
 
 	
@@ -431,6 +431,27 @@ public class SelectRecordTest {
 		}
 	}
 	
+	/**
+	 * Select a single row, as used for the emptiness check, in case sensitive mode.
+	 */
+	@Test
+	public void selectEmptinessProbeCaseSensitive() {
+		Configuration.set("DIRIGIBLE_DATABASE_NAMES_CASE_SENSITIVE", "true");
+		try {
+			String sql = SqlFactory.getDefault()
+				.select()
+				.column("1")
+				.from("CUSTOMERS")
+				.limit(1)
+				.build();
+			
+			assertNotNull(sql);
+			assertEquals("SELECT 1 FROM \"CUSTOMERS\" LIMIT 1", sql);
+		} finally {
+			Configuration.set("DIRIGIBLE_DATABASE_NAMES_CASE_SENSITIVE", "false");
+		}
+	}
+	
 	/**
 	 * Select column in case sensitive mode.
 	 */
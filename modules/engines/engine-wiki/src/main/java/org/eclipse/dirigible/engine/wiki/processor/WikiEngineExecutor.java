@@ -13,9 +13,14 @@ package org.eclipse.dirigible.engine.wiki.processor;
 
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.engine.api.resource.AbstractResourceExecutor;
 import org.eclipse.dirigible.engine.wiki.api.IWikiCoreService;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.mylyn.wikitext.confluence.ConfluenceLanguage;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
 import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
@@ -29,6 +34,10 @@ import com.vladsch.flexmark.util.data.MutableDataSet;
 
 /**
  * The Wiki Engine Executor.
+ * <p>
+ * The Markdown parser and renderer are shared, while the Confluence parser is reused per thread. The rendered pages
+ * are kept in a bounded cache by path together with the hash of their source, so an unchanged page is served
+ * without being rendered again.
  */
 public class WikiEngineExecutor extends AbstractResourceExecutor {
 	
@@ -38,6 +47,65 @@ public class WikiEngineExecutor extends AbstractResourceExecutor {
 	/** The Constant ENGINE_NAME. */
 	public static final String ENGINE_NAME = "Default Wiki Content Engine";
 	
+	/** The Constant DIRIGIBLE_WIKI_RENDER_CACHE_SIZE. */
+	public static final String DIRIGIBLE_WIKI_RENDER_CACHE_SIZE = "DIRIGIBLE_WIKI_RENDER_CACHE_SIZE"; //$NON-NLS-1$
+	
+	/** The Constant DEFAULT_RENDER_CACHE_SIZE. */
+	private static final String DEFAULT_RENDER_CACHE_SIZE = "500"; //$NON-NLS-1$
+	
+	/** The Constant RENDER_CACHE_SIZE. */
+	private static final int RENDER_CACHE_SIZE = Integer.parseInt(Configuration.get(DIRIGIBLE_WIKI_RENDER_CACHE_SIZE, DEFAULT_RENDER_CACHE_SIZE));
+	
+	/** The Constant MARKDOWN_OPTIONS. */
+	private static final MutableDataSet MARKDOWN_OPTIONS = new MutableDataSet()
+			.set(Parser.EXTENSIONS, Arrays.asList(TablesExtension.create(), StrikethroughExtension.create()))
+			.set(HtmlRenderer.SOFT_BREAK, "<br />\n");
+	
+	/** The Constant MARKDOWN_PARSER. */
+	private static final Parser MARKDOWN_PARSER = Parser.builder(MARKDOWN_OPTIONS).build();
+	
+	/** The Constant MARKDOWN_RENDERER. */
+	private static final HtmlRenderer MARKDOWN_RENDERER = HtmlRenderer.builder(MARKDOWN_OPTIONS).build();
+	
+	/** The Constant CONFLUENCE_PARSER. */
+	private static final ThreadLocal<MarkupParser> CONFLUENCE_PARSER = ThreadLocal.withInitial(() -> new MarkupParser(new ConfluenceLanguage()));
+	
+	/** The Constant RENDERED, keyed by path in access order. */
+	private static final Map<String, RenderedPage> RENDERED = new LinkedHashMap<String, RenderedPage>(16, 0.75f, true) {
+		
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, RenderedPage> eldest) {
+			return size() > RENDER_CACHE_SIZE;
+		}
+		
+	};
+	
+	/**
+	 * A rendered page.
+	 */
+	private static class RenderedPage {
+		
+		/** The hash of the source. */
+		private final String hash;
+		
+		/** The html. */
+		private final String html;
+		
+		/**
+		 * Instantiates a new rendered page.
+		 *
+		 * @param hash the hash
+		 * @param html the html
+		 */
+		RenderedPage(String hash, String html) {
+			this.hash = hash;
+			this.html = html;
+		}
+		
+	}
+	
 	/**
 	 * Gets the type.
 	 *
@@ -74,6 +142,33 @@ public class WikiEngineExecutor extends AbstractResourceExecutor {
 	 * @return the string
 	 */
 	public String renderContent(String path, String content) {
+		if (RENDER_CACHE_SIZE <= 0) {
+			return render(path, content);
+		}
+		String key = getCacheKey(path);
+		String hash = DigestUtils.md5Hex(content);
+		RenderedPage page;
+		synchronized (RENDERED) {
+			page = RENDERED.get(key);
+		}
+		if (page != null && page.hash.equals(hash)) {
+			return page.html;
+		}
+		String html = render(path, content);
+		synchronized (RENDERED) {
+			RENDERED.put(key, new RenderedPage(hash, html));
+		}
+		return html;
+	}
+	
+	/**
+	 * Render content without the cache.
+	 *
+	 * @param path the path
+	 * @param content the content
+	 * @return the string
+	 */
+	private String render(String path, String content) {
 		if (path.endsWith(IWikiCoreService.FILE_EXTENSION_MD) 
 				|| path.endsWith(IWikiCoreService.FILE_EXTENSION_MARKDOWN)) {
 			return renderMarkdown(content);
@@ -83,6 +178,36 @@ public class WikiEngineExecutor extends AbstractResourceExecutor {
 		return "File extension is uknown for Wiki engine: " + path;
 	}
 	
+	/**
+	 * Removes the rendered page of a path from the cache.
+	 *
+	 * @param path the path
+	 */
+	public static void invalidate(String path) {
+		synchronized (RENDERED) {
+			RENDERED.remove(getCacheKey(path));
+		}
+	}
+	
+	/**
+	 * Removes all the rendered pages from the cache.
+	 */
+	public static void clearRenderCache() {
+		synchronized (RENDERED) {
+			RENDERED.clear();
+		}
+	}
+	
+	/**
+	 * Gets the cache key of a path, which is requested with or without the leading separator.
+	 *
+	 * @param path the path
+	 * @return the cache key
+	 */
+	private static String getCacheKey(String path) {
+		return path.startsWith(IRepositoryStructure.SEPARATOR) ? path.substring(1) : path;
+	}
+	
 	/**
 	 * Render markdown.
 	 *
@@ -90,21 +215,8 @@ public class WikiEngineExecutor extends AbstractResourceExecutor {
 	 * @return the string
 	 */
 	private String renderMarkdown(String content) {
-		MutableDataSet options = new MutableDataSet();
-
-        // uncomment to set optional extensions
-        options.set(Parser.EXTENSIONS, Arrays.asList(TablesExtension.create(), StrikethroughExtension.create()));
-
-        // uncomment to convert soft-breaks to hard breaks
-        options.set(HtmlRenderer.SOFT_BREAK, "<br />\n");
-
-        Parser parser = Parser.builder(options).build();
-        HtmlRenderer renderer = HtmlRenderer.builder(options).build();
-
-        // You can re-use parser and renderer instances
-        Node document = parser.parse(content);
-        String html = renderer.render(document);  // "<p>This is <em>Sparta</em></p>\n"
-        return html;
+		Node document = MARKDOWN_PARSER.parse(content);
+		return MARKDOWN_RENDERER.render(document);
 	}
 	
 	/**
@@ -117,10 +229,13 @@ public class WikiEngineExecutor extends AbstractResourceExecutor {
 		StringWriter writer = new StringWriter();
 		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(writer);
 		builder.setEmitAsDocument(false);
-		MarkupParser markupParser = new MarkupParser();
+		MarkupParser markupParser = CONFLUENCE_PARSER.get();
 		markupParser.setBuilder(builder);
-		markupParser.setMarkupLanguage(new ConfluenceLanguage());
-		markupParser.parse(content);
+		try {
+			markupParser.parse(content);
+		} finally {
+			markupParser.setBuilder(null);
+		}
 		String htmlContent = writer.toString();
 		return htmlContent;
 	}
@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.api.v3.problems.IProblemsConstants;
 import org.eclipse.dirigible.api.v3.problems.ProblemsFacade;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
@@ -53,6 +54,9 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 	/** The Constant FILE_EXTENSION_HTML. */
 	public static final String FILE_EXTENSION_HTML = ".html";
 
+	/** The Constant DIRIGIBLE_WIKI_PRE_RENDER. */
+	public static final String DIRIGIBLE_WIKI_PRE_RENDER = "DIRIGIBLE_WIKI_PRE_RENDER"; //$NON-NLS-1$
+
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(WikiSynchronizer.class);
 
@@ -185,6 +189,7 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 		try {
 			if (!wikiCoreService.existsWiki(wikiDefinition.getLocation())) {
 				wikiCoreService.createWiki(wikiDefinition.getLocation(), wikiDefinition.getHash());
+				WikiEngineExecutor.invalidate(wikiDefinition.getLocation());
 				if (logger.isInfoEnabled()) {logger.info("Synchronized a new Wiki from location: {}", wikiDefinition.getLocation());}
 				WIKI_DEFINITIONS.put(wikiDefinition.getLocation(), wikiDefinition);
 				applyArtefactState(wikiDefinition, WIKI_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
@@ -192,6 +197,7 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 				WikiDefinition existing = wikiCoreService.getWiki(wikiDefinition.getLocation());
 				if (!wikiDefinition.equals(existing)) {
 					wikiCoreService.updateWiki(wikiDefinition.getLocation(), wikiDefinition.getHash());
+					WikiEngineExecutor.invalidate(wikiDefinition.getLocation());
 					if (logger.isInfoEnabled()) {logger.info("Synchronized a modified Wiki from location: {}", wikiDefinition.getLocation());}
 					applyArtefactState(wikiDefinition, WIKI_ARTEFACT, ArtefactState.SUCCESSFUL_UPDATE);
 					WIKI_DEFINITIONS.put(wikiDefinition.getLocation(), wikiDefinition);
@@ -273,6 +279,7 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 			for (WikiDefinition wikiDefinition : wikiDefinitions) {
 				if (!WIKI_SYNCHRONIZED.contains(wikiDefinition.getLocation())) {
 					wikiCoreService.removeWiki(wikiDefinition.getLocation());
+					WikiEngineExecutor.invalidate(wikiDefinition.getLocation());
 					if (logger.isWarnEnabled()) {logger.warn("Cleaned up Wiki from location: {}", wikiDefinition.getLocation());}
 				}
 			}
@@ -284,9 +291,13 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 	}
 	
 	/**
-	 * Process wikis.
+	 * Process wikis. The created and modified ones are rendered to the registry, which also puts them in the render cache.
+	 * With pre-rendering enabled, the unchanged ones are rendered to the cache as well.
 	 */
 	private void processWikis() {
+		if (Boolean.parseBoolean(Configuration.get(DIRIGIBLE_WIKI_PRE_RENDER, Boolean.FALSE.toString()))) {
+			preRenderWikis();
+		}
 		for (String location : WIKI_DEFINITIONS.keySet()) {
 			String path = location;
 			if (location.endsWith(IWikiCoreService.FILE_EXTENSION_MARKDOWN)) {
@@ -310,6 +321,27 @@ public class WikiSynchronizer extends AbstractSynchronizer {
 		}
 	}
 	
+	/**
+	 * Renders the unchanged synchronized wikis to the render cache, so that their first requests are served from it.
+	 */
+	private void preRenderWikis() {
+		IRepository repository = getRepository();
+		List<String> locations;
+		synchronized (WIKI_SYNCHRONIZED) {
+			locations = new ArrayList<String>(WIKI_SYNCHRONIZED);
+		}
+		int count = 0;
+		for (String location : locations) {
+			String registryPath = IRepositoryStructure.PATH_REGISTRY_PUBLIC + location;
+			if (!WIKI_DEFINITIONS.containsKey(location) && repository.hasResource(registryPath)) {
+				IResource resource = repository.getResource(registryPath);
+				wikiEngineExecutor.renderContent(location, new String(resource.getContent(), StandardCharsets.UTF_8));
+				count++;
+			}
+		}
+		if (logger.isDebugEnabled()) {logger.debug("Pre-rendered {} Wiki files", count);}
+	}
+	
 	/** The Constant ERROR_TYPE. */
 	private static final String ERROR_TYPE = "WIKI";
 	
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.wiki.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * The Class WikiEngineExecutorTest.
+ */
+public class WikiEngineExecutorTest {
+
+	/**
+	 * Render markdown.
+	 */
+	@Test
+	public void renderMarkdown() {
+		WikiEngineExecutor executor = new WikiEngineExecutor();
+		String html = executor.renderContent("/project/page.md", "# Title\n\n| A | B |\n|---|---|\n| 1 | ~~2~~ |\n");
+		assertTrue(html, html.contains("<h1>Title</h1>"));
+		assertTrue(html, html.contains("<table>"));
+		assertTrue(html, html.contains("<del>2</del>"));
+	}
+
+	/**
+	 * Render confluence.
+	 */
+	@Test
+	public void renderConfluence() {
+		WikiEngineExecutor executor = new WikiEngineExecutor();
+		assertTrue(executor.renderContent("/project/first.confluence", "h1. First").contains("First</h1>"));
+		assertTrue(executor.renderContent("/project/second.confluence", "h2. Second").contains("Second</h2>"));
+	}
+
+	/**
+	 * Rendered pages are cached until their source changes or they are invalidated.
+	 */
+	@Test
+	public void renderCached() {
+		WikiEngineExecutor executor = new WikiEngineExecutor();
+		String first = executor.renderContent("/project/cached.md", "*cached*");
+		assertSame(first, executor.renderContent("project/cached.md", "*cached*"));
+		String changed = executor.renderContent("/project/cached.md", "*changed*");
+		assertEquals("<p><em>changed</em></p>\n", changed);
+		WikiEngineExecutor.invalidate("/project/cached.md");
+		String rendered = executor.renderContent("/project/cached.md", "*changed*");
+		assertEquals(changed, rendered);
+		assertNotSame(changed, rendered);
+	}
+
+}
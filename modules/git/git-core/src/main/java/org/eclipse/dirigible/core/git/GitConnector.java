@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.core.git;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.git.project.ProjectOriginUrls;
 import org.eclipse.dirigible.core.git.utils.RemoteUrl;
 import org.eclipse.jgit.api.AddCommand;
@@ -66,6 +68,7 @@ import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
 import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.ProgressMonitor;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.lib.StoredConfig;
@@ -77,6 +80,7 @@ import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.treewalk.TreeWalk;
 import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,12 +93,34 @@ public class GitConnector implements IGitConnector {
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(GitConnector.class);
 
+	/** The Constant DIRIGIBLE_GIT_STATUS_MAX_AGE. */
+	public static final String DIRIGIBLE_GIT_STATUS_MAX_AGE = "DIRIGIBLE_GIT_STATUS_MAX_AGE"; //$NON-NLS-1$
+
+	/**
+	 * The Constant STATUS_MAX_AGE, the time in milliseconds a status snapshot is reused while the index and HEAD are
+	 * unchanged. The files written through a local repository drop the snapshot right away, so the age bounds only the
+	 * delay of the changes made to the working tree by other means.
+	 */
+	private static final long STATUS_MAX_AGE = Long.parseLong(Configuration.get(DIRIGIBLE_GIT_STATUS_MAX_AGE, "2")) * 1000;
+
 	/** The git. */
 	private final Git git;
 
 	/** The repository. */
 	private Repository repository;
 
+	/** The status snapshot shared by the status queries until the repository changes. */
+	private Status statusSnapshot;
+
+	/** The stamp of the index and HEAD at the time of the snapshot. */
+	private String statusStamp;
+
+	/** The time of the snapshot. */
+	private long statusTakenAt;
+
+	/** The status lock. */
+	private final Object statusLock = new Object();
+
 	/**
 	 * Instantiates a new git connector.
 	 *
@@ -193,6 +219,7 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public void add(String filePattern) throws IOException, NoFilepatternException, GitAPIException {
+		invalidateStatus();
 		AddCommand addCommand = git.add();
 		addCommand.addFilepattern(filePattern);
 		addCommand.call();
@@ -214,6 +241,7 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public void addDeleted(String filePattern) throws IOException, NoFilepatternException, GitAPIException {
+		invalidateStatus();
 		RmCommand rmCommand = git.rm();
 		rmCommand.addFilepattern(filePattern);
 		rmCommand.call();
@@ -234,6 +262,7 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public void remove(String path) throws IOException, NoFilepatternException, GitAPIException {
+		invalidateStatus();
 		if (repository.resolve(Constants.HEAD) != null) {
 			ResetCommand reset = git.reset();
 			reset.setRef(Constants.HEAD);
@@ -262,6 +291,7 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public void revert(String path) throws IOException, NoFilepatternException, GitAPIException {
+		invalidateStatus();
 		CheckoutCommand checkoutCommand = git.checkout();
 		checkoutCommand.addPath(path);
 		checkoutCommand.call();
@@ -293,6 +323,7 @@ public class GitConnector implements IGitConnector {
 	public void commit(String message, String name, String email, boolean all)
 			throws NoHeadException, NoMessageException, UnmergedPathsException, ConcurrentRefUpdateException,
 			WrongRepositoryStateException, GitAPIException, IOException {
+		invalidateStatus();
 		CommitCommand commitCommand = git.commit();
 		commitCommand.setMessage(message);
 		commitCommand.setCommitter(name, email);
@@ -322,6 +353,7 @@ public class GitConnector implements IGitConnector {
 	@Override
 	public void createBranch(String name, String startPoint)
 			throws RefAlreadyExistsException, RefNotFoundException, InvalidRefNameException, GitAPIException {
+		invalidateStatus();
 		repository.getConfig().setString(GIT_BRANCH, name, GIT_MERGE, GIT_REFS_HEADS_MASTER);
 		CreateBranchCommand createBranchCommand = git.branchCreate();
 		createBranchCommand.setName(name);
@@ -350,6 +382,7 @@ public class GitConnector implements IGitConnector {
 	@Override
 	public void deleteBranch(String name)
 			throws RefAlreadyExistsException, RefNotFoundException, InvalidRefNameException, GitAPIException {
+		invalidateStatus();
 		repository.getConfig().setString(GIT_BRANCH, name, GIT_MERGE, GIT_REFS_HEADS_MASTER);
 		DeleteBranchCommand deleteBranchCommand = git.branchDelete();
 		deleteBranchCommand.setBranchNames(name);
@@ -376,6 +409,7 @@ public class GitConnector implements IGitConnector {
 	@Override
 	public void renameBranch(String oldName, String newName)
 			throws RefAlreadyExistsException, RefNotFoundException, InvalidRefNameException, GitAPIException {
+		invalidateStatus();
 		repository.getConfig().setString(GIT_BRANCH, oldName, GIT_MERGE, GIT_REFS_HEADS_MASTER);
 		RenameBranchCommand renameBranchCommand = git.branchRename();
 		renameBranchCommand.setOldName(oldName);
@@ -403,6 +437,7 @@ public class GitConnector implements IGitConnector {
 	@Override
 	public void createRemoteBranch(String name, String startPoint, String username, String password)
 			throws RefAlreadyExistsException, RefNotFoundException, InvalidRefNameException, GitAPIException {
+		invalidateStatus();
 		repository.getConfig().setString(GIT_BRANCH, name, GIT_MERGE, GIT_REFS_HEADS_MASTER);
 		CreateBranchCommand createBranchCommand = git.branchCreate();
 		createBranchCommand.setName(name);
@@ -443,6 +478,7 @@ public class GitConnector implements IGitConnector {
 	@Override
 	public void deleteRemoteBranch(String name, String username, String password)
 			throws RefAlreadyExistsException, RefNotFoundException, InvalidRefNameException, GitAPIException {
+		invalidateStatus();
 		
 		String remoteName = "refs/heads/" + name;
 		git.branchDelete().setBranchNames(remoteName).call();
@@ -476,6 +512,7 @@ public class GitConnector implements IGitConnector {
 	@Override
 	public Ref checkout(String name) throws RefAlreadyExistsException, RefNotFoundException, InvalidRefNameException,
 			CheckoutConflictException, GitAPIException {
+		invalidateStatus();
 		try {
 			CheckoutCommand checkoutCommand = git.checkout();
 			checkoutCommand.setName(name);
@@ -504,6 +541,7 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public void hardReset() throws CheckoutConflictException, GitAPIException {
+		invalidateStatus();
 		ResetCommand resetCommand = git.reset();
 		resetCommand.setMode(ResetType.HARD);
 		resetCommand.call();
@@ -531,6 +569,7 @@ public class GitConnector implements IGitConnector {
 	public void pull() throws WrongRepositoryStateException, InvalidConfigurationException, DetachedHeadException,
 			InvalidRemoteException, CanceledException, RefNotFoundException, NoHeadException, TransportException,
 			GitAPIException {
+		invalidateStatus();
 		PullCommand pullCommand = git.pull();
 		pullCommand.call();
 	}
@@ -560,11 +599,37 @@ public class GitConnector implements IGitConnector {
 	public void pull(String username, String password) throws WrongRepositoryStateException,
 			InvalidConfigurationException, DetachedHeadException, InvalidRemoteException, CanceledException,
 			RefNotFoundException, NoHeadException, TransportException, GitAPIException {
+		invalidateStatus();
 		PullCommand pullCommand = git.pull();
 		pullCommand.setCredentialsProvider(new UsernamePasswordCredentialsProvider(username, password));
 		pullCommand.call();
 	}
 
+	/**
+	 * Pull.
+	 *
+	 * @param username the username
+	 * @param password the password
+	 * @param monitor  the progress monitor
+	 * @throws GitAPIException the git API exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.dirigible.core.git.IGitConnector#pull(java.lang.String,
+	 * java.lang.String, org.eclipse.jgit.lib.ProgressMonitor)
+	 */
+	@Override
+	public void pull(String username, String password, ProgressMonitor monitor) throws GitAPIException {
+		invalidateStatus();
+		PullCommand pullCommand = git.pull();
+		if (!StringUtils.isEmptyOrNull(username) && !StringUtils.isEmptyOrNull(password)) {
+			pullCommand.setCredentialsProvider(new UsernamePasswordCredentialsProvider(username, password));
+		}
+		pullCommand.setProgressMonitor(monitor);
+		pullCommand.call();
+	}
+
 	/**
 	 * Push.
 	 *
@@ -603,6 +668,7 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public void rebase(String name) throws NoHeadException, WrongRepositoryStateException, GitAPIException {
+		invalidateStatus();
 		RebaseCommand rebaseCommand = git.rebase();
 		rebaseCommand.setOperation(Operation.BEGIN);
 		rebaseCommand.setUpstream(name);
@@ -623,7 +689,43 @@ public class GitConnector implements IGitConnector {
 	 */
 	@Override
 	public Status status() throws NoWorkTreeException, GitAPIException {
-		return git.status().call();
+		synchronized (statusLock) {
+			String stamp = getStatusStamp();
+			long now = System.currentTimeMillis();
+			if (statusSnapshot == null || !stamp.equals(statusStamp) || now - statusTakenAt > STATUS_MAX_AGE) {
+				statusSnapshot = git.status().call();
+				statusStamp = stamp;
+				statusTakenAt = now;
+			}
+			return statusSnapshot;
+		}
+	}
+
+	/**
+	 * Drops the status snapshot, so that the next call scans the working tree again.
+	 */
+	@Override
+	public void invalidateStatus() {
+		synchronized (statusLock) {
+			statusSnapshot = null;
+		}
+	}
+
+	/**
+	 * Gets the stamp of the index file and the HEAD, which changes on every stage, commit, checkout, reset or pull.
+	 *
+	 * @return the status stamp
+	 */
+	private String getStatusStamp() {
+		File index = repository.isBare() ? null : repository.getIndexFile();
+		String head = null;
+		try {
+			Ref ref = repository.exactRef(Constants.HEAD);
+			head = ref != null && ref.getObjectId() != null ? ref.getObjectId().getName() : null;
+		} catch (IOException e) {
+			if (logger.isDebugEnabled()) {logger.debug(e.getMessage(), e);}
+		}
+		return (index != null ? index.lastModified() + ":" + index.length() : "") + ":" + head;
 	}
 
 	/**
@@ -766,7 +868,7 @@ public class GitConnector implements IGitConnector {
 	public List<GitChangedFile> getUnstagedChanges() throws GitConnectorException {
 		List<GitChangedFile> list = new ArrayList<GitChangedFile>();
 		try {
-			Status status = git.status().call();
+			Status status = status();
 			Set<String> missing = status.getMissing();
 			for (String miss : missing) {
 				GitChangedFile file = new GitChangedFile(miss, GitChangeType.Missing.ordinal());
@@ -798,7 +900,7 @@ public class GitConnector implements IGitConnector {
 	public List<GitChangedFile> getStagedChanges() throws GitConnectorException {
 		List<GitChangedFile> list = new ArrayList<GitChangedFile>();
 		try {
-			Status status = git.status().call();
+			Status status = status();
 			Set<String> added = status.getAdded();
 			for (String add : added) {
 				GitChangedFile file = new GitChangedFile(add, GitChangeType.Added.ordinal());
@@ -18,29 +18,159 @@ import static org.eclipse.dirigible.core.git.IGitConnector.GIT_REFS_HEADS_MASTER
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.fs.FileSystemPathIndex;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.InitCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ProgressMonitor;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.lib.RepositoryBuilder;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A factory for creating GitConnector objects.
+ * <p>
+ * The connectors are cached per git directory, so that the repository handles stay open between the commands. A
+ * connector is closed after being idle for DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT seconds or when its git directory
+ * disappears. The cached connectors count the calls in progress, so that a long running operation (e.g. a pull) on
+ * a connector obtained earlier never gets its repository closed by the idle eviction.
+ * <p>
+ * The commands changing the working tree invalidate the path indexes of the local repositories over it, as the files
+ * are written by git and not through the repository. The other way around, the files written through a local
+ * repository drop the status snapshots of the connectors whose working tree contains them, following the links of the
+ * workspace projects to their git folders.
  */
 public class GitConnectorFactory {
 
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(GitConnectorFactory.class);
+
+	/** The Constant DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT. */
+	public static final String DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT = "DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	/** The Constant WORK_TREE_COMMANDS, the connector methods writing to the working tree. */
+	private static final Set<String> WORK_TREE_COMMANDS = new HashSet<String>(Arrays.asList("remove", "revert", "checkout", "hardReset", "pull", "rebase"));
+
+	/** The Constant CONNECTORS, keyed by the absolute git directory. */
+	private static final Map<String, CachedConnector> CONNECTORS = new HashMap<String, CachedConnector>();
+
+	static {
+		FileSystemPathIndex.addListener(GitConnectorFactory::invalidateStatus);
+	}
+
+	/**
+	 * A connector with the time of its last use and the number of its calls in progress.
+	 */
+	private static class CachedConnector implements InvocationHandler {
+
+		/** The connector. */
+		private final GitConnector connector;
+
+		/** The proxy handed to the callers. */
+		private final IGitConnector proxy;
+
+		/** The git directory. */
+		private final File gitDirectory;
+
+		/** The real path of the working tree, null for a bare repository. */
+		private final Path workTree;
+
+		/** The last access, guarded by CONNECTORS. */
+		private long lastAccess = System.currentTimeMillis();
+
+		/** The calls in progress, guarded by CONNECTORS. */
+		private int borrowers;
+
+		/**
+		 * Instantiates a new cached connector.
+		 *
+		 * @param connector the connector
+		 * @param gitDirectory the git directory
+		 */
+		CachedConnector(GitConnector connector, File gitDirectory) {
+			this.connector = connector;
+			this.gitDirectory = gitDirectory;
+			this.workTree = connector.getRepository().isBare() ? null : toRealPath(connector.getRepository().getWorkTree());
+			this.proxy = (IGitConnector) Proxy.newProxyInstance(IGitConnector.class.getClassLoader(), new Class<?>[] {IGitConnector.class}, this);
+		}
+
+		/**
+		 * Delegates to the connector, holding it in use for the duration of the call.
+		 *
+		 * @param proxy the proxy
+		 * @param method the method
+		 * @param args the arguments
+		 * @return the result
+		 * @throws Throwable the exception thrown by the connector
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			synchronized (CONNECTORS) {
+				borrowers++;
+			}
+			try {
+				return method.invoke(connector, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			} finally {
+				synchronized (CONNECTORS) {
+					borrowers--;
+					lastAccess = System.currentTimeMillis();
+				}
+				if (WORK_TREE_COMMANDS.contains(method.getName()) && !connector.getRepository().isBare()) {
+					FileSystemPathIndex.invalidate(connector.getRepository().getWorkTree());
+				}
+			}
+		}
+
+		/**
+		 * Checks whether a call is in progress.
+		 *
+		 * @return true, if in use
+		 */
+		boolean isInUse() {
+			return borrowers > 0;
+		}
+
+		/**
+		 * Closes the repository handle.
+		 */
+		void close() {
+			connector.getGit().close();
+			connector.getRepository().close();
+		}
+
+	}
+
 	/**
 	 * Gets org.eclipse.jgit.lib.Repository object for existing Git Repository.
 	 *
 	 * @param repositoryDirectory
 	 *            the path to an existing Git Repository
-	 * @return a newly created {@link IGitConnector} object
+	 * @return the cached or a newly created {@link IGitConnector} object
 	 * @throws GitConnectorException
 	 *             Git Connector Exception
 	 */
@@ -49,14 +179,125 @@ public class GitConnectorFactory {
 			RepositoryBuilder repositoryBuilder = new RepositoryBuilder();
 			File current = new File(repositoryDirectory);
 			repositoryBuilder.findGitDir(current);
-			Repository repository = repositoryBuilder.build();
-			repository.getConfig().setString(GIT_BRANCH, GIT_MASTER, GIT_MERGE, GIT_REFS_HEADS_MASTER);
-			return new GitConnector(repository);
+			File gitDirectory = repositoryBuilder.getGitDir();
+			if (gitDirectory == null) {
+				return createConnector(repositoryBuilder);
+			}
+			String key = gitDirectory.getAbsolutePath();
+			synchronized (CONNECTORS) {
+				evictIdleConnectors();
+				CachedConnector cached = CONNECTORS.get(key);
+				if (cached == null) {
+					cached = new CachedConnector(createConnector(repositoryBuilder), gitDirectory);
+					CONNECTORS.put(key, cached);
+				}
+				cached.lastAccess = System.currentTimeMillis();
+				return cached.proxy;
+			}
 		} catch (IOException e) {
 			throw new GitConnectorException(e);
 		}
 	}
 
+	/**
+	 * Creates the connector.
+	 *
+	 * @param repositoryBuilder the repository builder
+	 * @return the git connector
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static GitConnector createConnector(RepositoryBuilder repositoryBuilder) throws IOException {
+		Repository repository = repositoryBuilder.build();
+		repository.getConfig().setString(GIT_BRANCH, GIT_MASTER, GIT_MERGE, GIT_REFS_HEADS_MASTER);
+		return new GitConnector(repository);
+	}
+
+	/**
+	 * Closes the connectors idle for longer than the timeout or without git directory, skipping the ones in use.
+	 */
+	private static void evictIdleConnectors() {
+		long idleTimeout = Long.parseLong(Configuration.get(DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT, "300")) * 1000;
+		long now = System.currentTimeMillis();
+		Iterator<CachedConnector> iterator = CONNECTORS.values().iterator();
+		while (iterator.hasNext()) {
+			CachedConnector cached = iterator.next();
+			if (cached.isInUse()) {
+				continue;
+			}
+			if (now - cached.lastAccess > idleTimeout || !cached.gitDirectory.exists()) {
+				iterator.remove();
+				cached.close();
+				if (logger.isDebugEnabled()) {logger.debug("Git connector for [{}] closed", cached.gitDirectory);}
+			}
+		}
+	}
+
+	/**
+	 * Drops the status snapshots of the cached connectors whose working tree contains a file or folder changed through
+	 * a local repository.
+	 *
+	 * @param changed the changed file or folder
+	 */
+	static void invalidateStatus(File changed) {
+		List<CachedConnector> connectors;
+		synchronized (CONNECTORS) {
+			if (CONNECTORS.isEmpty()) {
+				return;
+			}
+			connectors = new ArrayList<CachedConnector>(CONNECTORS.values());
+		}
+		Path path = toRealPath(changed);
+		for (CachedConnector cached : connectors) {
+			if (cached.workTree != null && (path.startsWith(cached.workTree) || cached.workTree.startsWith(path))) {
+				cached.connector.invalidateStatus();
+			}
+		}
+	}
+
+	/**
+	 * Resolves the links of a path, e.g. of a workspace project to its git folder. The path of a deleted file is
+	 * resolved through its nearest existing parent.
+	 *
+	 * @param file the file
+	 * @return the real path
+	 */
+	private static Path toRealPath(File file) {
+		Path path = file.toPath().toAbsolutePath().normalize();
+		Path existing = path;
+		while (existing != null && !Files.exists(existing)) {
+			existing = existing.getParent();
+		}
+		if (existing == null) {
+			return path;
+		}
+		try {
+			return existing.toRealPath().resolve(existing.relativize(path));
+		} catch (IOException e) {
+			if (logger.isDebugEnabled()) {logger.debug(e.getMessage(), e);}
+			return path;
+		}
+	}
+
+	/**
+	 * Closes and removes the cached connectors of a repository directory and everything under it, e.g. before it is
+	 * deleted or cloned anew.
+	 *
+	 * @param repositoryDirectory the repository directory
+	 */
+	public static void evictConnectors(String repositoryDirectory) {
+		String prefix = new File(repositoryDirectory).getAbsolutePath();
+		synchronized (CONNECTORS) {
+			Iterator<Map.Entry<String, CachedConnector>> iterator = CONNECTORS.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, CachedConnector> entry = iterator.next();
+				if (entry.getKey().equals(prefix) || entry.getKey().startsWith(prefix + File.separator)) {
+					iterator.remove();
+					entry.getValue().close();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Clones secured git remote repository to the file system.
 	 *
@@ -80,6 +321,34 @@ public class GitConnectorFactory {
 	 */
 	public static IGitConnector cloneRepository(String repositoryDirectory, String repositoryUri, String username, String password, String branch)
 			throws InvalidRemoteException, TransportException, GitAPIException {
+		return cloneRepository(repositoryDirectory, repositoryUri, username, password, branch, NullProgressMonitor.INSTANCE);
+	}
+
+	/**
+	 * Clones secured git remote repository to the file system, reporting the progress to a monitor.
+	 *
+	 * @param repositoryDirectory
+	 *            where the remote repository will be cloned
+	 * @param repositoryUri
+	 *            repository's URI example: https://qwerty.com/xyz/abc.git
+	 * @param username
+	 *            the username used for authentication
+	 * @param password
+	 *            the password used for authentication
+	 * @param branch
+	 *            the branch where sources will be cloned from
+	 * @param monitor
+	 *            the progress monitor
+	 * @return a newly created {@link IGitConnector} object
+	 * @throws InvalidRemoteException
+	 *             Invalid Remote Exception
+	 * @throws TransportException
+	 *             Transport Exception
+	 * @throws GitAPIException
+	 *             Git API Exception
+	 */
+	public static IGitConnector cloneRepository(String repositoryDirectory, String repositoryUri, String username, String password, String branch,
+			ProgressMonitor monitor) throws InvalidRemoteException, TransportException, GitAPIException {
 		try {
 			branch = branchOrNull(branch);
 
@@ -90,7 +359,13 @@ public class GitConnectorFactory {
 			}
 			cloneCommand.setBranch(branch);
 			cloneCommand.setDirectory(new File(repositoryDirectory));
-			cloneCommand.call();
+			cloneCommand.setProgressMonitor(monitor);
+			evictConnectors(repositoryDirectory);
+			try {
+				cloneCommand.call().close();
+			} finally {
+				FileSystemPathIndex.invalidate(new File(repositoryDirectory));
+			}
 
 			return getConnector(repositoryDirectory);
 		} catch (Exception e) {
@@ -121,11 +396,15 @@ public class GitConnectorFactory {
 			InitCommand initCommand = Git.init();
 			if (repositoryDirectory != null) {
 				initCommand.setDirectory(new File(repositoryDirectory));
+				evictConnectors(repositoryDirectory);
 			}
 
 			initCommand.setBare(isBare);
 
-			initCommand.call();
+			initCommand.call().close();
+			if (repositoryDirectory != null) {
+				FileSystemPathIndex.invalidate(new File(repositoryDirectory));
+			}
 
 		} catch (Exception e) {
 			throw new TransportException(e.getMessage());
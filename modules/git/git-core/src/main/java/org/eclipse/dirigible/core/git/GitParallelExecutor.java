@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.git;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ProgressMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs git operations over independent repositories in parallel, on a pool bounded by
+ * DIRIGIBLE_GIT_PARALLEL_OPERATIONS, which is shared by all the callers.
+ */
+public class GitParallelExecutor {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(GitParallelExecutor.class);
+
+	/** The Constant DIRIGIBLE_GIT_PARALLEL_OPERATIONS. */
+	public static final String DIRIGIBLE_GIT_PARALLEL_OPERATIONS = "DIRIGIBLE_GIT_PARALLEL_OPERATIONS"; //$NON-NLS-1$
+
+	/** The Constant THREAD_PREFIX. */
+	private static final String THREAD_PREFIX = "git-operations-"; //$NON-NLS-1$
+
+	/** The Constant COUNTER. */
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	/** The Constant EXECUTOR. */
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+			Math.max(1, Integer.parseInt(Configuration.get(DIRIGIBLE_GIT_PARALLEL_OPERATIONS, "4"))), runnable -> {
+				Thread thread = new Thread(runnable, THREAD_PREFIX + COUNTER.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	/**
+	 * An operation over a single repository.
+	 *
+	 * @param <T> the result type
+	 */
+	@FunctionalInterface
+	public interface GitOperation<T> {
+
+		/**
+		 * Execute.
+		 *
+		 * @param monitor the progress monitor of the repository
+		 * @return the result
+		 * @throws Exception the exception
+		 */
+		T execute(ProgressMonitor monitor) throws Exception;
+
+	}
+
+	/**
+	 * Executes the operations in parallel and waits for all of them. If any of them fails, the first failure (in the
+	 * order of the operations) is thrown after all have finished.
+	 *
+	 * @param <T> the result type
+	 * @param operations the operations keyed by repository name
+	 * @param listener the progress listener or null
+	 * @return the results keyed by repository name, in the order of the operations
+	 * @throws GitConnectorException the git connector exception
+	 */
+	public static <T> Map<String, T> execute(Map<String, GitOperation<T>> operations, GitProgressListener listener) throws GitConnectorException {
+		Map<String, T> results = new LinkedHashMap<String, T>();
+		if (Thread.currentThread().getName().startsWith(THREAD_PREFIX)) {
+			// nested call from an operation, run inline to not starve the pool
+			for (Map.Entry<String, GitOperation<T>> operation : operations.entrySet()) {
+				try {
+					results.put(operation.getKey(), run(operation.getKey(), operation.getValue(), listener));
+				} catch (Exception e) {
+					throw toGitConnectorException(e);
+				}
+			}
+			return results;
+		}
+		Map<String, Future<T>> futures = new LinkedHashMap<String, Future<T>>();
+		for (Map.Entry<String, GitOperation<T>> operation : operations.entrySet()) {
+			futures.put(operation.getKey(), EXECUTOR.submit(() -> run(operation.getKey(), operation.getValue(), listener)));
+		}
+		Exception failure = null;
+		for (Map.Entry<String, Future<T>> future : futures.entrySet()) {
+			try {
+				results.put(future.getKey(), future.getValue().get());
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				futures.values().forEach(f -> f.cancel(true));
+				throw new GitConnectorException(e);
+			}
+		}
+		if (failure != null) {
+			throw toGitConnectorException(failure);
+		}
+		return results;
+	}
+
+	/**
+	 * Runs a single operation reporting its progress.
+	 *
+	 * @param <T> the result type
+	 * @param repository the repository
+	 * @param operation the operation
+	 * @param listener the listener
+	 * @return the result
+	 * @throws Exception the exception
+	 */
+	private static <T> T run(String repository, GitOperation<T> operation, GitProgressListener listener) throws Exception {
+		ProgressMonitor monitor = listener != null ? new GitProgressMonitor(repository, listener) : NullProgressMonitor.INSTANCE;
+		try {
+			T result = operation.execute(monitor);
+			if (listener != null) {
+				listener.onCompleted(repository, null);
+			}
+			return result;
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {logger.debug(String.format("Git operation over [%s] failed", repository), e);}
+			if (listener != null) {
+				listener.onCompleted(repository, e);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * To git connector exception.
+	 *
+	 * @param e the exception
+	 * @return the git connector exception
+	 */
+	private static GitConnectorException toGitConnectorException(Exception e) {
+		return e instanceof GitConnectorException ? (GitConnectorException) e : new GitConnectorException(e);
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.git;
+
+/**
+ * Receives the progress of git operations running over several repositories. The events of different repositories
+ * may arrive concurrently from different threads.
+ */
+public interface GitProgressListener {
+
+	/**
+	 * Progress of a task of an operation.
+	 *
+	 * @param repository the repository
+	 * @param task the task title as reported by JGit, e.g. "Receiving objects"
+	 * @param completed the completed units of work
+	 * @param total the total units of work or {@link org.eclipse.jgit.lib.ProgressMonitor#UNKNOWN}
+	 */
+	void onProgress(String repository, String task, int completed, int total);
+
+	/**
+	 * The operation over a repository has finished.
+	 *
+	 * @param repository the repository
+	 * @param error the error or null on success
+	 */
+	default void onCompleted(String repository, Throwable error) {
+		// nothing by default
+	}
+
+}
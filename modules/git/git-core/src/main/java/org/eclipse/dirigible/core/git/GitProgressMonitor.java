@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.git;
+
+import org.eclipse.jgit.lib.ProgressMonitor;
+
+/**
+ * JGit progress monitor of a single repository, forwarding to a {@link GitProgressListener}. Updates are reported on
+ * every percent of a task, or every hundred units when the total is unknown.
+ */
+public class GitProgressMonitor implements ProgressMonitor {
+
+	/** The Constant UNKNOWN_TOTAL_STEP. */
+	private static final int UNKNOWN_TOTAL_STEP = 100;
+
+	/** The repository. */
+	private final String repository;
+
+	/** The listener. */
+	private final GitProgressListener listener;
+
+	/** The task. */
+	private String task;
+
+	/** The total. */
+	private int total;
+
+	/** The completed. */
+	private int completed;
+
+	/** The last reported. */
+	private int lastReported;
+
+	/**
+	 * Instantiates a new git progress monitor.
+	 *
+	 * @param repository the repository
+	 * @param listener the listener
+	 */
+	public GitProgressMonitor(String repository, GitProgressListener listener) {
+		this.repository = repository;
+		this.listener = listener;
+	}
+
+	/**
+	 * Start.
+	 *
+	 * @param totalTasks the total tasks
+	 */
+	@Override
+	public void start(int totalTasks) {
+		// the tasks are reported one by one
+	}
+
+	/**
+	 * Begin task.
+	 *
+	 * @param title the title
+	 * @param totalWork the total work
+	 */
+	@Override
+	public void beginTask(String title, int totalWork) {
+		task = title;
+		total = totalWork;
+		completed = 0;
+		lastReported = -1;
+		report();
+	}
+
+	/**
+	 * Update.
+	 *
+	 * @param work the work
+	 */
+	@Override
+	public void update(int work) {
+		completed += work;
+		int position = total > 0 ? (int) (100L * completed / total) : completed / UNKNOWN_TOTAL_STEP;
+		if (position != lastReported) {
+			report();
+			lastReported = position;
+		}
+	}
+
+	/**
+	 * End task.
+	 */
+	@Override
+	public void endTask() {
+		if (total > 0) {
+			completed = total;
+		}
+		report();
+	}
+
+	/**
+	 * Checks if is cancelled.
+	 *
+	 * @return true, if is cancelled
+	 */
+	@Override
+	public boolean isCancelled() {
+		return Thread.currentThread().isInterrupted();
+	}
+
+	/**
+	 * Report.
+	 */
+	private void report() {
+		listener.onProgress(repository, task, completed, total);
+	}
+
+}
@@ -34,6 +34,7 @@ import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.api.errors.UnmergedPathsException;
 import org.eclipse.jgit.api.errors.WrongRepositoryStateException;
 import org.eclipse.jgit.errors.NoWorkTreeException;
+import org.eclipse.jgit.lib.ProgressMonitor;
 import org.eclipse.jgit.lib.Ref;
 
 /**
@@ -331,6 +332,21 @@ public interface IGitConnector {
 	void pull(String username, String password) throws WrongRepositoryStateException, InvalidConfigurationException, DetachedHeadException, InvalidRemoteException, CanceledException,
 			RefNotFoundException, NoHeadException, TransportException, GitAPIException;
 
+	/**
+	 * Fetches from a remote repository and tries to merge into the current
+	 * branch, reporting the progress to a monitor.
+	 *
+	 * @param username
+	 *            for the remote repository
+	 * @param password
+	 *            for the remote repository
+	 * @param monitor
+	 *            the progress monitor
+	 * @throws GitAPIException
+	 *             Git API Exception
+	 */
+	void pull(String username, String password, ProgressMonitor monitor) throws GitAPIException;
+
 	/**
 	 * Pushes the committed changes to the remote repository.
 	 *
@@ -362,7 +378,8 @@ public interface IGitConnector {
 	void rebase(String name) throws NoHeadException, WrongRepositoryStateException, GitAPIException;
 
 	/**
-	 * Get the current status of the Git repository.
+	 * Get the current status of the Git repository. A snapshot is reused for a short while, as long as the index and
+	 * the HEAD have not changed.
 	 *
 	 * @return {@link org.eclipse.jgit.api.Status} object
 	 * @throws NoWorkTreeException
@@ -371,6 +388,11 @@ public interface IGitConnector {
 	 *             Git API Exception
 	 */
 	Status status() throws NoWorkTreeException, GitAPIException;
+
+	/**
+	 * Drops the status snapshot, e.g. after the working tree has been changed.
+	 */
+	void invalidateStatus();
 	
 	/**
 	 * Get the current branch of the Git repository.
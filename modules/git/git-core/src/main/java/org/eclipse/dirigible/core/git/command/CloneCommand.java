@@ -14,13 +14,22 @@ package org.eclipse.dirigible.core.git.command;
 import java.io.File;
 import java.io.IOException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.core.git.GitConnectorException;
 import org.eclipse.dirigible.core.git.GitConnectorFactory;
+import org.eclipse.dirigible.core.git.GitParallelExecutor;
+import org.eclipse.dirigible.core.git.GitParallelExecutor.GitOperation;
+import org.eclipse.dirigible.core.git.GitProgressListener;
 import org.eclipse.dirigible.core.git.model.GitCloneModel;
 import org.eclipse.dirigible.core.git.utils.GitFileUtils;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
@@ -32,6 +41,7 @@ import org.eclipse.dirigible.core.workspace.project.ProjectMetadataDependency;
 import org.eclipse.dirigible.core.workspace.project.ProjectMetadataManager;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ProgressMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,17 +70,33 @@ public class CloneCommand {
 	 *             the git connector exception
 	 */
 	public void execute(IWorkspace workspace, GitCloneModel model) throws GitConnectorException {
+		execute(workspace, model, null);
+	}
+
+	/**
+	 * Execute a Clone command, reporting the progress of the repository and its dependencies to the listener.
+	 *
+	 * @param workspace
+	 *            the workspace
+	 * @param model
+	 *            the git clone model
+	 * @param listener
+	 *            the progress listener or null
+	 * @throws GitConnectorException
+	 *             the git connector exception
+	 */
+	public void execute(IWorkspace workspace, GitCloneModel model, GitProgressListener listener) throws GitConnectorException {
 		String repositoryUri = model.getRepository();
 		try {
 			if (repositoryUri != null && !repositoryUri.endsWith(GitFileUtils.DOT_GIT)) {
 				repositoryUri += GitFileUtils.DOT_GIT;
 			}
-			Set<String> clonedProjects = new HashSet<String>();
+			Set<String> clonedProjects = new LinkedHashSet<String>();
 			if (logger.isDebugEnabled()) {logger.debug(String.format("Start cloning repository [%s] ...", repositoryUri));}
 			String user = UserFacade.getName();
 			File gitDirectory = GitFileUtils.createGitDirectory(user, workspace.getName(), repositoryUri);
 			try {
-				cloneProject(user, repositoryUri, model.getBranch(), model.getUsername(), model.getPassword(), gitDirectory, workspace, clonedProjects);
+				cloneProject(user, repositoryUri, model.getBranch(), model.getUsername(), model.getPassword(), gitDirectory, workspace, clonedProjects, listener);
 			} catch (GitConnectorException e) {
 				GitFileUtils.deleteGitDirectory(user, workspace.getName(), repositoryUri);
 				throw e;
@@ -109,10 +135,77 @@ public class CloneCommand {
 	 */
 	protected void cloneProject(final String user, final String repositoryURI, String repositoryBranch, final String username, final String password,
 			File gitDirectory, IWorkspace workspace, Set<String> clonedProjects) throws GitConnectorException {
+		cloneProject(user, repositoryURI, repositoryBranch, username, password, gitDirectory, workspace, clonedProjects, null);
+	}
+
+	/**
+	 * Clone project and its dependencies, reporting the progress to the listener.
+	 *
+	 * @param user
+	 *            logged in user
+	 * @param repositoryURI
+	 *            the repository URI
+	 * @param repositoryBranch
+	 *            the repository branch
+	 * @param username
+	 *            the username
+	 * @param password
+	 *            the password
+	 * @param gitDirectory
+	 *            the git directory
+	 * @param workspace
+	 *            the workspace
+	 * @param clonedProjects
+	 *            the cloned projects
+	 * @param listener
+	 *            the progress listener or null
+	 * @throws GitConnectorException
+	 *             the git connector exception
+	 */
+	protected void cloneProject(final String user, final String repositoryURI, String repositoryBranch, final String username, final String password,
+			File gitDirectory, IWorkspace workspace, Set<String> clonedProjects, GitProgressListener listener) throws GitConnectorException {
+		Map<String, GitOperation<List<String>>> clones = new LinkedHashMap<String, GitOperation<List<String>>>();
+		clones.put(repositoryURI, monitor -> cloneRepository(user, repositoryURI, repositoryBranch, username, password, gitDirectory, workspace, monitor));
+		List<String> importedProjects = GitParallelExecutor.execute(clones, listener).get(repositoryURI);
+		clonedProjects.addAll(importedProjects);
+		try {
+			if (logger.isDebugEnabled()) {logger.debug("Start cloning dependencies ...");}
+			cloneDependencies(user, username, password, workspace, clonedProjects, importedProjects, listener);
+			if (logger.isDebugEnabled()) {logger.debug("Cloning of dependencies finished");}
+		} catch (IOException e) {
+			throw new GitConnectorException("An error occurred while cloning dependencies. " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Clones a single repository and imports its projects into the workspace, without the dependencies.
+	 *
+	 * @param user
+	 *            logged in user
+	 * @param repositoryURI
+	 *            the repository URI
+	 * @param repositoryBranch
+	 *            the repository branch
+	 * @param username
+	 *            the username
+	 * @param password
+	 *            the password
+	 * @param gitDirectory
+	 *            the git directory
+	 * @param workspace
+	 *            the workspace
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the imported projects
+	 * @throws GitConnectorException
+	 *             the git connector exception
+	 */
+	private List<String> cloneRepository(final String user, final String repositoryURI, String repositoryBranch, final String username, final String password,
+			File gitDirectory, IWorkspace workspace, ProgressMonitor monitor) throws GitConnectorException {
 		try {
 			if (logger.isDebugEnabled()) {logger.debug(String.format("Cloning repository %s, with username %s for branch %s in the directory %s ...", repositoryURI, username,
 					repositoryBranch, gitDirectory.getCanonicalPath()));}
-			GitConnectorFactory.cloneRepository(gitDirectory.getCanonicalPath(), repositoryURI, username, password, repositoryBranch);
+			GitConnectorFactory.cloneRepository(gitDirectory.getCanonicalPath(), repositoryURI, username, password, repositoryBranch, monitor);
 			if (logger.isDebugEnabled()) {logger.debug(String.format("Cloning repository %s finished.", repositoryURI));}
 
 			String workspacePath = String.format(GitFileUtils.PATTERN_USERS_WORKSPACE, user, workspace.getName());
@@ -127,17 +220,10 @@ public class CloneCommand {
 
 			for (String projectName : importedProjects) {
 				projectMetadataManager.ensureProjectMetadata(workspace, projectName);
-				clonedProjects.add(projectName);
-			}
-			if (logger.isDebugEnabled()) {logger.debug("Start cloning dependencies ...");}
-			for (String projectName : importedProjects) {
-				if (logger.isDebugEnabled()) {logger.debug(String.format("Start cloning dependencies of the project %s...", projectName));}
-				cloneDependencies(user, username, password, workspace, clonedProjects, projectName);
-				if (logger.isDebugEnabled()) {logger.debug(String.format("Cloning of dependencies of the project %s finished", projectName));}
 			}
-			if (logger.isDebugEnabled()) {logger.debug("Cloning of dependencies finished");}
+			return importedProjects;
 
-		} catch (IOException | GitAPIException | GitConnectorException e) {
+		} catch (IOException | GitAPIException e) {
 			String errorMessage = "An error occurred while cloning repository.";
 			Throwable rootCause = e.getCause();
 			if (rootCause != null) {
@@ -152,12 +238,6 @@ public class CloneCommand {
 			}
 			if (logger.isErrorEnabled()) {logger.error(errorMessage);}
 			throw new GitConnectorException(errorMessage, e);
-		} finally {
-//			try {
-//				GitFileUtils.deleteDirectory(gitDirectory);
-//			} catch (IOException e) {
-//				logger.error(e.getMessage(), e);
-//			}
 		}
 	}
 
@@ -183,40 +263,86 @@ public class CloneCommand {
 	 */
 	protected void cloneDependencies(final String user, final String username, final String password, IWorkspace workspace, Set<String> clonedProjects,
 			String projectName) throws IOException, GitConnectorException {
-		IProject selectedProject = workspace.getProject(projectName);
-		ProjectMetadataDependency[] dependencies = ProjectMetadataManager.getDependencies(selectedProject);
-		for (ProjectMetadataDependency dependency : dependencies) {
-			String projectGuid = dependency.getGuid();
-			if (!clonedProjects.contains(projectGuid)) {
-				IProject alreadyClonedProject = workspace.getProject(projectGuid);
-				String projectRepositoryURI = dependency.getUrl();
-				String projectRepositoryBranch = dependency.getBranch();
-				if (!alreadyClonedProject.exists()) {
+		cloneDependencies(user, username, password, workspace, clonedProjects, Collections.singletonList(projectName), null);
+	}
+
+	/**
+	 * Clone the dependencies of the given projects level by level. The missing dependencies of a level are cloned in
+	 * parallel, then the dependencies of the newly imported projects form the next level.
+	 *
+	 * @param user
+	 *            the logged in user
+	 * @param username
+	 *            the username
+	 * @param password
+	 *            the password
+	 * @param workspace
+	 *            the workspace
+	 * @param clonedProjects
+	 *            the cloned projects
+	 * @param projectNames
+	 *            the names of the projects whose dependencies are cloned
+	 * @param listener
+	 *            the progress listener or null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws GitConnectorException
+	 *             the git connector exception
+	 */
+	protected void cloneDependencies(final String user, final String username, final String password, IWorkspace workspace, Set<String> clonedProjects,
+			Collection<String> projectNames, GitProgressListener listener) throws IOException, GitConnectorException {
+		Collection<String> level = projectNames;
+		while (!level.isEmpty()) {
+			Map<String, GitOperation<List<String>>> clones = new LinkedHashMap<String, GitOperation<List<String>>>();
+			Set<String> repositories = new HashSet<String>();
+			for (String projectName : level) {
+				IProject selectedProject = workspace.getProject(projectName);
+				ProjectMetadataDependency[] dependencies = ProjectMetadataManager.getDependencies(selectedProject);
+				for (ProjectMetadataDependency dependency : dependencies) {
+					String projectGuid = dependency.getGuid();
+					if (clonedProjects.contains(projectGuid) || clones.containsKey(projectGuid)) {
+						if (logger.isDebugEnabled()) {logger.debug(String.format("Project %s has been already cloned during this session.", projectGuid));}
+						continue;
+					}
+					IProject alreadyClonedProject = workspace.getProject(projectGuid);
+					if (alreadyClonedProject.exists()) {
+						if (logger.isDebugEnabled()) {logger.debug(String.format("Project %s has been already cloned, hence do pull instead.", projectGuid));}
+						clonedProjects.add(projectGuid);
+						continue;
+					}
+					String projectRepositoryURI = dependency.getUrl();
+					String projectRepositoryBranch = dependency.getBranch();
+					if (!repositories.add(projectRepositoryURI)) {
+						continue;
+					}
 					File projectGitDirectory = GitFileUtils.createGitDirectory(user, workspace.getName(), projectRepositoryURI);
 					if (logger.isDebugEnabled()) {logger.debug(String.format("Start cloning of the project %s from the repository %s and branch %s into the directory %s ...",
 							projectGuid, projectRepositoryURI, projectRepositoryBranch, projectGitDirectory.getCanonicalPath()));}
-					try {
-						cloneProject(user, projectRepositoryURI, projectRepositoryBranch, username, password, projectGitDirectory, workspace,
-								clonedProjects); // assume
-					} catch (GitConnectorException e) {
-						GitFileUtils.deleteGitDirectory(user, workspace.getName(), projectRepositoryURI);
-						throw e;
+					clones.put(projectGuid, monitor -> {
+						try {
+							return cloneRepository(user, projectRepositoryURI, projectRepositoryBranch, username, password, projectGitDirectory, workspace, monitor);
+						} catch (GitConnectorException e) {
+							GitFileUtils.deleteGitDirectory(user, workspace.getName(), projectRepositoryURI);
+							throw e;
+						}
+					});
+				}
+			}
+			List<String> next = new ArrayList<String>();
+			for (Map.Entry<String, List<String>> cloned : GitParallelExecutor.execute(clones, listener).entrySet()) {
+				clonedProjects.add(cloned.getKey());
+				for (String importedProject : cloned.getValue()) {
+					if (clonedProjects.add(importedProject) || importedProject.equals(cloned.getKey())) {
+						next.add(importedProject);
 					}
-				} else {
-					if (logger.isDebugEnabled()) {logger.debug(String.format("Project %s has been already cloned, hence do pull instead.", projectGuid));}
 				}
-				clonedProjects.add(projectGuid);
-
-			} else {
-				if (logger.isDebugEnabled()) {logger.debug(String.format("Project %s has been already cloned during this session.", projectGuid));}
 			}
-
-			
+			level = next;
 		}
 	}
 
 	/**
-	 * Publish projects.
+	 * Publish projects with a single batch of publish requests and a single synchronization.
 	 *
 	 * @param workspace
 	 *            the workspace
@@ -225,21 +351,26 @@ public class CloneCommand {
 	 */
 	protected void publishProjects(IWorkspace workspace, Set<String> clonedProjects) {
 		if (clonedProjects.size() > 0) {
+			Set<String> existing = new HashSet<String>();
+			for (IProject project : workspace.getProjects()) {
+				existing.add(project.getName());
+			}
+			List<String> published = new ArrayList<String>();
 			for (String projectName : clonedProjects) {
-				List<IProject> projects = workspace.getProjects();
-				for (IProject project : projects) {
-					if (project.getName().equals(projectName)) {
-						try {
-							publisherCoreService.createPublishRequest(generateWorkspacePath(workspace.getName()), projectName);
-							PublisherSynchronizer.forceSynchronization();
-							if (logger.isInfoEnabled()) {logger.info(String.format("Project [%s] has been published", project.getName()));}
-						} catch (PublisherException e) {
-							if (logger.isErrorEnabled()) {logger.error(String.format("An error occurred while publishing the cloned project [%s]", project.getName()), e);}
-						}
-						break;
-					}
+				if (existing.contains(projectName)) {
+					published.add(projectName);
 				}
 			}
+			if (published.isEmpty()) {
+				return;
+			}
+			try {
+				publisherCoreService.createPublishRequests(generateWorkspacePath(workspace.getName()), published);
+				PublisherSynchronizer.forceSynchronization();
+				if (logger.isInfoEnabled()) {logger.info(String.format("Projects %s have been published", published));}
+			} catch (PublisherException e) {
+				if (logger.isErrorEnabled()) {logger.error(String.format("An error occurred while publishing the cloned projects %s", published), e);}
+			}
 		}
 	}
 	
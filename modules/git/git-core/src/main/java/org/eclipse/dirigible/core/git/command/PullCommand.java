@@ -15,10 +15,18 @@ import java.io.File;
 import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.core.git.GitConnectorException;
 import org.eclipse.dirigible.core.git.GitConnectorFactory;
+import org.eclipse.dirigible.core.git.GitParallelExecutor;
+import org.eclipse.dirigible.core.git.GitParallelExecutor.GitOperation;
+import org.eclipse.dirigible.core.git.GitProgressListener;
 import org.eclipse.dirigible.core.git.IGitConnector;
 import org.eclipse.dirigible.core.git.model.GitPullModel;
 import org.eclipse.dirigible.core.git.project.ProjectPropertiesVerifier;
@@ -29,6 +37,7 @@ import org.eclipse.dirigible.core.workspace.api.IProject;
 import org.eclipse.dirigible.core.workspace.api.IWorkspace;
 import org.eclipse.dirigible.core.workspace.project.ProjectMetadataManager;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ProgressMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,24 +68,50 @@ public class PullCommand {
 	 * @throws GitConnectorException in case of exception
 	 */
 	public void execute(final IWorkspace workspace, GitPullModel model) throws GitConnectorException {
+		execute(workspace, model, null);
+	}
+
+	/**
+	 * Execute a Pull command. The selected repositories are pulled in parallel and the progress of each of them is
+	 * reported to the listener. If any of the pulls fails, the first error is thrown after all of them have finished and
+	 * nothing is published.
+	 *
+	 * @param workspace
+	 *            the workspace
+	 * @param model
+	 *            the git pull model
+	 * @param listener
+	 *            the progress listener or null
+	 * @throws GitConnectorException in case of exception
+	 */
+	public void execute(final IWorkspace workspace, GitPullModel model, GitProgressListener listener) throws GitConnectorException {
 		if (model.getProjects().size() == 0) {
 			logger.warn("No repository is selected for the Pull action");
 		}
-		List<String> pulledProjects = new ArrayList<String>();
-		boolean atLeastOne = false;
+		// the operations run on pool threads, which are not bound to the request of the user
+		String user = UserFacade.getName();
+		Map<String, GitOperation<Boolean>> pulls = new LinkedHashMap<String, GitOperation<Boolean>>();
 		for (String repositoryName : model.getProjects()) {
 			if (verifier.verify(workspace.getName(), repositoryName)) {
-				if (logger.isDebugEnabled()) {logger.debug(String.format("Start pulling %s repository...", repositoryName));}
-				boolean pulled = pullProjectFromGitRepository(workspace, repositoryName, model);
-				atLeastOne = atLeastOne ? atLeastOne : pulled;
-				if (logger.isDebugEnabled()) {logger.debug(String.format("Pull of the repository %s finished.", repositoryName));}
-				List<String> projects = GitFileUtils.getGitRepositoryProjects(workspace.getName(), repositoryName);
-				pulledProjects.addAll(projects);
+				pulls.put(repositoryName, monitor -> {
+					if (logger.isDebugEnabled()) {logger.debug(String.format("Start pulling %s repository...", repositoryName));}
+					boolean pulled = pullProjectFromGitRepository(user, workspace, repositoryName, model, monitor);
+					if (logger.isDebugEnabled()) {logger.debug(String.format("Pull of the repository %s finished.", repositoryName));}
+					return pulled;
+				});
 			} else {
 				if (logger.isWarnEnabled()) {logger.warn(String.format("Project %s is local only. Select a previously cloned project for Pull operation.", repositoryName));}
 			}
 		}
 
+		Map<String, Boolean> results = GitParallelExecutor.execute(pulls, listener);
+		List<String> pulledProjects = new ArrayList<String>();
+		boolean atLeastOne = false;
+		for (Map.Entry<String, Boolean> result : results.entrySet()) {
+			atLeastOne = atLeastOne || result.getValue();
+			pulledProjects.addAll(GitFileUtils.getGitRepositoryProjects(user, workspace.getName(), result.getKey()));
+		}
+
 		if (atLeastOne && model.isPublish()) {
 			publishProjects(workspace, pulledProjects);
 		}
@@ -86,31 +121,36 @@ public class PullCommand {
 	/**
 	 * Pull project from git repository by executing several low level Git commands.
 	 *
+	 * @param user
+	 *            the user, resolved on the request thread
 	 * @param workspace
 	 *            the workspace
 	 * @param repositoryName
 	 *            the selected project
 	 * @param model
 	 *            the git pull model
+	 * @param monitor
+	 *            the progress monitor
 	 * @return true, if successful
 	 * @throws GitConnectorException in case of exception
 	 */
-	private boolean pullProjectFromGitRepository(final IWorkspace workspace, String repositoryName, GitPullModel model) throws GitConnectorException {
+	private boolean pullProjectFromGitRepository(final String user, final IWorkspace workspace, String repositoryName, GitPullModel model, ProgressMonitor monitor)
+			throws GitConnectorException {
 		String errorMessage = String.format("Error occurred while pulling repository [%s].", repositoryName);
 
-		List<String> projects = GitFileUtils.getGitRepositoryProjects(workspace.getName(), repositoryName);
+		List<String> projects = GitFileUtils.getGitRepositoryProjects(user, workspace.getName(), repositoryName);
 		for (String projectName: projects) {
 			projectMetadataManager.ensureProjectMetadata(workspace, projectName);
 		}
 
 		try {
 
-			File gitDirectory = GitFileUtils.getGitDirectoryByRepositoryName(workspace.getName(), repositoryName);
+			File gitDirectory = GitFileUtils.getGitDirectoryByRepositoryName(user, workspace.getName(), repositoryName);
 			IGitConnector gitConnector = GitConnectorFactory.getConnector(gitDirectory.getCanonicalPath());
 
 			String gitRepositoryBranch = gitConnector.getBranch();
 			if (logger.isDebugEnabled()) {logger.debug(String.format("Starting pull of the repository [%s] for the branch %s...", repositoryName, gitRepositoryBranch));}
-			gitConnector.pull(model.getUsername(), model.getPassword());
+			gitConnector.pull(model.getUsername(), model.getPassword(), monitor);
 			if (logger.isDebugEnabled()) {logger.debug(String.format("Pull of the repository %s finished.", repositoryName));}
 
 			int numberOfConflictingFiles = gitConnector.status().getConflicting().size();
@@ -141,7 +181,7 @@ public class PullCommand {
 	}
 
 	/**
-	 * Publish projects.
+	 * Publish projects with a single batch of publish requests.
 	 *
 	 * @param workspace
 	 *            the workspace
@@ -150,20 +190,25 @@ public class PullCommand {
 	 */
 	private void publishProjects(IWorkspace workspace, List<String> pulledProjects) {
 		if (pulledProjects.size() > 0) {
+			Set<String> existing = new HashSet<String>();
+			for (IProject project : workspace.getProjects()) {
+				existing.add(project.getName());
+			}
+			List<String> published = new ArrayList<String>();
 			for (String pulledProject : pulledProjects) {
-				List<IProject> projects = workspace.getProjects();
-				for (IProject project : projects) {
-					if (project.getName().equals(pulledProject)) {
-						try {
-							publisherCoreService.createPublishRequest(workspace.getName(), pulledProject);
-							if (logger.isInfoEnabled()) {logger.info(String.format("Project [%s] has been published", project.getName()));}
-						} catch (PublisherException e) {
-							if (logger.isErrorEnabled()) {logger.error(String.format("An error occurred while publishing the pulled project [%s]", project.getName()), e);}
-						}
-						break;
-					}
+				if (existing.contains(pulledProject) && !published.contains(pulledProject)) {
+					published.add(pulledProject);
 				}
 			}
+			if (published.isEmpty()) {
+				return;
+			}
+			try {
+				publisherCoreService.createPublishRequests(workspace.getName(), published);
+				if (logger.isInfoEnabled()) {logger.info(String.format("Projects %s have been published", published));}
+			} catch (PublisherException e) {
+				if (logger.isErrorEnabled()) {logger.error(String.format("An error occurred while publishing the pulled projects %s", published), e);}
+			}
 		}
 	}
 
@@ -12,11 +12,14 @@
 package org.eclipse.dirigible.core.git.command;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.core.git.GitConnectorException;
+import org.eclipse.dirigible.core.git.GitProgressListener;
 import org.eclipse.dirigible.core.git.model.GitUpdateDependenciesModel;
 import org.eclipse.dirigible.core.workspace.api.IProject;
 import org.eclipse.dirigible.core.workspace.api.IWorkspace;
@@ -43,20 +46,41 @@ public class UpdateDependenciesCommand extends CloneCommand {
 	 * @throws GitConnectorException in case of exception
 	 */
 	public void execute(final IWorkspace workspace, final IProject[] projects, GitUpdateDependenciesModel model) throws GitConnectorException {
+		execute(workspace, projects, model, null);
+	}
+
+	/**
+	 * Execute Update Dependencies Command. The missing dependencies of all the selected projects are cloned together,
+	 * level by level and in parallel within a level, and published with a single batch of publish requests.
+	 *
+	 * @param workspace
+	 *            the workspace
+	 * @param projects
+	 *            the projects
+	 * @param model
+	 *            the git update dependencies model
+	 * @param listener
+	 *            the progress listener or null
+	 * @throws GitConnectorException in case of exception
+	 */
+	public void execute(final IWorkspace workspace, final IProject[] projects, GitUpdateDependenciesModel model, GitProgressListener listener)
+			throws GitConnectorException {
+		String user = UserFacade.getName();
+		List<String> projectNames = new ArrayList<String>();
 		for (IProject selectedProject : projects) {
-			String user = UserFacade.getName();
-			try {
-				Set<String> clonedProjects = new HashSet<String>();
-				cloneDependencies(user, model.getUsername(), model.getPassword(), workspace, clonedProjects, selectedProject.getName());
-				if (model.isPublish()) {
-					publishProjects(workspace, clonedProjects);
-				}
-				if (logger.isInfoEnabled()) {logger.info(String.format("Project's [%s] dependencies has been updated successfully.", selectedProject.getName()));}
-			} catch (IOException | GitConnectorException e) {
-				String errorMessage = String.format("Error occured while updating dependencies of the project [%s]", selectedProject.getName());
-				if (logger.isErrorEnabled()) {logger.error(errorMessage, e);}
-				throw new GitConnectorException(errorMessage, e);
+			projectNames.add(selectedProject.getName());
+		}
+		try {
+			Set<String> clonedProjects = new LinkedHashSet<String>();
+			cloneDependencies(user, model.getUsername(), model.getPassword(), workspace, clonedProjects, projectNames, listener);
+			if (model.isPublish()) {
+				publishProjects(workspace, clonedProjects);
 			}
+			if (logger.isInfoEnabled()) {logger.info(String.format("Projects' %s dependencies has been updated successfully.", projectNames));}
+		} catch (IOException | GitConnectorException e) {
+			String errorMessage = String.format("Error occured while updating dependencies of the projects %s", projectNames);
+			if (logger.isErrorEnabled()) {logger.error(errorMessage, e);}
+			throw new GitConnectorException(errorMessage, e);
 		}
 	}
 
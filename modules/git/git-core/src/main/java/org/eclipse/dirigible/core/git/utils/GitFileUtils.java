@@ -403,7 +403,7 @@ public class GitFileUtils {
 		//File gitDirectoryByRepositoryName = FileSystemUtils.getGitDirectoryByRepositoryName(user, workspace, repositoryName + IRepository.SEPARATOR + repositoryName);
 		File gitDirectoryByRepositoryName = FileSystemUtils.getGitDirectoryByRepositoryName(user, workspace, repositoryName);
 		if (gitDirectoryByRepositoryName == null) {
-			return getGitDeepDirectoryByRepositoryName(UserFacade.getName(), workspace, repositoryName);
+			return getGitDeepDirectoryByRepositoryName(user, workspace, repositoryName);
 		}
 		return gitDirectoryByRepositoryName;
 	}
@@ -427,7 +427,18 @@ public class GitFileUtils {
 	 * @return the projects
 	 */
 	public static List<String> getGitRepositoryProjects(String workspace, String repositoryName) {
-		return FileSystemUtils.getGitRepositoryProjects(UserFacade.getName(), workspace, repositoryName);
+		return getGitRepositoryProjects(UserFacade.getName(), workspace, repositoryName);
+	}
+
+	/**
+	 * Get the projects in that git repository of a given user, e.g. from a thread not bound to the request.
+	 * @param user the user
+	 * @param workspace the workspace
+	 * @param repositoryName the repository
+	 * @return the projects
+	 */
+	public static List<String> getGitRepositoryProjects(String user, String workspace, String repositoryName) {
+		return FileSystemUtils.getGitRepositoryProjects(user, workspace, repositoryName);
 	}
 
 	/**
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.git.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.git.GitConnectorException;
+import org.eclipse.dirigible.core.git.GitConnectorFactory;
+import org.eclipse.dirigible.core.git.IGitConnector;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.EmptyProgressMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class GitConnectorCacheTest.
+ */
+public class GitConnectorCacheTest {
+
+	/** The repository directory. */
+	private File directory;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		directory = new File("target/git-cache-test");
+		FileUtils.deleteDirectory(directory);
+		GitConnectorFactory.initRepository(directory.getCanonicalPath(), false);
+	}
+
+	/**
+	 * Clean up.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@After
+	public void cleanUp() throws IOException {
+		Configuration.remove(GitConnectorFactory.DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT);
+		GitConnectorFactory.evictConnectors(directory.getCanonicalPath());
+		FileUtils.deleteDirectory(directory);
+	}
+
+	/**
+	 * The connector is reused and its status snapshot follows the index.
+	 *
+	 * @throws GitConnectorException the git connector exception
+	 * @throws GitAPIException the git API exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void cachedConnectorAndStatus() throws GitConnectorException, GitAPIException, IOException {
+		IGitConnector connector = GitConnectorFactory.getConnector(directory.getCanonicalPath());
+		assertSame(connector, GitConnectorFactory.getConnector(directory.getCanonicalPath()));
+
+		FileUtils.writeStringToFile(new File(directory, "file.txt"), "content", StandardCharsets.UTF_8);
+		connector.invalidateStatus();
+		Status status = connector.status();
+		assertSame(status, connector.status());
+		assertEquals(1, connector.getUnstagedChanges().size());
+		assertSame(status, connector.status());
+
+		connector.add("file.txt");
+		Status staged = connector.status();
+		assertNotSame(status, staged);
+		assertTrue(staged.getAdded().contains("file.txt"));
+		assertEquals(1, connector.getStagedChanges().size());
+		assertEquals(0, connector.getUnstagedChanges().size());
+
+		GitConnectorFactory.evictConnectors(directory.getCanonicalPath());
+		assertNotSame(connector, GitConnectorFactory.getConnector(directory.getCanonicalPath()));
+	}
+
+	/**
+	 * A file written through a repository project linked to the working tree drops the status snapshot.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void statusAfterRepositoryWrite() throws Exception {
+		File root = new File("target/git-cache-test-repository");
+		FileUtils.deleteDirectory(root);
+		try {
+			LocalRepository repository = new LocalRepository(root.getCanonicalPath(), true);
+			repository.linkPath("/project", directory.getCanonicalPath());
+			IGitConnector connector = GitConnectorFactory.getConnector(directory.getCanonicalPath());
+			assertTrue(connector.status().isClean());
+
+			repository.createResource("/project/file.txt", "content".getBytes(StandardCharsets.UTF_8));
+			assertTrue(connector.status().getUntracked().contains("file.txt"));
+		} finally {
+			FileUtils.deleteDirectory(root);
+		}
+	}
+
+	/**
+	 * A connector with a call in progress is not closed by the idle eviction, only after the call returns.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void inUseConnectorNotEvicted() throws Exception {
+		Configuration.set(GitConnectorFactory.DIRIGIBLE_GIT_CONNECTOR_IDLE_TIMEOUT, "0");
+		IGitConnector connector = GitConnectorFactory.getConnector(directory.getCanonicalPath());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread pull = new Thread(() -> {
+			try {
+				connector.pull(null, null, new EmptyProgressMonitor() {
+					@Override
+					public void beginTask(String title, int totalWork) {
+						started.countDown();
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				});
+			} catch (Exception e) {
+				// no remote to pull from, only the duration of the call matters
+			}
+		});
+		pull.start();
+		try {
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+			Thread.sleep(10);
+			assertSame(connector, GitConnectorFactory.getConnector(directory.getCanonicalPath()));
+		} finally {
+			release.countDown();
+			pull.join();
+		}
+		Thread.sleep(10);
+		assertNotSame(connector, GitConnectorFactory.getConnector(directory.getCanonicalPath()));
+	}
+
+}
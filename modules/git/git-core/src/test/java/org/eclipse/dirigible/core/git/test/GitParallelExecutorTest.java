@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.git.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.core.git.GitConnectorException;
+import org.eclipse.dirigible.core.git.GitConnectorFactory;
+import org.eclipse.dirigible.core.git.GitParallelExecutor;
+import org.eclipse.dirigible.core.git.GitParallelExecutor.GitOperation;
+import org.eclipse.dirigible.core.git.GitProgressListener;
+import org.eclipse.jgit.api.Git;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Clones and pulls several local bare repositories in parallel.
+ */
+public class GitParallelExecutorTest {
+
+	/** The Constant REPOSITORIES. */
+	private static final int REPOSITORIES = 3;
+
+	/** The root directory. */
+	private File root;
+
+	/**
+	 * Creates the bare repositories with a single commit each.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		root = new File("target/git-parallel-test").getCanonicalFile();
+		FileUtils.deleteDirectory(root);
+		for (int i = 0; i < REPOSITORIES; i++) {
+			File bare = new File(root, "remote" + i + ".git");
+			Git.init().setBare(true).setDirectory(bare).call().close();
+			commit(bare, "file.txt", "initial");
+		}
+	}
+
+	/**
+	 * Clean up.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@After
+	public void cleanUp() throws IOException {
+		GitConnectorFactory.evictConnectors(root.getPath());
+		FileUtils.deleteDirectory(root);
+	}
+
+	/**
+	 * Clones and pulls all the repositories reporting the progress of each of them.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void cloneAndPull() throws Exception {
+		Set<String> progressed = ConcurrentHashMap.newKeySet();
+		Set<String> completed = ConcurrentHashMap.newKeySet();
+		GitProgressListener listener = new GitProgressListener() {
+			@Override
+			public void onProgress(String repository, String task, int done, int total) {
+				progressed.add(repository);
+			}
+
+			@Override
+			public void onCompleted(String repository, Throwable error) {
+				assertNull(error);
+				completed.add(repository);
+			}
+		};
+
+		Map<String, GitOperation<String>> clones = new LinkedHashMap<String, GitOperation<String>>();
+		for (int i = 0; i < REPOSITORIES; i++) {
+			File local = new File(root, "local" + i);
+			String remote = new File(root, "remote" + i + ".git").toURI().toString();
+			clones.put("repository" + i, monitor -> GitConnectorFactory.cloneRepository(local.getPath(), remote, null, null, null, monitor).getBranch());
+		}
+		Map<String, String> branches = GitParallelExecutor.execute(clones, listener);
+		assertEquals(clones.keySet(), branches.keySet());
+		assertEquals(clones.keySet(), progressed);
+		assertEquals(clones.keySet(), completed);
+
+		for (int i = 0; i < REPOSITORIES; i++) {
+			commit(new File(root, "remote" + i + ".git"), "file.txt", "changed");
+		}
+		Map<String, GitOperation<Boolean>> pulls = new LinkedHashMap<String, GitOperation<Boolean>>();
+		for (int i = 0; i < REPOSITORIES; i++) {
+			File local = new File(root, "local" + i);
+			pulls.put("repository" + i, monitor -> {
+				GitConnectorFactory.getConnector(local.getPath()).pull(null, null, monitor);
+				return true;
+			});
+		}
+		completed.clear();
+		GitParallelExecutor.execute(pulls, listener);
+		assertEquals(clones.keySet(), completed);
+		for (int i = 0; i < REPOSITORIES; i++) {
+			assertEquals("changed", FileUtils.readFileToString(new File(root, "local" + i + "/file.txt"), StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * A failing operation does not stop the others and its error is thrown after all of them have finished.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void failureAfterAll() throws Exception {
+		Map<String, Throwable> errors = new ConcurrentHashMap<String, Throwable>();
+		Set<String> completed = ConcurrentHashMap.newKeySet();
+		GitProgressListener listener = new GitProgressListener() {
+			@Override
+			public void onProgress(String repository, String task, int done, int total) {
+				// not needed
+			}
+
+			@Override
+			public void onCompleted(String repository, Throwable error) {
+				if (error != null) {
+					errors.put(repository, error);
+				} else {
+					completed.add(repository);
+				}
+			}
+		};
+		Map<String, GitOperation<Object>> clones = new LinkedHashMap<String, GitOperation<Object>>();
+		String missing = new File(root, "missing.git").toURI().toString();
+		clones.put("missing", monitor -> GitConnectorFactory.cloneRepository(new File(root, "missing").getPath(), missing, null, null, null, monitor));
+		for (int i = 0; i < REPOSITORIES; i++) {
+			File local = new File(root, "local" + i);
+			String remote = new File(root, "remote" + i + ".git").toURI().toString();
+			clones.put("repository" + i, monitor -> GitConnectorFactory.cloneRepository(local.getPath(), remote, null, null, null, monitor));
+		}
+		try {
+			GitParallelExecutor.execute(clones, listener);
+			fail("The clone of a missing repository should fail");
+		} catch (GitConnectorException e) {
+			assertNotNull(e.getCause());
+		}
+		assertTrue(errors.containsKey("missing"));
+		assertEquals(REPOSITORIES, completed.size());
+		assertFalse(completed.contains("missing"));
+		for (int i = 0; i < REPOSITORIES; i++) {
+			assertTrue(new File(root, "local" + i + "/file.txt").exists());
+		}
+	}
+
+	/**
+	 * Commits a file to a bare repository through a temporary clone.
+	 *
+	 * @param bare the bare repository
+	 * @param name the file name
+	 * @param content the content
+	 * @throws Exception the exception
+	 */
+	private void commit(File bare, String name, String content) throws Exception {
+		File work = new File(root, "work");
+		FileUtils.deleteDirectory(work);
+		try (Git git = Git.cloneRepository().setURI(bare.toURI().toString()).setDirectory(work).call()) {
+			FileUtils.writeStringToFile(new File(work, name), content, StandardCharsets.UTF_8);
+			git.add().addFilepattern(name).call();
+			git.commit().setMessage(content).setAuthor("test", "test@test").setCommitter("test", "test@test").call();
+			git.push().call();
+		}
+		FileUtils.deleteDirectory(work);
+	}
+
+}
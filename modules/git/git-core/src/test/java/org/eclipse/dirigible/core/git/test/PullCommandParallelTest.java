@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.git.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.api.v3.security.UserFacade;
+import org.eclipse.dirigible.commons.api.context.ThreadContextFacade;
+import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
+import org.eclipse.dirigible.core.git.GitConnectorFactory;
+import org.eclipse.dirigible.core.git.GitProgressListener;
+import org.eclipse.dirigible.core.git.command.CloneCommand;
+import org.eclipse.dirigible.core.git.command.PullCommand;
+import org.eclipse.dirigible.core.git.model.GitCloneModel;
+import org.eclipse.dirigible.core.git.model.GitPullModel;
+import org.eclipse.dirigible.core.git.utils.GitFileUtils;
+import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.eclipse.dirigible.core.workspace.api.IWorkspace;
+import org.eclipse.dirigible.core.workspace.service.WorkspacesCoreService;
+import org.eclipse.jgit.api.Git;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Pulls several repositories of a user, who is known only on the request thread, with the {@link PullCommand}.
+ */
+public class PullCommandParallelTest extends AbstractDirigibleTest {
+
+	/** The Constant USER. */
+	private static final String USER = "git-pull-user";
+
+	/** The Constant WORKSPACE. */
+	private static final String WORKSPACE = "pull-parallel";
+
+	/** The Constant REPOSITORIES. */
+	private static final int REPOSITORIES = 3;
+
+	/** The root directory of the remote repositories. */
+	private File root;
+
+	/** The remote repository URIs. */
+	private List<String> remotes = new ArrayList<String>();
+
+	/**
+	 * Binds the user to the request of the current thread and creates the remote repositories.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		ThreadContextFacade.setUp();
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getRemoteUser()).thenReturn(USER);
+		ThreadContextFacade.set(HttpServletRequest.class.getCanonicalName(), request);
+		assertEquals(USER, UserFacade.getName());
+
+		root = new File("target/git-pull-parallel-test").getCanonicalFile();
+		FileUtils.deleteDirectory(root);
+		for (int i = 0; i < REPOSITORIES; i++) {
+			File bare = new File(root, "pull-remote" + i + ".git");
+			Git.init().setBare(true).setDirectory(bare).call().close();
+			commit(bare, "file.txt", "initial");
+			String remote = bare.toURI().toString();
+			remotes.add(remote.endsWith("/") ? remote.substring(0, remote.length() - 1) : remote);
+		}
+	}
+
+	/**
+	 * Removes the clones and the remote repositories.
+	 *
+	 * @throws Exception the exception
+	 */
+	@After
+	public void cleanUp() throws Exception {
+		try {
+			new WorkspacesCoreService().getWorkspace(WORKSPACE).delete();
+			for (String remote : remotes) {
+				File gitDirectory = FileSystemUtils.getGitDirectory(USER, WORKSPACE, remote);
+				if (gitDirectory != null) {
+					GitConnectorFactory.evictConnectors(gitDirectory.getPath());
+				}
+				GitFileUtils.deleteGitDirectory(USER, WORKSPACE, remote);
+			}
+			FileUtils.deleteDirectory(root);
+		} finally {
+			ThreadContextFacade.tearDown();
+		}
+	}
+
+	/**
+	 * The repositories are pulled on the pool threads into the directories of the user of the request.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void pullOfTheRequestUser() throws Exception {
+		IWorkspace workspace = new WorkspacesCoreService().getWorkspace(WORKSPACE);
+		List<String> repositoryNames = new ArrayList<String>();
+		for (String remote : remotes) {
+			GitCloneModel cloneModel = new GitCloneModel();
+			cloneModel.setRepository(remote);
+			cloneModel.setPublish(false);
+			new CloneCommand().execute(workspace, cloneModel);
+			repositoryNames.add(FileSystemUtils.generateGitRepositoryName(remote));
+		}
+		for (int i = 0; i < REPOSITORIES; i++) {
+			commit(new File(root, "pull-remote" + i + ".git"), "file.txt", "changed");
+		}
+
+		Set<String> completed = ConcurrentHashMap.newKeySet();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		GitProgressListener listener = new GitProgressListener() {
+			@Override
+			public void onProgress(String repository, String task, int done, int total) {
+				threads.add(Thread.currentThread().getName());
+			}
+
+			@Override
+			public void onCompleted(String repository, Throwable error) {
+				if (error == null) {
+					completed.add(repository);
+				}
+			}
+		};
+		GitPullModel pullModel = new GitPullModel();
+		pullModel.setProjects(repositoryNames);
+		pullModel.setPublish(false);
+		new PullCommand().execute(workspace, pullModel, listener);
+
+		assertEquals(REPOSITORIES, completed.size());
+		assertTrue(threads.stream().noneMatch(name -> name.equals(Thread.currentThread().getName())));
+		for (String repositoryName : repositoryNames) {
+			File gitDirectory = FileSystemUtils.getGitDirectoryByRepositoryName(USER, WORKSPACE, repositoryName);
+			assertNotNull(gitDirectory);
+			assertEquals("changed", FileUtils.readFileToString(new File(gitDirectory, "file.txt"), StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Commits a file to a bare repository through a temporary clone.
+	 *
+	 * @param bare the bare repository
+	 * @param name the file name
+	 * @param content the content
+	 * @throws Exception the exception
+	 */
+	private void commit(File bare, String name, String content) throws Exception {
+		File work = new File(root, "work");
+		FileUtils.deleteDirectory(work);
+		try (Git git = Git.cloneRepository().setURI(bare.toURI().toString()).setDirectory(work).call()) {
+			FileUtils.writeStringToFile(new File(work, name), content, StandardCharsets.UTF_8);
+			git.add().addFilepattern(name).call();
+			git.commit().setMessage(content).setAuthor("test", "test@test").setCommitter("test", "test@test").call();
+			git.push().call();
+		}
+		FileUtils.deleteDirectory(work);
+	}
+
+}
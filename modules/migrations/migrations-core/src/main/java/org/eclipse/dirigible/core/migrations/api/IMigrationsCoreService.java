@@ -239,4 +239,14 @@ public interface IMigrationsCoreService extends ICoreService {
 	 */
 	public List<MigrationStatusDefinition> getMigrationsStatus() throws MigrationsException;
 
+	/**
+	 * Saves the migration status of a project together with the state and the timing of its last step.
+	 *
+	 * @param migrationStatusDefinition
+	 *            the migration status definition
+	 * @throws MigrationsException
+	 *             the migrations exception
+	 */
+	public void saveMigrationStatus(MigrationStatusDefinition migrationStatusDefinition) throws MigrationsException;
+
 }
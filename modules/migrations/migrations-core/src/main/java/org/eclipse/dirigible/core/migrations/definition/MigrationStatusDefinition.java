@@ -20,7 +20,8 @@ import javax.persistence.Table;
 import org.eclipse.dirigible.commons.api.artefacts.IArtefactDefinition;
 
 /**
- * The Role Definition transfer object.
+ * The Migration Status Definition transfer object. Besides the version reached by the project, it holds the state and
+ * the timing of the last executed step.
  */
 @Table(name = "DIRIGIBLE_MIGRATIONS_STATUS")
 public class MigrationStatusDefinition {
@@ -54,6 +55,30 @@ public class MigrationStatusDefinition {
 	@Column(name = "MIGRATION_STATUS_CREATED_AT", columnDefinition = "TIMESTAMP", nullable = false)
 	private Timestamp createdAt;
 
+	/** The state of the last step. */
+	@Column(name = "MIGRATION_STATUS_STATE", columnDefinition = "VARCHAR", nullable = true, length = 32)
+	private String state;
+
+	/** The location of the last step. */
+	@Column(name = "MIGRATION_STATUS_STEP", columnDefinition = "VARCHAR", nullable = true, length = 255)
+	private String step;
+
+	/** The start time of the last step. */
+	@Column(name = "MIGRATION_STATUS_STARTED_AT", columnDefinition = "TIMESTAMP", nullable = true)
+	private Timestamp startedAt;
+
+	/** The finish time of the last step. */
+	@Column(name = "MIGRATION_STATUS_FINISHED_AT", columnDefinition = "TIMESTAMP", nullable = true)
+	private Timestamp finishedAt;
+
+	/** The duration of the last step in milliseconds. */
+	@Column(name = "MIGRATION_STATUS_DURATION", columnDefinition = "BIGINT", nullable = true)
+	private Long duration;
+
+	/** The error of the last step. */
+	@Column(name = "MIGRATION_STATUS_ERROR", columnDefinition = "VARCHAR", nullable = true, length = 2000)
+	private String error;
+
 	/**
 	 * Gets the project.
 	 *
@@ -180,6 +205,114 @@ public class MigrationStatusDefinition {
 		this.createdAt = createdAt;
 	}
 
+	/**
+	 * Gets the state of the last step.
+	 *
+	 * @return the state of the last step
+	 */
+	public String getState() {
+		return state;
+	}
+
+	/**
+	 * Sets the state of the last step.
+	 *
+	 * @param state the state of the last step
+	 */
+	public void setState(String state) {
+		this.state = state;
+	}
+
+	/**
+	 * Gets the location of the last step.
+	 *
+	 * @return the location of the last step
+	 */
+	public String getStep() {
+		return step;
+	}
+
+	/**
+	 * Sets the location of the last step.
+	 *
+	 * @param step the location of the last step
+	 */
+	public void setStep(String step) {
+		this.step = step;
+	}
+
+	/**
+	 * Gets the start time of the last step.
+	 *
+	 * @return the start time of the last step
+	 */
+	public Timestamp getStartedAt() {
+		return startedAt;
+	}
+
+	/**
+	 * Sets the start time of the last step.
+	 *
+	 * @param startedAt the start time of the last step
+	 */
+	public void setStartedAt(Timestamp startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	/**
+	 * Gets the finish time of the last step.
+	 *
+	 * @return the finish time of the last step
+	 */
+	public Timestamp getFinishedAt() {
+		return finishedAt;
+	}
+
+	/**
+	 * Sets the finish time of the last step.
+	 *
+	 * @param finishedAt the finish time of the last step
+	 */
+	public void setFinishedAt(Timestamp finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	/**
+	 * Gets the duration of the last step in milliseconds.
+	 *
+	 * @return the duration of the last step in milliseconds
+	 */
+	public Long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Sets the duration of the last step in milliseconds.
+	 *
+	 * @param duration the duration of the last step in milliseconds
+	 */
+	public void setDuration(Long duration) {
+		this.duration = duration;
+	}
+
+	/**
+	 * Gets the error of the last step.
+	 *
+	 * @return the error of the last step
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Sets the error of the last step.
+	 *
+	 * @param error the error of the last step
+	 */
+	public void setError(String error) {
+		this.error = error;
+	}
+
 	/**
 	 * Hash code.
 	 *
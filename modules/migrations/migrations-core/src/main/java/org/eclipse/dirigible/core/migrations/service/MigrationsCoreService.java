@@ -15,9 +15,15 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
 
 import javax.sql.DataSource;
 
@@ -30,6 +36,7 @@ import org.eclipse.dirigible.core.migrations.definition.MigrationDefinition;
 import org.eclipse.dirigible.core.migrations.definition.MigrationStatusDefinition;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.builders.table.AlterTableBuilder;
 
 /**
  * The Migrations Core Service.
@@ -45,6 +52,12 @@ public class MigrationsCoreService implements IMigrationsCoreService {
 	/** The migrations status persistence manager. */
 	private PersistenceManager<MigrationStatusDefinition> migrationsStatusPersistenceManager = new PersistenceManager<MigrationStatusDefinition>();
 	
+	/** The Constant TABLE_MIGRATIONS_STATUS. */
+	private static final String TABLE_MIGRATIONS_STATUS = "DIRIGIBLE_MIGRATIONS_STATUS";
+	
+	/** The Constant STATUS_CHECKED, the data sources whose status table has the step columns. */
+	private static final Set<DataSource> STATUS_CHECKED = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<DataSource, Boolean>()));
+	
 	/**
 	 * Gets the data source.
 	 *
@@ -359,6 +372,7 @@ public class MigrationsCoreService implements IMigrationsCoreService {
 			Connection connection = null;
 			try {
 				connection = getDataSource().getConnection();
+				ensureStatusColumns(connection);
 				migrationsStatusPersistenceManager.insert(connection, migrationStatusDefinition);
 				return migrationStatusDefinition;
 			} finally {
@@ -387,6 +401,7 @@ public class MigrationsCoreService implements IMigrationsCoreService {
 			Connection connection = null;
 			try {
 				connection = getDataSource().getConnection();
+				ensureStatusColumns(connection);
 				return migrationsStatusPersistenceManager.find(connection, MigrationStatusDefinition.class, project);
 			} finally {
 				if (connection != null) {
@@ -490,6 +505,7 @@ public class MigrationsCoreService implements IMigrationsCoreService {
 			Connection connection = null;
 			try {
 				connection = getDataSource().getConnection();
+				ensureStatusColumns(connection);
 				return migrationsStatusPersistenceManager.findAll(connection, MigrationStatusDefinition.class);
 			} finally {
 				if (connection != null) {
@@ -501,4 +517,100 @@ public class MigrationsCoreService implements IMigrationsCoreService {
 		}
 	}
 
+	/**
+	 * Saves the migration status of a project together with the state and the timing of its last step.
+	 *
+	 * @param migrationStatusDefinition the migration status definition
+	 * @throws MigrationsException the migrations exception
+	 */
+	/* (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.migrations.api.IMigrationsCoreService#saveMigrationStatus(org.eclipse.dirigible.core.migrations.definition.MigrationStatusDefinition)
+	 */
+	@Override
+	public void saveMigrationStatus(MigrationStatusDefinition migrationStatusDefinition) throws MigrationsException {
+		try {
+			Connection connection = null;
+			try {
+				connection = getDataSource().getConnection();
+				ensureStatusColumns(connection);
+				if (migrationsStatusPersistenceManager.find(connection, MigrationStatusDefinition.class, migrationStatusDefinition.getProject()) == null) {
+					migrationStatusDefinition.setCreatedBy(UserFacade.getName());
+					migrationStatusDefinition.setCreatedAt(new Timestamp(new java.util.Date().getTime()));
+					migrationsStatusPersistenceManager.insert(connection, migrationStatusDefinition);
+				} else {
+					migrationsStatusPersistenceManager.update(connection, migrationStatusDefinition);
+				}
+			} finally {
+				if (connection != null) {
+					connection.close();
+				}
+			}
+		} catch (SQLException e) {
+			throw new MigrationsException(e);
+		}
+	}
+
+	/**
+	 * Adds the step columns to a status table created before they were introduced. Checked once per data source.
+	 *
+	 * @param connection the connection
+	 * @throws SQLException the SQL exception
+	 */
+	private void ensureStatusColumns(Connection connection) throws SQLException {
+		DataSource key = getDataSource();
+		if (STATUS_CHECKED.contains(key)) {
+			return;
+		}
+		synchronized (STATUS_CHECKED) {
+			if (STATUS_CHECKED.contains(key)) {
+				return;
+			}
+			migrationsStatusPersistenceManager.tableCheck(connection, MigrationStatusDefinition.class);
+			Set<String> existing = getColumnNames(connection, TABLE_MIGRATIONS_STATUS);
+			if (existing.isEmpty()) {
+				existing = getColumnNames(connection, TABLE_MIGRATIONS_STATUS.toLowerCase());
+			}
+			addColumn(connection, existing, "MIGRATION_STATUS_STATE", builder -> builder.columnVarchar("MIGRATION_STATUS_STATE", 32, false, true, false));
+			addColumn(connection, existing, "MIGRATION_STATUS_STEP", builder -> builder.columnVarchar("MIGRATION_STATUS_STEP", 255, false, true, false));
+			addColumn(connection, existing, "MIGRATION_STATUS_STARTED_AT", builder -> builder.columnTimestamp("MIGRATION_STATUS_STARTED_AT", false, true));
+			addColumn(connection, existing, "MIGRATION_STATUS_FINISHED_AT", builder -> builder.columnTimestamp("MIGRATION_STATUS_FINISHED_AT", false, true));
+			addColumn(connection, existing, "MIGRATION_STATUS_DURATION", builder -> builder.columnBigint("MIGRATION_STATUS_DURATION", false, true));
+			addColumn(connection, existing, "MIGRATION_STATUS_ERROR", builder -> builder.columnVarchar("MIGRATION_STATUS_ERROR", 2000, false, true, false));
+			STATUS_CHECKED.add(key);
+		}
+	}
+
+	/**
+	 * Adds a column to the status table, if missing.
+	 *
+	 * @param connection the connection
+	 * @param existing the existing column names
+	 * @param column the column name
+	 * @param definition the column definition
+	 */
+	private void addColumn(Connection connection, Set<String> existing, String column, UnaryOperator<AlterTableBuilder> definition) {
+		if (!existing.contains(column)) {
+			String sql = definition.apply(SqlFactory.getNative(connection).alter().table(TABLE_MIGRATIONS_STATUS).add()).build();
+			migrationsStatusPersistenceManager.execute(connection, sql);
+		}
+	}
+
+	/**
+	 * Gets the upper case column names of a table.
+	 *
+	 * @param connection the connection
+	 * @param table the table
+	 * @return the column names
+	 * @throws SQLException the SQL exception
+	 */
+	private static Set<String> getColumnNames(Connection connection, String table) throws SQLException {
+		Set<String> columns = new HashSet<String>();
+		try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, table, null)) {
+			while (resultSet.next()) {
+				columns.add(resultSet.getString("COLUMN_NAME").toUpperCase());
+			}
+		}
+		return columns;
+	}
+
 }
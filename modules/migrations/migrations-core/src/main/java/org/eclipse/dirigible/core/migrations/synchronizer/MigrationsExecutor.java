@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.migrations.synchronizer;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.core.migrations.api.IMigrationsCoreService;
+import org.eclipse.dirigible.core.migrations.api.MigrationsException;
+import org.eclipse.dirigible.core.migrations.definition.MigrationDefinition;
+import org.eclipse.dirigible.core.migrations.definition.MigrationStatusDefinition;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the migrations of several projects.
+ * <p>
+ * The migrations of a project form a chain ordered by version, which is executed step by step on a single thread, while
+ * the chains of different projects run in parallel. The status of the project is saved as running before every step and
+ * again after it with its state and timing, so a failed or interrupted chain resumes from that step and the completed
+ * steps are not executed again.
+ */
+public class MigrationsExecutor {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(MigrationsExecutor.class);
+
+	/** The Constant STATE_SUCCESSFUL. */
+	public static final String STATE_SUCCESSFUL = "SUCCESSFUL";
+
+	/** The Constant STATE_FAILED. */
+	public static final String STATE_FAILED = "FAILED";
+
+	/** The Constant STATE_RUNNING. */
+	public static final String STATE_RUNNING = "RUNNING";
+
+	/** The Constant MAX_ERROR_LENGTH. */
+	private static final int MAX_ERROR_LENGTH = 2000;
+
+	/**
+	 * Executes a single migration.
+	 */
+	public interface MigrationStep {
+
+		/**
+		 * Performs the migration.
+		 *
+		 * @param migration the migration
+		 * @throws Exception the exception
+		 */
+		void perform(MigrationDefinition migration) throws Exception;
+
+	}
+
+	/**
+	 * Notified about the outcome of every migration.
+	 */
+	public interface MigrationListener {
+
+		/**
+		 * Called after a migration has been executed.
+		 *
+		 * @param migration the migration
+		 * @param error the error or null, if successful
+		 */
+		void executed(MigrationDefinition migration, Throwable error);
+
+		/**
+		 * Called for a migration with a version not higher than the one of the project.
+		 *
+		 * @param migration the migration
+		 * @param status the status of the project
+		 */
+		void skipped(MigrationDefinition migration, MigrationStatusDefinition status);
+
+	}
+
+	/** The migrations core service. */
+	private final IMigrationsCoreService migrationsCoreService;
+
+	/** The number of the projects migrated in parallel. */
+	private final int parallelism;
+
+	/**
+	 * Instantiates a new migrations executor.
+	 *
+	 * @param migrationsCoreService the migrations core service
+	 * @param parallelism the number of the projects migrated in parallel
+	 */
+	public MigrationsExecutor(IMigrationsCoreService migrationsCoreService, int parallelism) {
+		this.migrationsCoreService = migrationsCoreService;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Migrates the projects and waits for all of them.
+	 *
+	 * @param projects the projects
+	 * @param step the step
+	 * @param listener the listener
+	 * @return the statuses of the projects, without the ones which could not be read
+	 */
+	public Map<String, MigrationStatusDefinition> execute(Collection<String> projects, MigrationStep step, MigrationListener listener) {
+		List<String> chains = new ArrayList<String>(new LinkedHashSet<String>(projects));
+		Map<String, MigrationStatusDefinition> statuses = new LinkedHashMap<String, MigrationStatusDefinition>();
+		if (chains.isEmpty()) {
+			return statuses;
+		}
+		int threads = Math.min(parallelism, chains.size());
+		if (threads == 1) {
+			for (String project : chains) {
+				migrate(project, step, listener, statuses);
+			}
+			return statuses;
+		}
+		AtomicInteger counter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "migrations-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Map<String, Future<MigrationStatusDefinition>> futures = new LinkedHashMap<String, Future<MigrationStatusDefinition>>();
+			for (String project : chains) {
+				futures.put(project, executor.submit(() -> migrate(project, step, listener)));
+			}
+			for (Map.Entry<String, Future<MigrationStatusDefinition>> future : futures.entrySet()) {
+				try {
+					MigrationStatusDefinition status = future.getValue().get();
+					if (status != null) {
+						statuses.put(future.getKey(), status);
+					}
+				} catch (ExecutionException e) {
+					if (logger.isErrorEnabled()) {logger.error("Migration procedure for project " + future.getKey() + " failed.", e.getCause());}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return statuses;
+	}
+
+	/**
+	 * Migrates a project on the current thread.
+	 *
+	 * @param project the project
+	 * @param step the step
+	 * @param listener the listener
+	 * @param statuses the statuses
+	 */
+	private void migrate(String project, MigrationStep step, MigrationListener listener, Map<String, MigrationStatusDefinition> statuses) {
+		try {
+			MigrationStatusDefinition status = migrate(project, step, listener);
+			if (status != null) {
+				statuses.put(project, status);
+			}
+		} catch (MigrationsException e) {
+			if (logger.isErrorEnabled()) {logger.error("Migration procedure for project " + project + " failed.", e);}
+		}
+	}
+
+	/**
+	 * Runs the chain of a project until its end or its first failure.
+	 *
+	 * @param project the project
+	 * @param step the step
+	 * @param listener the listener
+	 * @return the status of the project or null, if nothing has been executed
+	 * @throws MigrationsException the migrations exception
+	 */
+	MigrationStatusDefinition migrate(String project, MigrationStep step, MigrationListener listener) throws MigrationsException {
+		List<MigrationDefinition> migrations = migrationsCoreService.getMigrationsPerProject(project);
+		MigrationStatusDefinition status = migrationsCoreService.getMigrationStatus(project);
+		for (MigrationDefinition migration : migrations) {
+			if (status != null && compare(migration, status) <= 0) {
+				listener.skipped(migration, status);
+				continue;
+			}
+			long start = System.currentTimeMillis();
+			status = status != null ? status : newStatus(project);
+			status.setStep(migration.getLocation());
+			status.setState(STATE_RUNNING);
+			status.setStartedAt(new Timestamp(start));
+			status.setFinishedAt(null);
+			status.setDuration(null);
+			status.setError(null);
+			migrationsCoreService.saveMigrationStatus(status);
+			Throwable error = null;
+			try {
+				step.perform(migration);
+			} catch (Exception e) {
+				error = e;
+			}
+			long finish = System.currentTimeMillis();
+			if (error == null) {
+				status.setMajor(migration.getMajor());
+				status.setMinor(migration.getMinor());
+				status.setMicro(migration.getMicro());
+				status.setLocation(migration.getLocation());
+			}
+			status.setState(error == null ? STATE_SUCCESSFUL : STATE_FAILED);
+			status.setFinishedAt(new Timestamp(finish));
+			status.setDuration(finish - start);
+			status.setError(error == null ? null : truncate(String.valueOf(error.getMessage())));
+			migrationsCoreService.saveMigrationStatus(status);
+			if (logger.isInfoEnabled()) {logger.info("Migration [{}] of project [{}] {} in {} ms", migration.getLocation(), project, error == null ? "completed" : "failed", finish - start);}
+			listener.executed(migration, error);
+			if (error != null) {
+				break;
+			}
+		}
+		return status;
+	}
+
+	/**
+	 * Creates the status of a project migrated for the first time. Its version is below any migration, as none of them has
+	 * completed yet.
+	 *
+	 * @param project the project
+	 * @return the status
+	 */
+	private static MigrationStatusDefinition newStatus(String project) {
+		MigrationStatusDefinition status = new MigrationStatusDefinition();
+		status.setProject(project);
+		status.setMajor(-1);
+		status.setMinor(-1);
+		status.setMicro(-1);
+		status.setLocation(IRepositoryStructure.SEPARATOR + project);
+		return status;
+	}
+
+	/**
+	 * Compares the version of a migration with the one of a project.
+	 *
+	 * @param migration the migration
+	 * @param status the status
+	 * @return a negative number, zero or a positive number if the migration is lower, equal or higher
+	 */
+	private static int compare(MigrationDefinition migration, MigrationStatusDefinition status) {
+		if (migration.getMajor() != status.getMajor()) {
+			return Integer.compare(migration.getMajor(), status.getMajor());
+		}
+		if (migration.getMinor() != status.getMinor()) {
+			return Integer.compare(migration.getMinor(), status.getMinor());
+		}
+		return Integer.compare(migration.getMicro(), status.getMicro());
+	}
+
+	/**
+	 * Truncates an error message to the size of its column.
+	 *
+	 * @param message the message
+	 * @return the truncated message
+	 */
+	private static String truncate(String message) {
+		return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.api.v3.problems.IProblemsConstants;
 import org.eclipse.dirigible.api.v3.problems.ProblemsFacade;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.migrations.api.IMigrationsCoreService;
 import org.eclipse.dirigible.core.migrations.api.MigrationsException;
 import org.eclipse.dirigible.core.migrations.artefacts.MigrationSynchronizationArtefactType;
@@ -54,6 +56,12 @@ public class MigrationsSynchronizer extends AbstractSynchronizer implements IOrd
 	/** The Constant logger. */
 	private static final Logger logger = LoggerFactory.getLogger(MigrationsSynchronizer.class);
 
+	/** The Constant DIRIGIBLE_MIGRATIONS_PARALLELISM. */
+	public static final String DIRIGIBLE_MIGRATIONS_PARALLELISM = "DIRIGIBLE_MIGRATIONS_PARALLELISM"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_PARALLELISM. */
+	private static final String DEFAULT_PARALLELISM = "4"; //$NON-NLS-1$
+
 	/** The Constant MIGRATIONS_PREDELIVERED. */
 	private static final Map<String, MigrationDefinition> MIGRATIONS_PREDELIVERED = Collections.synchronizedMap(new HashMap<String, MigrationDefinition>());
 
@@ -276,74 +284,51 @@ public class MigrationsSynchronizer extends AbstractSynchronizer implements IOrd
 	}
 	
 	/**
-	 * Start migrations.
+	 * Start migrations. The chains of the projects are executed in parallel by the migrations executor.
 	 */
 	private void startMigrations() {
 		if (logger.isTraceEnabled()) {logger.trace("Start running Migrations...");}
 
-		List<String> migratedProjects = new ArrayList<String>();
-		for (String migrationLocation : MIGRATIONS_SYNCHRONIZED) {
-			String project = "";
-			MigrationDefinition lastMigration = null;
-			MigrationDefinition currentMigration = null;
+		Set<String> projects = new LinkedHashSet<String>();
+		List<String> locations;
+		synchronized (MIGRATIONS_SYNCHRONIZED) {
+			locations = new ArrayList<String>(MIGRATIONS_SYNCHRONIZED);
+		}
+		for (String migrationLocation : locations) {
 			try {
-				project = "location: " + migrationLocation;
 				MigrationDefinition migrationDefinition = migrationsCoreService.getMigration(migrationLocation);
-				project = migrationDefinition.getProject();
-				if (migratedProjects.contains(project)) {
-					continue;
-				}
-				List<MigrationDefinition> migrationDefinitions = migrationsCoreService.getMigrationsPerProject(project);
-				MigrationStatusDefinition migrationStatusDefinition = migrationsCoreService.getMigrationStatus(project);
-				for (MigrationDefinition migration : migrationDefinitions) {
-					currentMigration = migration;
-					if (migrationStatusDefinition != null) {
-						if (migration.getMajor() > migrationStatusDefinition.getMajor()) {
-							performMigration(migration);
-							applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
-						} else if (migration.getMajor() == migrationStatusDefinition.getMajor() 
-								&& migration.getMinor() > migrationStatusDefinition.getMinor()) {
-							performMigration(migration);
-							applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
-						} else if (migration.getMajor() == migrationStatusDefinition.getMajor() 
-								&& migration.getMinor() == migrationStatusDefinition.getMinor()
-								&& migration.getMicro() > migrationStatusDefinition.getMicro()) {
-							performMigration(migration);
-							applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
-						} else {
-							String errorMessage = MessageFormat.format("Migration for project {0} with version {1}.{2}.{3} has been skipped because the project status is with a higher version", 
-									project, migration.getMajor(), migration.getMinor(), migration.getMicro());
-							logger.trace(errorMessage);
-							applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.FAILED_CREATE, errorMessage);
-						}
-					} else {
-						performMigration(migration);
-						applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
-					}
-					lastMigration = migration;
+				if (migrationDefinition != null) {
+					projects.add(migrationDefinition.getProject());
 				}
-				if (lastMigration != null) {
-					if (migrationStatusDefinition == null) {
-						migrationsCoreService.createMigrationStatus(project, lastMigration.getMajor(), lastMigration.getMinor(), lastMigration.getMicro(), 
-								lastMigration.getLocation());
-					} else {
-						if (migrationStatusDefinition.getMajor() != lastMigration.getMajor()
-								|| migrationStatusDefinition.getMinor() != lastMigration.getMinor()
-								|| migrationStatusDefinition.getMicro() != lastMigration.getMicro()) {
-							migrationsCoreService.updateMigrationStatus(project, lastMigration.getMajor(), lastMigration.getMinor(), lastMigration.getMicro(), 
-									lastMigration.getLocation());
-						}
-					}
-				}
-				migratedProjects.add(project);
-			} catch (MigrationsException | ScriptingException e) {
-				if (logger.isErrorEnabled()) {logger.error("Migration procedure for project {} artifacts failed.", project);}
-				if (logger.isErrorEnabled()) {logger.error("Migration procedure error: ", e);}
-				applyArtefactState(currentMigration, MIGRATION_ARTEFACT, ArtefactState.FAILED_CREATE, e.getMessage());
+			} catch (MigrationsException e) {
+				if (logger.isErrorEnabled()) {logger.error("Migration procedure for location " + migrationLocation + " failed.", e);}
 			}
-			
 		}
 
+		int parallelism = Integer.parseInt(Configuration.get(DIRIGIBLE_MIGRATIONS_PARALLELISM, DEFAULT_PARALLELISM));
+		new MigrationsExecutor(migrationsCoreService, parallelism).execute(projects, this::performMigration, new MigrationsExecutor.MigrationListener() {
+
+			@Override
+			public void executed(MigrationDefinition migration, Throwable error) {
+				if (error == null) {
+					applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.SUCCESSFUL_CREATE);
+				} else {
+					if (logger.isErrorEnabled()) {logger.error("Migration procedure for project {} artifacts failed.", migration.getProject());}
+					if (logger.isErrorEnabled()) {logger.error("Migration procedure error: ", error);}
+					applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.FAILED_CREATE, error.getMessage());
+				}
+			}
+
+			@Override
+			public void skipped(MigrationDefinition migration, MigrationStatusDefinition status) {
+				String errorMessage = MessageFormat.format("Migration for project {0} with version {1}.{2}.{3} has been skipped because the project status is with a higher version", 
+						migration.getProject(), migration.getMajor(), migration.getMinor(), migration.getMicro());
+				logger.trace(errorMessage);
+				applyArtefactState(migration, MIGRATION_ARTEFACT, ArtefactState.FAILED_CREATE, errorMessage);
+			}
+
+		});
+
 		if (logger.isTraceEnabled()) {logger.trace("Done running Migrations.");}
 	}
 
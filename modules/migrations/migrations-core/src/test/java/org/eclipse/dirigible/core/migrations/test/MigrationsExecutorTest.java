@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.migrations.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.core.migrations.api.IMigrationsCoreService;
+import org.eclipse.dirigible.core.migrations.api.MigrationsException;
+import org.eclipse.dirigible.core.migrations.definition.MigrationDefinition;
+import org.eclipse.dirigible.core.migrations.definition.MigrationStatusDefinition;
+import org.eclipse.dirigible.core.migrations.service.MigrationsCoreService;
+import org.eclipse.dirigible.core.migrations.synchronizer.MigrationsExecutor;
+import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class MigrationsExecutorTest.
+ */
+public class MigrationsExecutorTest extends AbstractDirigibleTest {
+
+	/** The Constant PROJECTS. */
+	private static final String[] PROJECTS = {"executor_slow", "executor_fast", "executor_failing"};
+
+	/** The migrations core service. */
+	private IMigrationsCoreService migrationsCoreService;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.migrationsCoreService = new MigrationsCoreService();
+		cleanup();
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws Exception the exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		cleanup();
+	}
+
+	/**
+	 * The chains of different projects run in parallel, while the steps of a chain run in version order.
+	 *
+	 * @throws MigrationsException the migrations exception
+	 */
+	@Test
+	public void parallelChains() throws MigrationsException {
+		createMigration("executor_slow", 1, 0, 0);
+		createMigration("executor_fast", 1, 1, 0);
+		createMigration("executor_fast", 1, 0, 1);
+		createMigration("executor_fast", 1, 0, 0);
+		CountDownLatch fastDone = new CountDownLatch(1);
+		List<String> fastSteps = Collections.synchronizedList(new ArrayList<String>());
+		List<Boolean> slowWaited = Collections.synchronizedList(new ArrayList<Boolean>());
+
+		Map<String, MigrationStatusDefinition> statuses = new MigrationsExecutor(migrationsCoreService, 2).execute(Arrays.asList("executor_slow", "executor_fast"), migration -> {
+			if ("executor_slow".equals(migration.getProject())) {
+				slowWaited.add(fastDone.await(10, TimeUnit.SECONDS));
+			} else {
+				fastSteps.add(migration.getMajor() + "." + migration.getMinor() + "." + migration.getMicro());
+				if (migration.getMinor() == 1) {
+					fastDone.countDown();
+				}
+			}
+		}, new CountingListener());
+
+		assertEquals(Arrays.asList(true), slowWaited);
+		assertEquals(Arrays.asList("1.0.0", "1.0.1", "1.1.0"), fastSteps);
+		assertEquals(2, statuses.size());
+		MigrationStatusDefinition status = migrationsCoreService.getMigrationStatus("executor_fast");
+		assertEquals(1, status.getMajor());
+		assertEquals(1, status.getMinor());
+		assertEquals(0, status.getMicro());
+		assertEquals(MigrationsExecutor.STATE_SUCCESSFUL, status.getState());
+		assertEquals("/executor_fast/1.1.0.migrate", status.getStep());
+		assertNotNull(status.getStartedAt());
+		assertTrue(status.getDuration() >= 0);
+	}
+
+	/**
+	 * A failed step stops its chain and the next run resumes from it.
+	 *
+	 * @throws MigrationsException the migrations exception
+	 */
+	@Test
+	public void resumeAfterFailure() throws MigrationsException {
+		createMigration("executor_failing", 1, 0, 0);
+		createMigration("executor_failing", 1, 0, 1);
+		createMigration("executor_failing", 1, 0, 2);
+		List<String> steps = new ArrayList<String>();
+		CountingListener listener = new CountingListener();
+
+		new MigrationsExecutor(migrationsCoreService, 4).execute(Arrays.asList("executor_failing"), migration -> {
+			steps.add(migration.getLocation());
+			if (migration.getMicro() == 1) {
+				throw new IllegalStateException("Broken step");
+			}
+		}, listener);
+
+		assertEquals(Arrays.asList("/executor_failing/1.0.0.migrate", "/executor_failing/1.0.1.migrate"), steps);
+		assertEquals(1, listener.failed);
+		MigrationStatusDefinition status = migrationsCoreService.getMigrationStatus("executor_failing");
+		assertEquals(0, status.getMicro());
+		assertEquals(MigrationsExecutor.STATE_FAILED, status.getState());
+		assertEquals("/executor_failing/1.0.1.migrate", status.getStep());
+		assertEquals("Broken step", status.getError());
+
+		steps.clear();
+		listener = new CountingListener();
+		new MigrationsExecutor(migrationsCoreService, 4).execute(Arrays.asList("executor_failing"), migration -> steps.add(migration.getLocation()), listener);
+
+		assertEquals(Arrays.asList("/executor_failing/1.0.1.migrate", "/executor_failing/1.0.2.migrate"), steps);
+		assertEquals(1, listener.skipped);
+		status = migrationsCoreService.getMigrationStatus("executor_failing");
+		assertEquals(2, status.getMicro());
+		assertEquals(MigrationsExecutor.STATE_SUCCESSFUL, status.getState());
+		assertEquals(null, status.getError());
+	}
+
+	/**
+	 * The status is saved as running before the first step of a project, so an interrupted first step is recorded and
+	 * executed again.
+	 *
+	 * @throws MigrationsException the migrations exception
+	 */
+	@Test
+	public void runningBeforeFirstStep() throws MigrationsException {
+		createMigration("executor_fast", 0, 0, 0);
+		List<MigrationStatusDefinition> running = new ArrayList<MigrationStatusDefinition>();
+
+		new MigrationsExecutor(migrationsCoreService, 1).execute(Arrays.asList("executor_fast"), migration -> {
+			running.add(migrationsCoreService.getMigrationStatus(migration.getProject()));
+			throw new IllegalStateException("Interrupted step");
+		}, new CountingListener());
+
+		assertEquals(1, running.size());
+		assertNotNull(running.get(0));
+		assertEquals(MigrationsExecutor.STATE_RUNNING, running.get(0).getState());
+		assertEquals("/executor_fast/0.0.0.migrate", running.get(0).getStep());
+		assertEquals(null, running.get(0).getFinishedAt());
+
+		List<String> steps = new ArrayList<String>();
+		new MigrationsExecutor(migrationsCoreService, 1).execute(Arrays.asList("executor_fast"), migration -> steps.add(migration.getLocation()), new CountingListener());
+
+		assertEquals(Arrays.asList("/executor_fast/0.0.0.migrate"), steps);
+		MigrationStatusDefinition status = migrationsCoreService.getMigrationStatus("executor_fast");
+		assertEquals(0, status.getMajor());
+		assertEquals(MigrationsExecutor.STATE_SUCCESSFUL, status.getState());
+	}
+
+	/**
+	 * Creates the migration.
+	 *
+	 * @param project the project
+	 * @param major the major
+	 * @param minor the minor
+	 * @param micro the micro
+	 * @throws MigrationsException the migrations exception
+	 */
+	private void createMigration(String project, int major, int minor, int micro) throws MigrationsException {
+		String location = "/" + project + "/" + major + "." + minor + "." + micro + ".migrate";
+		migrationsCoreService.createMigration(location, project, major, minor, micro, "handler", "javascript", "Test");
+	}
+
+	/**
+	 * Removes the migrations and the statuses of the test projects.
+	 *
+	 * @throws MigrationsException the migrations exception
+	 */
+	private void cleanup() throws MigrationsException {
+		for (String project : PROJECTS) {
+			for (MigrationDefinition migration : migrationsCoreService.getMigrationsPerProject(project)) {
+				migrationsCoreService.removeMigration(migration.getLocation());
+			}
+			if (migrationsCoreService.existsMigrationStatus(project)) {
+				migrationsCoreService.removeMigrationStatus(project);
+			}
+		}
+	}
+
+	/**
+	 * Counts the outcomes.
+	 */
+	private static class CountingListener implements MigrationsExecutor.MigrationListener {
+
+		/** The failed. */
+		private int failed;
+
+		/** The skipped. */
+		private int skipped;
+
+		/**
+		 * Executed.
+		 *
+		 * @param migration the migration
+		 * @param error the error
+		 */
+		@Override
+		public synchronized void executed(MigrationDefinition migration, Throwable error) {
+			if (error != null) {
+				failed++;
+			}
+		}
+
+		/**
+		 * Skipped.
+		 *
+		 * @param migration the migration
+		 * @param status the status
+		 */
+		@Override
+		public synchronized void skipped(MigrationDefinition migration, MigrationStatusDefinition status) {
+			skipped++;
+		}
+
+	}
+
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.fs;
+
+import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory sorted index of the file paths of a {@link FileSystemRepository}.
+ * <p>
+ * The index is built lazily by a single walk over the repository root and afterwards maintained incrementally by the
+ * repository dao on create, delete, rename and copy. The git operations changing a working tree invalidate the indexes
+ * over it with {@link #invalidate(File)}. Any other files written to the root folder bypassing the repository are not
+ * visible to the lookups until the periodic rebuild, i.e. for up to DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_MAX_AGE
+ * seconds, or until {@link FileSystemRepository#searchRefresh()}.
+ * <p>
+ * The listeners registered with {@link #addListener(Consumer)} are notified of every file or folder changed through a
+ * repository, e.g. to drop the state derived from a git working tree.
+ * <p>
+ * Instances are shared between all the repositories opened over the same root folder.
+ */
+public class FileSystemPathIndex {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(FileSystemPathIndex.class);
+
+	/** The Constant DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_ENABLED. */
+	public static final String DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_ENABLED = "DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_ENABLED"; //$NON-NLS-1$
+
+	/**
+	 * The Constant DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_MAX_AGE, the seconds after which the index is rebuilt, and so
+	 * the longest time the files written by other means than the repository or git stay unseen.
+	 */
+	public static final String DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_MAX_AGE = "DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_MAX_AGE"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_MAX_AGE_IN_SECONDS. */
+	private static final String DEFAULT_MAX_AGE_IN_SECONDS = "60";
+
+	/** The Constant INDEXES. */
+	private static final Map<String, FileSystemPathIndex> INDEXES = new ConcurrentHashMap<String, FileSystemPathIndex>();
+
+	/** The Constant LISTENERS, notified of the files and folders changed through the repositories. */
+	private static final List<Consumer<File>> LISTENERS = new CopyOnWriteArrayList<Consumer<File>>();
+
+	/** The root folder. */
+	private final String rootFolder;
+
+	/** The enabled flag. */
+	private final boolean enabled;
+
+	/** The max age in milliseconds. */
+	private final long maxAge;
+
+	/** The paths. */
+	private volatile NavigableSet<String> paths = new ConcurrentSkipListSet<String>();
+
+	/** The time of the last full build, zero when the index has to be rebuilt. */
+	private volatile long builtAt = 0;
+
+	/** The changes made while a rebuild is running, replayed over the rebuilt set. */
+	private List<Consumer<NavigableSet<String>>> pending;
+
+	/** The lock guarding the mutations. */
+	private final Object lock = new Object();
+
+	/**
+	 * Gets the index for the root folder of the given repository.
+	 *
+	 * @param repository the repository
+	 * @return the path index
+	 */
+	public static FileSystemPathIndex get(FileSystemRepository repository) {
+		return INDEXES.computeIfAbsent(repository.getRepositoryPath(), k -> new FileSystemPathIndex(k));
+	}
+
+	/**
+	 * Marks as stale the indexes over a folder changed bypassing the repository, e.g. a git working tree after a checkout
+	 * or a pull, as well as the indexes under it.
+	 *
+	 * @param folder the changed folder
+	 */
+	public static void invalidate(File folder) {
+		Path changed = folder.toPath().toAbsolutePath().normalize();
+		for (FileSystemPathIndex index : INDEXES.values()) {
+			Path root = Paths.get(index.rootFolder).toAbsolutePath().normalize();
+			if (changed.startsWith(root) || root.startsWith(changed)) {
+				index.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Registers a listener notified with the file or folder changed through any repository. The listener is called on
+	 * the writing thread and should return quickly.
+	 *
+	 * @param listener the listener
+	 */
+	public static void addListener(Consumer<File> listener) {
+		LISTENERS.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 *
+	 * @param listener the listener
+	 */
+	public static void removeListener(Consumer<File> listener) {
+		LISTENERS.remove(listener);
+	}
+
+	/**
+	 * Instantiates a new path index.
+	 *
+	 * @param rootFolder the absolute root folder of the repository
+	 */
+	FileSystemPathIndex(String rootFolder) {
+		this.rootFolder = rootFolder;
+		this.enabled = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_ENABLED, Boolean.TRUE.toString()));
+		this.maxAge = Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_LOCAL_PATH_INDEX_MAX_AGE, DEFAULT_MAX_AGE_IN_SECONDS)) * 1000;
+	}
+
+	/**
+	 * Search for files under a given root with names matching the wildcard.
+	 *
+	 * @param root the repository path of the root collection
+	 * @param wildcard the wildcard to be matched by the file names
+	 * @param caseSensitivity the case sensitivity
+	 * @return the matching repository paths
+	 */
+	public List<String> search(String root, String wildcard, IOCase caseSensitivity) {
+		List<String> result = new ArrayList<String>();
+		for (String path : subtree(snapshot(), toKey(root))) {
+			if (FilenameUtils.wildcardMatch(path.substring(path.lastIndexOf(IRepository.SEPARATOR) + 1), wildcard, caseSensitivity)) {
+				result.add(path);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Registers a created or updated file.
+	 *
+	 * @param path the path
+	 */
+	public void addFile(String path) {
+		String key = toKey(path);
+		apply(set -> set.add(key));
+		changed(key);
+	}
+
+	/**
+	 * Unregisters a deleted file.
+	 *
+	 * @param path the path
+	 */
+	public void removeFile(String path) {
+		String key = toKey(path);
+		apply(set -> set.remove(key));
+		changed(key);
+	}
+
+	/**
+	 * Unregisters a deleted folder with all its descendants.
+	 *
+	 * @param path the path
+	 */
+	public void removeFolder(String path) {
+		String key = toKey(path);
+		apply(set -> {
+			set.remove(key);
+			subtree(set, key).clear();
+		});
+		changed(key);
+	}
+
+	/**
+	 * Re-reads the files of a single folder from the disk, e.g. after it has been moved, copied or linked.
+	 *
+	 * @param path the path
+	 */
+	public void refreshFolder(String path) {
+		String key = toKey(path);
+		NavigableSet<String> found = walk(key);
+		apply(set -> {
+			set.remove(key);
+			subtree(set, key).clear();
+			set.addAll(found);
+		});
+		changed(key);
+	}
+
+	/**
+	 * Marks the index as stale, so that the next lookup re-reads the repository from the disk.
+	 */
+	public void invalidate() {
+		builtAt = 0;
+	}
+
+	/**
+	 * Notifies the listeners of a changed file or folder.
+	 *
+	 * @param key the normalized repository path
+	 */
+	private void changed(String key) {
+		if (LISTENERS.isEmpty()) {
+			return;
+		}
+		File file = new File(rootFolder + key.replace(IRepository.SEPARATOR, File.separator));
+		for (Consumer<File> listener : LISTENERS) {
+			try {
+				listener.accept(file);
+			} catch (RuntimeException e) {
+				if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+			}
+		}
+	}
+
+	/**
+	 * Gets a view over the indexed paths, rebuilding it first if it is stale.
+	 *
+	 * @return the paths
+	 */
+	private NavigableSet<String> snapshot() {
+		if (!enabled) {
+			return walk(IRepository.SEPARATOR);
+		}
+		if (isStale()) {
+			rebuild();
+		}
+		return paths;
+	}
+
+	/**
+	 * Checks if is stale.
+	 *
+	 * @return true, if is stale
+	 */
+	private boolean isStale() {
+		return builtAt == 0 || (maxAge > 0 && System.currentTimeMillis() - builtAt > maxAge);
+	}
+
+	/**
+	 * Rebuilds the whole index from the disk. Changes applied during the walk are replayed over the result.
+	 */
+	private synchronized void rebuild() {
+		if (!isStale()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		synchronized (lock) {
+			pending = new ArrayList<Consumer<NavigableSet<String>>>();
+		}
+		NavigableSet<String> fresh = walk(IRepository.SEPARATOR);
+		synchronized (lock) {
+			pending.forEach(change -> change.accept(fresh));
+			pending = null;
+			paths = fresh;
+			builtAt = System.currentTimeMillis();
+		}
+		if (logger.isDebugEnabled()) {logger.debug(String.format("Path index of [%s] with %d entries built in %d ms", rootFolder, fresh.size(), builtAt - start));}
+	}
+
+	/**
+	 * Applies a change to the current set and records it for an eventual ongoing rebuild.
+	 *
+	 * @param change the change
+	 */
+	private void apply(Consumer<NavigableSet<String>> change) {
+		synchronized (lock) {
+			change.accept(paths);
+			if (pending != null) {
+				pending.add(change);
+			}
+		}
+	}
+
+	/**
+	 * Walks the disk under the given repository path.
+	 *
+	 * @param key the normalized repository path
+	 * @return the found file paths
+	 */
+	private NavigableSet<String> walk(String key) {
+		NavigableSet<String> found = new ConcurrentSkipListSet<String>();
+		File folder = new File(rootFolder + key.replace(IRepository.SEPARATOR, File.separator));
+		if (folder.isDirectory()) {
+			Iterator<File> files = FileUtils.iterateFiles(folder, TRUE, TRUE);
+			while (files.hasNext()) {
+				found.add(toKey(files.next().getAbsolutePath()));
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Normalizes a repository or absolute file path to the form used as a key.
+	 *
+	 * @param path the path
+	 * @return the key
+	 */
+	private String toKey(String path) {
+		String key = path;
+		if (key.startsWith(rootFolder)) {
+			key = key.substring(rootFolder.length());
+		}
+		if (!IRepository.SEPARATOR.equals(File.separator)) {
+			key = key.replace(File.separator, IRepository.SEPARATOR);
+		}
+		return new RepositoryPath(key).toString();
+	}
+
+	/**
+	 * Gets the descendants of a folder key.
+	 *
+	 * @param set the set
+	 * @param key the folder key
+	 * @return the descendants view
+	 */
+	private static NavigableSet<String> subtree(NavigableSet<String> set, String key) {
+		String prefix = key.endsWith(IRepository.SEPARATOR) ? key : key + IRepository.SEPARATOR;
+		return set.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+	}
+
+}
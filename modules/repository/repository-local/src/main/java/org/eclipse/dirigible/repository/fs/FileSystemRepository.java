@@ -13,7 +13,6 @@ package org.eclipse.dirigible.repository.fs;
 
 import static org.apache.commons.io.IOCase.INSENSITIVE;
 import static org.apache.commons.io.IOCase.SENSITIVE;
-import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -24,13 +23,10 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipInputStream;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
@@ -90,6 +86,9 @@ public abstract class FileSystemRepository implements IRepository {
 
 	/** The repository searcher. */
 	private RepositorySearcher repositorySearcher;
+
+	/** The path index. */
+	private FileSystemPathIndex pathIndex;
 	
 	/** The parameters. */
 	private Map<String, String> parameters = Collections.synchronizedMap(new HashMap<>());
@@ -158,6 +157,7 @@ public abstract class FileSystemRepository implements IRepository {
 		if (logger.isDebugEnabled()) {logger.debug(String.format("Creating File-based Repository Client for: %s ...", root));}
 		try {
 			initializeRepository(root);
+			this.pathIndex = FileSystemPathIndex.get(this);
 			this.repositorySearcher = new RepositorySearcher(this);
 			this.setParameter(REPOSITORY_ROOT_FOLDER, this.repositorySearcher.getRoot() + IRepository.SEPARATOR + DIRIGIBLE_LOCAL_ROOT);
 			this.setParameter(REPOSITORY_INDEX_FOLDER, this.repositorySearcher.getRoot());
@@ -474,6 +474,15 @@ public abstract class FileSystemRepository implements IRepository {
 		return repositoryDao;
 	}
 
+	/**
+	 * Gets the path index.
+	 *
+	 * @return the path index
+	 */
+	public FileSystemPathIndex getPathIndex() {
+		return pathIndex;
+	}
+
 	/**
 	 * Import zip.
 	 *
@@ -657,35 +666,18 @@ public abstract class FileSystemRepository implements IRepository {
 	 */
 	@Override
 	public List<IEntity> searchName(String root, String parameter, boolean caseInsensitive) throws RepositorySearchException {
-		try {
-			String workspacePath = LocalWorkspaceMapper.getMappedName(this, root);
-
-			List<IEntity> entities = new ArrayList<IEntity>();
-
-			if ((parameter == null) || "".equals(parameter)) {
-				return entities;
-			}
-
-			String rootRepositoryPath = getRepositoryPath();
-			File dir = new File(workspacePath);
-			Iterator<File> foundFiles = FileUtils.iterateFiles(dir,
-					new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
-			while (foundFiles.hasNext()) {
-				File foundFile = foundFiles.next();
-				String foundFilePath = foundFile.getAbsolutePath();
-				if (foundFilePath.length() <= rootRepositoryPath.length()) {
-					throw new RepositorySearchException(String.format("The found file name [%s] is shorter than the repository root file name [%s]",
-							foundFilePath, rootRepositoryPath));
-				}
-				String repositoryName = foundFilePath.substring(rootRepositoryPath.length());
-				RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-				entities.add(new LocalResource(this, localRepositoryPath));
-			}
+		List<IEntity> entities = new ArrayList<IEntity>();
 
+		if ((parameter == null) || "".equals(parameter)) {
 			return entities;
-		} catch (RepositoryWriteException e) {
-			throw new RepositorySearchException(e);
 		}
+
+		List<String> foundPaths = pathIndex.search(root, "*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE));
+		for (String foundPath : foundPaths) {
+			entities.add(new LocalResource(this, new RepositoryPath(foundPath)));
+		}
+
+		return entities;
 	}
 
 	/**
@@ -702,15 +694,10 @@ public abstract class FileSystemRepository implements IRepository {
 	 */
 	@Override
 	public List<IEntity> searchPath(String parameter, boolean caseInsensitive) throws RepositorySearchException {
-		String rootRepositoryPath = getRepositoryPath();
 		List<IEntity> entities = new ArrayList<IEntity>();
-		Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath),
-				new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
-		while (foundFiles.hasNext()) {
-			File foundFile = foundFiles.next();
-			String repositoryName = foundFile.getAbsolutePath().substring(getRepositoryPath().length());
-			RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-			entities.add(new LocalResource(this, localRepositoryPath));
+		List<String> foundPaths = pathIndex.search(IRepository.SEPARATOR, "*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE));
+		for (String foundPath : foundPaths) {
+			entities.add(new LocalResource(this, new RepositoryPath(foundPath)));
 		}
 
 		return entities;
@@ -744,6 +731,7 @@ public abstract class FileSystemRepository implements IRepository {
 	 */
 	@Override
 	public void searchRefresh() throws RepositorySearchException {
+		pathIndex.invalidate();
 		repositorySearcher.forceReindex();
 	}
 
@@ -759,16 +747,7 @@ public abstract class FileSystemRepository implements IRepository {
 	 */
 	@Override
 	public List<String> getAllResourcePaths() throws RepositoryReadException {
-		String rootRepositoryPath = getRepositoryPath();
-		List<String> paths = new ArrayList<String>();
-		Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath), new WildcardFileFilter("*.*", INSENSITIVE), TRUE);
-		while (foundFiles.hasNext()) {
-			File foundFile = foundFiles.next();
-			String repositoryName = foundFile.getAbsolutePath().substring(getRepositoryPath().length());
-			RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-			paths.add(localRepositoryPath.toString());
-		}
-		return paths;
+		return pathIndex.search(IRepository.SEPARATOR, "*.*", INSENSITIVE);
 	}
 	
 	/**
@@ -822,6 +801,7 @@ public abstract class FileSystemRepository implements IRepository {
 			FileSystemUtils.forceCreateDirectory(Paths.get(workspacePath).getParent().toString());
 		}
 		Files.createSymbolicLink(Paths.get(workspacePath).toAbsolutePath(), Paths.get(filePath).toAbsolutePath());
+		pathIndex.refreshFolder(repositoryPath);
 	}
 
 	/**
@@ -836,6 +816,7 @@ public abstract class FileSystemRepository implements IRepository {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(this, repositoryPath);
 			Path filePath = Paths.get(workspacePath);
 			Files.delete(filePath);
+			pathIndex.removeFolder(repositoryPath);
 		}
 	}
 
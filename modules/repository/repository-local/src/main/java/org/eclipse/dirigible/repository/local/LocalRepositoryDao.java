@@ -104,6 +104,7 @@ public class LocalRepositoryDao {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.saveFile(workspacePath, content);
 			cache.put(workspacePath, content);
+			getRepository().getPathIndex().addFile(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -132,6 +133,7 @@ public class LocalRepositoryDao {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
 			FileSystemUtils.saveFile(workspacePath, content);
 			cache.put(workspacePath, content);
+			getRepository().getPathIndex().addFile(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -173,6 +175,8 @@ public class LocalRepositoryDao {
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
 			cache.remove(workspacePathOld);
+			getRepository().getPathIndex().removeFile(workspacePathOld);
+			getRepository().getPathIndex().addFile(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -193,6 +197,7 @@ public class LocalRepositoryDao {
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
 			cache.remove(workspacePathOld);
+			getRepository().getPathIndex().addFile(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -210,6 +215,7 @@ public class LocalRepositoryDao {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.removeFile(workspacePath);
 			cache.remove(workspacePath);
+			getRepository().getPathIndex().removeFile(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -227,6 +233,7 @@ public class LocalRepositoryDao {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.removeFile(workspacePath);
 			cache.clear();
+			getRepository().getPathIndex().removeFolder(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -263,6 +270,8 @@ public class LocalRepositoryDao {
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
 			cache.clear();
+			getRepository().getPathIndex().removeFolder(workspacePathOld);
+			getRepository().getPathIndex().refreshFolder(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -284,6 +293,7 @@ public class LocalRepositoryDao {
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.copyFolder(workspacePathOld, workspacePathNew);
 			cache.clear();
+			getRepository().getPathIndex().refreshFolder(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.fs.FileSystemPathIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class LocalRepositoryPathIndexTest.
+ */
+public class LocalRepositoryPathIndexTest {
+
+	/** The repository. */
+	private LocalRepository repository;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		repository = new LocalRepository("target/test-index");
+		for (String collection : new String[] {"/project", "/other"}) { //$NON-NLS-1$ //$NON-NLS-2$
+			if (repository.hasCollection(collection)) {
+				repository.removeCollection(collection);
+			}
+		}
+	}
+
+	/**
+	 * Clean up.
+	 */
+	@After
+	public void cleanUp() {
+		for (String collection : new String[] {"/project", "/other"}) { //$NON-NLS-1$ //$NON-NLS-2$
+			if (repository.hasCollection(collection)) {
+				repository.removeCollection(collection);
+			}
+		}
+	}
+
+	/**
+	 * Test index follows create, rename and delete.
+	 */
+	@Test
+	public void testIndexFollowsChanges() {
+		repository.createResource("/project/a/first.js", "some text".getBytes(), false, "text/plain"); //$NON-NLS-1$
+		repository.createResource("/project/b/second.js", "some text".getBytes(), false, "text/plain"); //$NON-NLS-1$
+		assertEquals(2, repository.searchName("/project", ".js", false).size()); //$NON-NLS-1$
+
+		repository.getCollection("/project/a").renameTo("c"); //$NON-NLS-1$
+		List<String> paths = repository.getAllResourcePaths();
+		assertTrue(paths.contains("/project/c/first.js"));
+		assertFalse(paths.contains("/project/a/first.js"));
+
+		repository.getCollection("/project/c").copyTo("/other/c"); //$NON-NLS-1$
+		assertEquals(1, repository.searchName("/other", "FIRST", true).size()); //$NON-NLS-1$
+		assertEquals(0, repository.searchName("/other", "FIRST", false).size()); //$NON-NLS-1$
+
+		repository.removeResource("/project/b/second.js"); //$NON-NLS-1$
+		assertEquals(0, repository.searchPath("second", false).size()); //$NON-NLS-1$
+
+		repository.removeCollection("/project"); //$NON-NLS-1$
+		assertEquals(1, repository.searchPath(".js", false).size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Test external changes are picked up on refresh.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testExternalChangesOnRefresh() throws IOException {
+		repository.createResource("/project/first.js", "some text".getBytes(), false, "text/plain"); //$NON-NLS-1$
+		assertEquals(1, repository.searchPath(".js", false).size()); //$NON-NLS-1$
+
+		File external = new File(repository.getRepositoryPath() + File.separator + "project" + File.separator + "external.js");
+		FileUtils.writeStringToFile(external, "some text", StandardCharsets.UTF_8);
+		repository.getPathIndex().invalidate();
+
+		List<String> paths = repository.getAllResourcePaths();
+		assertTrue(paths.contains("/project/external.js"));
+		assertEquals(1, repository.searchName(IRepository.SEPARATOR, "external", false).size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Test external changes are picked up after the folder written to is invalidated, as done by the git commands.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testExternalChangesOnFolderInvalidation() throws IOException {
+		repository.createResource("/project/first.js", "some text".getBytes(), false, "text/plain"); //$NON-NLS-1$
+		assertEquals(1, repository.searchPath(".js", false).size()); //$NON-NLS-1$
+
+		File project = new File(repository.getRepositoryPath() + File.separator + "project");
+		FileUtils.writeStringToFile(new File(project, "checkedout.js"), "some text", StandardCharsets.UTF_8);
+		assertEquals(1, repository.searchPath(".js", false).size()); //$NON-NLS-1$
+
+		FileSystemPathIndex.invalidate(new File(project, "."));
+		assertTrue(repository.getAllResourcePaths().contains("/project/checkedout.js"));
+	}
+
+}
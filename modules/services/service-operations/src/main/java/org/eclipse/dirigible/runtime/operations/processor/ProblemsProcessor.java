@@ -13,6 +13,7 @@ package org.eclipse.dirigible.runtime.operations.processor;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.core.problems.model.ProblemsFilter;
 import org.eclipse.dirigible.core.problems.service.ProblemsCoreService;
 
 import java.util.List;
@@ -47,6 +48,17 @@ public class ProblemsProcessor {
         return GsonHelper.GSON.toJson(new ProblemsCoreService().fetchProblemsBatch(condition, limit));
     }
 
+    /**
+     * Search problems by a typed filter.
+     *
+     * @param filter the filter
+     * @return the string
+     * @throws ProblemsException the problems exception
+     */
+    public String searchProblems(ProblemsFilter filter) throws ProblemsException {
+        return GsonHelper.GSON.toJson(problemsCoreService.searchProblems(filter));
+    }
+
     /**
      * Update status.
      *
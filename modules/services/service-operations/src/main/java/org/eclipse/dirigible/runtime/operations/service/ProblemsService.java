@@ -19,6 +19,7 @@ import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.service.AbstractRestService;
 import org.eclipse.dirigible.commons.api.service.IRestService;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.core.problems.model.ProblemsFilter;
 import org.eclipse.dirigible.runtime.operations.processor.ProblemsProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,10 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -105,6 +110,69 @@ public class ProblemsService extends AbstractRestService implements IRestService
         return Response.ok().entity(processor.fetchProblemsBatch(condition, limit)).build();
     }
 
+    /**
+     * Search the problems by typed criteria, one page at a time.
+     *
+     * @param location the location prefix
+     * @param type the type
+     * @param status the status
+     * @param category the category
+     * @param source the source
+     * @param from the lower bound of the creation time as ISO date or date-time, inclusive
+     * @param to the upper bound of the creation time as ISO date or date-time, exclusive
+     * @param text the text searched in the cause and the location
+     * @param after the id of the last problem of the previous page
+     * @param limit the page size
+     * @return the response
+     * @throws ProblemsException the scheduler exception
+     */
+    @GET
+    @Path("/filter")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response searchProblems(@QueryParam("location") String location, @QueryParam("type") String type,
+            @QueryParam("status") String status, @QueryParam("category") String category, @QueryParam("source") String source,
+            @QueryParam("from") String from, @QueryParam("to") String to, @QueryParam("text") String text,
+            @QueryParam("after") Long after, @QueryParam("limit") int limit)
+            throws ProblemsException {
+        String user = UserFacade.getName();
+        if (user == null) {
+            return createErrorResponseForbidden(NO_LOGGED_IN_USER);
+        }
+
+        ProblemsFilter filter = new ProblemsFilter();
+        filter.setLocation(location);
+        filter.setType(type);
+        filter.setStatus(status);
+        filter.setCategory(category);
+        filter.setSource(source);
+        filter.setText(text);
+        filter.setAfter(after);
+        filter.setLimit(limit);
+        try {
+            filter.setCreatedFrom(parseTimestamp(from));
+            filter.setCreatedTo(parseTimestamp(to));
+        } catch (DateTimeParseException e) {
+            return createErrorResponseBadRequest(e.getMessage());
+        }
+        return Response.ok().entity(processor.searchProblems(filter)).build();
+    }
+
+    /**
+     * Parses an ISO date or date-time.
+     *
+     * @param value the value
+     * @return the timestamp or null
+     */
+    private static Timestamp parseTimestamp(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if (value.length() == 10) {
+            return Timestamp.valueOf(LocalDate.parse(value).atStartOfDay());
+        }
+        return Timestamp.valueOf(LocalDateTime.parse(value));
+    }
+
     /**
      * Updates the status of all selected problems.
      *
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.runtime.websockets.service;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the websocket handlers off the I/O threads of the container.
+ * <p>
+ * The events of a session are executed one after another in the order of their arrival, while the events of different
+ * sessions run in parallel on a shared pool. Every session has a bounded queue: when it is full, the container thread
+ * delivering the event waits for a free slot, which stops the reading from that client, and the event is rejected if no
+ * slot is freed in time. The lifecycle events (open, error and close) are never rejected, they are queued even beyond the
+ * bound, so the handlers always see the session opened and closed. The received, processed, failed and rejected events
+ * are counted per endpoint.
+ */
+public class WebsocketDispatcher {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(WebsocketDispatcher.class);
+
+	/**
+	 * The counters of an endpoint.
+	 */
+	public static class EndpointMetrics {
+
+		/** The received events. */
+		private final LongAdder received = new LongAdder();
+
+		/** The processed events. */
+		private final LongAdder processed = new LongAdder();
+
+		/** The failed events. */
+		private final LongAdder failed = new LongAdder();
+
+		/** The rejected events. */
+		private final LongAdder rejected = new LongAdder();
+
+		/** The processing time in nanoseconds. */
+		private final LongAdder time = new LongAdder();
+
+		/** The received events at the last report. */
+		private long reported;
+
+		/**
+		 * Gets the received events.
+		 *
+		 * @return the received events
+		 */
+		public long getReceived() {
+			return received.sum();
+		}
+
+		/**
+		 * Gets the processed events.
+		 *
+		 * @return the processed events
+		 */
+		public long getProcessed() {
+			return processed.sum();
+		}
+
+		/**
+		 * Gets the failed events.
+		 *
+		 * @return the failed events
+		 */
+		public long getFailed() {
+			return failed.sum();
+		}
+
+		/**
+		 * Gets the rejected events.
+		 *
+		 * @return the rejected events
+		 */
+		public long getRejected() {
+			return rejected.sum();
+		}
+
+		/**
+		 * Gets the average processing time in milliseconds.
+		 *
+		 * @return the average processing time
+		 */
+		public double getAverageTime() {
+			long count = processed.sum() + failed.sum();
+			return count == 0 ? 0 : time.sum() / 1000000d / count;
+		}
+
+	}
+
+	/**
+	 * The ordered queue of the events of a session.
+	 */
+	private class SessionQueue implements Runnable {
+
+		/** The session id. */
+		private final String sessionId;
+
+		/** The events. */
+		private final ArrayDeque<Runnable> events = new ArrayDeque<Runnable>();
+
+		/** Whether the queue is submitted to the pool. */
+		private boolean scheduled;
+
+		/**
+		 * Instantiates a new session queue.
+		 *
+		 * @param sessionId the session id
+		 */
+		SessionQueue(String sessionId) {
+			this.sessionId = sessionId;
+		}
+
+		/**
+		 * Adds an event, waiting for a free slot unless it is a lifecycle event.
+		 *
+		 * @param event the event
+		 * @param lifecycle whether the event opens, fails or closes the session
+		 * @return true, if added
+		 * @throws InterruptedException the interrupted exception
+		 */
+		synchronized boolean offer(Runnable event, boolean lifecycle) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + timeout;
+			while (!lifecycle && events.size() >= queueSize) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return false;
+				}
+				wait(remaining);
+			}
+			events.add(event);
+			if (!scheduled) {
+				scheduled = true;
+				executor.execute(this);
+			}
+			return true;
+		}
+
+		/**
+		 * Runs the next event and submits the queue again, if not empty.
+		 */
+		@Override
+		public void run() {
+			Runnable event;
+			synchronized (this) {
+				event = events.poll();
+				notifyAll();
+			}
+			try {
+				if (event != null) {
+					event.run();
+				}
+			} finally {
+				synchronized (this) {
+					if (events.isEmpty()) {
+						scheduled = false;
+					} else {
+						executor.execute(this);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Removes the queue of a closed session, once it has no events.
+		 */
+		void release() {
+			synchronized (this) {
+				if (!events.isEmpty()) {
+					return;
+				}
+			}
+			sessions.remove(sessionId, this);
+		}
+
+	}
+
+	/** The maximum number of the queued events per session. */
+	private final int queueSize;
+
+	/** The maximum time in milliseconds to wait for a free slot. */
+	private final long timeout;
+
+	/** The pool. */
+	private final ExecutorService executor;
+
+	/** The queues of the sessions. */
+	private final Map<String, SessionQueue> sessions = new ConcurrentHashMap<String, SessionQueue>();
+
+	/** The metrics of the endpoints. */
+	private final Map<String, EndpointMetrics> metrics = new ConcurrentHashMap<String, EndpointMetrics>();
+
+	/**
+	 * Instantiates a new websocket dispatcher.
+	 *
+	 * @param threads the number of the threads running the handlers
+	 * @param queueSize the maximum number of the queued events per session
+	 * @param timeout the maximum time in milliseconds to wait for a free slot
+	 * @param metricsInterval the interval in seconds of the metrics reports, zero disables them
+	 */
+	public WebsocketDispatcher(int threads, int queueSize, long timeout, long metricsInterval) {
+		this.queueSize = Math.max(1, queueSize);
+		this.timeout = Math.max(0, timeout);
+		AtomicInteger counter = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+			Thread thread = new Thread(runnable, "websocket-handler-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (metricsInterval > 0) {
+			ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "websocket-metrics");
+				thread.setDaemon(true);
+				return thread;
+			});
+			reporter.scheduleAtFixedRate(() -> report(metricsInterval), metricsInterval, metricsInterval, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Queues an event of a session.
+	 *
+	 * @param sessionId the session id
+	 * @param endpoint the endpoint
+	 * @param event the event
+	 * @param lifecycle whether the event opens, fails or closes the session, such events are never rejected
+	 * @param last whether the event closes the session
+	 * @return true, if queued, false if rejected
+	 */
+	public boolean dispatch(String sessionId, String endpoint, Runnable event, boolean lifecycle, boolean last) {
+		EndpointMetrics endpointMetrics = getMetrics(endpoint);
+		endpointMetrics.received.increment();
+		SessionQueue queue = sessions.computeIfAbsent(sessionId, SessionQueue::new);
+		Runnable measured = () -> {
+			try {
+				execute(endpointMetrics, event);
+			} finally {
+				if (last) {
+					queue.release();
+				}
+			}
+		};
+		try {
+			if (queue.offer(measured, lifecycle || last)) {
+				return true;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		endpointMetrics.rejected.increment();
+		if (last) {
+			queue.release();
+		}
+		if (logger.isWarnEnabled()) {logger.warn("[websocket] Event of session [{}] on endpoint [{}] rejected, because the session queue is full", sessionId, endpoint);}
+		return false;
+	}
+
+	/**
+	 * Runs an event on the calling thread.
+	 *
+	 * @param endpoint the endpoint
+	 * @param event the event
+	 */
+	public void run(String endpoint, Runnable event) {
+		EndpointMetrics endpointMetrics = getMetrics(endpoint);
+		endpointMetrics.received.increment();
+		execute(endpointMetrics, event);
+	}
+
+	/**
+	 * Gets the metrics of the endpoints.
+	 *
+	 * @return the metrics per endpoint
+	 */
+	public Map<String, EndpointMetrics> getMetrics() {
+		return Collections.unmodifiableMap(metrics);
+	}
+
+	/**
+	 * Gets the number of the sessions with a queue.
+	 *
+	 * @return the number of the sessions
+	 */
+	public int getSessions() {
+		return sessions.size();
+	}
+
+	/**
+	 * Executes an event and counts it.
+	 *
+	 * @param endpointMetrics the endpoint metrics
+	 * @param event the event
+	 */
+	private void execute(EndpointMetrics endpointMetrics, Runnable event) {
+		long start = System.nanoTime();
+		try {
+			event.run();
+			endpointMetrics.processed.increment();
+		} catch (RuntimeException e) {
+			endpointMetrics.failed.increment();
+			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
+		} finally {
+			endpointMetrics.time.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Gets the metrics of an endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the endpoint metrics
+	 */
+	private EndpointMetrics getMetrics(String endpoint) {
+		return metrics.computeIfAbsent(endpoint, k -> new EndpointMetrics());
+	}
+
+	/**
+	 * Logs the rate of the events per endpoint since the last report.
+	 *
+	 * @param interval the interval in seconds
+	 */
+	private void report(long interval) {
+		for (Map.Entry<String, EndpointMetrics> entry : metrics.entrySet()) {
+			EndpointMetrics endpointMetrics = entry.getValue();
+			long received = endpointMetrics.getReceived();
+			double rate = (received - endpointMetrics.reported) / (double) interval;
+			endpointMetrics.reported = received;
+			if (logger.isInfoEnabled()) {logger.info(String.format("[websocket] Endpoint '%s': %.2f events/s, %d received, %d processed, %d failed, %d rejected, %.2f ms average",
+					entry.getKey(), rate, received, endpointMetrics.getProcessed(), endpointMetrics.getFailed(), endpointMetrics.getRejected(),
+					endpointMetrics.getAverageTime()));}
+		}
+	}
+
+}
@@ -11,10 +11,11 @@
  */
 package org.eclipse.dirigible.runtime.websockets.service;
 
-import java.util.List;
 import java.util.Map;
 
+import org.eclipse.dirigible.api.v4.websockets.WebsocketsFacade;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.websockets.api.WebsocketsException;
 import org.eclipse.dirigible.core.websockets.definition.WebsocketDefinition;
 import org.eclipse.dirigible.core.websockets.service.WebsocketsCoreService;
@@ -24,12 +25,37 @@ import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
  * The Class WebsocketHandler.
  */
 public class WebsocketHandler {
-	
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_HANDLER_ASYNC. */
+	public static final String DIRIGIBLE_WEBSOCKETS_HANDLER_ASYNC = "DIRIGIBLE_WEBSOCKETS_HANDLER_ASYNC"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_HANDLER_THREADS. */
+	public static final String DIRIGIBLE_WEBSOCKETS_HANDLER_THREADS = "DIRIGIBLE_WEBSOCKETS_HANDLER_THREADS"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_SIZE. */
+	public static final String DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_SIZE = "DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_TIMEOUT. */
+	public static final String DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_TIMEOUT = "DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_TIMEOUT"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_WEBSOCKETS_METRICS_INTERVAL. */
+	public static final String DIRIGIBLE_WEBSOCKETS_METRICS_INTERVAL = "DIRIGIBLE_WEBSOCKETS_METRICS_INTERVAL"; //$NON-NLS-1$
+
 	/** The websockets core service. */
 	private WebsocketsCoreService websocketsCoreService = new WebsocketsCoreService();
-	
+
+	/** The asynchronous mode. */
+	private final boolean async = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_WEBSOCKETS_HANDLER_ASYNC, "true"));
+
+	/** The dispatcher. */
+	private final WebsocketDispatcher dispatcher = new WebsocketDispatcher(
+			Integer.parseInt(Configuration.get(DIRIGIBLE_WEBSOCKETS_HANDLER_THREADS, Runtime.getRuntime().availableProcessors() * 2 + "")),
+			Integer.parseInt(Configuration.get(DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_SIZE, "100")),
+			Long.parseLong(Configuration.get(DIRIGIBLE_WEBSOCKETS_SESSION_QUEUE_TIMEOUT, "5000")),
+			Long.parseLong(Configuration.get(DIRIGIBLE_WEBSOCKETS_METRICS_INTERVAL, "0")));
+
 	/**
-	 * Process the event.
+	 * Process the event on the calling thread.
 	 *
 	 * @param endpoint the endpoint
 	 * @param wrapper the wrapper
@@ -37,9 +63,8 @@ public class WebsocketHandler {
 	 * @throws WebsocketsException the websockets exception
 	 */
 	public void processEvent(String endpoint, String wrapper, Map<Object, Object> context) throws WebsocketsException {
-		List<WebsocketDefinition> websocketByEndpointList = websocketsCoreService.getWebsocketByEndpoint(endpoint);
-		if (websocketByEndpointList.size() > 0) {
-			WebsocketDefinition websocketDefinition = websocketByEndpointList.get(0);
+		WebsocketDefinition websocketDefinition = websocketsCoreService.getCachedWebsocketByEndpoint(endpoint);
+		if (websocketDefinition != null) {
 			String module = websocketDefinition.getHandler();
 			String engine = websocketDefinition.getEngine();
 			try {
@@ -54,4 +79,39 @@ public class WebsocketHandler {
 		}
 	}
 
+	/**
+	 * Dispatch the event of a session. The events of a session are processed in their order, off the calling thread
+	 * unless the asynchronous mode is disabled.
+	 *
+	 * @param sessionId the session id
+	 * @param endpoint the endpoint
+	 * @param wrapper the wrapper
+	 * @param context the context
+	 * @param last whether the event closes the session
+	 */
+	public void dispatchEvent(String sessionId, String endpoint, String wrapper, Map<Object, Object> context, boolean last) {
+		Runnable event = () -> {
+			try {
+				processEvent(endpoint, wrapper, context);
+			} catch (WebsocketsException e) {
+				throw new IllegalStateException(e.getMessage(), e);
+			}
+		};
+		if (async) {
+			boolean lifecycle = !WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_MESSAGE.equals(wrapper);
+			dispatcher.dispatch(sessionId, endpoint, event, lifecycle, last);
+		} else {
+			dispatcher.run(endpoint, event);
+		}
+	}
+
+	/**
+	 * Gets the dispatcher with the metrics of the endpoints.
+	 *
+	 * @return the dispatcher
+	 */
+	public WebsocketDispatcher getDispatcher() {
+		return dispatcher;
+	}
+
 }
@@ -23,9 +23,9 @@ import javax.websocket.Session;
 import javax.websocket.server.PathParam;
 import javax.websocket.server.ServerEndpoint;
 
+import org.eclipse.dirigible.api.v4.websockets.WebsocketSessions;
 import org.eclipse.dirigible.api.v4.websockets.WebsocketsFacade;
 import org.eclipse.dirigible.commons.config.StaticObjects;
-import org.eclipse.dirigible.core.websockets.api.WebsocketsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,13 +52,11 @@ public class WebsocketsService {
 	@OnOpen
 	public void onOpen(Session session, @PathParam("endpoint") String endpoint) {
 		if (logger.isDebugEnabled()) {logger.debug(String.format("[websocket] Endpoint '%s' openned.", endpoint));}
+		WebsocketSessions.getInstance().register(endpoint, session);
 		Map<Object, Object> context = new HashMap<>();
+		context.put("sessionId", session.getId());
     	context.put("method", "onopen");
-    	try {
-    		getHandler().processEvent(endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_OPEN, context);
-		} catch (WebsocketsException e) {
-			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
-		}
+    	getHandler().dispatchEvent(session.getId(), endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_OPEN, context, false);
 	}
 	
 
@@ -77,12 +75,9 @@ public class WebsocketsService {
 		if (logger.isTraceEnabled()) {logger.trace(String.format("[websocket] Endpoint '%s' received message:%s ", endpoint, message));}
 		Map<Object, Object> context = new HashMap<>();
 		context.put("message", message);
+		context.put("sessionId", session.getId());
     	context.put("method", "onmessage");
-    	try {
-    		getHandler().processEvent(endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_MESSAGE, context);
-		} catch (WebsocketsException e) {
-			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
-		}
+    	getHandler().dispatchEvent(session.getId(), endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_MESSAGE, context, false);
 	}
 
 	/**
@@ -101,12 +96,9 @@ public class WebsocketsService {
 		if (logger.isErrorEnabled()) {logger.error("[websocket] " + throwable.getMessage(), throwable);}
 		Map<Object, Object> context = new HashMap<>();
 		context.put("error", throwable.getMessage());
+		context.put("sessionId", session.getId());
     	context.put("method", "onerror");
-    	try {
-    		getHandler().processEvent(endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_ERROR, context);
-		} catch (WebsocketsException e) {
-			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
-		}
+    	getHandler().dispatchEvent(session.getId(), endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_ERROR, context, false);
 	}
 
 	/**
@@ -122,13 +114,11 @@ public class WebsocketsService {
 	@OnClose
 	public void onClose(Session session, CloseReason closeReason, @PathParam("endpoint") String endpoint) {
 		if (logger.isDebugEnabled()) {logger.debug(String.format("[websocket] Endpoint '%s' closed because of %s", endpoint, closeReason));}
+		WebsocketSessions.getInstance().unregister(endpoint, session);
 		Map<Object, Object> context = new HashMap<>();
+		context.put("sessionId", session.getId());
     	context.put("method", "onclose");
-    	try {
-    		getHandler().processEvent(endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_CLOSE, context);
-		} catch (WebsocketsException e) {
-			if (logger.isErrorEnabled()) {logger.error(e.getMessage(), e);}
-		}
+    	getHandler().dispatchEvent(session.getId(), endpoint, WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_CLOSE, context, true);
 	}
 	
 	/**
@@ -138,7 +128,13 @@ public class WebsocketsService {
 	 */
 	protected synchronized WebsocketHandler getHandler() {
 		if (this.handler == null) {
-			handler = (WebsocketHandler) StaticObjects.get(StaticObjects.WEBSOCKET_HANDLER);
+			synchronized (WebsocketsService.class) {
+				handler = (WebsocketHandler) StaticObjects.get(StaticObjects.WEBSOCKET_HANDLER);
+				if (handler == null) {
+					handler = new WebsocketHandler();
+					StaticObjects.set(StaticObjects.WEBSOCKET_HANDLER, handler);
+				}
+			}
 		}
 		return this.handler;
 	}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.runtime.websockets.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * The Class WebsocketDispatcherTest.
+ */
+public class WebsocketDispatcherTest {
+
+	/**
+	 * The events of a session are processed in their order, while the sessions share the pool.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void orderingPerSession() throws InterruptedException {
+		WebsocketDispatcher dispatcher = new WebsocketDispatcher(4, 1000, 1000, 0);
+		int sessions = 3;
+		int events = 200;
+		CountDownLatch processed = new CountDownLatch(sessions * events);
+		List<List<Integer>> received = new ArrayList<List<Integer>>();
+		for (int s = 0; s < sessions; s++) {
+			received.add(Collections.synchronizedList(new ArrayList<Integer>()));
+		}
+		for (int i = 0; i < events; i++) {
+			for (int s = 0; s < sessions; s++) {
+				List<Integer> sessionReceived = received.get(s);
+				int index = i;
+				assertTrue(dispatcher.dispatch("session" + s, "endpoint1", () -> {
+					sessionReceived.add(index);
+					processed.countDown();
+				}, i == 0, i == events - 1));
+			}
+		}
+		assertTrue(processed.await(10, TimeUnit.SECONDS));
+		for (List<Integer> sessionReceived : received) {
+			assertEquals(events, sessionReceived.size());
+			for (int i = 0; i < events; i++) {
+				assertEquals(i, sessionReceived.get(i).intValue());
+			}
+		}
+		assertEquals(sessions * events, dispatcher.getMetrics().get("endpoint1").getProcessed());
+		waitForRelease(dispatcher);
+	}
+
+	/**
+	 * A message is rejected when the queue of its session stays full, while the lifecycle events are always queued.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void saturation() throws InterruptedException {
+		WebsocketDispatcher dispatcher = new WebsocketDispatcher(1, 1, 50, 0);
+		List<String> received = Collections.synchronizedList(new ArrayList<String>());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch closed = new CountDownLatch(1);
+
+		assertTrue(dispatcher.dispatch("session1", "endpoint1", () -> {
+			received.add("open");
+			started.countDown();
+			try {
+				blocked.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, true, false));
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		assertTrue(dispatcher.dispatch("session1", "endpoint1", () -> received.add("message1"), false, false));
+		assertFalse(dispatcher.dispatch("session1", "endpoint1", () -> received.add("message2"), false, false));
+		assertTrue(dispatcher.dispatch("session1", "endpoint1", () -> received.add("error"), true, false));
+		assertTrue(dispatcher.dispatch("session1", "endpoint1", () -> {
+			received.add("close");
+			closed.countDown();
+		}, true, true));
+
+		blocked.countDown();
+		assertTrue(closed.await(10, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList("open", "message1", "error", "close"), received);
+		assertEquals(1, dispatcher.getMetrics().get("endpoint1").getRejected());
+		waitForRelease(dispatcher);
+	}
+
+	/**
+	 * Waits for the queues of the closed sessions to be removed.
+	 *
+	 * @param dispatcher the dispatcher
+	 * @throws InterruptedException the interrupted exception
+	 */
+	private static void waitForRelease(WebsocketDispatcher dispatcher) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (dispatcher.getSessions() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(0, dispatcher.getSessions());
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.generation.api;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Bounded cache of the compiled templates of a generation engine.
+ * <p>
+ * The templates are keyed by their location, the hash of their content and the delimiters, so a changed template is
+ * compiled again under a new key, while the stale one is evicted as the least recently used.
+ *
+ * @param <T> the type of the compiled template
+ */
+public class GenerationTemplateCache<T> {
+
+	/** The Constant DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE. */
+	public static final String DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE = "DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_CACHE_SIZE. */
+	private static final String DEFAULT_CACHE_SIZE = "500"; //$NON-NLS-1$
+
+	/** The Constant HEX. */
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Compiles a template on a cache miss.
+	 *
+	 * @param <T> the type of the compiled template
+	 */
+	public interface TemplateCompiler<T> {
+
+		/**
+		 * Compiles the template.
+		 *
+		 * @return the compiled template
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		T compile() throws IOException;
+
+	}
+
+	/** The maximum number of templates. */
+	private final int maxSize;
+
+	/** The templates in access order. */
+	private final Map<String, T> templates;
+
+	/** The hits. */
+	private final AtomicLong hits = new AtomicLong();
+
+	/** The misses. */
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Instantiates a new cache with the configured size.
+	 */
+	public GenerationTemplateCache() {
+		this(Integer.parseInt(Configuration.get(DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE, DEFAULT_CACHE_SIZE)));
+	}
+
+	/**
+	 * Instantiates a new cache.
+	 *
+	 * @param maxSize the maximum number of templates, zero disables the caching
+	 */
+	public GenerationTemplateCache(int maxSize) {
+		this.maxSize = Math.max(0, maxSize);
+		this.templates = new LinkedHashMap<String, T>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+				return size() > GenerationTemplateCache.this.maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Gets the compiled template, compiling it on a miss.
+	 *
+	 * @param location the location
+	 * @param input the template content
+	 * @param sm the start delimiter
+	 * @param em the end delimiter
+	 * @param compiler the compiler
+	 * @return the compiled template
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public T get(String location, byte[] input, String sm, String em, TemplateCompiler<T> compiler) throws IOException {
+		if (maxSize == 0) {
+			misses.incrementAndGet();
+			return compiler.compile();
+		}
+		String key = getKey(location, input, sm, em);
+		T template;
+		synchronized (templates) {
+			template = templates.get(key);
+		}
+		if (template != null) {
+			hits.incrementAndGet();
+			return template;
+		}
+		misses.incrementAndGet();
+		template = compiler.compile();
+		synchronized (templates) {
+			templates.put(key, template);
+		}
+		return template;
+	}
+
+	/**
+	 * Removes all the templates.
+	 */
+	public void clear() {
+		synchronized (templates) {
+			templates.clear();
+		}
+	}
+
+	/**
+	 * Gets the number of the cached templates.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		synchronized (templates) {
+			return templates.size();
+		}
+	}
+
+	/**
+	 * Gets the hits.
+	 *
+	 * @return the hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the misses.
+	 *
+	 * @return the misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the key of a template.
+	 *
+	 * @param location the location
+	 * @param input the template content
+	 * @param sm the start delimiter
+	 * @param em the end delimiter
+	 * @return the key
+	 */
+	private static String getKey(String location, byte[] input, String sm, String em) {
+		return location + "|" + sm + "|" + em + "|" + hash(input);
+	}
+
+	/**
+	 * Hashes the template content.
+	 *
+	 * @param input the template content
+	 * @return the hex encoded hash
+	 */
+	private static String hash(byte[] input) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(input);
+			char[] hex = new char[digest.length * 2];
+			for (int i = 0; i < digest.length; i++) {
+				hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+				hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+			}
+			return new String(hex);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 
 import com.github.mustachejava.DefaultMustacheFactory;
@@ -45,6 +46,12 @@ public class MustacheGenerationEngine implements IGenerationEngine {
 	/** The Constant MUSTACHE_DEFAULT_END_SYMBOL. */
 	private static final String MUSTACHE_DEFAULT_END_SYMBOL = "}}";
 	
+	/** The Constant MUSTACHE_FACTORY, shared for its reflection caches. */
+	private static final DefaultMustacheFactory MUSTACHE_FACTORY = new DefaultMustacheFactory();
+	
+	/** The Constant TEMPLATES. */
+	private static final GenerationTemplateCache<Mustache> TEMPLATES = new GenerationTemplateCache<Mustache>();
+	
 	/**
 	 * Gets the name.
 	 *
@@ -88,13 +95,24 @@ public class MustacheGenerationEngine implements IGenerationEngine {
 		decorateParameters(parameters);
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-		DefaultMustacheFactory defaultMustacheFactory = new DefaultMustacheFactory();
-		Mustache mustache = defaultMustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location, sm, em);
+		String start = sm;
+		String end = em;
+		Mustache mustache = TEMPLATES.get(location, input, start, end,
+				() -> MUSTACHE_FACTORY.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location, start, end));
 		mustache.execute(writer, parameters);
 		writer.flush();
 		return baos.toByteArray();
 	}
 
+	/**
+	 * Gets the compiled templates cache.
+	 *
+	 * @return the templates cache
+	 */
+	public static GenerationTemplateCache<Mustache> getTemplatesCache() {
+		return TEMPLATES;
+	}
+
 	/**
 	 * Decorate parameters.
 	 *
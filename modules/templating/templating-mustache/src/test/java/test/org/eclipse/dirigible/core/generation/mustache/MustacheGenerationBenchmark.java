@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package test.org.eclipse.dirigible.core.generation.mustache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
+import org.eclipse.dirigible.core.generation.mustache.MustacheGenerationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the Mustache generation engine with a repeated template, served by the compiled templates cache, and
+ * with a new template on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MustacheGenerationBenchmark {
+
+	/** The Constant TEMPLATE. */
+	private static final String TEMPLATE = "package {{packageName}};\n\n"
+			+ "public class {{className}} {\n"
+			+ "{{#properties}}\n\tprivate {{type}} {{name}};\n{{/properties}}\n"
+			+ "{{#properties_}}{{value.name}}{{^last}}, {{/last}}{{/properties_}}\n"
+			+ "}\n";
+
+	/** The engine. */
+	private IGenerationEngine engine;
+
+	/** The template. */
+	private byte[] template;
+
+	/** The counter of the new templates. */
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * Setup.
+	 */
+	@Setup
+	public void setup() {
+		engine = new MustacheGenerationEngine();
+		template = TEMPLATE.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Generates the same template.
+	 *
+	 * @return the result
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public byte[] cached() throws IOException {
+		return engine.generate(parameters(), "/benchmark/template.java.mustache", template, "{{", "}}");
+	}
+
+	/**
+	 * Generates a template never seen before.
+	 *
+	 * @return the result
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public byte[] compiled() throws IOException {
+		byte[] changed = (TEMPLATE + "// " + counter.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+		return engine.generate(parameters(), "/benchmark/template.java.mustache", changed, "{{", "}}");
+	}
+
+	/**
+	 * Creates the parameters, which are decorated by the engine on every call.
+	 *
+	 * @return the parameters
+	 */
+	private static Map<String, Object> parameters() {
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("packageName", "org.eclipse.dirigible.benchmark");
+		parameters.put("className", "Entity");
+		parameters.put("properties", Arrays.asList(property("id", "long"), property("name", "String"), property("createdAt", "Timestamp")));
+		return parameters;
+	}
+
+	/**
+	 * Creates a property.
+	 *
+	 * @param name the name
+	 * @param type the type
+	 * @return the property
+	 */
+	private static Map<String, Object> property(String name, String type) {
+		Map<String, Object> property = new HashMap<String, Object>();
+		property.put("name", name);
+		property.put("type", type);
+		return property;
+	}
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the arguments
+	 * @throws RunnerException the runner exception
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MustacheGenerationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 import org.eclipse.dirigible.core.generation.mustache.MustacheGenerationEngine;
 import org.junit.Test;
@@ -145,4 +146,27 @@ public class MustacheGeneratorTest {
 		byte[] result = generationEngine.generate(parameters, "/location", "test {{#elements_}}{{#value.properties_}}{{value.table}}{{^last}}, {{/last}}{{/value.properties_}}{{/elements_}}".getBytes(), "{{", "}}");
 		assertEquals("test table1, table2", new String(result));
 	}
+
+	/**
+	 * Generate cached.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void generateCached() throws IOException {
+		IGenerationEngine generationEngine = new MustacheGenerationEngine();
+		GenerationTemplateCache<?> cache = MustacheGenerationEngine.getTemplatesCache();
+		long misses = cache.getMisses();
+		long hits = cache.getHits();
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("testParameter", "testValue");
+		assertEquals("cached testValue", new String(generationEngine.generate(parameters, "/cached", "cached {{testParameter}}".getBytes(), "{{", "}}")));
+		parameters.put("testParameter", "otherValue");
+		assertEquals("cached otherValue", new String(new MustacheGenerationEngine().generate(parameters, "/cached", "cached {{testParameter}}".getBytes(), "{{", "}}")));
+		assertEquals(misses + 1, cache.getMisses());
+		assertEquals(hits + 1, cache.getHits());
+		assertEquals("changed otherValue", new String(generationEngine.generate(parameters, "/cached", "changed {{testParameter}}".getBytes(), "{{", "}}")));
+		assertEquals("changed otherValue", new String(generationEngine.generate(parameters, "/cached", "changed [[testParameter]]".getBytes(), "[[", "]]")));
+		assertEquals(misses + 3, cache.getMisses());
+	}
 }
@@ -21,8 +21,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.node.SimpleNode;
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 
 /**
@@ -34,13 +37,16 @@ public class VelocityGenerationEngine implements IGenerationEngine {
 	public static final String ENGINE_NAME = "velocity";
 	
 	/** The engine. */
-	private VelocityEngine engine;
+	private RuntimeInstance engine;
+	
+	/** The templates, per engine as each of them is bound to the runtime that parsed it. */
+	private final GenerationTemplateCache<Template> templates = new GenerationTemplateCache<Template>();
 
 	/**
 	 * Instantiates a new velocity generation engine.
 	 */
 	public VelocityGenerationEngine() {
-		engine = new VelocityEngine();
+		engine = new RuntimeInstance();
 		try {
 			engine.init();
 		} catch (Throwable e) {
@@ -90,24 +96,51 @@ public class VelocityGenerationEngine implements IGenerationEngine {
 			throws IOException {
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-		ByteArrayInputStream in = new ByteArrayInputStream(input);
 		try {
+			Template template = templates.get(location, input, sm, em, () -> parse(location, input));
 			final VelocityContext context = new VelocityContext();
 			prepareContextData(parameters, context);
-			engine.evaluate(context, writer, location, new InputStreamReader(in, StandardCharsets.UTF_8));
+			template.merge(context, writer);
 			writer.flush();
 			return baos.toByteArray();
 		} catch (Exception ex) {
 			throw new IOException("Could not evaluate template by Velocity [" + location + "]: " + ex.getMessage(), ex);
-		} finally {
-			try {
-				in.close();
-			} catch (IOException e) {
-				// do nothing
-			}
 		}
 	}
 	
+	/**
+	 * Parses a template once, so that it can be merged many times.
+	 *
+	 * @param location the location
+	 * @param input the input
+	 * @return the template
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private Template parse(String location, byte[] input) throws IOException {
+		try (ByteArrayInputStream in = new ByteArrayInputStream(input)) {
+			Template template = new Template();
+			template.setName(location);
+			template.setRuntimeServices(engine);
+			SimpleNode document = engine.parse(new InputStreamReader(in, StandardCharsets.UTF_8), template);
+			template.setData(document);
+			template.initDocument();
+			return template;
+		} catch (IOException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			throw new IOException("Could not parse template by Velocity [" + location + "]: " + ex.getMessage(), ex);
+		}
+	}
+	
+	/**
+	 * Gets the compiled templates cache of this engine.
+	 *
+	 * @return the templates cache
+	 */
+	public GenerationTemplateCache<Template> getTemplatesCache() {
+		return templates;
+	}
+	
 	/**
 	 * Put the input parameters to the Velocity Context for processing.
 	 *
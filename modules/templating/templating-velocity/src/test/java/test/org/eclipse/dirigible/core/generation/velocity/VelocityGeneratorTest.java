@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 import org.eclipse.dirigible.core.generation.velocity.VelocityGenerationEngine;
 import org.junit.Test;
@@ -40,4 +41,26 @@ public class VelocityGeneratorTest {
 		assertEquals("test testValue", new String(result));
 	}
 
+	/**
+	 * Generate cached.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void generateCached() throws IOException {
+		VelocityGenerationEngine generationEngine = new VelocityGenerationEngine();
+		GenerationTemplateCache<?> cache = generationEngine.getTemplatesCache();
+		long misses = cache.getMisses();
+		long hits = cache.getHits();
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("testParameter", "testValue");
+		assertEquals("cached testValue", new String(generationEngine.generate(parameters, "/cached", "cached $testParameter".getBytes(), null, null)));
+		parameters.put("testParameter", "otherValue");
+		assertEquals("cached otherValue", new String(generationEngine.generate(parameters, "/cached", "cached $testParameter".getBytes(), null, null)));
+		assertEquals(misses + 1, cache.getMisses());
+		assertEquals(hits + 1, cache.getHits());
+		assertEquals("changed otherValue", new String(generationEngine.generate(parameters, "/cached", "changed $testParameter".getBytes(), null, null)));
+		assertEquals(misses + 2, cache.getMisses());
+	}
+
 }
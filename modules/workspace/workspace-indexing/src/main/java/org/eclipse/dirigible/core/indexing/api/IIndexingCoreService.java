@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.core.indexing.api;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.service.ICoreService;
@@ -38,6 +39,18 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException;
 
+	/**
+	 * Adds documents to an index.
+	 *
+	 * @param index
+	 *            the index
+	 * @param documents
+	 *            the documents
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public void addAll(String index, List<IndexingDocument> documents) throws IndexingException;
+
 	/**
 	 * Search an index by term.
 	 *
@@ -51,6 +64,23 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public String search(String index, String term) throws IndexingException;
 
+	/**
+	 * Search an index by term, returning a page of the matches.
+	 *
+	 * @param index
+	 *            the index
+	 * @param term
+	 *            the term
+	 * @param offset
+	 *            the number of the skipped matches
+	 * @param limit
+	 *            the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public String search(String index, String term, int offset, int limit) throws IndexingException;
+
 	/**
 	 * Search an index by date before.
 	 *
@@ -64,6 +94,23 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public String before(String index, long date) throws IndexingException;
 
+	/**
+	 * Search an index by date before, returning a page of the matches.
+	 *
+	 * @param index
+	 *            the index
+	 * @param date
+	 *            the date
+	 * @param offset
+	 *            the number of the skipped matches
+	 * @param limit
+	 *            the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public String before(String index, long date, int offset, int limit) throws IndexingException;
+
 	/**
 	 * Search an index by date after.
 	 *
@@ -77,6 +124,23 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public String after(String index, long date) throws IndexingException;
 
+	/**
+	 * Search an index by date after, returning a page of the matches.
+	 *
+	 * @param index
+	 *            the index
+	 * @param date
+	 *            the date
+	 * @param offset
+	 *            the number of the skipped matches
+	 * @param limit
+	 *            the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public String after(String index, long date, int offset, int limit) throws IndexingException;
+
 	/**
 	 * Search an index by date between.
 	 *
@@ -92,4 +156,23 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public String between(String index, long lower, long upper) throws IndexingException;
 
+	/**
+	 * Search an index by date between, returning a page of the matches.
+	 *
+	 * @param index
+	 *            the index
+	 * @param lower
+	 *            the lower
+	 * @param upper
+	 *            the upper
+	 * @param offset
+	 *            the number of the skipped matches
+	 * @param limit
+	 *            the maximum number of the returned matches
+	 * @return the values as JSON
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public String between(String index, long lower, long upper, int offset, int limit) throws IndexingException;
+
 }
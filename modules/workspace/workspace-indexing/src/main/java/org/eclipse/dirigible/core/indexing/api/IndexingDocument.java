@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.indexing.api;
+
+import java.util.Map;
+
+/**
+ * A document to be added to an index.
+ */
+public class IndexingDocument {
+
+	/** The location. */
+	private final String location;
+
+	/** The contents. */
+	private final byte[] contents;
+
+	/** The last modified. */
+	private final long lastModified;
+
+	/** The parameters. */
+	private final Map<String, String> parameters;
+
+	/**
+	 * Instantiates a new indexing document.
+	 *
+	 * @param location
+	 *            the location
+	 * @param contents
+	 *            the contents
+	 * @param lastModified
+	 *            the last modified
+	 * @param parameters
+	 *            the parameters
+	 */
+	public IndexingDocument(String location, byte[] contents, long lastModified, Map<String, String> parameters) {
+		this.location = location;
+		this.contents = contents;
+		this.lastModified = lastModified;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Gets the location.
+	 *
+	 * @return the location
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * Gets the contents.
+	 *
+	 * @return the contents
+	 */
+	public byte[] getContents() {
+		return contents;
+	}
+
+	/**
+	 * Gets the last modified.
+	 *
+	 * @return the last modified
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Gets the parameters.
+	 *
+	 * @return the parameters
+	 */
+	public Map<String, String> getParameters() {
+		return parameters;
+	}
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.indexing.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The registry of the open indexes.
+ * <p>
+ * An index is opened for writing on its first update. It keeps one writer and a manager of near-real-time searchers
+ * opened from that writer, so the added documents are visible to the searches without a commit. The changes are
+ * committed to the disk periodically in the background and on shutdown. An index which is not used for
+ * {@link #DIRIGIBLE_INDEXING_IDLE_TIMEOUT} seconds is committed and closed. The searches of an index, which is not open
+ * for writing, read it from the disk without opening a writer, and the searches of a missing index find nothing.
+ */
+public class IndexWriters {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(IndexWriters.class);
+
+	/** The Constant DIRIGIBLE_INDEXING_COMMIT_INTERVAL. */
+	public static final String DIRIGIBLE_INDEXING_COMMIT_INTERVAL = "DIRIGIBLE_INDEXING_COMMIT_INTERVAL"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_INDEXING_RAM_BUFFER_SIZE. */
+	public static final String DIRIGIBLE_INDEXING_RAM_BUFFER_SIZE = "DIRIGIBLE_INDEXING_RAM_BUFFER_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_INDEXING_IDLE_TIMEOUT. */
+	public static final String DIRIGIBLE_INDEXING_IDLE_TIMEOUT = "DIRIGIBLE_INDEXING_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	/**
+	 * An open index.
+	 */
+	private static class OpenIndex {
+
+		/** The writer. */
+		private final IndexWriter writer;
+
+		/** The searcher manager. */
+		private final SearcherManager searcherManager;
+
+		/** The number of the running updates and searches, guarded by the entry of the index in {@link #INDEXES}. */
+		private int users;
+
+		/** The time of the last use. */
+		private volatile long lastUsed = System.currentTimeMillis();
+
+		/**
+		 * Opens an index, creating it if needed.
+		 *
+		 * @param folder the folder
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		OpenIndex(String folder) throws IOException {
+			IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+			iwc.setRAMBufferSizeMB(RAM_BUFFER_SIZE);
+			this.writer = new IndexWriter(FSDirectory.open(Paths.get(folder)), iwc);
+			this.searcherManager = new SearcherManager(writer, null);
+		}
+
+		/**
+		 * Commits the changes and closes the index.
+		 *
+		 * @param folder the folder
+		 */
+		void close(String folder) {
+			try {
+				searcherManager.close();
+				writer.close();
+				writer.getDirectory().close();
+			} catch (IOException | RuntimeException e) {
+				if (logger.isErrorEnabled()) {logger.error("Closing of index [" + folder + "] failed: " + e.getMessage(), e);}
+			}
+		}
+
+	}
+
+	/**
+	 * An update with a writer.
+	 */
+	@FunctionalInterface
+	public interface Update {
+
+		/**
+		 * Updates.
+		 *
+		 * @param writer the writer
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		void update(IndexWriter writer) throws IOException;
+
+	}
+
+	/**
+	 * A search with a searcher.
+	 *
+	 * @param <T> the result type
+	 */
+	@FunctionalInterface
+	public interface Search<T> {
+
+		/**
+		 * Searches.
+		 *
+		 * @param searcher the searcher
+		 * @return the result
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		T search(IndexSearcher searcher) throws IOException;
+
+	}
+
+	/** The RAM buffer size in megabytes. */
+	private static final double RAM_BUFFER_SIZE = Double.parseDouble(Configuration.get(DIRIGIBLE_INDEXING_RAM_BUFFER_SIZE,
+			IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB + ""));
+
+	/** The idle timeout in milliseconds. */
+	private static final long IDLE_TIMEOUT = Long.parseLong(Configuration.get(DIRIGIBLE_INDEXING_IDLE_TIMEOUT, "600")) * 1000;
+
+	/** The open indexes per folder. */
+	private static final Map<String, OpenIndex> INDEXES = new ConcurrentHashMap<String, OpenIndex>();
+
+	static {
+		long interval = Long.parseLong(Configuration.get(DIRIGIBLE_INDEXING_COMMIT_INTERVAL, "10"));
+		if (interval > 0 || IDLE_TIMEOUT > 0) {
+			ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "indexing-commit");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long delay = interval > 0 ? interval : Math.max(1, IDLE_TIMEOUT / 1000);
+			executor.scheduleWithFixedDelay(() -> {
+				if (interval > 0) {
+					commit();
+				}
+				if (IDLE_TIMEOUT > 0) {
+					evict(IDLE_TIMEOUT);
+				}
+			}, delay, delay, TimeUnit.SECONDS);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(IndexWriters::close, "indexing-close"));
+	}
+
+	/**
+	 * Runs an update with the writer of an index, opening the index if needed.
+	 *
+	 * @param folder the folder of the index
+	 * @param update the update
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static void update(String folder, Update update) throws IOException {
+		OpenIndex index = acquire(folder, true);
+		try {
+			update.update(index.writer);
+		} finally {
+			release(folder, index);
+		}
+	}
+
+	/**
+	 * Runs a search with a searcher, which sees all the documents added so far. An index which is not open for writing
+	 * is read from the disk, without opening it for writing.
+	 *
+	 * @param <T> the result type
+	 * @param folder the folder of the index
+	 * @param search the search
+	 * @param empty the result, if the index does not exist
+	 * @return the result
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static <T> T search(String folder, Search<T> search, T empty) throws IOException {
+		OpenIndex index = acquire(folder, false);
+		if (index != null) {
+			try {
+				SearcherManager searcherManager = index.searcherManager;
+				searcherManager.maybeRefreshBlocking();
+				IndexSearcher searcher = searcherManager.acquire();
+				try {
+					return search.search(searcher);
+				} finally {
+					searcherManager.release(searcher);
+				}
+			} finally {
+				release(folder, index);
+			}
+		}
+		Path path = Paths.get(folder);
+		if (!Files.isDirectory(path)) {
+			return empty;
+		}
+		try (Directory directory = FSDirectory.open(path)) {
+			if (!DirectoryReader.indexExists(directory)) {
+				return empty;
+			}
+			try (DirectoryReader reader = DirectoryReader.open(directory)) {
+				return search.search(new IndexSearcher(reader));
+			}
+		}
+	}
+
+	/**
+	 * Commits the changes of all the indexes.
+	 */
+	public static void commit() {
+		for (Map.Entry<String, OpenIndex> entry : INDEXES.entrySet()) {
+			IndexWriter writer = entry.getValue().writer;
+			try {
+				if (writer.isOpen() && writer.hasUncommittedChanges()) {
+					writer.commit();
+				}
+			} catch (IOException | RuntimeException e) {
+				if (logger.isErrorEnabled()) {logger.error("Commit of index [" + entry.getKey() + "] failed: " + e.getMessage(), e);}
+			}
+		}
+	}
+
+	/**
+	 * Commits and closes the indexes, which are not used at the moment and were not used for the given time.
+	 *
+	 * @param idle the idle time in milliseconds
+	 */
+	public static void evict(long idle) {
+		long now = System.currentTimeMillis();
+		for (String folder : INDEXES.keySet()) {
+			INDEXES.computeIfPresent(folder, (k, index) -> {
+				if (index.users > 0 || now - index.lastUsed < idle) {
+					return index;
+				}
+				index.close(k);
+				if (logger.isDebugEnabled()) {logger.debug("Closed the idle index [{}]", k);}
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Commits and closes an index, unless it is used at the moment.
+	 *
+	 * @param folder the folder of the index
+	 * @return true, if the index is not open anymore
+	 */
+	public static boolean close(String folder) {
+		OpenIndex remaining = INDEXES.computeIfPresent(folder, (k, index) -> {
+			if (index.users > 0) {
+				return index;
+			}
+			index.close(k);
+			return null;
+		});
+		return remaining == null;
+	}
+
+	/**
+	 * Commits and closes all the indexes.
+	 */
+	public static void close() {
+		for (String folder : INDEXES.keySet()) {
+			OpenIndex index = INDEXES.remove(folder);
+			if (index != null) {
+				index.close(folder);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether an index is open for writing.
+	 *
+	 * @param folder the folder of the index
+	 * @return true, if open
+	 */
+	public static boolean isOpen(String folder) {
+		return INDEXES.containsKey(folder);
+	}
+
+	/**
+	 * Marks an index as used, opening it first if requested. The index is not closed by the eviction until released.
+	 *
+	 * @param folder the folder
+	 * @param create whether to open the index, if it is not open
+	 * @return the open index, or null if not open and not requested to open
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static OpenIndex acquire(String folder, boolean create) throws IOException {
+		try {
+			return INDEXES.compute(folder, (k, index) -> {
+				if (index == null) {
+					if (!create) {
+						return null;
+					}
+					try {
+						index = new OpenIndex(k);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				index.users++;
+				index.lastUsed = System.currentTimeMillis();
+				return index;
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Marks the end of a use of an index.
+	 *
+	 * @param folder the folder
+	 * @param index the index
+	 */
+	private static void release(String folder, OpenIndex index) {
+		INDEXES.computeIfPresent(folder, (k, current) -> {
+			if (current == index) {
+				current.users--;
+				current.lastUsed = System.currentTimeMillis();
+			}
+			return current;
+		});
+	}
+
+}
@@ -17,42 +17,37 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
-import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 
 /**
  * The Class IndexingCoreService.
+ * <p>
+ * The indexes are written and searched through the writers kept open by {@link IndexWriters}.
  */
 public class IndexingCoreService implements IIndexingCoreService {
 
@@ -112,6 +107,22 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException {
+		addAll(index, Collections.singletonList(new IndexingDocument(location, contents, lastModified, parameters)));
+	}
+
+	/**
+	 * Adds documents.
+	 *
+	 * @param index the index
+	 * @param documents the documents
+	 * @throws IndexingException the indexing exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#addAll(java.lang.String, java.util.List)
+	 */
+	@Override
+	public void addAll(String index, List<IndexingDocument> documents) throws IndexingException {
 		String indexName = index;
 		if (index != null) {
 			indexName = flattenizeIndexName(indexName);
@@ -120,35 +131,38 @@ public class IndexingCoreService implements IIndexingCoreService {
 		}
 
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			Analyzer analyzer = new StandardAnalyzer();
-			IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-			IndexWriter writer = null;
-			try {
-				writer = new IndexWriter(dir, iwc);
-				Document doc = new Document();
-				Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-				doc.add(pathField);
-				doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-				if (parameters != null) {
-					for (String key : parameters.keySet()) {
-						doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-					}
-				}
-				doc.add(new TextField(FIELD_CONTENTS,
-						new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-				writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-			} finally {
-				if (writer != null) {
-					writer.close();
-				}
-			}
+			IndexWriters.update(ROOT_FOLDER + File.separator + indexName, writer -> addAll(writer, documents));
 		} catch (IOException e) {
 			throw new IndexingException(e);
 		}
 	}
 
+	/**
+	 * Adds documents with a writer.
+	 *
+	 * @param writer the writer
+	 * @param documents the documents
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static void addAll(IndexWriter writer, List<IndexingDocument> documents) throws IOException {
+		for (IndexingDocument document : documents) {
+			String location = document.getLocation();
+			Map<String, String> parameters = document.getParameters();
+			Document doc = new Document();
+			Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+			doc.add(pathField);
+			doc.add(new LongPoint(FIELD_MODIFIED, document.getLastModified()));
+			if (parameters != null) {
+				for (String key : parameters.keySet()) {
+					doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
+				}
+			}
+			doc.add(new TextField(FIELD_CONTENTS,
+					new BufferedReader(new InputStreamReader(new ByteArrayInputStream(document.getContents()), StandardCharsets.UTF_8))));
+			writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
+		}
+	}
+
 	/**
 	 * Search.
 	 *
@@ -163,39 +177,30 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String search(String index, String term) throws IndexingException {
-		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
-		}
+		return search(index, term, 0, MAX_RESULTS);
+	}
+
+	/**
+	 * Search with paging.
+	 *
+	 * @param index the index
+	 * @param term the term
+	 * @param offset the offset
+	 * @param limit the limit
+	 * @return the string
+	 * @throws IndexingException the indexing exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#search(java.lang.String, java.lang.String, int, int)
+	 */
+	@Override
+	public String search(String index, String term, int offset, int limit) throws IndexingException {
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			IndexReader reader = null;
-			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Analyzer analyzer = new StandardAnalyzer();
-				String field = FIELD_CONTENTS;
-				QueryParser parser = new QueryParser(field, analyzer);
-				Query query = parser.parse(term);
-				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-					Document document = searcher.doc(scoreDoc.doc);
-					Map<String, String> map = new HashMap<String, String>();
-					for (IndexableField indexableField : document.getFields()) {
-						map.put(indexableField.name(), indexableField.stringValue());
-					}
-					results.add(map);
-				}
-			} finally {
-				if (reader != null) {
-					reader.close();
-				}
-			}
-			return GsonHelper.GSON.toJson(results);
-		} catch (IOException | ParseException e) {
+			QueryParser parser = new QueryParser(FIELD_CONTENTS, new StandardAnalyzer());
+			Query query = parser.parse(term);
+			return find(index, query, offset, limit);
+		} catch (ParseException e) {
 			throw new IndexingException(e);
 		}
 	}
@@ -214,7 +219,26 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String before(String index, long date) throws IndexingException {
-		return between(index, new Date(0).getTime(), date);
+		return before(index, date, 0, MAX_RESULTS);
+	}
+
+	/**
+	 * Before with paging.
+	 *
+	 * @param index the index
+	 * @param date the date
+	 * @param offset the offset
+	 * @param limit the limit
+	 * @return the string
+	 * @throws IndexingException the indexing exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#before(java.lang.String, long, int, int)
+	 */
+	@Override
+	public String before(String index, long date, int offset, int limit) throws IndexingException {
+		return between(index, new Date(0).getTime(), date, offset, limit);
 	}
 
 	/**
@@ -231,7 +255,26 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String after(String index, long date) throws IndexingException {
-		return between(index, date, new Date().getTime());
+		return after(index, date, 0, MAX_RESULTS);
+	}
+
+	/**
+	 * After with paging.
+	 *
+	 * @param index the index
+	 * @param date the date
+	 * @param offset the offset
+	 * @param limit the limit
+	 * @return the string
+	 * @throws IndexingException the indexing exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#after(java.lang.String, long, int, int)
+	 */
+	@Override
+	public String after(String index, long date, int offset, int limit) throws IndexingException {
+		return between(index, date, new Date().getTime(), offset, limit);
 	}
 
 	/**
@@ -249,40 +292,82 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String between(String index, long lower, long upper) throws IndexingException {
-		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
+		return between(index, lower, upper, 0, MAX_RESULTS);
+	}
+
+	/**
+	 * Between with paging.
+	 *
+	 * @param index the index
+	 * @param lower the lower
+	 * @param upper the upper
+	 * @param offset the offset
+	 * @param limit the limit
+	 * @return the string
+	 * @throws IndexingException the indexing exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#between(java.lang.String, long, long, int, int)
+	 */
+	@Override
+	public String between(String index, long lower, long upper, int offset, int limit) throws IndexingException {
+		return find(index, LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper), offset, limit);
+	}
+
+	/**
+	 * Finds a page of the documents matching a query.
+	 *
+	 * @param index the index
+	 * @param query the query
+	 * @param offset the number of the skipped matches
+	 * @param limit the maximum number of the returned matches
+	 * @return the documents as JSON
+	 * @throws IndexingException the indexing exception
+	 */
+	private String find(String index, Query query, int offset, int limit) throws IndexingException {
 		String indexName = index;
 		if (index != null) {
 			indexName = flattenizeIndexName(indexName);
 		} else {
 			throw new IndexingException("Index name may not be null");
 		}
+		if (offset < 0 || limit < 0) {
+			throw new IndexingException("Offset and limit may not be negative");
+		}
+		if (limit == 0) {
+			return GsonHelper.GSON.toJson(Collections.emptyList());
+		}
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			IndexReader reader = null;
-			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
-				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-					Document document = searcher.doc(scoreDoc.doc);
+			List<Map<String, String>> results = IndexWriters.search(ROOT_FOLDER + File.separator + indexName, searcher -> {
+				List<Map<String, String>> page = new ArrayList<Map<String, String>>();
+				TopDocs topDocs = searcher.search(query, (int) Math.min(Integer.MAX_VALUE, (long) offset + limit));
+				ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+				for (int i = offset; i < scoreDocs.length; i++) {
+					Document document = searcher.doc(scoreDocs[i].doc);
 					Map<String, String> map = new HashMap<String, String>();
 					for (IndexableField indexableField : document.getFields()) {
 						map.put(indexableField.name(), indexableField.stringValue());
 					}
-					results.add(map);
-				}
-			} finally {
-				if (reader != null) {
-					reader.close();
+					page.add(map);
 				}
-			}
+				return page;
+			}, Collections.emptyList());
 			return GsonHelper.GSON.toJson(results);
 		} catch (IOException e) {
 			throw new IndexingException(e);
 		}
 	}
 
+	/**
+	 * Gets the configured maximum number of the results of a search without a limit.
+	 *
+	 * @return the max results
+	 */
+	public static int getMaxResults() {
+		return MAX_RESULTS;
+	}
+
 	/**
 	 * Flattenize index name.
 	 *
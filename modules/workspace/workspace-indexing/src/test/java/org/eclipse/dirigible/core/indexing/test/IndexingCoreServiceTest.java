@@ -12,16 +12,23 @@
 package org.eclipse.dirigible.core.indexing.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
+import org.eclipse.dirigible.core.indexing.service.IndexWriters;
 import org.eclipse.dirigible.core.indexing.service.IndexingCoreService;
 import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
 import org.junit.Before;
@@ -98,20 +105,120 @@ public class IndexingCoreServiceTest extends AbstractDirigibleTest {
 	public void betweenTest() throws IndexingException {
 
 		Map<String, String> parameters = new HashMap<String, String>();
-		indexingCoreService.add(TEST_INDEX, "/root/folder/subfolder/file4.txt",
+		indexingCoreService.add(TEST_INDEX + "_between", "/root/folder/subfolder/file4.txt",
 				"Apache LuceneTM is a high-performance, full-featured text search engine library written entirely in Java.".getBytes(),
 				new Date(123).getTime(), parameters);
-		indexingCoreService.add(TEST_INDEX, "/root/folder/subfolder/file5.txt",
+		indexingCoreService.add(TEST_INDEX + "_between", "/root/folder/subfolder/file5.txt",
 				"It is a technology suitable for nearly any application that requires full-text search, especially cross-platform.".getBytes(),
 				new Date(456).getTime(), parameters);
-		indexingCoreService.add(TEST_INDEX, "/root/folder/subfolder/file6.txt",
+		indexingCoreService.add(TEST_INDEX + "_between", "/root/folder/subfolder/file6.txt",
 				"Apache Lucene is an open source project available for free download. Please use the links on the right to access Lucene.".getBytes(),
 				new Date(789).getTime(), parameters);
 
-		List matches = GsonHelper.GSON.fromJson(indexingCoreService.between(TEST_INDEX, new Date(124).getTime(), new Date(689).getTime()),
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.between(TEST_INDEX + "_between", new Date(124).getTime(), new Date(689).getTime()),
 				List.class);
 		assertNotNull(matches);
 		assertEquals(1, matches.size());
 	}
 
+	/**
+	 * Add all and paging test.
+	 *
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void addAllAndPagingTest() throws IndexingException {
+		List<IndexingDocument> documents = new ArrayList<IndexingDocument>();
+		for (int i = 0; i < 150; i++) {
+			documents.add(new IndexingDocument("/root/folder/bulk/file" + i + ".txt", ("Bulk document number " + i).getBytes(), 1000 + i,
+					new HashMap<String, String>()));
+		}
+		indexingCoreService.addAll(TEST_INDEX + "_bulk", documents);
+
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.search(TEST_INDEX + "_bulk", "bulk"), List.class);
+		assertEquals(100, matches.size());
+
+		matches = GsonHelper.GSON.fromJson(indexingCoreService.search(TEST_INDEX + "_bulk", "bulk", 100, 100), List.class);
+		assertEquals(50, matches.size());
+
+		matches = GsonHelper.GSON.fromJson(indexingCoreService.between(TEST_INDEX + "_bulk", 1000, 1149, 140, 5), List.class);
+		assertEquals(5, matches.size());
+	}
+
+	/**
+	 * Before and after with paging test.
+	 *
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void beforeAfterPagingTest() throws IndexingException {
+		List<IndexingDocument> documents = new ArrayList<IndexingDocument>();
+		for (int i = 0; i < 150; i++) {
+			documents.add(new IndexingDocument("/root/folder/dated/file" + i + ".txt", ("Dated document number " + i).getBytes(), 1000 + i,
+					new HashMap<String, String>()));
+		}
+		indexingCoreService.addAll(TEST_INDEX + "_dated", documents);
+
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.before(TEST_INDEX + "_dated", 1149), List.class);
+		assertEquals(100, matches.size());
+
+		matches = GsonHelper.GSON.fromJson(indexingCoreService.before(TEST_INDEX + "_dated", 1149, 100, 100), List.class);
+		assertEquals(50, matches.size());
+
+		matches = GsonHelper.GSON.fromJson(indexingCoreService.after(TEST_INDEX + "_dated", 1000, 120, 100), List.class);
+		assertEquals(30, matches.size());
+	}
+
+	/**
+	 * Search of a missing index test.
+	 *
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void missingIndexTest() throws IndexingException {
+		String folder = getFolder(TEST_INDEX + "_missing");
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.search(TEST_INDEX + "_missing", "any"), List.class);
+		assertEquals(0, matches.size());
+		assertFalse(IndexWriters.isOpen(folder));
+		assertFalse(new File(folder).exists());
+	}
+
+	/**
+	 * Closed index test. The documents of a closed index are found by searches, which do not open it again.
+	 *
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void closedIndexTest() throws IndexingException {
+		String folder = getFolder(TEST_INDEX + "_closed");
+		indexingCoreService.add(TEST_INDEX + "_closed", "/root/folder/closed/file.txt", "Closed index document".getBytes(),
+				new Date().getTime(), new HashMap<String, String>());
+		assertTrue(IndexWriters.isOpen(folder));
+
+		IndexWriters.evict(0);
+		assertFalse(IndexWriters.isOpen(folder));
+
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.search(TEST_INDEX + "_closed", "closed"), List.class);
+		assertEquals(1, matches.size());
+		assertFalse(IndexWriters.isOpen(folder));
+	}
+
+	/**
+	 * Gets the folder of an index.
+	 *
+	 * @param index the index
+	 * @return the folder
+	 */
+	private static String getFolder(String index) {
+		return Configuration.get("DIRIGIBLE_INDEXING_ROOT_FOLDER") + File.separator + index;
+	}
+
 }
@@ -13,9 +13,11 @@ package org.eclipse.dirigible.core.problems.api;
 
 import org.eclipse.dirigible.commons.api.service.ICoreService;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.core.problems.model.ProblemsFilter;
 import org.eclipse.dirigible.core.problems.model.ProblemsModel;
 import org.eclipse.dirigible.core.problems.model.response.ResponseModel;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -52,6 +54,29 @@ public interface IProblemsCoreService extends ICoreService {
                      String category, String module, String source, String program)
             throws ProblemsException;
 
+    /**
+     * Saves the whole report of a validation at once. The reported problems are created or updated, while the problems
+     * previously stored for the validated locations which are not reported anymore are deleted. Status is preserved for
+     * the problems which are still reported.
+     *
+     * @param locations  the validated locations, possibly without any problems
+     * @param problems   the reported problems
+     * @return the number of the created, updated and deleted problems
+     * @throws ProblemsException the problems exception
+     */
+    public int saveAll(Collection<String> locations, List<ProblemsModel> problems)
+            throws ProblemsException;
+
+    /**
+     * Search the problems by a typed filter, one page at a time.
+     *
+     * @param filter the filter
+     * @return the page of problems with the cursor of the next page
+     * @throws ProblemsException the problems exception
+     */
+    public ResponseModel searchProblems(ProblemsFilter filter)
+            throws ProblemsException;
+
     /**
      * Checks if Problem exists.
      *
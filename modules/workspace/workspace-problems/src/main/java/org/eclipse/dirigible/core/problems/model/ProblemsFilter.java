@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.problems.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Typed filter of the problems search. All the given criteria must match. The results are ordered from the newest to
+ * the oldest problem and are paged by the id of the last problem of the previous page.
+ */
+public class ProblemsFilter {
+
+    /** The location prefix. */
+    private String location;
+
+    /** The type. */
+    private String type;
+
+    /** The status. */
+    private String status;
+
+    /** The category. */
+    private String category;
+
+    /** The source. */
+    private String source;
+
+    /** The lower bound of the creation time, inclusive. */
+    private Timestamp createdFrom;
+
+    /** The upper bound of the creation time, exclusive. */
+    private Timestamp createdTo;
+
+    /** The text searched in the cause and the location. */
+    private String text;
+
+    /** The id of the last problem of the previous page. */
+    private Long after;
+
+    /** The page size. */
+    private int limit = 100;
+
+    /**
+     * Gets the location prefix.
+     *
+     * @return the location prefix
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Sets the location prefix.
+     *
+     * @param location the location prefix
+     */
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    /**
+     * Gets the type.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type.
+     *
+     * @param type the type
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the status.
+     *
+     * @return the status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the status.
+     *
+     * @param status the status
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets the category.
+     *
+     * @return the category
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Sets the category.
+     *
+     * @param category the category
+     */
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    /**
+     * Gets the source.
+     *
+     * @return the source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Sets the source.
+     *
+     * @param source the source
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Gets the lower bound of the creation time, inclusive.
+     *
+     * @return the lower bound of the creation time, inclusive
+     */
+    public Timestamp getCreatedFrom() {
+        return createdFrom;
+    }
+
+    /**
+     * Sets the lower bound of the creation time, inclusive.
+     *
+     * @param createdFrom the lower bound of the creation time, inclusive
+     */
+    public void setCreatedFrom(Timestamp createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    /**
+     * Gets the upper bound of the creation time, exclusive.
+     *
+     * @return the upper bound of the creation time, exclusive
+     */
+    public Timestamp getCreatedTo() {
+        return createdTo;
+    }
+
+    /**
+     * Sets the upper bound of the creation time, exclusive.
+     *
+     * @param createdTo the upper bound of the creation time, exclusive
+     */
+    public void setCreatedTo(Timestamp createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    /**
+     * Gets the text searched in the cause and the location.
+     *
+     * @return the text searched in the cause and the location
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Sets the text searched in the cause and the location.
+     *
+     * @param text the text searched in the cause and the location
+     */
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Gets the id of the last problem of the previous page.
+     *
+     * @return the id of the last problem of the previous page
+     */
+    public Long getAfter() {
+        return after;
+    }
+
+    /**
+     * Sets the id of the last problem of the previous page.
+     *
+     * @param after the id of the last problem of the previous page
+     */
+    public void setAfter(Long after) {
+        this.after = after;
+    }
+
+    /**
+     * Gets the page size.
+     *
+     * @return the page size
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the page size.
+     *
+     * @param limit the page size
+     */
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
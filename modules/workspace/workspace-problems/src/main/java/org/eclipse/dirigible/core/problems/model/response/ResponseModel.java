@@ -29,6 +29,9 @@ public class ResponseModel {
     /** The total rows. */
     private int totalRows;
 
+    /** The id after which the next page starts, or null for the last page. */
+    private Long next;
+
     /**
      * Instantiates a new response model.
      */
@@ -101,4 +104,22 @@ public class ResponseModel {
     public void setTotalRows(int totalRows) {
         this.totalRows = totalRows;
     }
+
+    /**
+     * Gets the id after which the next page starts.
+     *
+     * @return the next page cursor or null for the last page
+     */
+    public Long getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the id after which the next page starts.
+     *
+     * @param next the next page cursor
+     */
+    public void setNext(Long next) {
+        this.next = next;
+    }
 }
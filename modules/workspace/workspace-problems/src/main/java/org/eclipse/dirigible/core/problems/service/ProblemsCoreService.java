@@ -14,29 +14,46 @@ package org.eclipse.dirigible.core.problems.service;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.dirigible.core.problems.api.IProblemsCoreService;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.core.problems.model.ProblemsFilter;
 import org.eclipse.dirigible.core.problems.model.ProblemsModel;
 import org.eclipse.dirigible.core.problems.model.response.ResponseModel;
 import org.eclipse.dirigible.core.problems.utils.DateValidator;
 import org.eclipse.dirigible.core.problems.utils.ProblemsConstants;
 import org.eclipse.dirigible.api.v3.security.UserFacade;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.database.persistence.PersistenceFactory;
+import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.SelectBuilder;
+import org.eclipse.dirigible.database.sql.builders.table.CreateTableBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * The Class ProblemsCoreService.
@@ -54,6 +71,33 @@ public class ProblemsCoreService implements IProblemsCoreService {
 
     /** The Constant PERCENT. */
     private static final String PERCENT = "%";
+
+    /** The Constant DIRIGIBLE_PROBLEMS_FULL_TEXT_INDEX. */
+    public static final String DIRIGIBLE_PROBLEMS_FULL_TEXT_INDEX = "DIRIGIBLE_PROBLEMS_FULL_TEXT_INDEX"; //$NON-NLS-1$
+
+    /** The Constant TABLE. */
+    private static final String TABLE = "DIRIGIBLE_PROBLEMS";
+
+    /** The Constant INDICES, name followed by the columns. */
+    private static final String[][] INDICES = {
+            {"DIRIGIBLE_PROBLEMS_TYPE", "PROBLEM_TYPE"},
+            {"DIRIGIBLE_PROBLEMS_STATUS", "PROBLEM_STATUS"},
+            {"DIRIGIBLE_PROBLEMS_CREATED_AT", "PROBLEM_CREATED_AT"}};
+
+    /** The maximum number of the values of an IN list, within the limits of Oracle (1000) and SQL Server (2100). */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    /** The Constant FULL_TEXT_INDEX. */
+    private static final String FULL_TEXT_INDEX = "DIRIGIBLE_PROBLEMS_TEXT";
+
+    /** The Constant H2. */
+    private static final String H2 = "H2";
+
+    /** The Constant POSTGRESQL. */
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    /** The data sources with ensured indices and the name of their full-text flavour, if any. */
+    private static final Map<DataSource, String> INDEXED = Collections.synchronizedMap(new WeakHashMap<>());
     
     /**
      * Gets the data source.
@@ -112,7 +156,7 @@ public class ProblemsCoreService implements IProblemsCoreService {
         ProblemsModel problemsModel = getProblem(location, type, line, column);
         if (problemsModel == null) {
             createProblem(problemToPersist);
-            if (logger.isErrorEnabled()) {logger.error("Created a new Problem: " +problemToPersist.toJson());}
+            if (logger.isDebugEnabled()) {logger.debug("Created a new Problem: " + problemToPersist.toJson());}
         } else {
             if (!problemsModel.equals(problemToPersist)) {
                 problemsModel.setCategory(category);
@@ -120,11 +164,131 @@ public class ProblemsCoreService implements IProblemsCoreService {
                 problemsModel.setSource(source);
                 problemsModel.setProgram(program);
                 updateProblem(problemsModel);
-                if (logger.isErrorEnabled()) {logger.error("Updated an existing Problem: " +problemsModel.toJson());}
+                if (logger.isDebugEnabled()) {logger.debug("Updated an existing Problem: " + problemsModel.toJson());}
             }
         }
     }
 
+    /**
+     * Saves a whole report in a single transaction: one query for the existing problems of the locations, one batch of
+     * inserts, one batch of updates and one delete of the stale problems.
+     *
+     * @param locations the validated locations
+     * @param problems the reported problems
+     * @return the number of the created, updated and deleted problems
+     * @throws ProblemsException the problems exception
+     */
+    @Override
+    public int saveAll(Collection<String> locations, List<ProblemsModel> problems) throws ProblemsException {
+        Map<String, ProblemsModel> reported = new LinkedHashMap<>();
+        Set<String> validated = new LinkedHashSet<>(locations);
+        for (ProblemsModel problem : problems) {
+            reported.put(getProblemKey(problem), problem);
+            validated.add(problem.getLocation());
+        }
+        if (validated.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection connection = getDataSource().getConnection()) {
+            ensureIndices(connection);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                Map<String, ProblemsModel> existing = new HashMap<>();
+                for (ProblemsModel problem : findProblemsByLocations(connection, validated)) {
+                    existing.put(getProblemKey(problem), problem);
+                }
+
+                String createdBy = UserFacade.getName();
+                Timestamp createdAt = new Timestamp(new java.util.Date().getTime());
+                List<ProblemsModel> created = new ArrayList<>();
+                List<ProblemsModel> updated = new ArrayList<>();
+                for (Map.Entry<String, ProblemsModel> entry : reported.entrySet()) {
+                    ProblemsModel problem = entry.getValue();
+                    ProblemsModel current = existing.remove(entry.getKey());
+                    if (current == null) {
+                        problem.setCreatedBy(createdBy);
+                        problem.setCreatedAt(createdAt);
+                        problem.setStatus(ProblemsConstants.ACTIVE);
+                        created.add(problem);
+                    } else if (!current.equals(problem)) {
+                        current.setCause(problem.getCause());
+                        current.setExpected(problem.getExpected());
+                        current.setCategory(problem.getCategory());
+                        current.setModule(problem.getModule());
+                        current.setSource(problem.getSource());
+                        current.setProgram(problem.getProgram());
+                        updated.add(current);
+                    }
+                }
+
+                persistenceManager.insertAll(connection, created);
+                persistenceManager.updateAll(connection, updated);
+                int deleted = 0;
+                List<Object> stale = new ArrayList<>();
+                existing.values().forEach(problem -> stale.add(problem.getId()));
+                for (List<Object> ids : partition(stale)) {
+                    String sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_PROBLEMS")
+                            .where("PROBLEM_ID IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")").toString();
+                    deleted += persistenceManager.execute(connection, sql, ids);
+                }
+                connection.commit();
+                if (logger.isDebugEnabled()) {logger.debug(String.format("Problems of %d location(s) saved: %d created, %d updated, %d deleted",
+                        validated.size(), created.size(), updated.size(), deleted));}
+                return created.size() + updated.size() + deleted;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | PersistenceException e) {
+            throw new ProblemsException(e);
+        }
+    }
+
+    /**
+     * Finds the problems of the given locations, with one query per chunk of locations.
+     *
+     * @param connection the connection
+     * @param locations the locations
+     * @return the problems
+     */
+    private List<ProblemsModel> findProblemsByLocations(Connection connection, Collection<String> locations) {
+        List<ProblemsModel> problems = new ArrayList<>();
+        for (List<Object> chunk : partition(new ArrayList<Object>(locations))) {
+            String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_PROBLEMS")
+                    .where("PROBLEM_LOCATION IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")").toString();
+            problems.addAll(persistenceManager.query(connection, ProblemsModel.class, sql, chunk));
+        }
+        return problems;
+    }
+
+    /**
+     * Splits the values of an IN list into chunks, which the databases accept as parameters of a single statement.
+     *
+     * @param values the values
+     * @return the chunks
+     */
+    private static List<List<Object>> partition(List<Object> values) {
+        List<List<Object>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += IN_CHUNK_SIZE) {
+            chunks.add(values.subList(i, Math.min(values.size(), i + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the unique key of a problem.
+     *
+     * @param problem the problem
+     * @return the key
+     */
+    private static String getProblemKey(ProblemsModel problem) {
+        return problem.getLocation() + "|" + problem.getType() + "|" + problem.getLine() + "|" + problem.getColumn();
+    }
+
     /**
      * Exists problem.
      *
@@ -211,6 +375,7 @@ public class ProblemsCoreService implements IProblemsCoreService {
     @Override
     public ProblemsModel getProblem(String location, String type, String line, String column) throws ProblemsException {
         try (Connection connection = getDataSource().getConnection()) {
+            ensureIndices(connection);
             String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_PROBLEMS")
                     .where("PROBLEM_LOCATION = ? AND PROBLEM_TYPE = ? AND PROBLEM_LINE = ? AND PROBLEM_COLUMN = ?").toString();
             List<ProblemsModel> result = persistenceManager.query(connection, ProblemsModel.class,
@@ -277,12 +442,14 @@ public class ProblemsCoreService implements IProblemsCoreService {
     @Override
     public List<ProblemsModel> searchProblemsLimited(String condition, int limit) throws ProblemsException {
         try (Connection connection = getDataSource().getConnection()) {
+            ensureIndices(connection);
             SelectBuilder sqlBuilder = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_PROBLEMS").limit(limit);
             List<Object> values = null;
 
             if (new DateValidator(DateTimeFormatter.ISO_LOCAL_DATE).isValid(condition)) {
-                sqlBuilder.where("FORMATDATETIME(PROBLEM_CREATED_AT,'yyyy-MM-dd') = ?");
-                values = Collections.singletonList(condition);
+                LocalDate date = LocalDate.parse(condition, DateTimeFormatter.ISO_LOCAL_DATE);
+                sqlBuilder.where("PROBLEM_CREATED_AT >= ? AND PROBLEM_CREATED_AT < ?");
+                values = Arrays.asList(Timestamp.valueOf(date.atStartOfDay()), Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
             } else if (!StringUtils.isEmpty(condition)) {
                 sqlBuilder.where("PROBLEM_LOCATION LIKE ? " +
                                  "OR PROBLEM_TYPE LIKE ? " +
@@ -305,6 +472,241 @@ public class ProblemsCoreService implements IProblemsCoreService {
         }
     }
 
+    /**
+     * Search the problems by a typed filter. Every criterion is an indexed equality or range, the location is matched
+     * by prefix and the pages are taken by the id of the last problem of the previous page, so that the cost of a page
+     * does not grow with the size of the table. The total number of the matching problems is counted only for the first
+     * page, i.e. without a cursor, and is -1 for the next pages.
+     *
+     * @param filter the filter
+     * @return the page of problems with the cursor of the next page
+     * @throws ProblemsException the problems exception
+     */
+    @Override
+    public ResponseModel searchProblems(ProblemsFilter filter) throws ProblemsException {
+        try (Connection connection = getDataSource().getConnection()) {
+            String fullText = ensureIndices(connection);
+            int limit = filter.getLimit() > 0 ? filter.getLimit() : 100;
+            SelectBuilder sqlBuilder = SqlFactory.getNative(connection).select().column("*").from(TABLE)
+                    .order("PROBLEM_ID", false).limit(limit + 1);
+            List<Object> values = new ArrayList<>();
+            addCriteria(sqlBuilder, values, filter, fullText);
+            if (filter.getAfter() != null) {
+                sqlBuilder.where("PROBLEM_ID < ?");
+                values.add(filter.getAfter());
+            }
+
+            List<ProblemsModel> result = persistenceManager.query(connection, ProblemsModel.class, sqlBuilder.toString(), values);
+            ResponseModel response = new ResponseModel();
+            if (result.size() > limit) {
+                result = new ArrayList<>(result.subList(0, limit));
+                response.setNext(result.get(limit - 1).getId());
+            }
+            response.setResult(result);
+            response.setSelectedRows(result.size());
+            response.setTotalRows(filter.getAfter() == null ? countProblems(connection, filter, fullText) : -1);
+            return response;
+        } catch (SQLException | PersistenceException e) {
+            throw new ProblemsException(e);
+        }
+    }
+
+    /**
+     * Counts the problems matching a filter, regardless of the page.
+     *
+     * @param connection the connection
+     * @param filter the filter
+     * @param fullText the full-text flavour, if any
+     * @return the number of the matching problems
+     * @throws SQLException the SQL exception
+     */
+    private static int countProblems(Connection connection, ProblemsFilter filter, String fullText) throws SQLException {
+        SelectBuilder sqlBuilder = SqlFactory.getNative(connection).select().column("COUNT(*)").from(TABLE);
+        List<Object> values = new ArrayList<>();
+        addCriteria(sqlBuilder, values, filter, fullText);
+        try (PreparedStatement statement = connection.prepareStatement(sqlBuilder.toString())) {
+            for (int i = 0; i < values.size(); i++) {
+                statement.setObject(i + 1, values.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * Adds the criteria of a filter, except for the page.
+     *
+     * @param sqlBuilder the sql builder
+     * @param values the values
+     * @param filter the filter
+     * @param fullText the full-text flavour, if any
+     */
+    private static void addCriteria(SelectBuilder sqlBuilder, List<Object> values, ProblemsFilter filter, String fullText) {
+        if (!StringUtils.isEmpty(filter.getLocation())) {
+            sqlBuilder.where("PROBLEM_LOCATION LIKE ? ESCAPE '!'");
+            values.add(escapeLike(filter.getLocation()) + PERCENT);
+        }
+        addEquals(sqlBuilder, values, "PROBLEM_TYPE", filter.getType());
+        addEquals(sqlBuilder, values, "PROBLEM_STATUS", filter.getStatus());
+        addEquals(sqlBuilder, values, "PROBLEM_CATEGORY", filter.getCategory());
+        addEquals(sqlBuilder, values, "PROBLEM_SOURCE", filter.getSource());
+        if (filter.getCreatedFrom() != null) {
+            sqlBuilder.where("PROBLEM_CREATED_AT >= ?");
+            values.add(filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            sqlBuilder.where("PROBLEM_CREATED_AT < ?");
+            values.add(filter.getCreatedTo());
+        }
+        if (!StringUtils.isEmpty(filter.getText())) {
+            if (H2.equals(fullText)) {
+                sqlBuilder.where("PROBLEM_ID IN (SELECT CAST(FT.KEYS[1] AS BIGINT) FROM FT_SEARCH_DATA(?, 0, 0) FT WHERE FT.\"TABLE\" = '" + TABLE + "')");
+                values.add(filter.getText());
+            } else if (POSTGRESQL.equals(fullText)) {
+                sqlBuilder.where("to_tsvector('simple', PROBLEM_CAUSE || ' ' || PROBLEM_LOCATION) @@ plainto_tsquery('simple', ?)");
+                values.add(filter.getText());
+            } else {
+                sqlBuilder.where("(PROBLEM_CAUSE LIKE ? ESCAPE '!' OR PROBLEM_LOCATION LIKE ? ESCAPE '!')");
+                String pattern = PERCENT + escapeLike(filter.getText()) + PERCENT;
+                values.add(pattern);
+                values.add(pattern);
+            }
+        }
+    }
+
+    /**
+     * Adds an equality criterion if the value is given.
+     *
+     * @param sqlBuilder the sql builder
+     * @param values the values
+     * @param column the column
+     * @param value the value
+     */
+    private static void addEquals(SelectBuilder sqlBuilder, List<Object> values, String column, String value) {
+        if (!StringUtils.isEmpty(value)) {
+            sqlBuilder.where(column + " = ?");
+            values.add(value);
+        }
+    }
+
+    /**
+     * Escapes the wildcards of a LIKE pattern with an exclamation mark, which needs no escaping in any SQL dialect.
+     *
+     * @param value the value
+     * @return the escaped value
+     */
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace(PERCENT, "!%").replace("_", "!_");
+    }
+
+    /**
+     * Creates the search indices of the problems table once per data source, including the full-text index if enabled
+     * by DIRIGIBLE_PROBLEMS_FULL_TEXT_INDEX and supported for the database (H2 and PostgreSQL).
+     *
+     * @param connection the connection
+     * @return the full-text flavour, H2 or PostgreSQL, or null if there is no full-text index
+     * @throws SQLException the SQL exception
+     */
+    private String ensureIndices(Connection connection) throws SQLException {
+        DataSource key = getDataSource();
+        synchronized (INDEXED) {
+            if (INDEXED.containsKey(key)) {
+                return INDEXED.get(key);
+            }
+            persistenceManager.tableCheck(connection, ProblemsModel.class);
+            Set<String> existing = getIndexNames(connection);
+            CreateTableBuilder builder = SqlFactory.getNative(connection).create().table(TABLE);
+            for (String[] index : INDICES) {
+                if (!existing.contains(index[0])) {
+                    builder.index(index[0], false, null, new LinkedHashSet<>(Arrays.asList(index).subList(1, index.length)));
+                }
+            }
+            for (String sql : builder.buildTable().getCreateIndicesStatements()) {
+                execute(connection, sql);
+            }
+            String fullText = null;
+            if (Boolean.parseBoolean(Configuration.get(DIRIGIBLE_PROBLEMS_FULL_TEXT_INDEX, "false"))) {
+                fullText = createFullTextIndex(connection, existing);
+            }
+            INDEXED.put(key, fullText);
+            return fullText;
+        }
+    }
+
+    /**
+     * Creates the full-text index, if supported.
+     *
+     * @param connection the connection
+     * @param existing the names of the existing indices
+     * @return the full-text flavour or null
+     */
+    private String createFullTextIndex(Connection connection, Set<String> existing) {
+        String database = SqlFactory.deriveDialect(connection).getDatabaseName(connection);
+        try {
+            if (H2.equals(database)) {
+                execute(connection, "CREATE ALIAS IF NOT EXISTS FT_INIT FOR \"org.h2.fulltext.FullText.init\"");
+                execute(connection, "CALL FT_INIT()");
+                try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM FT.INDEXES WHERE \"TABLE\" = ?")) {
+                    statement.setString(1, TABLE);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (resultSet.next() && resultSet.getInt(1) == 0) {
+                            execute(connection, "CALL FT_CREATE_INDEX('" + connection.getSchema() + "', '" + TABLE + "', 'PROBLEM_CAUSE,PROBLEM_LOCATION')");
+                        }
+                    }
+                }
+                return H2;
+            } else if (POSTGRESQL.equals(database)) {
+                if (!existing.contains(FULL_TEXT_INDEX)) {
+                    // an expression index, which the table builder cannot express, hence PostgreSQL specific SQL
+                    execute(connection, "CREATE INDEX " + FULL_TEXT_INDEX + " ON " + TABLE
+                            + " USING GIN (to_tsvector('simple', PROBLEM_CAUSE || ' ' || PROBLEM_LOCATION))");
+                }
+                return POSTGRESQL;
+            }
+            if (logger.isWarnEnabled()) {logger.warn(String.format("Full-text index of the problems is not supported for %s", database));}
+        } catch (SQLException e) {
+            if (logger.isErrorEnabled()) {logger.error("Failed to create the full-text index of the problems", e);}
+        }
+        return null;
+    }
+
+    /**
+     * Gets the names of the indices of the problems table in upper case.
+     *
+     * @param connection the connection
+     * @return the index names
+     * @throws SQLException the SQL exception
+     */
+    private static Set<String> getIndexNames(Connection connection) throws SQLException {
+        Set<String> names = new HashSet<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String table : new String[] {TABLE, TABLE.toLowerCase()}) {
+            try (ResultSet resultSet = metaData.getIndexInfo(null, null, table, false, true)) {
+                while (resultSet.next()) {
+                    String name = resultSet.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toUpperCase());
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Executes a statement.
+     *
+     * @param connection the connection
+     * @param sql the sql
+     * @throws SQLException the SQL exception
+     */
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
     /**
      * Count problems.
      *
@@ -13,15 +13,23 @@ package org.eclipse.dirigible.core.problems.test;
 
 import org.eclipse.dirigible.core.problems.api.IProblemsCoreService;
 import org.eclipse.dirigible.core.problems.exceptions.ProblemsException;
+import org.eclipse.dirigible.core.problems.model.ProblemsFilter;
 import org.eclipse.dirigible.core.problems.model.ProblemsModel;
+import org.eclipse.dirigible.core.problems.model.response.ResponseModel;
 import org.eclipse.dirigible.core.problems.service.ProblemsCoreService;
 import org.eclipse.dirigible.core.problems.utils.ProblemsConstants;
 import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.*;
 
@@ -71,6 +79,124 @@ public class ProblemsCoreServiceTest extends AbstractDirigibleTest {
         problemsCoreService.deleteAll();
     }
 
+    /**
+     * Save a whole report test.
+     *
+     * @throws ProblemsException the problems exception
+     */
+    @Test
+    public void saveAllTest() throws ProblemsException {
+        problemsCoreService.deleteAll();
+        List<ProblemsModel> report = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            report.add(new ProblemsModel("Test/test" + (i % 4) + ".ts", "Syntax", String.valueOf(i), "1",
+                    ";", ")", "JUnit", "API", "JUnit Test", "Dirigible"));
+        }
+        List<String> locations = Arrays.asList("Test/test0.ts", "Test/test1.ts", "Test/test2.ts", "Test/test3.ts");
+        assertEquals(200, problemsCoreService.saveAll(locations, report));
+        assertEquals(200, problemsCoreService.countProblems());
+        assertEquals(0, problemsCoreService.saveAll(locations, report));
+
+        Long ignored = problemsCoreService.getProblem("Test/test1.ts", "Syntax", "1", "1").getId();
+        problemsCoreService.updateProblemStatusById(ignored, ProblemsConstants.IGNORED);
+
+        // the second file is fixed, a cause changes in the first one and the third one is not validated
+        List<ProblemsModel> revalidated = new ArrayList<>();
+        for (ProblemsModel problem : report) {
+            if (problem.getLocation().equals("Test/test0.ts")) {
+                revalidated.add(new ProblemsModel(problem.getLocation(), problem.getType(), problem.getLine(), problem.getColumn(),
+                        "changed", ")", "JUnit", "API", "JUnit Test", "Dirigible"));
+            } else if (!problem.getLocation().equals("Test/test1.ts")) {
+                revalidated.add(problem);
+            }
+        }
+        revalidated.add(new ProblemsModel("Test/test1.ts", "Syntax", "1", "1", ";", ")", "JUnit", "API", "JUnit Test", "Dirigible"));
+        problemsCoreService.saveAll(Arrays.asList("Test/test0.ts", "Test/test1.ts"), revalidated);
+
+        assertEquals(151, problemsCoreService.countProblems());
+        assertEquals("changed", problemsCoreService.getProblem("Test/test0.ts", "Syntax", "0", "1").getCause());
+        assertNull(problemsCoreService.getProblem("Test/test1.ts", "Syntax", "5", "1"));
+        assertEquals(ProblemsConstants.IGNORED, problemsCoreService.getProblemById(ignored).getStatus());
+        problemsCoreService.deleteAll();
+    }
+
+    /**
+     * Save a report of more locations and stale problems than fit in a single IN list.
+     *
+     * @throws ProblemsException the problems exception
+     */
+    @Test
+    public void saveAllChunkedTest() throws ProblemsException {
+        problemsCoreService.deleteAll();
+        List<ProblemsModel> report = new ArrayList<>();
+        List<String> locations = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            locations.add("Chunk/file" + i + ".ts");
+            report.add(new ProblemsModel("Chunk/file" + i + ".ts", "Syntax", "1", "1",
+                    ";", ")", "JUnit", "API", "JUnit Test", "Dirigible"));
+        }
+        assertEquals(2500, problemsCoreService.saveAll(locations, report));
+        assertEquals(0, problemsCoreService.saveAll(locations, report));
+        assertEquals(2500, problemsCoreService.saveAll(locations, Collections.emptyList()));
+        assertEquals(0, problemsCoreService.countProblems());
+    }
+
+    /**
+     * Search problems by a typed filter with keyset pagination.
+     *
+     * @throws ProblemsException the problems exception
+     */
+    @Test
+    public void searchProblemsTest() throws ProblemsException {
+        problemsCoreService.deleteAll();
+        List<ProblemsModel> report = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            report.add(new ProblemsModel("Search/file" + (i % 5) + ".ts", i % 2 == 0 ? "Syntax" : "Runtime", String.valueOf(i), "1",
+                    "missing token" + i, ")", "JUnit", "API", "JUnit Test", "Dirigible"));
+        }
+        report.add(new ProblemsModel("Other/100%_done.ts", "Syntax", "1", "1", "unexpected", ")", "JUnit", "API", "JUnit Test", "Dirigible"));
+        problemsCoreService.saveAll(Collections.emptyList(), report);
+
+        ProblemsFilter filter = new ProblemsFilter();
+        filter.setLocation("Search/");
+        filter.setType("Syntax");
+        filter.setLimit(10);
+        Set<Long> ids = new HashSet<>();
+        Long previous = Long.MAX_VALUE;
+        ResponseModel page;
+        do {
+            page = problemsCoreService.searchProblems(filter);
+            assertEquals(filter.getAfter() == null ? 25 : -1, page.getTotalRows());
+            for (ProblemsModel problem : page.getResult()) {
+                assertEquals("Syntax", problem.getType());
+                assertTrue(problem.getId() < previous);
+                previous = problem.getId();
+                ids.add(problem.getId());
+            }
+            filter.setAfter(page.getNext());
+        } while (page.getNext() != null);
+        assertEquals(25, ids.size());
+
+        ProblemsFilter wildcards = new ProblemsFilter();
+        wildcards.setLocation("Other/100%_");
+        assertEquals(1, problemsCoreService.searchProblems(wildcards).getResult().size());
+        wildcards.setLocation("Other/1000");
+        assertEquals(0, problemsCoreService.searchProblems(wildcards).getResult().size());
+
+        ProblemsFilter text = new ProblemsFilter();
+        text.setText("unexpected");
+        assertEquals(1, problemsCoreService.searchProblems(text).getResult().size());
+
+        ProblemsFilter created = new ProblemsFilter();
+        created.setStatus(ProblemsConstants.ACTIVE);
+        created.setCreatedFrom(new Timestamp(System.currentTimeMillis() - 60000));
+        created.setCreatedTo(new Timestamp(System.currentTimeMillis() + 60000));
+        created.setLimit(100);
+        assertEquals(51, problemsCoreService.searchProblems(created).getResult().size());
+        assertEquals(51, problemsCoreService.searchProblemsLimited(LocalDate.now().toString(), 100).size());
+        problemsCoreService.deleteAll();
+    }
+
     /**
      * Update problem status test.
      *
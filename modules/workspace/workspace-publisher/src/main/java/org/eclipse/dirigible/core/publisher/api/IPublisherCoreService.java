@@ -67,6 +67,19 @@ public interface IPublisherCoreService extends ICoreService {
 	 */
 	public PublishRequestDefinition createPublishRequest(String workspace, String path) throws PublisherException;
 
+	/**
+	 * Creates the publish requests of several paths at once.
+	 *
+	 * @param workspace
+	 *            the workspace
+	 * @param paths
+	 *            the paths
+	 * @return the publish request definitions
+	 * @throws PublisherException
+	 *             the publisher exception
+	 */
+	public List<PublishRequestDefinition> createPublishRequests(String workspace, List<String> paths) throws PublisherException;
+
 	/**
 	 * Creates the unpublish request.
 	 *
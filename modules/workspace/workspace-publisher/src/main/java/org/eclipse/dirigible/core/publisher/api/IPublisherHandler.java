@@ -11,6 +11,8 @@
  */
 package org.eclipse.dirigible.core.publisher.api;
 
+import java.util.Set;
+
 import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
 
 /**
@@ -35,6 +37,19 @@ public interface IPublisherHandler {
      */
     void afterPublish(String workspaceLocation, String registryLocation) throws SchedulerException;
 
+    /**
+     * After publish, with the registry paths of the files which were added, changed or removed.
+     * Delegates to {@link #afterPublish(String, String)} by default.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param changedPaths the changed paths
+     * @throws SchedulerException the scheduler exception
+     */
+    default void afterPublish(String workspaceLocation, String registryLocation, Set<String> changedPaths) throws SchedulerException {
+    	afterPublish(workspaceLocation, registryLocation);
+    }
+
     /**
      * Before unpublish.
      *
@@ -11,8 +11,10 @@
  */
 package org.eclipse.dirigible.core.publisher.api.handlers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.dirigible.api.v3.core.ExtensionsServiceFacade;
 import org.eclipse.dirigible.core.extensions.api.ExtensionsException;
@@ -45,6 +47,9 @@ public class ExtensionsPublisherHandler implements IPublisherHandler {
 	/** The Constant EXTENSION_PARAMETER_PATH. */
 	private static final String EXTENSION_PARAMETER_PATH = "path";
 
+	/** The Constant EXTENSION_PARAMETER_CHANGED_PATHS. */
+	private static final String EXTENSION_PARAMETER_CHANGED_PATHS = "changedPaths";
+
 	/**
 	 * Before publish.
 	 *
@@ -68,6 +73,22 @@ public class ExtensionsPublisherHandler implements IPublisherHandler {
 		triggerExtensions(workspaceLocation, EXTENSION_POINT_IDE_WORKSPACE_AFTER_PUBLISH, "After Publish");
 	}
 
+	/**
+	 * After publish, passing also the registry paths of the changed files to the extensions.
+	 *
+	 * @param workspaceLocation the workspace location
+	 * @param registryLocation the registry location
+	 * @param changedPaths the changed paths
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Override
+	public void afterPublish(String workspaceLocation, String registryLocation, Set<String> changedPaths) throws SchedulerException {
+		Map<Object, Object> context = new HashMap<Object, Object>();
+		context.put(EXTENSION_PARAMETER_PATH, workspaceLocation);
+		context.put(EXTENSION_PARAMETER_CHANGED_PATHS, new ArrayList<String>(changedPaths));
+		triggerExtensions(context, EXTENSION_POINT_IDE_WORKSPACE_AFTER_PUBLISH, "After Publish");
+	}
+
 	/**
 	 * Before unpublish.
 	 *
@@ -98,9 +119,20 @@ public class ExtensionsPublisherHandler implements IPublisherHandler {
 	 * @param state the state
 	 */
 	private void triggerExtensions(String location, String extensionPoint, String state) {
+		Map<Object, Object> context = new HashMap<Object, Object>();
+		context.put(EXTENSION_PARAMETER_PATH, location);
+		triggerExtensions(context, extensionPoint, state);
+	}
+
+	/**
+	 * Trigger extensions.
+	 *
+	 * @param context the context
+	 * @param extensionPoint the extension point
+	 * @param state the state
+	 */
+	private void triggerExtensions(Map<Object, Object> context, String extensionPoint, String state) {
 		try {
-            Map<Object, Object> context = new HashMap<Object, Object>();
-            context.put(EXTENSION_PARAMETER_PATH, location);
             String[] modules = ExtensionsServiceFacade.getExtensions(extensionPoint);
             for (String module : modules) {
                 try {
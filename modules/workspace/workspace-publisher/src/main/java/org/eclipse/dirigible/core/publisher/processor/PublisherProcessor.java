@@ -12,13 +12,16 @@
 package org.eclipse.dirigible.core.publisher.processor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
 import org.eclipse.dirigible.core.publisher.definition.PublishLogDefinition;
 import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
 import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
-import org.eclipse.dirigible.core.publisher.synchronizer.PublisherSynchronizer;
+import org.eclipse.dirigible.core.publisher.synchronizer.PublisherQueue;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
@@ -69,14 +72,14 @@ public class PublisherProcessor {
 		if ("*".equals(path)) {
 			path = "";
 		}
-		PublishRequestDefinition publishRequestDefinition = publishCoreService.createPublishRequest(workspacePath.toString(), path,
-				IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+		String location = path;
+		PublishRequestDefinition publishRequestDefinition = PublisherQueue.get().register(() -> publishCoreService.createPublishRequest(workspacePath.toString(), location,
+				IRepositoryStructure.PATH_REGISTRY_PUBLIC));
 		if (logger.isDebugEnabled()) {logger.debug("Publishing request created [{}]", publishRequestDefinition.getId());}
-		// force synchronization ?
-		PublisherSynchronizer.forceSynchronization();
+		waitFor(PublisherQueue.get().submit(publishRequestDefinition));
 		return publishRequestDefinition.getId();
 	}
-	
+
 	/**
 	 * Request unpublishing.
 	 *
@@ -95,13 +98,41 @@ public class PublisherProcessor {
 		if ("*".equals(path)) {
 			path = "";
 		}
-		PublishRequestDefinition publishRequestDefinition = publishCoreService.createUnpublishRequest(workspacePath.toString(), path);
+		String location = path;
+		PublishRequestDefinition publishRequestDefinition = PublisherQueue.get().register(() -> publishCoreService.createUnpublishRequest(workspacePath.toString(), location));
 		if (logger.isDebugEnabled()) {logger.debug("Unpublishing request created [{}]", publishRequestDefinition.getId());}
-		// force synchronization ?
-		PublisherSynchronizer.forceSynchronization();
+		waitFor(PublisherQueue.get().submit(publishRequestDefinition));
 		return publishRequestDefinition.getId();
 	}
 
+	/**
+	 * Waits for a queued request to be processed.
+	 *
+	 * @param future
+	 *            the future
+	 * @throws PublisherException
+	 *             if the processing of the request failed
+	 */
+	private void waitFor(CompletableFuture<Void> future) throws PublisherException {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PublisherException("Interrupted while waiting for the publishing", e);
+		} catch (ExecutionException e) {
+			throw new PublisherException("Publishing request failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the metrics of the publish queue, such as its depth and the publishing latency.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Number> getQueueMetrics() {
+		return PublisherQueue.get().getMetrics();
+	}
+
 	/**
 	 * Gets the publishing request.
 	 *
@@ -16,6 +16,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -160,6 +161,50 @@ public class PublisherCoreService implements IPublisherCoreService, ICleanupServ
 		return createPublishRequest(workspace, path, IRepositoryStructure.PATH_REGISTRY_PUBLIC);
 	}
 
+	/**
+	 * Creates the publish requests of several paths in a single connection.
+	 *
+	 * @param workspace the workspace
+	 * @param paths the paths
+	 * @return the publish request definitions
+	 * @throws PublisherException the publisher exception
+	 */
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.publisher.api.IPublisherCoreService#createPublishRequests(java.lang.String,
+	 * java.util.List)
+	 */
+	@Override
+	public List<PublishRequestDefinition> createPublishRequests(String workspace, List<String> paths) throws PublisherException {
+		ResourcesCache.clear();
+		List<PublishRequestDefinition> publishRequestDefinitions = new ArrayList<PublishRequestDefinition>();
+		Timestamp createdAt = new Timestamp(new java.util.Date().getTime());
+		String createdBy = UserFacade.getName();
+		try {
+			Connection connection = null;
+			try {
+				connection = getDataSource().getConnection();
+				for (String path : paths) {
+					PublishRequestDefinition publishRequestDefinition = new PublishRequestDefinition();
+					publishRequestDefinition.setWorkspace(workspace);
+					publishRequestDefinition.setPath(path);
+					publishRequestDefinition.setRegistry(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+					publishRequestDefinition.setCreatedBy(createdBy);
+					publishRequestDefinition.setCreatedAt(createdAt);
+					publishRequestPersistenceManager.insert(connection, publishRequestDefinition);
+					publishRequestDefinitions.add(publishRequestDefinition);
+				}
+				return publishRequestDefinitions;
+			} finally {
+				if (connection != null) {
+					connection.close();
+				}
+			}
+		} catch (SQLException e) {
+			throw new PublisherException(e);
+		}
+	}
+
 	/**
 	 * Creates the unpublish request.
 	 *
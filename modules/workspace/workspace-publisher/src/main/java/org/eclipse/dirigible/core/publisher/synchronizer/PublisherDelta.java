@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.publisher.synchronizer;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+
+/**
+ * The difference between a workspace location and its published copy in the registry.
+ * <p>
+ * A manifest with the content hash, the size and the modification time of every published file is kept per registry
+ * location, so that the next publish of the same location reads only the files modified since and writes only the ones
+ * with a different content. Files published before, but missing in the workspace now, are removed from the registry.
+ * Without a manifest (e.g. on the first publish or after a restart) all the files are copied and nothing is removed,
+ * as the registry may contain files which were not published from this location.
+ */
+public class PublisherDelta {
+
+	/** The Constant MANIFESTS, keyed by registry location. */
+	private static final Map<String, Map<String, ManifestEntry>> MANIFESTS = new ConcurrentHashMap<String, Map<String, ManifestEntry>>();
+
+	/**
+	 * The published state of a single file.
+	 */
+	private static class ManifestEntry {
+
+		/** The modification time of the source. */
+		private final long modifiedAt;
+
+		/** The size of the source. */
+		private final long size;
+
+		/** The content hash. */
+		private final String hash;
+
+		/**
+		 * Instantiates a new manifest entry.
+		 *
+		 * @param modifiedAt the modified at
+		 * @param size the size
+		 * @param hash the hash
+		 */
+		ManifestEntry(long modifiedAt, long size, String hash) {
+			this.modifiedAt = modifiedAt;
+			this.size = size;
+			this.hash = hash;
+		}
+
+	}
+
+	/** The workspace location. */
+	private final String sourceLocation;
+
+	/** The registry location. */
+	private final String targetLocation;
+
+	/** The relative paths of the files to be copied. */
+	private final Set<String> copied = new TreeSet<String>();
+
+	/** The relative paths of the files to be removed. */
+	private final Set<String> removed = new TreeSet<String>();
+
+	/** The manifest after the delta is applied. */
+	private final Map<String, ManifestEntry> manifest = new HashMap<String, ManifestEntry>();
+
+	/**
+	 * Instantiates a new delta.
+	 *
+	 * @param sourceLocation the source location
+	 * @param targetLocation the target location
+	 */
+	private PublisherDelta(String sourceLocation, String targetLocation) {
+		this.sourceLocation = sourceLocation;
+		this.targetLocation = targetLocation;
+	}
+
+	/**
+	 * Computes the delta between a workspace collection and its registry location. Nothing is written.
+	 *
+	 * @param repository the repository
+	 * @param sourceLocation the source location
+	 * @param targetLocation the target location
+	 * @return the delta
+	 */
+	public static PublisherDelta compute(IRepository repository, String sourceLocation, String targetLocation) {
+		PublisherDelta delta = new PublisherDelta(sourceLocation, targetLocation);
+		Map<String, ManifestEntry> previous = MANIFESTS.get(targetLocation);
+		ICollection source = repository.getCollection(sourceLocation);
+		if (source.exists()) {
+			delta.compare(repository, source, "", previous);
+		} else {
+			IResource resource = repository.getResource(sourceLocation);
+			if (resource.exists()) {
+				delta.compare(repository, resource, "", previous);
+			}
+		}
+		if (previous != null) {
+			for (String path : previous.keySet()) {
+				if (!delta.manifest.containsKey(path)) {
+					delta.removed.add(path);
+				}
+			}
+		}
+		return delta;
+	}
+
+	/**
+	 * Forgets the manifests of a registry location and all the locations under it, e.g. after it was unpublished.
+	 *
+	 * @param targetLocation the target location
+	 */
+	public static void invalidate(String targetLocation) {
+		String prefix = targetLocation + IRepository.SEPARATOR;
+		MANIFESTS.keySet().removeIf(key -> key.equals(targetLocation) || key.startsWith(prefix) || targetLocation.startsWith(key + IRepository.SEPARATOR));
+	}
+
+	/**
+	 * Compares the files of a source collection recursively.
+	 *
+	 * @param repository the repository
+	 * @param collection the collection
+	 * @param relative the path relative to the source location
+	 * @param previous the previous manifest or null
+	 */
+	private void compare(IRepository repository, ICollection collection, String relative, Map<String, ManifestEntry> previous) {
+		for (IResource resource : collection.getResources()) {
+			compare(repository, resource, relative + IRepository.SEPARATOR + resource.getName(), previous);
+		}
+		for (ICollection child : collection.getCollections()) {
+			compare(repository, child, relative + IRepository.SEPARATOR + child.getName(), previous);
+		}
+	}
+
+	/**
+	 * Compares a single source file with the previous manifest.
+	 *
+	 * @param repository the repository
+	 * @param resource the resource
+	 * @param relative the path relative to the source location, empty for a single file
+	 * @param previous the previous manifest or null
+	 */
+	private void compare(IRepository repository, IResource resource, String relative, Map<String, ManifestEntry> previous) {
+		IEntityInformation information = resource.getInformation();
+		Date modified = information != null ? information.getModifiedAt() : null;
+		long modifiedAt = modified != null ? modified.getTime() : 0;
+		long size = information != null && information.getSize() != null ? information.getSize() : -1;
+		ManifestEntry known = previous != null ? previous.get(relative) : null;
+		IResource target = repository.getResource(getTargetPath(relative));
+		if (known != null && modifiedAt != 0 && known.modifiedAt == modifiedAt && known.size == size && target.exists()) {
+			manifest.put(relative, known);
+			return;
+		}
+		String hash = DigestUtils.md5Hex(resource.getContent());
+		manifest.put(relative, new ManifestEntry(modifiedAt, size, hash));
+		if (known != null && known.hash.equals(hash) && target.exists()) {
+			return;
+		}
+		copied.add(relative);
+	}
+
+	/**
+	 * Applies the delta to the registry and stores the new manifest.
+	 *
+	 * @param repository the repository
+	 */
+	public void apply(IRepository repository) {
+		for (String path : copied) {
+			byte[] content = repository.getResource(getSourcePath(path)).getContent();
+			IResource target = repository.getResource(getTargetPath(path));
+			if (target.exists()) {
+				target.setContent(content);
+			} else {
+				repository.createResource(target.getPath(), content);
+			}
+		}
+		for (String path : removed) {
+			IResource target = repository.getResource(getTargetPath(path));
+			if (target.exists()) {
+				target.delete();
+			}
+		}
+		if (repository.getCollection(sourceLocation).exists()) {
+			MANIFESTS.put(targetLocation, manifest);
+		}
+	}
+
+	/**
+	 * Checks if is empty.
+	 *
+	 * @return true, if there is nothing to be copied or removed
+	 */
+	public boolean isEmpty() {
+		return copied.isEmpty() && removed.isEmpty();
+	}
+
+	/**
+	 * Gets the registry paths of the added, changed and removed files.
+	 *
+	 * @return the changed paths
+	 */
+	public Set<String> getChangedPaths() {
+		Set<String> changed = new TreeSet<String>();
+		for (String path : copied) {
+			changed.add(getTargetPath(path));
+		}
+		for (String path : removed) {
+			changed.add(getTargetPath(path));
+		}
+		return Collections.unmodifiableSet(changed);
+	}
+
+	/**
+	 * Gets the source location.
+	 *
+	 * @return the source location
+	 */
+	public String getSourceLocation() {
+		return sourceLocation;
+	}
+
+	/**
+	 * Gets the target location.
+	 *
+	 * @return the target location
+	 */
+	public String getTargetLocation() {
+		return targetLocation;
+	}
+
+	/**
+	 * Gets the source path.
+	 *
+	 * @param relative the relative path
+	 * @return the source path
+	 */
+	private String getSourcePath(String relative) {
+		return relative.isEmpty() ? sourceLocation : new RepositoryPath(sourceLocation, relative).toString();
+	}
+
+	/**
+	 * Gets the target path.
+	 *
+	 * @param relative the relative path
+	 * @return the target path
+	 */
+	private String getTargetPath(String relative) {
+		return relative.isEmpty() ? targetLocation : new RepositoryPath(targetLocation, relative).toString();
+	}
+
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.publisher.synchronizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.publisher.api.PublisherException;
+import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
+import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process queue of the publish requests.
+ * <p>
+ * The requests of the same project are processed one batch after another, while the ones of different projects are
+ * scheduled in parallel on a bounded pool of workers. The batches themselves are published one at a time under the lock
+ * of the {@link PublisherSynchronizer}, as the scheduled synchronization and the publisher handlers are not safe to run
+ * concurrently. A request waiting in the queue is superseded by a later one with the same command for the same or a
+ * parent location, i.e. the latest request wins and the project is published only once. A batch holds only requests
+ * with the same command, so that a publish and an unpublish are applied in the order of their submission. A request for the whole
+ * workspace is processed alone, i.e. it waits for the running projects of the workspace and they wait for it. The
+ * future returned on submit is completed when the request, or the one which superseded it, has been processed.
+ */
+public class PublisherQueue {
+
+	/** The Constant logger. */
+	private static final Logger logger = LoggerFactory.getLogger(PublisherQueue.class);
+
+	/** The Constant DIRIGIBLE_PUBLISHER_QUEUE_WORKERS. */
+	public static final String DIRIGIBLE_PUBLISHER_QUEUE_WORKERS = "DIRIGIBLE_PUBLISHER_QUEUE_WORKERS"; //$NON-NLS-1$
+
+	/** The Constant DEFAULT_WORKERS. */
+	private static final String DEFAULT_WORKERS = "4"; //$NON-NLS-1$
+
+	/** The Constant INSTANCE. */
+	private static final PublisherQueue INSTANCE = new PublisherQueue(Integer.parseInt(Configuration.get(DIRIGIBLE_PUBLISHER_QUEUE_WORKERS, DEFAULT_WORKERS)));
+
+	/**
+	 * An operation on the publish requests.
+	 *
+	 * @param <T> the result type
+	 */
+	public interface PublisherCall<T> {
+
+		/**
+		 * Calls the operation.
+		 *
+		 * @return the result
+		 * @throws PublisherException the publisher exception
+		 */
+		T call() throws PublisherException;
+
+	}
+
+	/**
+	 * A request waiting in the queue.
+	 */
+	private static class Entry {
+
+		/** The request. */
+		private final PublishRequestDefinition request;
+
+		/** The future. */
+		private final CompletableFuture<Void> future = new CompletableFuture<Void>();
+
+		/** The time of the submission. */
+		private final long submittedAt = System.currentTimeMillis();
+
+		/** The superseded requests, removed together with this one. */
+		private final List<PublishRequestDefinition> superseded = new ArrayList<PublishRequestDefinition>();
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param request the request
+		 */
+		Entry(PublishRequestDefinition request) {
+			this.request = request;
+		}
+
+	}
+
+	/** The executor. */
+	private final ExecutorService executor;
+
+	/** The waiting entries per project. */
+	private final Map<String, List<Entry>> waiting = new HashMap<String, List<Entry>>();
+
+	/** The projects being processed. */
+	private final Set<String> running = new HashSet<String>();
+
+	/** The ids of the requests owned by the queue. */
+	private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+	/** Shared by the registrations of the requests and taken exclusively by the scan for the pending ones. */
+	private final ReadWriteLock registration = new ReentrantReadWriteLock();
+
+	/** The publisher core service. */
+	private final PublisherCoreService publisherCoreService = new PublisherCoreService();
+
+	/** The depth. */
+	private final AtomicInteger depth = new AtomicInteger();
+
+	/** The submitted. */
+	private final AtomicLong submitted = new AtomicLong();
+
+	/** The coalesced. */
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/** The completed. */
+	private final AtomicLong completed = new AtomicLong();
+
+	/** The failed. */
+	private final AtomicLong failed = new AtomicLong();
+
+	/** The total latency. */
+	private final AtomicLong totalLatency = new AtomicLong();
+
+	/** The last latency. */
+	private final AtomicLong lastLatency = new AtomicLong();
+
+	/**
+	 * Gets the queue.
+	 *
+	 * @return the publisher queue
+	 */
+	public static PublisherQueue get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Instantiates a new publisher queue.
+	 *
+	 * @param workers the number of workers
+	 */
+	PublisherQueue(int workers) {
+		AtomicInteger counter = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+			Thread thread = new Thread(runnable, "publisher-queue-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Persists a publish request and marks it as owned by the queue, before the scheduled synchronizer can see it.
+	 * The request is to be submitted afterwards.
+	 *
+	 * @param creator the creator of the request
+	 * @return the request
+	 * @throws PublisherException the publisher exception
+	 */
+	public PublishRequestDefinition register(PublisherCall<PublishRequestDefinition> creator) throws PublisherException {
+		registration.readLock().lock();
+		try {
+			PublishRequestDefinition request = creator.call();
+			queued.add(request.getId());
+			return request;
+		} finally {
+			registration.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Loads the persisted requests which are not owned by the queue. No request is registered in the meantime.
+	 *
+	 * @param loader the loader of the requests
+	 * @return the requests not owned by the queue
+	 * @throws PublisherException the publisher exception
+	 */
+	public List<PublishRequestDefinition> getUnqueued(PublisherCall<List<PublishRequestDefinition>> loader) throws PublisherException {
+		registration.writeLock().lock();
+		try {
+			List<PublishRequestDefinition> requests = loader.call();
+			requests.removeIf(request -> queued.contains(request.getId()));
+			return requests;
+		} finally {
+			registration.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Submits a persisted publish request.
+	 *
+	 * @param request the request
+	 * @return the future completed after the request has been processed
+	 */
+	public CompletableFuture<Void> submit(PublishRequestDefinition request) {
+		Entry entry = new Entry(request);
+		String project = getProjectKey(request);
+		queued.add(request.getId());
+		submitted.incrementAndGet();
+		synchronized (waiting) {
+			for (Map.Entry<String, List<Entry>> waitingEntries : waiting.entrySet()) {
+				if (waitingEntries.getKey().equals(project) || (isRoot(project) && getPrefix(waitingEntries.getKey()).equals(project))) {
+					supersede(entry, waitingEntries.getValue());
+				}
+			}
+			waiting.computeIfAbsent(project, k -> new ArrayList<Entry>()).add(entry);
+			depth.incrementAndGet();
+			if (!running.contains(project) && canStart(project)) {
+				start(project);
+			}
+		}
+		return entry.future;
+	}
+
+	/**
+	 * Removes the waiting entries covered by a new one. Called under the lock of the waiting entries.
+	 *
+	 * @param entry the new entry
+	 * @param entries the waiting entries
+	 */
+	private void supersede(Entry entry, List<Entry> entries) {
+		Iterator<Entry> iterator = entries.iterator();
+		while (iterator.hasNext()) {
+			Entry previous = iterator.next();
+			if (covers(entry.request, previous.request)) {
+				iterator.remove();
+				depth.decrementAndGet();
+				coalesced.incrementAndGet();
+				entry.superseded.add(previous.request);
+				entry.superseded.addAll(previous.superseded);
+				entry.future.whenComplete((result, error) -> {
+					if (error != null) {
+						previous.future.completeExceptionally(error);
+					} else {
+						previous.future.complete(result);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a project can be processed now. A workspace request waits for all the running projects of the
+	 * workspace, while a project waits for a running or waiting workspace request. Called under the lock of the
+	 * waiting entries.
+	 *
+	 * @param project the project key
+	 * @return true, if it can be started
+	 */
+	private boolean canStart(String project) {
+		String prefix = getPrefix(project);
+		if (isRoot(project)) {
+			for (String other : running) {
+				if (getPrefix(other).equals(prefix)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return !running.contains(prefix) && !hasWaiting(prefix);
+	}
+
+	/**
+	 * Checks whether a project has waiting entries. Called under the lock of the waiting entries.
+	 *
+	 * @param project the project key
+	 * @return true, if there are waiting entries
+	 */
+	private boolean hasWaiting(String project) {
+		List<Entry> entries = waiting.get(project);
+		return entries != null && !entries.isEmpty();
+	}
+
+	/**
+	 * Starts the processing of a project. Called under the lock of the waiting entries.
+	 *
+	 * @param project the project key
+	 */
+	private void start(String project) {
+		running.add(project);
+		executor.execute(() -> drain(project));
+	}
+
+	/**
+	 * Starts the waiting projects which are not blocked anymore, the workspace requests first. Called under the lock
+	 * of the waiting entries.
+	 */
+	private void startWaiting() {
+		waiting.entrySet().removeIf(entries -> entries.getValue().isEmpty() && !running.contains(entries.getKey()));
+		List<String> candidates = new ArrayList<String>(waiting.keySet());
+		candidates.sort((first, second) -> Boolean.compare(isRoot(second), isRoot(first)));
+		for (String project : candidates) {
+			if (hasWaiting(project) && !running.contains(project) && canStart(project)) {
+				start(project);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a request is waiting or being processed by the queue.
+	 *
+	 * @param id the request id
+	 * @return true, if queued
+	 */
+	public boolean isQueued(long id) {
+		return queued.contains(id);
+	}
+
+	/**
+	 * Processes the waiting batches of a project until there are none.
+	 *
+	 * @param project the project key
+	 */
+	private void drain(String project) {
+		while (true) {
+			List<Entry> batch;
+			synchronized (waiting) {
+				List<Entry> entries = waiting.get(project);
+				// a project gives way to a waiting workspace request between the batches
+				if (entries == null || entries.isEmpty() || (!isRoot(project) && hasWaiting(getPrefix(project)))) {
+					if (entries != null && entries.isEmpty()) {
+						waiting.remove(project);
+					}
+					running.remove(project);
+					startWaiting();
+					return;
+				}
+				batch = new ArrayList<Entry>();
+				String command = entries.get(0).request.getCommand();
+				Iterator<Entry> iterator = entries.iterator();
+				while (iterator.hasNext()) {
+					Entry entry = iterator.next();
+					if (!command.equals(entry.request.getCommand())) {
+						break;
+					}
+					batch.add(entry);
+					iterator.remove();
+				}
+				depth.addAndGet(-batch.size());
+			}
+			process(batch);
+		}
+	}
+
+	/**
+	 * Publishes a batch and notifies the callers.
+	 *
+	 * @param batch the batch
+	 */
+	private void process(List<Entry> batch) {
+		List<PublishRequestDefinition> requests = new ArrayList<PublishRequestDefinition>();
+		for (Entry entry : batch) {
+			requests.add(entry.request);
+		}
+		Throwable error = null;
+		try {
+			synchronized (PublisherSynchronizer.class) {
+				new PublisherSynchronizer().publish(requests);
+			}
+			for (Entry entry : batch) {
+				for (PublishRequestDefinition superseded : entry.superseded) {
+					publisherCoreService.removePublishRequest(superseded.getId());
+				}
+			}
+		} catch (Exception | Error e) {
+			if (logger.isErrorEnabled()) {logger.error("Publishing failed.", e);}
+			error = e;
+		}
+		long now = System.currentTimeMillis();
+		for (Entry entry : batch) {
+			queued.remove(entry.request.getId());
+			for (PublishRequestDefinition superseded : entry.superseded) {
+				queued.remove(superseded.getId());
+			}
+			long latency = now - entry.submittedAt;
+			lastLatency.set(latency);
+			totalLatency.addAndGet(latency);
+			if (error != null) {
+				failed.incrementAndGet();
+				entry.future.completeExceptionally(error);
+			} else {
+				completed.incrementAndGet();
+				entry.future.complete(null);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of the requests waiting in the queue.
+	 *
+	 * @return the depth
+	 */
+	public int getDepth() {
+		return depth.get();
+	}
+
+	/**
+	 * Gets the metrics of the queue.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Number> getMetrics() {
+		Map<String, Number> metrics = new LinkedHashMap<String, Number>();
+		long processed = completed.get() + failed.get();
+		metrics.put("depth", depth.get());
+		metrics.put("running", running.size());
+		metrics.put("submitted", submitted.get());
+		metrics.put("coalesced", coalesced.get());
+		metrics.put("completed", completed.get());
+		metrics.put("failed", failed.get());
+		metrics.put("lastLatency", lastLatency.get());
+		metrics.put("averageLatency", processed > 0 ? totalLatency.get() / processed : 0);
+		return metrics;
+	}
+
+	/**
+	 * Gets the key of the project a request is about, i.e. the registry, the workspace and the first segment of the path.
+	 *
+	 * @param request the request
+	 * @return the project key
+	 */
+	static String getProjectKey(PublishRequestDefinition request) {
+		String path = normalize(request.getPath());
+		int index = path.indexOf(IRepository.SEPARATOR);
+		String project = index > 0 ? path.substring(0, index) : path;
+		return getRegistry(request) + "|" + request.getWorkspace() + "|" + project;
+	}
+
+	/**
+	 * Gets the key of the workspace request of a project key.
+	 *
+	 * @param project the project key
+	 * @return the workspace key
+	 */
+	private static String getPrefix(String project) {
+		return project.substring(0, project.lastIndexOf('|') + 1);
+	}
+
+	/**
+	 * Checks whether a project key is the one of a workspace request.
+	 *
+	 * @param project the project key
+	 * @return true, if it is about the whole workspace
+	 */
+	private static boolean isRoot(String project) {
+		return project.endsWith("|");
+	}
+
+	/**
+	 * Checks whether a later request makes an earlier one redundant.
+	 *
+	 * @param later the later request
+	 * @param earlier the earlier request
+	 * @return true, if the later one has the same command and is about the same or a parent location
+	 */
+	static boolean covers(PublishRequestDefinition later, PublishRequestDefinition earlier) {
+		if (!later.getCommand().equals(earlier.getCommand())) {
+			return false;
+		}
+		if (!getRegistry(later).equals(getRegistry(earlier)) || !later.getWorkspace().equals(earlier.getWorkspace())) {
+			return false;
+		}
+		String parent = normalize(later.getPath());
+		String child = normalize(earlier.getPath());
+		return parent.isEmpty() || parent.equals(child) || child.startsWith(parent + IRepository.SEPARATOR);
+	}
+
+	/**
+	 * Gets the registry.
+	 *
+	 * @param request the request
+	 * @return the registry
+	 */
+	private static String getRegistry(PublishRequestDefinition request) {
+		return request.getRegistry() != null ? request.getRegistry() : IRepositoryStructure.PATH_REGISTRY_PUBLIC;
+	}
+
+	/**
+	 * Strips the leading and trailing separators.
+	 *
+	 * @param path the path
+	 * @return the normalized path
+	 */
+	private static String normalize(String path) {
+		String normalized = path != null ? path : "";
+		while (normalized.startsWith(IRepository.SEPARATOR)) {
+			normalized = normalized.substring(1);
+		}
+		while (normalized.endsWith(IRepository.SEPARATOR)) {
+			normalized = normalized.substring(0, normalized.length() - 1);
+		}
+		return normalized;
+	}
+
+}
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The PublisherSynchronizer takes the requests for publish and perform the needed actions on the artifacts assigned.
@@ -59,6 +60,9 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 	/** The current request time. */
 	private Timestamp currentRequestTime = new Timestamp(0);
 
+	/** The number of publishings which have currently paused the other synchronizers. */
+	private static final AtomicInteger ACTIVE_PUBLISHINGS = new AtomicInteger(0);
+
 	/**
 	 * Force synchronization.
 	 */
@@ -86,15 +90,7 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 					return;
 				}
 
-				enumerateResourcesForPublish(publishRequestDefinitions);
-
-				synchronizeRegistry();
-
-				ResourcesCache.clear();
-
-				removeProcessedRequests(publishRequestDefinitions);
-
-				cleanup();
+				publish(publishRequestDefinitions);
 			} catch (Exception e) {
 				if (logger.isErrorEnabled()) {logger.error("Publishing failed.", e);}
 			}
@@ -102,6 +98,29 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 		}
 	}
 
+	/**
+	 * Processes the given publish requests and removes them afterwards. Used by the {@link PublisherQueue} workers, which
+	 * call it under the same lock as the scheduled synchronization.
+	 *
+	 * @param publishRequestDefinitions
+	 *            the publish request definitions
+	 * @throws SynchronizationException
+	 *             the synchronization exception
+	 * @throws PublisherException
+	 *             the publisher exception
+	 */
+	public void publish(List<PublishRequestDefinition> publishRequestDefinitions) throws SynchronizationException, PublisherException {
+		enumerateResourcesForPublish(publishRequestDefinitions);
+
+		synchronizeRegistry();
+
+		ResourcesCache.clear();
+
+		removeProcessedRequests(publishRequestDefinitions);
+
+		cleanup();
+	}
+
 	/**
 	 * Enumerate resources for publish.
 	 *
@@ -152,8 +171,38 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 	 */
 	private List<PublishRequestDefinition> getPendingPublishedRequests() throws PublisherException {
 		Timestamp timestamp = publishCoreService.getLatestPublishLog();
-		List<PublishRequestDefinition> publishRequestDefinitions = publishCoreService.getPublishRequestsAfter(timestamp);
-		return publishRequestDefinitions;
+		// the ones submitted to the queue are processed by its workers
+		return PublisherQueue.get().getUnqueued(() -> publishCoreService.getPublishRequestsAfter(timestamp));
+	}
+
+	/**
+	 * Pauses the other synchronizers and resets their states. The concurrent publishings share the pause, so that the
+	 * synchronizers are resumed only when the last of them completes.
+	 *
+	 * @throws SchedulerException
+	 *             the scheduler exception
+	 */
+	private void pauseSynchronizers() throws SchedulerException {
+		synchronized (ACTIVE_PUBLISHINGS) {
+			if (ACTIVE_PUBLISHINGS.getAndIncrement() == 0) {
+				synchronizerCoreService.disableSynchronization();
+			}
+		}
+		synchronizerCoreService.initializeSynchronizersStates();
+	}
+
+	/**
+	 * Resumes the other synchronizers, unless another publishing is still running.
+	 *
+	 * @throws SchedulerException
+	 *             the scheduler exception
+	 */
+	private void resumeSynchronizers() throws SchedulerException {
+		synchronized (ACTIVE_PUBLISHINGS) {
+			if (ACTIVE_PUBLISHINGS.decrementAndGet() == 0) {
+				synchronizerCoreService.enableSynchronization();
+			}
+		}
 	}
 
 	/**
@@ -177,87 +226,77 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 	}
 
 	/**
-	 * Publish resources.
+	 * Publish resources. The deltas of all the locations are computed first, so that the other synchronizers are
+	 * paused and reinitialized only if something in the registry is going to change.
 	 *
 	 * @throws SynchronizationException
 	 *             the synchronization exception
 	 */
 	private void publishResources() throws SynchronizationException {
 		if (!resourceLocations.isEmpty()) {
+			List<PublisherDelta> deltas = new ArrayList<PublisherDelta>();
+			boolean changed = false;
+			for (Map.Entry<String, String> entry : resourceLocations.entrySet()) {
+				try {
+					PublisherDelta delta = PublisherDelta.compute(getRepository(), entry.getKey(), entry.getValue());
+					changed = changed || !delta.isEmpty();
+					deltas.add(delta);
+				} catch (Exception e) {
+					if (logger.isErrorEnabled()) {logger.error("Failed to publish: " + entry.getKey(), e);}
+				}
+			}
 			try {
-				synchronizerCoreService.disableSynchronization();
-				
-				synchronizerCoreService.initializeSynchronizersStates();
+				if (changed) {
+					pauseSynchronizers();
+				}
 
 				ServiceLoader<IPublisherHandler> publisherHandlers = ServiceLoader.load(IPublisherHandler.class);
 				
-				for (Map.Entry<String, String> entry : resourceLocations.entrySet()) {
+				for (PublisherDelta delta : deltas) {
 					for (IPublisherHandler next : publisherHandlers) {
-						next.beforePublish(entry.getKey());
+						next.beforePublish(delta.getSourceLocation());
 					}
 		
 					try {
 						// publish
-						publishResource(entry);
-					} catch (SynchronizationException e) {
-						if (logger.isErrorEnabled()) {logger.error("Failed to publish: " + entry.getKey(), e);}
+						publishResource(delta);
+					} catch (SynchronizationException | RuntimeException e) {
+						if (logger.isErrorEnabled()) {logger.error("Failed to publish: " + delta.getSourceLocation(), e);}
 					}
 
 					for (IPublisherHandler next : publisherHandlers) {
-						next.afterPublish(entry.getKey(), entry.getValue());
+						next.afterPublish(delta.getSourceLocation(), delta.getTargetLocation(), delta.getChangedPaths());
 					}
 				}
 			} catch (SchedulerException e) {
 				throw new SynchronizationException(e);
 			} finally {
-				try {
-					synchronizerCoreService.enableSynchronization();
-				} catch (SchedulerException e) {
-					throw new SynchronizationException(e);
+				if (changed) {
+					try {
+						resumeSynchronizers();
+					} catch (SchedulerException e) {
+						throw new SynchronizationException(e);
+					}
 				}
 			}
 		}
 	}
 
 	/**
-	 * Publish resource.
+	 * Publish resource by copying only the added and changed files and removing the deleted ones.
 	 *
-	 * @param entry
-	 *            the entry
+	 * @param delta
+	 *            the delta
 	 * @throws SynchronizationException
 	 *             the synchronization exception
 	 */
-	private void publishResource(Map.Entry<String, String> entry) throws SynchronizationException {
-		String sourceLocation = entry.getKey();
-		String targetLocation = entry.getValue();
-		
-		ICollection sourceCollection = getRepository().getCollection(sourceLocation);
-		if (sourceCollection.exists()) {
-			// publish collection
-			ICollection targetCollection = getRepository().getCollection(targetLocation);
-			sourceCollection.copyTo(targetCollection.getPath());
-			try {
-				publishCoreService.createPublishLog(sourceCollection.getPath(), targetCollection.getPath());
-			} catch (PublisherException e) {
-				throw new SynchronizationException(e);
-			}
-		} else {
-			// publish a single resource
-			IResource sourceResource = getRepository().getResource(sourceLocation);
-			IResource targetResource = getRepository().getResource(targetLocation);
-			if (targetResource.exists()) {
-				java.util.Date lastModified = targetResource.getInformation().getModifiedAt();
-				if ((lastModified == null) || (currentRequestTime.getTime() > lastModified.getTime())) {
-					targetResource.setContent(sourceResource.getContent());
-				}
-			} else {
-				getRepository().createResource(targetLocation, sourceResource.getContent());
-			}
-			try {
-				publishCoreService.createPublishLog(sourceResource.getPath(), targetResource.getPath());
-			} catch (PublisherException e) {
-				throw new SynchronizationException(e);
-			}
+	private void publishResource(PublisherDelta delta) throws SynchronizationException {
+		delta.apply(getRepository());
+		if (logger.isDebugEnabled()) {logger.debug("Published [{}] to [{}] with {} changed files", delta.getSourceLocation(), delta.getTargetLocation(), delta.getChangedPaths().size());}
+		try {
+			publishCoreService.createPublishLog(delta.getSourceLocation(), delta.getTargetLocation());
+		} catch (PublisherException e) {
+			throw new SynchronizationException(e);
 		}
 	}
 	
@@ -270,9 +309,7 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 	private void unpublishResources() throws SynchronizationException {
 		if (!unpublishLocations.isEmpty()) {
 			try {
-				synchronizerCoreService.disableSynchronization();
-				
-				synchronizerCoreService.initializeSynchronizersStates();
+				pauseSynchronizers();
 
 				ServiceLoader<IPublisherHandler> publisherHandlers = ServiceLoader.load(IPublisherHandler.class);
 
@@ -296,7 +333,7 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 				throw new SynchronizationException(e);
 			} finally {
 				try {
-					synchronizerCoreService.enableSynchronization();
+					resumeSynchronizers();
 				} catch (SchedulerException e) {
 					throw new SynchronizationException(e);
 				}
@@ -315,6 +352,7 @@ public class PublisherSynchronizer extends AbstractSynchronizer {
 	private void unpublishResource(String entry) throws SynchronizationException {
 		String targetLocation = entry;
 		
+		PublisherDelta.invalidate(targetLocation);
 		ICollection targetCollection = getRepository().getCollection(targetLocation);
 		if (targetCollection.exists()) {
 			// unpublish collection
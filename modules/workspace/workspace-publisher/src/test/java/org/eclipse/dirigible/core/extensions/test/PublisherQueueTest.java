@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.extensions.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.core.publisher.api.IPublisherCoreService;
+import org.eclipse.dirigible.core.publisher.definition.PublishRequestDefinition;
+import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
+import org.eclipse.dirigible.core.publisher.synchronizer.PublisherQueue;
+import org.eclipse.dirigible.core.publisher.synchronizer.PublisherSynchronizer;
+import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class PublisherQueueTest.
+ */
+public class PublisherQueueTest extends AbstractDirigibleTest {
+
+	/** The publisher core service. */
+	private IPublisherCoreService publisherCoreService;
+
+	/** The repository. */
+	private IRepository repository;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.publisherCoreService = new PublisherCoreService();
+		this.repository = (IRepository) StaticObjects.get(StaticObjects.REPOSITORY);
+	}
+
+	/**
+	 * Queued requests of several projects are all processed and removed.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void publishQueuedRequestsTest() throws Exception {
+		List<PublishRequestDefinition> requests = new ArrayList<PublishRequestDefinition>();
+		for (int i = 0; i < 3; i++) {
+			repository.createResource("/user1/workspace1/queue" + i + "/file.txt", ("Data " + i).getBytes());
+			for (int j = 0; j < 5; j++) {
+				requests.add(publisherCoreService.createPublishRequest("/user1/workspace1", j % 2 == 0 ? "/queue" + i : "/queue" + i + "/file.txt", null));
+			}
+		}
+		List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>();
+		for (PublishRequestDefinition request : requests) {
+			futures.add(PublisherQueue.get().submit(request));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get();
+
+		for (int i = 0; i < 3; i++) {
+			String published = new String(repository.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/queue" + i + "/file.txt").getContent(), StandardCharsets.UTF_8);
+			assertEquals("Data " + i, published);
+		}
+		for (PublishRequestDefinition request : requests) {
+			assertFalse(PublisherQueue.get().isQueued(request.getId()));
+			assertNull(publisherCoreService.getPublishRequest(request.getId()));
+		}
+		assertEquals(0, PublisherQueue.get().getDepth());
+		assertTrue(PublisherQueue.get().getMetrics().get("completed").longValue() + PublisherQueue.get().getMetrics().get("coalesced").longValue() >= requests.size());
+	}
+
+	/**
+	 * A registered request is owned by the queue before it is submitted, so the scheduled synchronizer skips it.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void registerBeforeSubmitTest() throws Exception {
+		repository.createResource("/user1/workspace1/registered/file.txt", "Registered".getBytes());
+		PublishRequestDefinition request = PublisherQueue.get().register(() -> publisherCoreService.createPublishRequest("/user1/workspace1", "/registered", null));
+		assertTrue(PublisherQueue.get().isQueued(request.getId()));
+		List<PublishRequestDefinition> unqueued = PublisherQueue.get().getUnqueued(() -> publisherCoreService.getPublishRequestsAfter(new Timestamp(0)));
+		assertFalse(unqueued.stream().anyMatch(pending -> pending.getId() == request.getId()));
+
+		PublisherQueue.get().submit(request).get();
+		assertFalse(PublisherQueue.get().isQueued(request.getId()));
+		assertNull(publisherCoreService.getPublishRequest(request.getId()));
+	}
+
+	/**
+	 * A request for the whole workspace submitted together with the requests of its projects is processed and all the
+	 * futures complete.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void publishWorkspaceWithProjectsTest() throws Exception {
+		String workspace = "/user1/workspace2";
+		List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>();
+		for (int i = 0; i < 3; i++) {
+			repository.createResource(workspace + "/wsproject" + i + "/file.txt", ("Data " + i).getBytes());
+			futures.add(PublisherQueue.get().submit(publisherCoreService.createPublishRequest(workspace, "/wsproject" + i, null)));
+			if (i == 1) {
+				futures.add(PublisherQueue.get().submit(publisherCoreService.createPublishRequest(workspace, "", null)));
+			}
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get(60, TimeUnit.SECONDS);
+
+		for (int i = 0; i < 3; i++) {
+			String published = new String(repository.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/wsproject" + i + "/file.txt").getContent(), StandardCharsets.UTF_8);
+			assertEquals("Data " + i, published);
+		}
+		assertEquals(0, PublisherQueue.get().getDepth());
+	}
+
+	/**
+	 * An unpublish request does not supersede a waiting publish request of the same location and is applied after it.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void unpublishAfterPublishTest() throws Exception {
+		repository.createResource("/user1/workspace1/unpublished/file.txt", "Unpublished".getBytes());
+		List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>();
+		long coalesced;
+		// the workers wait for the lock, so the requests stay in the queue
+		synchronized (PublisherSynchronizer.class) {
+			coalesced = PublisherQueue.get().getMetrics().get("coalesced").longValue();
+			futures.add(PublisherQueue.get().submit(publisherCoreService.createPublishRequest("/user1/workspace1", "/unpublished", null)));
+			futures.add(PublisherQueue.get().submit(publisherCoreService.createPublishRequest("/user1/workspace1", "/unpublished/file.txt", null)));
+			futures.add(PublisherQueue.get().submit(publisherCoreService.createUnpublishRequest("/user1/workspace1", "/unpublished/file.txt")));
+			assertEquals(coalesced, PublisherQueue.get().getMetrics().get("coalesced").longValue());
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get(60, TimeUnit.SECONDS);
+
+		assertFalse(repository.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/unpublished/file.txt").exists());
+		assertEquals(0, PublisherQueue.get().getDepth());
+	}
+
+}
@@ -22,6 +22,7 @@ import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.core.publisher.api.IPublisherCoreService;
 import org.eclipse.dirigible.core.publisher.api.PublisherException;
 import org.eclipse.dirigible.core.publisher.service.PublisherCoreService;
+import org.eclipse.dirigible.core.publisher.synchronizer.PublisherDelta;
 import org.eclipse.dirigible.core.publisher.synchronizer.PublisherSynchronizer;
 import org.eclipse.dirigible.core.test.AbstractDirigibleTest;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -112,4 +113,80 @@ public class PublisherSynchronizerTest extends AbstractDirigibleTest {
 		assertFalse(before.equals(new Timestamp(0)));
 	}
 
+	/**
+	 * Publish collection delta test.
+	 *
+	 * @throws PublisherException the publisher exception
+	 */
+	@Test
+	public void publishCollectionDeltaTest() throws PublisherException {
+		String registry = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/project2";
+		repository.createResource("/user1/workspace1/project2/a.txt", "A".getBytes());
+		repository.createResource("/user1/workspace1/project2/folder/b.txt", "B".getBytes());
+		repository.createResource("/user1/workspace1/project2/folder/c.txt", "C".getBytes());
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project2", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("B", new String(repository.getResource(registry + "/folder/b.txt").getContent(), StandardCharsets.UTF_8));
+		assertTrue(PublisherDelta.compute(repository, "/user1/workspace1/project2", registry).isEmpty());
+
+		repository.getResource("/user1/workspace1/project2/folder/b.txt").setContent("B2".getBytes());
+		repository.getResource("/user1/workspace1/project2/folder/c.txt").delete();
+		PublisherDelta delta = PublisherDelta.compute(repository, "/user1/workspace1/project2", registry);
+		assertEquals(2, delta.getChangedPaths().size());
+		assertTrue(delta.getChangedPaths().contains(registry + "/folder/b.txt"));
+		assertTrue(delta.getChangedPaths().contains(registry + "/folder/c.txt"));
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project2", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("B2", new String(repository.getResource(registry + "/folder/b.txt").getContent(), StandardCharsets.UTF_8));
+		assertFalse(repository.getResource(registry + "/folder/c.txt").exists());
+		assertEquals(delta.getChangedPaths(), RecordingPublisherHandler.CHANGED_PATHS.get(registry));
+		assertEquals("A", new String(repository.getResource(registry + "/a.txt").getContent(), StandardCharsets.UTF_8));
+		assertTrue(PublisherDelta.compute(repository, "/user1/workspace1/project2", registry).isEmpty());
+	}
+
+	/**
+	 * Publish without a manifest test. The files in the registry which were not published from the workspace must
+	 * survive the first publish, as well as a publish after a restart.
+	 *
+	 * @throws PublisherException the publisher exception
+	 */
+	@Test
+	public void publishWithoutManifestTest() throws PublisherException {
+		String registry = IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/project3";
+		for (String location : new String[] {"/user1/workspace1/project3", registry}) {
+			if (repository.hasCollection(location)) {
+				repository.removeCollection(location);
+			}
+		}
+		PublisherDelta.invalidate(registry);
+		repository.createResource("/user1/workspace1/project3/a.txt", "A".getBytes());
+		repository.createResource(registry + "/a.txt", "Old".getBytes());
+		repository.createResource(registry + "/external.txt", "External".getBytes());
+
+		PublisherDelta delta = PublisherDelta.compute(repository, "/user1/workspace1/project3", registry);
+		assertEquals(1, delta.getChangedPaths().size());
+		assertTrue(delta.getChangedPaths().contains(registry + "/a.txt"));
+
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project3", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("A", new String(repository.getResource(registry + "/a.txt").getContent(), StandardCharsets.UTF_8));
+		assertTrue(repository.getResource(registry + "/external.txt").exists());
+
+		// a restart forgets the manifests
+		PublisherDelta.invalidate(registry);
+		repository.getResource("/user1/workspace1/project3/a.txt").delete();
+		repository.createResource("/user1/workspace1/project3/b.txt", "B".getBytes());
+		publisherCoreService.createPublishRequest("/user1/workspace1", "/project3", null);
+		publisherSynchronizer.synchronize();
+
+		assertEquals("B", new String(repository.getResource(registry + "/b.txt").getContent(), StandardCharsets.UTF_8));
+		assertTrue(repository.getResource(registry + "/a.txt").exists());
+		assertTrue(repository.getResource(registry + "/external.txt").exists());
+	}
+
 }
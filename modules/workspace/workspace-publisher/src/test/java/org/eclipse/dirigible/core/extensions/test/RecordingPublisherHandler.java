@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2022 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.extensions.test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.core.publisher.api.IPublisherHandler;
+import org.eclipse.dirigible.core.scheduler.api.SchedulerException;
+
+/**
+ * Records the changed paths passed to the publisher handlers per registry location.
+ */
+public class RecordingPublisherHandler implements IPublisherHandler {
+
+	/** The changed paths per registry location. */
+	static final Map<String, Set<String>> CHANGED_PATHS = new ConcurrentHashMap<String, Set<String>>();
+
+	/**
+	 * Before publish.
+	 *
+	 * @param location the location
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Override
+	public void beforePublish(String location) throws SchedulerException {
+	}
+
+	/**
+	 * After publish.
+	 *
+	 * @param workspaceLocation the workspace location
+	 * @param registryLocation the registry location
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Override
+	public void afterPublish(String workspaceLocation, String registryLocation) throws SchedulerException {
+	}
+
+	/**
+	 * After publish.
+	 *
+	 * @param workspaceLocation the workspace location
+	 * @param registryLocation the registry location
+	 * @param changedPaths the changed paths
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Override
+	public void afterPublish(String workspaceLocation, String registryLocation, Set<String> changedPaths) throws SchedulerException {
+		CHANGED_PATHS.put(registryLocation, changedPaths);
+	}
+
+	/**
+	 * Before unpublish.
+	 *
+	 * @param location the location
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Override
+	public void beforeUnpublish(String location) throws SchedulerException {
+	}
+
+	/**
+	 * After unpublish.
+	 *
+	 * @param location the location
+	 * @throws SchedulerException the scheduler exception
+	 */
+	@Override
+	public void afterUnpublish(String location) throws SchedulerException {
+	}
+
+}